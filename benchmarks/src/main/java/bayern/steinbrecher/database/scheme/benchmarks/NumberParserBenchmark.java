@@ -0,0 +1,103 @@
+package bayern.steinbrecher.database.scheme.benchmarks;
+
+import bayern.steinbrecher.database.scheme.ColumnParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the primitive parsers of {@link ColumnParser} with {@link Double#parseDouble(String)} and
+ * {@link Long#parseLong(String)}. Each invocation parses a fixed set of cells typical for query results.
+ *
+ * @author Stefan Huber
+ * @since v0.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParserBenchmark {
+    private static final int NUM_CELLS = 1024;
+    private static final long SEED = 42;
+
+    /**
+     * The notation of the generated doubles. {@code "decimal"} contains values with two fractional digits like
+     * monetary amounts, {@code "shortest"} the shortest representation of arbitrary doubles and
+     * {@code "scientific"} values with an explicit exponent.
+     */
+    @Param({"decimal", "shortest", "scientific"})
+    public String notation;
+    private String[] doubleCells;
+    private String[] longCells;
+
+    @Setup
+    public void generateCells() {
+        Random random = new Random(SEED);
+        doubleCells = new String[NUM_CELLS];
+        longCells = new String[NUM_CELLS];
+        for (int i = 0; i < NUM_CELLS; i++) {
+            switch (notation) {
+                case "decimal":
+                    doubleCells[i] = BigDecimal.valueOf(random.nextInt(10_000_000), 2).toPlainString();
+                    break;
+                case "shortest":
+                    doubleCells[i] = Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(20) - 10));
+                    break;
+                case "scientific":
+                    doubleCells[i] = random.nextInt(1_000_000) + "e" + (random.nextInt(40) - 20);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown notation " + notation);
+            }
+            longCells[i] = Long.toString(random.nextLong() >> random.nextInt(64));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_CELLS)
+    public void parseDoubleFast(Blackhole blackhole) {
+        for (String cell : doubleCells) {
+            blackhole.consume(ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER.parseDouble(cell));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_CELLS)
+    public void parseDoubleJdk(Blackhole blackhole) {
+        for (String cell : doubleCells) {
+            blackhole.consume(Double.parseDouble(cell));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_CELLS)
+    public void parseLongFast(Blackhole blackhole) {
+        for (String cell : longCells) {
+            blackhole.consume(ColumnParser.PRIMITIVE_LONG_COLUMN_PARSER.parseLong(cell));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_CELLS)
+    public void parseLongJdk(Blackhole blackhole) {
+        for (String cell : longCells) {
+            blackhole.consume(Long.parseLong(cell));
+        }
+    }
+}
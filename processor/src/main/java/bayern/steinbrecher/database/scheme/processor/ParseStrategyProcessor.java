@@ -0,0 +1,396 @@
+package bayern.steinbrecher.database.scheme.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Generates a {@code ParseStrategy} for each entity annotated with {@code GenerateParser}. The generated strategy
+ * resolves the indices of all columns once per query result and converts each row by a single straight-line method
+ * which parses each cell directly into its primitive or boxed type and writes it to its field or passes it to the
+ * annotated constructor. Thereby no setter functions or column patterns are called per row.
+ *
+ * @author Stefan Huber
+ * @since v0.2
+ */
+@SupportedAnnotationTypes(ParseStrategyProcessor.GENERATE_PARSER)
+public class ParseStrategyProcessor extends AbstractProcessor {
+    static final String GENERATE_PARSER = "bayern.steinbrecher.database.scheme.GenerateParser";
+    private static final String PARSED_COLUMN = "bayern.steinbrecher.database.scheme.ParsedColumn";
+    private static final String SUPPORT = "bayern.steinbrecher.database.scheme.ParserSupport";
+    private static final String GENERATED_SUFFIX = "ParseStrategy";
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind().isClass() && element.getKind() != ElementKind.ENUM) {
+                    TypeElement entity = (TypeElement) element;
+                    try {
+                        generate(entity);
+                    } catch (InvalidEntityException ex) {
+                        processingEnv.getMessager()
+                                .printMessage(Diagnostic.Kind.ERROR, ex.getMessage(), ex.getElement());
+                    } catch (IOException ex) {
+                        processingEnv.getMessager()
+                                .printMessage(Diagnostic.Kind.ERROR, "Could not write the parse strategy of "
+                                        + entity.getQualifiedName() + ": " + ex.getMessage(), entity);
+                    }
+                } else {
+                    processingEnv.getMessager()
+                            .printMessage(Diagnostic.Kind.ERROR, "Only classes and records can be annotated with "
+                                    + GENERATE_PARSER, element);
+                }
+            }
+        }
+        return true;
+    }
+
+    private Optional<AnnotationMirror> findParsedColumn(Element element) {
+        return element.getAnnotationMirrors()
+                .stream()
+                .filter(mirror -> ((TypeElement) mirror.getAnnotationType().asElement())
+                        .getQualifiedName()
+                        .contentEquals(PARSED_COLUMN))
+                .map(mirror -> (AnnotationMirror) mirror)
+                .findAny();
+    }
+
+    private Column createColumn(VariableElement target, AnnotationMirror parsedColumn) throws InvalidEntityException {
+        String columnName = null;
+        boolean required = true;
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(parsedColumn).entrySet()) {
+            String attribute = entry.getKey().getSimpleName().toString();
+            if ("value".equals(attribute)) {
+                columnName = (String) entry.getValue().getValue();
+            } else if ("required".equals(attribute)) {
+                required = (Boolean) entry.getValue().getValue();
+            }
+        }
+        if (columnName == null || columnName.isEmpty()) {
+            throw new InvalidEntityException("The column name must not be empty", target);
+        }
+        return new Column(target, columnName, required, ColumnType.of(target.asType())
+                .orElseThrow(() -> new InvalidEntityException("The type " + target.asType()
+                        + " is not supported by " + PARSED_COLUMN, target)));
+    }
+
+    /**
+     * Returns the columns of the single constructor whose parameters are annotated.
+     *
+     * @return The columns in the order of the parameters or an empty {@link Optional} if no constructor parameter is
+     * annotated.
+     */
+    private Optional<List<Column>> findConstructorColumns(TypeElement entity) throws InvalidEntityException {
+        List<Column> columns = null;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(entity.getEnclosedElements())) {
+            List<Column> constructorColumns = new ArrayList<>();
+            for (VariableElement parameter : constructor.getParameters()) {
+                Optional<AnnotationMirror> parsedColumn = findParsedColumn(parameter);
+                if (parsedColumn.isPresent()) {
+                    constructorColumns.add(createColumn(parameter, parsedColumn.get()));
+                }
+            }
+            if (!constructorColumns.isEmpty()) {
+                if (columns != null) {
+                    throw new InvalidEntityException("Only a single constructor may have annotated parameters", entity);
+                }
+                if (constructorColumns.size() != constructor.getParameters().size()) {
+                    throw new InvalidEntityException("Either all or none of the parameters of a constructor have to be"
+                            + " annotated with " + PARSED_COLUMN, constructor);
+                }
+                if (constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                    throw new InvalidEntityException("The annotated constructor must not be private", constructor);
+                }
+                columns = constructorColumns;
+            }
+        }
+        return Optional.ofNullable(columns);
+    }
+
+    private List<Column> findFieldColumns(TypeElement entity) throws InvalidEntityException {
+        boolean hasDefaultConstructor = ElementFilter.constructorsIn(entity.getEnclosedElements())
+                .stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                        && !constructor.getModifiers().contains(Modifier.PRIVATE));
+        if (!hasDefaultConstructor) {
+            throw new InvalidEntityException("An entity with annotated fields requires a constructor without parameters"
+                    + " which is not private", entity);
+        }
+        List<Column> columns = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(entity.getEnclosedElements())) {
+            Optional<AnnotationMirror> parsedColumn = findParsedColumn(field);
+            if (parsedColumn.isPresent()) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)
+                        || modifiers.contains(Modifier.STATIC)) {
+                    throw new InvalidEntityException("Annotated fields must neither be private, final nor static",
+                            field);
+                }
+                columns.add(createColumn(field, parsedColumn.get()));
+            }
+        }
+        if (columns.isEmpty()) {
+            throw new InvalidEntityException("Neither fields nor constructor parameters are annotated with "
+                    + PARSED_COLUMN, entity);
+        }
+        return columns;
+    }
+
+    /**
+     * Returns the simple name of the generated class. The names of enclosing classes of nested entities are prepended.
+     */
+    private static String generatedSimpleName(TypeElement entity) {
+        StringBuilder name = new StringBuilder(entity.getSimpleName());
+        Element enclosing = entity.getEnclosingElement();
+        while (enclosing.getKind().isClass() || enclosing.getKind().isInterface()) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(GENERATED_SUFFIX).toString();
+    }
+
+    private void generate(TypeElement entity) throws InvalidEntityException, IOException {
+        if (!entity.getTypeParameters().isEmpty()) {
+            throw new InvalidEntityException("Generic entities are not supported", entity);
+        }
+        if (entity.getNestingKind().isNested() && !entity.getModifiers().contains(Modifier.STATIC)) {
+            throw new InvalidEntityException("Nested entities have to be static", entity);
+        }
+        if (entity.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new InvalidEntityException("Abstract entities can not be created", entity);
+        }
+        Optional<List<Column>> constructorColumns = findConstructorColumns(entity);
+        List<Column> columns;
+        if (constructorColumns.isPresent()) {
+            columns = constructorColumns.get();
+        } else {
+            columns = findFieldColumns(entity);
+        }
+
+        PackageElement entityPackage = processingEnv.getElementUtils().getPackageOf(entity);
+        String simpleName = generatedSimpleName(entity);
+        String qualifiedName = entityPackage.isUnnamed()
+                ? simpleName : entityPackage.getQualifiedName() + "." + simpleName;
+        try (PrintWriter writer = new PrintWriter(
+                processingEnv.getFiler().createSourceFile(qualifiedName, entity).openWriter())) {
+            writeStrategy(writer, entity, entityPackage, simpleName, columns, constructorColumns.isPresent());
+        }
+    }
+
+    private void writeStrategy(PrintWriter writer, TypeElement entity, PackageElement entityPackage,
+                               String simpleName, List<Column> columns, boolean useConstructor) {
+        String entityName = entity.getQualifiedName().toString();
+        String rowFunction = "java.util.function.Function<java.util.List<String>, " + entityName + ">";
+        if (!entityPackage.isUnnamed()) {
+            writer.println("package " + entityPackage.getQualifiedName() + ";");
+            writer.println();
+        }
+        writer.println("/**");
+        writer.println(" * Parse strategy for {@link " + entityName + "} generated by {@link "
+                + ParseStrategyProcessor.class.getName() + "}.");
+        writer.println(" */");
+        String visibility = entity.getModifiers().contains(Modifier.PUBLIC) ? "public " : "";
+        writer.println(visibility + "final class " + simpleName
+                + " implements bayern.steinbrecher.database.scheme.ParseStrategy<" + entityName + "> {");
+        writer.println("    @Override");
+        writer.println("    public " + rowFunction + " bind(java.util.List<String> headings) {");
+        writer.println("        return new Bound(headings);");
+        writer.println("    }");
+        writer.println();
+        writer.println("    private static final class Bound implements " + rowFunction + " {");
+        for (int i = 0; i < columns.size(); i++) {
+            writer.println("        private final int columnIndex" + i + ";");
+        }
+        writer.println();
+        writer.println("        Bound(java.util.List<String> headings) {");
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            writer.println("            columnIndex" + i + " = " + SUPPORT + ".indexOf(headings, "
+                    + literal(column.getColumnName()) + ", " + column.isRequired() + ");");
+        }
+        writer.println("        }");
+        writer.println();
+        writer.println("        @Override");
+        writer.println("        public " + entityName + " apply(java.util.List<String> row) {");
+        if (useConstructor) {
+            List<String> arguments = new ArrayList<>(columns.size());
+            for (int i = 0; i < columns.size(); i++) {
+                Column column = columns.get(i);
+                String parse = parseExpression(column, i);
+                if (!column.isRequired()) {
+                    parse = "columnIndex" + i + " < 0 ? " + column.getType().getDefaultValue() + " : " + parse;
+                }
+                writer.println("            " + column.getTarget().asType() + " value" + i + " = " + parse + ";");
+                arguments.add("value" + i);
+            }
+            writer.println("            return new " + entityName + "(" + String.join(", ", arguments) + ");");
+        } else {
+            writer.println("            " + entityName + " entry = new " + entityName + "();");
+            for (int i = 0; i < columns.size(); i++) {
+                Column column = columns.get(i);
+                String assignment = "entry." + column.getTarget().getSimpleName() + " = " + parseExpression(column, i)
+                        + ";";
+                if (column.isRequired()) {
+                    writer.println("            " + assignment);
+                } else {
+                    writer.println("            if (columnIndex" + i + " >= 0) {");
+                    writer.println("                " + assignment);
+                    writer.println("            }");
+                }
+            }
+            writer.println("            return entry;");
+        }
+        writer.println("        }");
+        writer.println("    }");
+        writer.println("}");
+    }
+
+    private String literal(String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private String parseExpression(Column column, int index) {
+        String cell = SUPPORT + ".cell(row, columnIndex" + index + ")";
+        return String.format(column.getType().getParseTemplate(), cell, literal(column.getColumnName()));
+    }
+
+    /**
+     * The types supported by {@code ParsedColumn} along with the expression parsing a cell into them.
+     */
+    private enum ColumnType {
+        INT(TypeKind.INT, null, SUPPORT + ".parseInt(%s, %s)", "0"),
+        LONG(TypeKind.LONG, null, SUPPORT + ".parseLong(%s, %s)", "0L"),
+        DOUBLE(TypeKind.DOUBLE, null, SUPPORT + ".parseDouble(%s, %s)", "0d"),
+        BOOLEAN(TypeKind.BOOLEAN, null, SUPPORT + ".parseBoolean(%1$s)", "false"),
+        BOXED_INT(TypeKind.DECLARED, "java.lang.Integer", SUPPORT + ".parseNullableInt(%s, %s)", "null"),
+        BOXED_LONG(TypeKind.DECLARED, "java.lang.Long", SUPPORT + ".parseNullableLong(%s, %s)", "null"),
+        BOXED_DOUBLE(TypeKind.DECLARED, "java.lang.Double", SUPPORT + ".parseNullableDouble(%s, %s)", "null"),
+        BOXED_BOOLEAN(TypeKind.DECLARED, "java.lang.Boolean", SUPPORT + ".parseNullableBoolean(%1$s)", "null"),
+        STRING(TypeKind.DECLARED, "java.lang.String", "%1$s", "null"),
+        LOCAL_DATE(TypeKind.DECLARED, "java.time.LocalDate", SUPPORT + ".parseDate(%s, %s)", "null");
+
+        private final TypeKind kind;
+        private final String qualifiedName;
+        private final String parseTemplate;
+        private final String defaultValue;
+
+        ColumnType(TypeKind kind, String qualifiedName, String parseTemplate, String defaultValue) {
+            this.kind = kind;
+            this.qualifiedName = qualifiedName;
+            this.parseTemplate = parseTemplate;
+            this.defaultValue = defaultValue;
+        }
+
+        static Optional<ColumnType> of(TypeMirror type) {
+            for (ColumnType columnType : values()) {
+                if (columnType.kind == type.getKind()) {
+                    if (columnType.qualifiedName == null) {
+                        return Optional.of(columnType);
+                    }
+                    TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+                    if (typeElement.getQualifiedName().contentEquals(columnType.qualifiedName)) {
+                        return Optional.of(columnType);
+                    }
+                }
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Returns the format of the expression parsing a cell. Its first argument is the expression of the cell value
+         * and its second argument the literal of the column name.
+         */
+        String getParseTemplate() {
+            return parseTemplate;
+        }
+
+        String getDefaultValue() {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * A field or constructor parameter annotated with {@code ParsedColumn}.
+     */
+    private static final class Column {
+        private final VariableElement target;
+        private final String columnName;
+        private final boolean required;
+        private final ColumnType type;
+
+        Column(VariableElement target, String columnName, boolean required, ColumnType type) {
+            this.target = target;
+            this.columnName = columnName;
+            this.required = required;
+            this.type = type;
+        }
+
+        VariableElement getTarget() {
+            return target;
+        }
+
+        String getColumnName() {
+            return columnName;
+        }
+
+        boolean isRequired() {
+            return required;
+        }
+
+        ColumnType getType() {
+            return type;
+        }
+    }
+
+    /**
+     * Signals that an annotated entity does not fulfill the requirements for generating a parse strategy.
+     */
+    private static final class InvalidEntityException extends Exception {
+        private static final long serialVersionUID = 1L;
+        private final transient Element element;
+
+        InvalidEntityException(String message, Element element) {
+            super(message);
+            this.element = element;
+        }
+
+        Element getElement() {
+            return element;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package bayern.steinbrecher.database.scheme.processor;
+
+import bayern.steinbrecher.database.scheme.ParseStrategy;
+import bayern.steinbrecher.database.scheme.Table;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Stefan Huber
+ */
+class ParseStrategyProcessorTest {
+    private static final String FIELD_ENTITY = String.join("\n",
+            "package sample;",
+            "import bayern.steinbrecher.database.scheme.GenerateParser;",
+            "import bayern.steinbrecher.database.scheme.ParsedColumn;",
+            "@GenerateParser",
+            "public class Person {",
+            "    @ParsedColumn(\"id\") public int id;",
+            "    @ParsedColumn(\"name\") public String name;",
+            "    @ParsedColumn(value = \"score\", required = false) public Double score = -1d;",
+            "    @ParsedColumn(value = \"born\", required = false) public java.time.LocalDate born;",
+            "}");
+    private static final String CONSTRUCTOR_ENTITY = String.join("\n",
+            "package sample;",
+            "import bayern.steinbrecher.database.scheme.GenerateParser;",
+            "import bayern.steinbrecher.database.scheme.ParsedColumn;",
+            "@GenerateParser",
+            "public class Point {",
+            "    public final long x;",
+            "    public final boolean visible;",
+            "    public Point(@ParsedColumn(\"x\") long x,",
+            "                 @ParsedColumn(value = \"visible\", required = false) boolean visible) {",
+            "        this.x = x;",
+            "        this.visible = visible;",
+            "    }",
+            "}");
+    private static final String PRIVATE_FIELD_ENTITY = String.join("\n",
+            "package sample;",
+            "import bayern.steinbrecher.database.scheme.GenerateParser;",
+            "import bayern.steinbrecher.database.scheme.ParsedColumn;",
+            "@GenerateParser",
+            "public class Hidden {",
+            "    @ParsedColumn(\"id\") private int id;",
+            "}");
+    @TempDir
+    Path outputDirectory;
+
+    private static final class Source extends SimpleJavaFileObject {
+        private final String content;
+
+        Source(String className, String content) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+
+    /**
+     * Compiles the given sources with the processor and returns the errors reported.
+     */
+    private List<String> compile(Source... sources) throws IOException, URISyntaxException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        String classPath = Path.of(ParseStrategy.class.getProtectionDomain()
+                        .getCodeSource()
+                        .getLocation()
+                        .toURI())
+                .toString();
+        try (StandardJavaFileManager fileManager
+                     = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-classpath", classPath, "-d", outputDirectory.toString()), null, List.of(sources));
+            task.setProcessors(List.of(new ParseStrategyProcessor()));
+            task.call();
+        }
+        return diagnostics.getDiagnostics()
+                .stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> parse(ClassLoader classLoader, String entityName, List<List<String>> queryResult)
+            throws ReflectiveOperationException {
+        ParseStrategy<Object> strategy = (ParseStrategy<Object>) classLoader
+                .loadClass(entityName + "ParseStrategy")
+                .getConstructor()
+                .newInstance();
+        Table<List<Object>, Object> table = new Table<>("entities", List.of(), List.of(), Object::new,
+                entries -> entries.collect(Collectors.toList()));
+        return table.parseFrom(queryResult, strategy);
+    }
+
+    private static Object getField(Object entry, String fieldName) throws ReflectiveOperationException {
+        return entry.getClass()
+                .getField(fieldName)
+                .get(entry);
+    }
+
+    @Test
+    void strategiesOfFieldsAndConstructorsParseRows() throws Exception {
+        assertEquals(List.of(), compile(
+                new Source("sample.Person", FIELD_ENTITY), new Source("sample.Point", CONSTRUCTOR_ENTITY)));
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+                new URL[]{outputDirectory.toUri().toURL()}, getClass().getClassLoader())) {
+            List<Object> people = parse(classLoader, "sample.Person", List.of(
+                    List.of("NAME", "id", "born"),
+                    List.of("a", "1", "2020-02-29"),
+                    List.of("NULL", "2", "null")));
+            assertEquals(1, getField(people.get(0), "id"));
+            assertEquals("a", getField(people.get(0), "name"));
+            assertEquals(-1d, getField(people.get(0), "score"));
+            assertEquals(LocalDate.of(2020, 2, 29), getField(people.get(0), "born"));
+            assertNull(getField(people.get(1), "name"));
+            assertNull(getField(people.get(1), "born"));
+
+            List<Object> points = parse(classLoader, "sample.Point", List.of(
+                    List.of("x", "visible"),
+                    List.of("10000000000", "1"),
+                    List.of("-1", "0")));
+            assertEquals(10_000_000_000L, getField(points.get(0), "x"));
+            assertTrue((Boolean) getField(points.get(0), "visible"));
+            assertFalse((Boolean) getField(points.get(1), "visible"));
+
+            assertThrows(IllegalStateException.class, () -> parse(classLoader, "sample.Person", List.of(
+                    List.of("name"), List.of("a"))));
+            assertThrows(IllegalArgumentException.class, () -> parse(classLoader, "sample.Person", List.of(
+                    List.of("id", "name"), List.of("x", "a"))));
+        }
+    }
+
+    @Test
+    void inaccessibleFieldsAreReported() throws Exception {
+        List<String> errors = compile(new Source("sample.Hidden", PRIVATE_FIELD_ENTITY));
+
+        assertEquals(1, errors.size());
+    }
+}
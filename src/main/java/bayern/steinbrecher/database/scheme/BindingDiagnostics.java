@@ -0,0 +1,136 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Describes conspicuities found when binding the patterns of a {@link Table} to the headings of a query result. Since
+ * these only depend on the headings they are determined once per distinct list of headings instead of once per row.
+ *
+ * @author Stefan Huber
+ * @see Table#setBindingDiagnosticsListener(java.util.function.Consumer)
+ * @since v0.2
+ */
+public final class BindingDiagnostics {
+    private final String realTableName;
+    private final List<String> headings;
+    private final List<SimpleColumnPattern<?, ?>> unmatchedRequiredColumns;
+    private final List<ColumnPattern<?, ?>> unmatchedOptionalColumns;
+    private final Map<SimpleColumnPattern<?, ?>, List<String>> ambiguousColumns;
+    private final List<String> unboundHeadings;
+
+    BindingDiagnostics(@NotNull String realTableName, @NotNull List<String> headings,
+                       @NotNull Collection<SimpleColumnPattern<?, ?>> unmatchedRequiredColumns,
+                       @NotNull Collection<ColumnPattern<?, ?>> unmatchedOptionalColumns,
+                       @NotNull Map<SimpleColumnPattern<?, ?>, List<String>> ambiguousColumns,
+                       @NotNull Collection<String> unboundHeadings) {
+        Objects.requireNonNull(realTableName);
+        Objects.requireNonNull(headings);
+        Objects.requireNonNull(unmatchedRequiredColumns);
+        Objects.requireNonNull(unmatchedOptionalColumns);
+        Objects.requireNonNull(ambiguousColumns);
+        Objects.requireNonNull(unboundHeadings);
+
+        this.realTableName = realTableName;
+        this.headings = List.copyOf(headings);
+        this.unmatchedRequiredColumns = List.copyOf(unmatchedRequiredColumns);
+        this.unmatchedOptionalColumns = List.copyOf(unmatchedOptionalColumns);
+        this.ambiguousColumns = Map.copyOf(ambiguousColumns);
+        this.unboundHeadings = List.copyOf(unboundHeadings);
+    }
+
+    /**
+     * Checks whether the binding shows any problem which possibly results in incomplete entries.
+     *
+     * @return {@code true} only if any required column is missing or any simple column is ambiguous.
+     * @since v0.2
+     */
+    public boolean hasProblems() {
+        return !unmatchedRequiredColumns.isEmpty() || !ambiguousColumns.isEmpty();
+    }
+
+    /**
+     * @since v0.2
+     */
+    @NotNull
+    public String getRealTableName() {
+        return realTableName;
+    }
+
+    /**
+     * Returns the headings the patterns were bound to.
+     *
+     * @return The headings the patterns were bound to.
+     * @since v0.2
+     */
+    @NotNull
+    public List<String> getHeadings() {
+        return headings;
+    }
+
+    /**
+     * Returns all required columns which are not matched by any heading.
+     *
+     * @return All required columns which are not matched by any heading.
+     * @since v0.2
+     */
+    @NotNull
+    public List<SimpleColumnPattern<?, ?>> getUnmatchedRequiredColumns() {
+        return unmatchedRequiredColumns;
+    }
+
+    /**
+     * Returns all optional columns which are not matched by any heading.
+     *
+     * @return All optional columns which are not matched by any heading.
+     * @since v0.2
+     */
+    @NotNull
+    public List<ColumnPattern<?, ?>> getUnmatchedOptionalColumns() {
+        return unmatchedOptionalColumns;
+    }
+
+    /**
+     * Returns all simple columns matched by more than a single heading along with these headings. Only the value of
+     * the last of these headings is applied.
+     *
+     * @return All simple columns matched by more than a single heading along with these headings.
+     * @since v0.2
+     */
+    @NotNull
+    public Map<SimpleColumnPattern<?, ?>, List<String>> getAmbiguousColumns() {
+        return ambiguousColumns;
+    }
+
+    /**
+     * Returns all headings which are not matched by any pattern and are therefore ignored.
+     *
+     * @return All headings which are not matched by any pattern.
+     * @since v0.2
+     */
+    @NotNull
+    public List<String> getUnboundHeadings() {
+        return unboundHeadings;
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    public String toString() {
+        return "Binding of table " + realTableName + ": "
+                + "unmatched required columns " + unmatchedRequiredColumns
+                + ", unmatched optional columns " + unmatchedOptionalColumns
+                + ", ambiguous columns " + ambiguousColumns.entrySet()
+                .stream()
+                .map(entry -> entry.getKey() + " -> " + entry.getValue())
+                .collect(Collectors.joining(", ", "[", "]"))
+                + ", unbound headings " + unboundHeadings;
+    }
+}
@@ -0,0 +1,119 @@
+package bayern.steinbrecher.database.scheme;
+
+import bayern.steinbrecher.utility.ObjBooleanFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Represents a {@link SimpleColumnPattern} for {@code boolean} columns which parses and sets values without boxing them
+ * and without wrapping them into an {@link Optional}.
+ *
+ * @param <U> The type of object to set the content of this column to.
+ * @author Stefan Huber
+ * @see ColumnParser#BOOLEAN_COLUMN_PARSER
+ * @since v0.2
+ */
+public class BooleanColumnPattern<U> extends SimpleColumnPattern<Boolean, U> {
+
+    private final ObjBooleanFunction<U, U> booleanSetter;
+
+    /**
+     * Creates a new simple column pattern for {@code boolean} columns. This constructor may be used if {@link U} is an
+     * immutable type.
+     *
+     * @param realColumnName The exact name of the column to match.
+     * @param keywords       The keywords to specify when creating a column matching this pattern.
+     * @param setter         The function used to set a parsed value to a given object. The setter should only return
+     *                       a new object of type {@link U} if the handed in one is immutable.
+     * @since v0.2
+     */
+    public BooleanColumnPattern(@NotNull String realColumnName, @NotNull Set<TableCreationKeywords> keywords,
+                                @NotNull ObjBooleanFunction<U, U> setter) {
+        this(realColumnName, keywords, setter, Optional.empty());
+    }
+
+    /**
+     * Creates a new simple column pattern for {@code boolean} columns. This constructor may be used if {@link U} is an
+     * immutable type.
+     *
+     * @param realColumnName The exact name of the column to match.
+     * @param keywords       The keywords to specify when creating a column matching this pattern.
+     * @param setter         The function used to set a parsed value to a given object. The setter should only return
+     *                       a new object of type {@link U} if the handed in one is immutable.
+     * @param defaultValue   The default value of this column. See {@link SimpleColumnPattern#getDefaultValue()}.
+     * @since v0.2
+     */
+    public BooleanColumnPattern(@NotNull String realColumnName, @NotNull Set<TableCreationKeywords> keywords,
+                                @NotNull ObjBooleanFunction<U, U> setter,
+                                @NotNull Optional<Optional<Boolean>> defaultValue) {
+        super(realColumnName, keywords, ColumnParser.BOOLEAN_COLUMN_PARSER, setter::apply, defaultValue);
+        Objects.requireNonNull(setter);
+
+        this.booleanSetter = setter;
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    public U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable String valueToParse) {
+        return booleanSetter.apply(toSet, ColumnParser.PRIMITIVE_BOOLEAN_COLUMN_PARSER.parseBoolean(valueToParse));
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull RowSource source,
+                  int columnIndex) {
+        //NOTE SQL NULL results in false like the String based parsing does
+        boolean value = !source.isNull(columnIndex)
+                && ColumnParser.PRIMITIVE_BOOLEAN_COLUMN_PARSER.parseBoolean(source, columnIndex);
+        return booleanSetter.apply(toSet, value);
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull ResultSet resultSet,
+                  int columnIndex) throws SQLException {
+        //NOTE Only "1" is true and SQL NULL is false like the String based parsing does
+        return booleanSetter.apply(toSet, "1".equals(resultSet.getString(columnIndex)));
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    U combineSlot(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull RowSlots slots,
+                  int slot, @Nullable String valueToParse) {
+        return booleanSetter.apply(toSet, slots.getBoolean(slot));
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    Class<?> getSlotType() {
+        return boolean.class;
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    void parseInto(@NotNull RowSlots slots, int slot, @Nullable String valueToParse) {
+        slots.setBoolean(slot, ColumnParser.PRIMITIVE_BOOLEAN_COLUMN_PARSER.parseBoolean(valueToParse));
+    }
+}
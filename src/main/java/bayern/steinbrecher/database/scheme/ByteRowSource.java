@@ -0,0 +1,114 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Represents a {@link RowSource} whose cells are ranges of a {@link ByteBuffer} encoded in UTF-8, Latin-1 or ASCII.
+ * Numbers, booleans and dates are parsed directly from the bytes of a cell. Cells are only decoded if a
+ * {@link CharSequence} is requested. For Latin-1 and ASCII as well as for UTF-8 encoded cells containing only ASCII
+ * characters the returned {@link CharSequence} is a view of the buffer instead of a decoded copy.
+ *
+ * @author Stefan Huber
+ * @since v0.2
+ */
+public abstract class ByteRowSource implements RowSource {
+    private final boolean utf8;
+
+    /**
+     * @param charset The encoding of all cells. Supported are UTF-8, ISO-8859-1 (Latin-1) and US-ASCII.
+     * @throws IllegalArgumentException Thrown only if {@code charset} is not supported.
+     * @since v0.2
+     */
+    protected ByteRowSource(@NotNull Charset charset) {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            utf8 = true;
+        } else if (StandardCharsets.ISO_8859_1.equals(charset) || StandardCharsets.US_ASCII.equals(charset)) {
+            utf8 = false;
+        } else {
+            throw new IllegalArgumentException("The charset " + charset + " is not supported");
+        }
+    }
+
+    /**
+     * Returns the buffer containing the cells of the current row. Its position and limit are ignored.
+     *
+     * @return The buffer containing the cells of the current row.
+     * @since v0.2
+     */
+    @NotNull
+    public abstract ByteBuffer getBuffer();
+
+    /**
+     * Returns the index within {@link #getBuffer()} of the first byte of the given cell of the current row.
+     *
+     * @param columnIndex The index of the cell in the current row starting at 0.
+     * @return The index of the first byte of the given cell (inclusive).
+     * @since v0.2
+     */
+    public abstract int getCellBegin(int columnIndex);
+
+    /**
+     * Returns the index within {@link #getBuffer()} after the last byte of the given cell of the current row.
+     *
+     * @param columnIndex The index of the cell in the current row starting at 0.
+     * @return The index after the last byte of the given cell (exclusive).
+     * @since v0.2
+     */
+    public abstract int getCellEnd(int columnIndex);
+
+    /**
+     * Returns whether the cells are UTF-8 encoded. Otherwise each byte represents a single Latin-1 character.
+     *
+     * @return {@code true} only if the cells are UTF-8 encoded.
+     * @since v0.2
+     */
+    public boolean isUtf8() {
+        return utf8;
+    }
+
+    /**
+     * {@inheritDoc} The returned value is a view of {@link #getBuffer()} unless the cell is UTF-8 encoded and
+     * contains any non ASCII character.
+     *
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    public CharSequence getCell(int columnIndex) {
+        ByteBuffer buffer = getBuffer();
+        int begin = getCellBegin(columnIndex);
+        int end = getCellEnd(columnIndex);
+        CharSequence cell;
+        if (!utf8 || ByteSlice.isAscii(buffer, begin, end)) {
+            cell = new ByteSlice(buffer, begin, end);
+        } else {
+            cell = decodeUtf8(buffer, begin, end);
+        }
+        return cell;
+    }
+
+    /**
+     * Decodes the given range of UTF-8 encoded bytes. The position and the limit of {@code buffer} are ignored.
+     */
+    @NotNull
+    static String decodeUtf8(@NotNull ByteBuffer buffer, int beginIndex, int endIndex) {
+        byte[] bytes = new byte[endIndex - beginIndex];
+        buffer.get(beginIndex, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * {@inheritDoc} The default implementation checks whether the bytes of the cell represent the text {@code NULL} in
+     * any case without decoding them.
+     *
+     * @since v0.2
+     */
+    @Override
+    public boolean isNull(int columnIndex) {
+        return ColumnPattern.isNullValue(getBuffer(), getCellBegin(columnIndex), getCellEnd(columnIndex));
+    }
+}
@@ -0,0 +1,66 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Represents a range of a {@link ByteBuffer} containing Latin-1 encoded characters as {@link CharSequence} without
+ * copying it. Since the first 128 characters of Latin-1 and UTF-8 are encoded identically it can also be used for UTF-8
+ * encoded ranges which only contain ASCII characters.
+ *
+ * @author Stefan Huber
+ * @since v0.2
+ */
+final class ByteSlice implements CharSequence {
+    private static final int BYTE_MASK = 0xFF;
+    private final ByteBuffer buffer;
+    private final int beginIndex;
+    private final int endIndex;
+
+    ByteSlice(@NotNull ByteBuffer buffer, int beginIndex, int endIndex) {
+        this.buffer = Objects.requireNonNull(buffer);
+        Objects.checkFromToIndex(beginIndex, endIndex, buffer.capacity());
+        this.beginIndex = beginIndex;
+        this.endIndex = endIndex;
+    }
+
+    /**
+     * Checks whether the given range only contains ASCII characters.
+     */
+    static boolean isAscii(@NotNull ByteBuffer buffer, int beginIndex, int endIndex) {
+        boolean isAscii = true;
+        for (int index = beginIndex; index < endIndex && isAscii; index++) {
+            isAscii = buffer.get(index) >= 0;
+        }
+        return isAscii;
+    }
+
+    @Override
+    public int length() {
+        return endIndex - beginIndex;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length());
+        return (char) (buffer.get(beginIndex + index) & BYTE_MASK);
+    }
+
+    @Override
+    @NotNull
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length());
+        return new ByteSlice(buffer, beginIndex + start, beginIndex + end);
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        byte[] bytes = new byte[length()];
+        buffer.get(beginIndex, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
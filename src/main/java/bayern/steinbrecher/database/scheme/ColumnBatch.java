@@ -0,0 +1,138 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Represents a query result parsed column by column instead of row by row. Each bound {@link SimpleColumnPattern} is
+ * associated with a {@link ColumnVector} holding its values of all rows in a primitive array. This requires only a
+ * fraction of the memory of entries and allows to iterate tightly over the values of single columns.
+ *
+ * @author Stefan Huber
+ * @see Table#parseColumnar(java.util.List)
+ * @since v0.2
+ */
+public final class ColumnBatch {
+    private final List<String> headings;
+    private final int rowCount;
+    private final Map<SimpleColumnPattern<?, ?>, ColumnVector> vectors;
+
+    ColumnBatch(@NotNull List<String> headings, int rowCount,
+                @NotNull Map<SimpleColumnPattern<?, ?>, ColumnVector> vectors) {
+        Objects.requireNonNull(headings);
+        Objects.requireNonNull(vectors);
+
+        this.headings = headings;
+        this.rowCount = rowCount;
+        this.vectors = Collections.unmodifiableMap(vectors);
+    }
+
+    /**
+     * Returns the headings of the query result this batch was parsed from.
+     *
+     * @return The headings of the query result this batch was parsed from.
+     * @since v0.2
+     */
+    @NotNull
+    public List<String> getHeadings() {
+        return headings;
+    }
+
+    /**
+     * Returns the number of rows which is also the size of each vector.
+     *
+     * @return The number of rows.
+     * @since v0.2
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns all columns of this batch in the order they were bound.
+     *
+     * @return All columns having a vector within this batch.
+     * @since v0.2
+     */
+    @NotNull
+    public Set<SimpleColumnPattern<?, ?>> getColumns() {
+        return vectors.keySet();
+    }
+
+    /**
+     * Returns the vector holding the values of the given column.
+     *
+     * @param column The column to get the vector of.
+     * @return The vector holding the values of {@code column}.
+     * @throws IllegalArgumentException Thrown only if {@code column} was not bound to any heading.
+     * @since v0.2
+     */
+    @NotNull
+    public ColumnVector getVector(@NotNull SimpleColumnPattern<?, ?> column) {
+        ColumnVector vector = vectors.get(Objects.requireNonNull(column));
+        if (vector == null) {
+            throw new IllegalArgumentException("The column " + column.getRealColumnName() + " is not bound");
+        }
+        return vector;
+    }
+
+    /**
+     * @see #getVector(SimpleColumnPattern)
+     * @since v0.2
+     */
+    @NotNull
+    public ColumnVector.IntColumnVector getIntVector(@NotNull SimpleColumnPattern<Integer, ?> column) {
+        return (ColumnVector.IntColumnVector) getVector(column);
+    }
+
+    /**
+     * @see #getVector(SimpleColumnPattern)
+     * @since v0.2
+     */
+    @NotNull
+    public ColumnVector.LongColumnVector getLongVector(@NotNull SimpleColumnPattern<Long, ?> column) {
+        return (ColumnVector.LongColumnVector) getVector(column);
+    }
+
+    /**
+     * @see #getVector(SimpleColumnPattern)
+     * @since v0.2
+     */
+    @NotNull
+    public ColumnVector.DoubleColumnVector getDoubleVector(@NotNull SimpleColumnPattern<Double, ?> column) {
+        return (ColumnVector.DoubleColumnVector) getVector(column);
+    }
+
+    /**
+     * @see #getVector(SimpleColumnPattern)
+     * @since v0.2
+     */
+    @NotNull
+    public ColumnVector.BooleanColumnVector getBooleanVector(@NotNull SimpleColumnPattern<Boolean, ?> column) {
+        return (ColumnVector.BooleanColumnVector) getVector(column);
+    }
+
+    /**
+     * @see #getVector(SimpleColumnPattern)
+     * @since v0.2
+     */
+    @NotNull
+    public ColumnVector.DateColumnVector getDateVector(@NotNull SimpleColumnPattern<LocalDate, ?> column) {
+        return (ColumnVector.DateColumnVector) getVector(column);
+    }
+
+    /**
+     * @see #getVector(SimpleColumnPattern)
+     * @since v0.2
+     */
+    @NotNull
+    public ColumnVector.StringColumnVector getStringVector(@NotNull SimpleColumnPattern<String, ?> column) {
+        return (ColumnVector.StringColumnVector) getVector(column);
+    }
+}
@@ -0,0 +1,641 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Represents the immutable association between the patterns of a {@link Table} and the columns of a specific list of
+ * headings. All associations are stored in flat arrays such that parsing a row only requires an indexed walk.
+ *
+ * @param <E> The type of an entry of the table.
+ * @author Stefan Huber
+ * @since v0.2
+ */
+final class ColumnBindingPlan<E> {
+    private final List<String> headings;
+    private final ColumnPattern<?, E>[] patterns;
+    private final int[] columnIndices;
+    private final String[] columnNames;
+    private final Object[] columnKeys;
+    private final BindingDiagnostics diagnostics;
+
+    private ColumnBindingPlan(@NotNull List<String> headings, @NotNull List<ColumnPattern<?, E>> patterns,
+                              @NotNull List<Integer> columnIndices, @NotNull List<Object> columnKeys,
+                              @NotNull BindingDiagnostics diagnostics) {
+        this.headings = headings;
+        this.diagnostics = diagnostics;
+        this.patterns = patterns.toArray(newPatternArray(patterns.size()));
+        this.columnIndices = columnIndices.stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.columnNames = new String[this.columnIndices.length];
+        this.columnKeys = columnKeys.toArray();
+        for (int i = 0; i < this.columnIndices.length; i++) {
+            this.columnNames[i] = headings.get(this.columnIndices[i]);
+        }
+    }
+
+    /**
+     * Associates each of the given patterns with all headings it matches.
+     *
+     * @param tableName       The name of the table the patterns belong to. Only used for messages.
+     * @param headings        The headings to bind the patterns to.
+     * @param requiredColumns All required patterns of the table.
+     * @param optionalColumns All optional patterns of the table.
+     * @param <E>             The type of an entry of the table.
+     * @return The resulting plan.
+     * @throws IllegalStateException Thrown only if any heading is matched by more than a single pattern.
+     * @since v0.2
+     */
+    @NotNull
+    static <E> ColumnBindingPlan<E> compile(@NotNull String tableName, @NotNull List<String> headings,
+                                            @NotNull Collection<? extends SimpleColumnPattern<?, E>> requiredColumns,
+                                            @NotNull Collection<? extends ColumnPattern<?, E>> optionalColumns) {
+        Objects.requireNonNull(tableName);
+        Objects.requireNonNull(headings);
+        Objects.requireNonNull(requiredColumns);
+        Objects.requireNonNull(optionalColumns);
+
+        List<ColumnPattern<?, E>> boundPatterns = new ArrayList<>();
+        List<Integer> boundIndices = new ArrayList<>();
+        List<Object> boundKeys = new ArrayList<>();
+        ColumnPattern<?, E>[] patternOfColumn = newPatternArray(headings.size());
+        List<SimpleColumnPattern<?, ?>> unmatchedRequiredColumns = new ArrayList<>();
+        List<ColumnPattern<?, ?>> unmatchedOptionalColumns = new ArrayList<>();
+        Map<SimpleColumnPattern<?, ?>, List<String>> ambiguousColumns = new HashMap<>();
+        List<ColumnPattern<?, E>> allColumns = new ArrayList<>(requiredColumns);
+        allColumns.addAll(optionalColumns);
+        Map<String, List<Integer>> headingIndicesByName = new HashMap<>();
+        for (int i = 0; i < headings.size(); i++) {
+            headingIndicesByName
+                    .computeIfAbsent(SimpleColumnPattern.foldCase(headings.get(i)), name -> new ArrayList<>())
+                    .add(i);
+        }
+        for (int patternIndex = 0; patternIndex < allColumns.size(); patternIndex++) {
+            ColumnPattern<?, E> pattern = allColumns.get(patternIndex);
+            List<String> matchedHeadings = new ArrayList<>();
+            for (int i : findMatchingColumns(pattern, headings, headingIndicesByName)) {
+                if (patternOfColumn[i] != null) {
+                    throw new IllegalStateException("Table " + tableName + " contains intersecting column patterns.");
+                }
+                patternOfColumn[i] = pattern;
+                boundPatterns.add(pattern);
+                boundIndices.add(i);
+                matchedHeadings.add(headings.get(i));
+            }
+            boundKeys.addAll(pattern.extractKeys(matchedHeadings));
+            if (matchedHeadings.isEmpty()) {
+                if (patternIndex < requiredColumns.size()) {
+                    unmatchedRequiredColumns.add((SimpleColumnPattern<?, ?>) pattern);
+                } else {
+                    unmatchedOptionalColumns.add(pattern);
+                }
+            } else if (pattern instanceof SimpleColumnPattern<?, ?> && matchedHeadings.size() > 1) {
+                ambiguousColumns.put((SimpleColumnPattern<?, ?>) pattern, matchedHeadings);
+            }
+        }
+        List<String> unboundHeadings = new ArrayList<>();
+        for (int i = 0; i < headings.size(); i++) {
+            if (patternOfColumn[i] == null) {
+                unboundHeadings.add(headings.get(i));
+            }
+        }
+
+        BindingDiagnostics diagnostics = new BindingDiagnostics(tableName, headings, unmatchedRequiredColumns,
+                unmatchedOptionalColumns, ambiguousColumns, unboundHeadings);
+        return new ColumnBindingPlan<>(List.copyOf(headings), boundPatterns, boundIndices, boundKeys, diagnostics);
+    }
+
+    /**
+     * Returns the indices of all headings matching the given pattern in ascending order. Exact column names are looked
+     * up by their case folded name so only patterns describing actual ranges of column names have to be matched
+     * against every heading.
+     */
+    @NotNull
+    private static List<Integer> findMatchingColumns(@NotNull ColumnPattern<?, ?> pattern,
+                                                     @NotNull List<String> headings,
+                                                     @NotNull Map<String, List<Integer>> headingIndicesByName) {
+        List<Integer> matchingColumns;
+        if (pattern instanceof SimpleColumnPattern<?, ?>) {
+            // The regex only confirms candidates since case folding is slightly more lenient for few characters
+            matchingColumns = headingIndicesByName.getOrDefault(
+                            ((SimpleColumnPattern<?, ?>) pattern).getFoldedColumnName(), List.of())
+                    .stream()
+                    .filter(index -> pattern.matches(headings.get(index)))
+                    .collect(Collectors.toList());
+        } else {
+            matchingColumns = new ArrayList<>();
+            for (int i = 0; i < headings.size(); i++) {
+                if (pattern.matches(headings.get(i))) {
+                    matchingColumns.add(i);
+                }
+            }
+        }
+        return matchingColumns;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> ColumnPattern<?, E>[] newPatternArray(int size) {
+        //NOTE Arrays of ColumnPattern<?, E> can not be created directly since E is not reifiable
+        return (ColumnPattern<?, E>[]) new ColumnPattern<?, ?>[size];
+    }
+
+    /**
+     * Creates a new entry and sets all bound values of the given row.
+     *
+     * @param emptyEntrySupplier The supplier of the entry to fill.
+     * @param row                The row containing the values to set. Its columns have to correspond to the headings
+     *                           this plan was compiled for.
+     * @return The resulting entry.
+     * @since v0.2
+     */
+    @NotNull
+    E createEntry(@NotNull Supplier<E> emptyEntrySupplier, @NotNull List<String> row) {
+        return fillEntry(emptyEntrySupplier.get(), row);
+    }
+
+    /**
+     * Sets all bound values of the given row to the given entry.
+     *
+     * @param entry The entry to fill.
+     * @param row   The row containing the values to set. Its columns have to correspond to the headings this plan was
+     *              compiled for.
+     * @return The resulting entry which is only a different object than {@code entry} if any setter of the bound
+     * columns returns a new object.
+     * @since v0.2
+     */
+    @NotNull
+    E fillEntry(@NotNull E entry, @NotNull List<String> row) {
+        E rowRepresentation = entry;
+        for (int i = 0; i < patterns.length; i++) {
+            rowRepresentation = patterns[i].combineBound(
+                    rowRepresentation, columnNames[i], columnKeys[i], row.get(columnIndices[i]));
+        }
+        return rowRepresentation;
+    }
+
+    /**
+     * Checks whether all bound columns set their values without boxing them, i.e. whether they are
+     * {@link IntColumnPattern}s, {@link LongColumnPattern}s, {@link DoubleColumnPattern}s or
+     * {@link BooleanColumnPattern}s.
+     *
+     * @throws IllegalArgumentException Thrown only if any bound column is no primitive column.
+     * @since v0.2
+     */
+    void requirePrimitiveColumns() {
+        for (int i = 0; i < patterns.length; i++) {
+            ColumnPattern<?, E> pattern = patterns[i];
+            boolean isPrimitive = pattern instanceof IntColumnPattern<?> || pattern instanceof LongColumnPattern<?>
+                    || pattern instanceof DoubleColumnPattern<?> || pattern instanceof BooleanColumnPattern<?>;
+            if (!isPrimitive) {
+                throw new IllegalArgumentException("The heading " + columnNames[i] + " is bound to " + pattern
+                        + " which is no primitive column");
+            }
+        }
+    }
+
+    /**
+     * Creates a new entry and sets all bound values of the given row which are valid for their column. Invalid values
+     * are skipped and recorded in {@code invalidCells} instead of being parsed.
+     *
+     * @param emptyEntrySupplier The supplier of the entry to fill.
+     * @param row                The row containing the values to set. Its columns have to correspond to the headings
+     *                           this plan was compiled for.
+     * @param invalidCells       The statistics to record invalid values in.
+     * @return The resulting entry.
+     * @see ColumnParser#isValid(String)
+     * @since v0.2
+     */
+    @NotNull
+    E createEntry(@NotNull Supplier<E> emptyEntrySupplier, @NotNull List<String> row,
+                  @NotNull InvalidCellStatistics invalidCells) {
+        E rowRepresentation = emptyEntrySupplier.get();
+        for (int i = 0; i < patterns.length; i++) {
+            String valueToParse = ColumnPattern.normalizeValue(row.get(columnIndices[i]));
+            if (patterns[i].getParser().isValid(valueToParse)) {
+                rowRepresentation
+                        = patterns[i].combineImpl(rowRepresentation, columnNames[i], columnKeys[i], valueToParse);
+            } else {
+                invalidCells.record(columnNames[i], valueToParse);
+            }
+        }
+        return rowRepresentation;
+    }
+
+    /**
+     * Creates a new entry and sets all bound values of the given row which can be parsed. Cells which can not be
+     * parsed are reported to {@code errors} and handled according to {@code policy}.
+     *
+     * @param emptyEntrySupplier The supplier of the entry to fill.
+     * @param row                The row containing the values to set. Its columns have to correspond to the headings
+     *                           this plan was compiled for.
+     * @param rowIndex           The index of the row within the query result. Only used for reporting errors.
+     * @param policy             The policy determining how to handle cells which can not be parsed.
+     * @param errors             The consumer to report cells to which can not be parsed.
+     * @return The resulting entry or {@code null} if the row is skipped.
+     * @since v0.2
+     */
+    @Nullable
+    E createEntry(@NotNull Supplier<E> emptyEntrySupplier, @NotNull List<String> row, int rowIndex,
+                  @NotNull ParseErrorPolicy policy, @NotNull Consumer<ParseError> errors) {
+        E rowRepresentation = emptyEntrySupplier.get();
+        boolean skipRow = false;
+        for (int i = 0; i < patterns.length && !skipRow; i++) {
+            String value = row.get(columnIndices[i]);
+            String valueToParse = ColumnPattern.normalizeValue(value);
+            String message = null;
+            if (patterns[i].getParser().isValid(valueToParse)) {
+                try {
+                    rowRepresentation
+                            = patterns[i].combineImpl(rowRepresentation, columnNames[i], columnKeys[i], valueToParse);
+                } catch (IllegalArgumentException ex) {
+                    message = Objects.requireNonNullElse(ex.getMessage(), ex.toString());
+                }
+            } else {
+                message = "The value is no valid " + patterns[i].getParser().getType().getSimpleName();
+            }
+            if (message != null) {
+                errors.accept(new ParseError(rowIndex, columnNames[i], value, message));
+                skipRow = policy == ParseErrorPolicy.SKIP_ROW;
+            }
+        }
+        return skipRow ? null : rowRepresentation;
+    }
+
+    /**
+     * Returns for each bound column the slot of the given {@link EntryConstructor} it is stored in.
+     *
+     * @param entryConstructor The constructor to get the slots from.
+     * @return An array containing for each bound column its slot or {@code -1} if it is not stored in a slot.
+     * @since v0.2
+     */
+    @NotNull
+    int[] findSlots(@NotNull EntryConstructor<E> entryConstructor) {
+        Map<ColumnPattern<?, E>, Integer> slotOfPattern = new IdentityHashMap<>();
+        List<SimpleColumnPattern<?, E>> slotColumns = entryConstructor.getSlotColumns();
+        for (int slot = 0; slot < slotColumns.size(); slot++) {
+            slotOfPattern.put(slotColumns.get(slot), slot);
+        }
+        int[] slots = new int[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            slots[i] = slotOfPattern.getOrDefault(patterns[i], -1);
+        }
+        return slots;
+    }
+
+    /**
+     * Creates a new entry from all bound values of the given row using the given {@link EntryConstructor}. Values of
+     * bound columns which are not stored in slots are set afterwards.
+     *
+     * @param entryConstructor The constructor to create the entry with.
+     * @param slotOfColumn     The slots of all bound columns as returned by {@link #findSlots(EntryConstructor)}.
+     * @param slots            The slots to collect the values of the row in.
+     * @param row              The row containing the values to set. Its columns have to correspond to the headings
+     *                         this plan was compiled for.
+     * @return The resulting entry.
+     * @since v0.2
+     */
+    @NotNull
+    E createEntry(@NotNull EntryConstructor<E> entryConstructor, @NotNull int[] slotOfColumn,
+                  @NotNull RowSlots slots, @NotNull List<String> row) {
+        slots.clear();
+        for (int i = 0; i < patterns.length; i++) {
+            if (slotOfColumn[i] >= 0) {
+                patterns[i].parseInto(slots, slotOfColumn[i], ColumnPattern.normalizeValue(row.get(columnIndices[i])));
+            }
+        }
+        E rowRepresentation = entryConstructor.create(slots);
+        for (int i = 0; i < patterns.length; i++) {
+            if (slotOfColumn[i] < 0) {
+                rowRepresentation = patterns[i].combineBound(
+                        rowRepresentation, columnNames[i], columnKeys[i], row.get(columnIndices[i]));
+            }
+        }
+        return rowRepresentation;
+    }
+
+    /**
+     * Creates a new entry and sets all bound values of the current row of the given result set.
+     *
+     * @param emptyEntrySupplier The supplier of the entry to fill.
+     * @param resultSet          The result set whose cursor points to the row to read. Its columns have to correspond
+     *                           to the headings this plan was compiled for.
+     * @return The resulting entry.
+     * @throws SQLException Thrown only if any bound column can not be read.
+     * @since v0.2
+     */
+    @NotNull
+    E createEntry(@NotNull Supplier<E> emptyEntrySupplier, @NotNull ResultSet resultSet) throws SQLException {
+        E rowRepresentation = emptyEntrySupplier.get();
+        for (int i = 0; i < patterns.length; i++) {
+            rowRepresentation = patterns[i].combineBound(
+                    rowRepresentation, columnNames[i], columnKeys[i], resultSet, columnIndices[i] + 1);
+        }
+        return rowRepresentation;
+    }
+
+    /**
+     * Creates a new entry and sets all bound values of the current row of the given source.
+     *
+     * @param emptyEntrySupplier The supplier of the entry to fill.
+     * @param source             The source whose cursor points to the row to read. Its columns have to correspond to
+     *                           the headings this plan was compiled for.
+     * @return The resulting entry.
+     * @since v0.2
+     */
+    @NotNull
+    E createEntry(@NotNull Supplier<E> emptyEntrySupplier, @NotNull RowSource source) {
+        E rowRepresentation = emptyEntrySupplier.get();
+        for (int i = 0; i < patterns.length; i++) {
+            rowRepresentation = patterns[i].combineBound(
+                    rowRepresentation, columnNames[i], columnKeys[i], source, columnIndices[i]);
+        }
+        return rowRepresentation;
+    }
+
+    /**
+     * Returns a plan which only contains the columns bound to the given patterns. All other associations including
+     * the diagnostics are shared with this plan.
+     *
+     * @param projectedColumns The patterns whose columns to keep.
+     * @return The resulting plan.
+     * @since v0.2
+     */
+    @NotNull
+    ColumnBindingPlan<E> project(@NotNull Set<? extends ColumnPattern<?, E>> projectedColumns) {
+        List<ColumnPattern<?, E>> projectedPatterns = new ArrayList<>();
+        List<Integer> projectedIndices = new ArrayList<>();
+        List<Object> projectedKeys = new ArrayList<>();
+        for (int i = 0; i < patterns.length; i++) {
+            if (projectedColumns.contains(patterns[i])) {
+                projectedPatterns.add(patterns[i]);
+                projectedIndices.add(columnIndices[i]);
+                projectedKeys.add(columnKeys[i]);
+            }
+        }
+        return new ColumnBindingPlan<>(headings, projectedPatterns, projectedIndices, projectedKeys, diagnostics);
+    }
+
+    /**
+     * Associates the given predicates with the columns bound to their patterns. The values the predicates parse are
+     * stored in slots and set to the entries of accepted rows instead of parsing their cells again.
+     *
+     * @param emptyEntrySupplier The supplier of the entries to fill.
+     * @param predicates         The predicates to bind.
+     * @return The function creating the entry of a row or returning {@code null} if any bound cell of the row does not
+     * fulfill its predicates.
+     * @throws IllegalArgumentException Thrown only if the column of any predicate is not bound to any heading.
+     * @see ColumnPattern#combineSlot(Object, String, Object, RowSlots, int, String)
+     * @since v0.2
+     */
+    @NotNull
+    Function<List<String>, E> bindPredicates(@NotNull Supplier<E> emptyEntrySupplier,
+                                             @NotNull Collection<? extends ColumnPredicate> predicates) {
+        List<ColumnPredicate> boundPredicates = new ArrayList<>();
+        List<Integer> boundPatterns = new ArrayList<>();
+        int[] slotOfColumn = new int[patterns.length];
+        Arrays.fill(slotOfColumn, -1);
+        int numSlots = 0;
+        for (ColumnPredicate predicate : predicates) {
+            boolean isBound = false;
+            for (int i = 0; i < patterns.length; i++) {
+                if (patterns[i].equals(predicate.getColumn())) {
+                    boundPredicates.add(predicate);
+                    boundPatterns.add(i);
+                    if (slotOfColumn[i] < 0) {
+                        slotOfColumn[i] = numSlots;
+                        numSlots++;
+                    }
+                    isBound = true;
+                }
+            }
+            if (!isBound) {
+                throw new IllegalArgumentException(
+                        "The column " + predicate.getColumn() + " of a predicate is not bound to " + headings);
+            }
+        }
+        ColumnPredicate[] predicatesToTest = boundPredicates.toArray(new ColumnPredicate[0]);
+        int[] patternsToTest = boundPatterns.stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+        int finalNumSlots = numSlots;
+        // The slots are reused for all rows but must not be shared in case the reducer processes rows in parallel
+        ThreadLocal<RowSlots> threadSlots = ThreadLocal.withInitial(() -> new RowSlots(finalNumSlots));
+        return row -> {
+            RowSlots slots = threadSlots.get();
+            slots.clear();
+            for (int i = 0; i < predicatesToTest.length; i++) {
+                int patternIndex = patternsToTest[i];
+                String valueToParse = ColumnPattern.normalizeValue(row.get(columnIndices[patternIndex]));
+                if (!predicatesToTest[i].test(valueToParse, slots, slotOfColumn[patternIndex])) {
+                    return null;
+                }
+            }
+            E rowRepresentation = emptyEntrySupplier.get();
+            for (int i = 0; i < patterns.length; i++) {
+                String value = row.get(columnIndices[i]);
+                if (slotOfColumn[i] >= 0 && slots.isPresent(slotOfColumn[i])) {
+                    rowRepresentation = patterns[i].combineSlot(rowRepresentation, columnNames[i], columnKeys[i],
+                            slots, slotOfColumn[i], ColumnPattern.normalizeValue(value));
+                } else {
+                    rowRepresentation = patterns[i].combineBound(
+                            rowRepresentation, columnNames[i], columnKeys[i], value);
+                }
+            }
+            return rowRepresentation;
+        };
+    }
+
+    /**
+     * Returns the index of the heading each bound simple column is read from. If a column is bound to multiple headings
+     * the last one is returned since its value overrides the others when creating entries.
+     *
+     * @return The index of the heading of each bound simple column in the order the columns were bound.
+     */
+    @NotNull
+    Map<SimpleColumnPattern<?, ?>, Integer> findSimpleColumns() {
+        Map<SimpleColumnPattern<?, ?>, Integer> sourceColumnOfPattern = new LinkedHashMap<>();
+        for (int i = 0; i < patterns.length; i++) {
+            if (patterns[i] instanceof SimpleColumnPattern<?, ?>) {
+                sourceColumnOfPattern.put((SimpleColumnPattern<?, ?>) patterns[i], columnIndices[i]);
+            }
+        }
+        return sourceColumnOfPattern;
+    }
+
+    /**
+     * Parses the bound simple columns of all given rows into a vector per column. Other columns are ignored. If a
+     * column is bound to multiple headings the value of the last one is used like when creating entries.
+     *
+     * @param rows The rows to parse. Their columns have to correspond to the headings this plan was compiled for.
+     * @return The batch containing a vector for each bound simple column.
+     * @since v0.2
+     */
+    @NotNull
+    ColumnBatch createBatch(@NotNull List<? extends List<String>> rows) {
+        Map<SimpleColumnPattern<?, ?>, Integer> sourceColumnOfPattern = findSimpleColumns();
+        Map<SimpleColumnPattern<?, ?>, ColumnVector> vectorOfPattern = new LinkedHashMap<>();
+        ColumnVector[] vectors = new ColumnVector[sourceColumnOfPattern.size()];
+        int[] sourceColumns = new int[vectors.length];
+        int vectorIndex = 0;
+        for (Map.Entry<SimpleColumnPattern<?, ?>, Integer> entry : sourceColumnOfPattern.entrySet()) {
+            vectors[vectorIndex] = ColumnVector.forType(entry.getKey().getParser().getType(), rows.size());
+            sourceColumns[vectorIndex] = entry.getValue();
+            vectorOfPattern.put(entry.getKey(), vectors[vectorIndex]);
+            vectorIndex++;
+        }
+        for (List<String> row : rows) {
+            for (int i = 0; i < vectors.length; i++) {
+                vectors[i].append(ColumnPattern.normalizeValue(row.get(sourceColumns[i])));
+            }
+        }
+        return new ColumnBatch(headings, rows.size(), vectorOfPattern);
+    }
+
+    /**
+     * Parses the bound simple columns of all remaining rows of the given source into storage outside the Java heap.
+     * Other columns are ignored. If a column is bound to multiple headings the value of the last one is used like when
+     * creating entries.
+     *
+     * @param source The source to parse. Its columns have to correspond to the headings this plan was compiled for.
+     * @return The batch containing the storage of each bound simple column.
+     * @since v0.2
+     */
+    @NotNull
+    OffHeapBatch createOffHeapBatch(@NotNull RowSource source) {
+        Map<SimpleColumnPattern<?, ?>, Integer> sourceColumnOfPattern = findSimpleColumns();
+        Map<SimpleColumnPattern<?, ?>, OffHeapColumn> columnOfPattern = new LinkedHashMap<>();
+        OffHeapColumn[] columns = new OffHeapColumn[sourceColumnOfPattern.size()];
+        int[] sourceColumns = new int[columns.length];
+        int columnIndex = 0;
+        for (Map.Entry<SimpleColumnPattern<?, ?>, Integer> entry : sourceColumnOfPattern.entrySet()) {
+            columns[columnIndex] = OffHeapColumn.forType(entry.getKey().getParser().getType());
+            sourceColumns[columnIndex] = entry.getValue();
+            columnOfPattern.put(entry.getKey(), columns[columnIndex]);
+            columnIndex++;
+        }
+        long rowCount = 0;
+        while (source.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].append(source, sourceColumns[i]);
+            }
+            rowCount++;
+        }
+        return new OffHeapBatch(headings, rowCount, columnOfPattern);
+    }
+
+    /**
+     * Returns for each bound column the vector of the given batch holding its values.
+     *
+     * @param batch The batch created by this plan or by a plan compiled for the same headings.
+     * @return An array containing for each bound column its vector or {@code null} if its values are not stored in
+     * {@code batch}. This is the case for columns which are no {@link SimpleColumnPattern} and for all but the last
+     * heading bound to the same simple column.
+     * @since v0.2
+     */
+    @NotNull
+    ColumnVector[] findVectors(@NotNull ColumnBatch batch) {
+        Map<SimpleColumnPattern<?, ?>, Integer> sourceColumnOfPattern = findSimpleColumns();
+        ColumnVector[] vectors = new ColumnVector[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            Integer sourceColumn = sourceColumnOfPattern.get(patterns[i]);
+            if (sourceColumn != null && sourceColumn == columnIndices[i]) {
+                vectors[i] = batch.getVector((SimpleColumnPattern<?, ?>) patterns[i]);
+            }
+        }
+        return vectors;
+    }
+
+    /**
+     * Creates a new entry and sets all values of the given row of a batch. The values are already parsed. Rows having
+     * no value for a column keep the value provided by {@code emptyEntrySupplier}.
+     *
+     * @param emptyEntrySupplier The supplier of the entry to fill.
+     * @param vectors            The vectors of all bound columns as returned by {@link #findVectors(ColumnBatch)}.
+     * @param row                The index of the row within the vectors.
+     * @return The resulting entry.
+     * @since v0.2
+     */
+    @NotNull
+    E createEntry(@NotNull Supplier<E> emptyEntrySupplier, @NotNull ColumnVector[] vectors, int row) {
+        E rowRepresentation = emptyEntrySupplier.get();
+        for (int i = 0; i < patterns.length; i++) {
+            if (vectors[i] != null && !vectors[i].isNull(row)) {
+                //NOTE Only simple columns are stored in vectors
+                rowRepresentation = combineStored((SimpleColumnPattern<?, E>) patterns[i], rowRepresentation,
+                        columnNames[i], vectors[i].getObject(row));
+            }
+        }
+        return rowRepresentation;
+    }
+
+    @NotNull
+    private static <T, E> E combineStored(@NotNull SimpleColumnPattern<T, E> pattern, @NotNull E toSet,
+                                          @NotNull String columnName, @NotNull Object value) {
+        return pattern.combineParsed(toSet, columnName, pattern.getParser().getType().cast(value));
+    }
+
+    /**
+     * Copies the raw values of the bound simple columns of all given rows into a compact store without parsing them.
+     * Other columns are ignored. If a column is bound to multiple headings the value of the last one is used.
+     *
+     * @param rows    The rows to store. Their columns have to correspond to the headings this plan was compiled for.
+     * @param memoize Whether parsed values are kept for subsequent reads.
+     * @return The rows parsing their cells on first access.
+     * @since v0.2
+     */
+    @NotNull
+    LazyRows createLazyRows(@NotNull List<? extends List<String>> rows, boolean memoize) {
+        Map<SimpleColumnPattern<?, ?>, Integer> sourceColumnOfPattern = findSimpleColumns();
+        int[] sourceColumns = sourceColumnOfPattern.values()
+                .stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+        LazyRows.Builder builder = new LazyRows.Builder(sourceColumns.length, rows.size());
+        for (List<String> row : rows) {
+            for (int sourceColumn : sourceColumns) {
+                builder.append(ColumnPattern.normalizeValue(row.get(sourceColumn)));
+            }
+        }
+        return builder.build(List.copyOf(sourceColumnOfPattern.keySet()), rows.size(), memoize);
+    }
+
+    /**
+     * Returns the headings this plan was compiled for.
+     *
+     * @return The headings this plan was compiled for.
+     * @since v0.2
+     */
+    @NotNull
+    List<String> getHeadings() {
+        return headings;
+    }
+
+    /**
+     * Returns the conspicuities found when compiling this plan.
+     *
+     * @return The conspicuities found when compiling this plan.
+     * @since v0.2
+     */
+    @NotNull
+    BindingDiagnostics getDiagnostics() {
+        return diagnostics;
+    }
+}
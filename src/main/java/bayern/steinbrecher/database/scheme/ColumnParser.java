@@ -3,8 +3,18 @@ package bayern.steinbrecher.database.scheme;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.text.ParsePosition;
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -29,6 +39,29 @@ public abstract /* final */ class ColumnParser<T> {
             return Optional.of(value);
         }
 
+        @Override
+        @NotNull
+        String parseOrNull(@Nullable String value) {
+            return Objects.requireNonNull(value);
+        }
+
+        @Override
+        @NotNull
+        String tryParse(@NotNull String value) {
+            return value;
+        }
+
+        @Override
+        public boolean isValid(@Nullable String value) {
+            return value != null;
+        }
+
+        @Override
+        @NotNull
+        public Optional<String> parse(@NotNull ResultSet resultSet, int columnIndex) throws SQLException {
+            return Optional.ofNullable(resultSet.getString(columnIndex));
+        }
+
         @Override
         @NotNull
         protected String toStringImpl(@NotNull String value) {
@@ -47,23 +80,82 @@ public abstract /* final */ class ColumnParser<T> {
         }
     };
     /**
-     * @since v0.1
+     * The parser of {@link Integer} values. It additionally parses values without boxing them.
+     *
+     * @see #INTEGER_COLUMN_PARSER
+     * @since v0.2
      */
-    public static final ColumnParser<Integer> INTEGER_COLUMN_PARSER = new ColumnParser<>() {
+    public static final IntColumnParser PRIMITIVE_INTEGER_COLUMN_PARSER = new IntColumnParser() {
+        @Override
+        public int parseInt(@NotNull String value) {
+            return parseInt(value, 0, value.length());
+        }
+
         @Override
         @NotNull
         public Optional<Integer> parse(String value) {
             Optional<Integer> parsedValue;
+            if (isValid(value)) {
+                parsedValue = Optional.of(parseInt(value));
+            } else {
+                Logger.getLogger(ColumnParser.class.getName())
+                        .log(Level.WARNING, "{0} is not a valid integer", value);
+                parsedValue = Optional.empty();
+            }
+            return parsedValue;
+        }
+
+        @Override
+        @Nullable
+        Integer parseOrNull(@NotNull CharSequence value, int beginIndex, int endIndex) {
+            Integer parsedValue;
             try {
-                parsedValue = Optional.of(Integer.parseInt(value));
+                parsedValue = parseInt(value, beginIndex, endIndex);
             } catch (NumberFormatException ex) {
                 Logger.getLogger(ColumnParser.class.getName())
-                        .log(Level.WARNING, null, ex);
-                parsedValue = Optional.empty();
+                        .log(Level.WARNING, "{0} is not a valid integer", value.subSequence(beginIndex, endIndex));
+                parsedValue = null;
+            }
+            return parsedValue;
+        }
+
+        @Override
+        @Nullable
+        Integer parseOrNull(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+            Integer parsedValue;
+            try {
+                parsedValue = parseInt(utf8, beginIndex, endIndex);
+            } catch (NumberFormatException ex) {
+                Logger.getLogger(ColumnParser.class.getName())
+                        .log(Level.WARNING, "{0} is not a valid integer",
+                                ByteRowSource.decodeUtf8(utf8, beginIndex, endIndex));
+                parsedValue = null;
             }
             return parsedValue;
         }
 
+        @Override
+        @Nullable
+        Integer tryParse(@NotNull String value) {
+            long parsedValue = FastNumberParser.tryParseIntegral(
+                    value, 0, value.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+            //NOTE Only invalid values and other Unicode digits are not decided quickly
+            return parsedValue == FastNumberParser.UNDECIDED_INTEGRAL
+                    ? super.tryParse(value) : Integer.valueOf((int) parsedValue);
+        }
+
+        @Override
+        public boolean isValid(@Nullable String value) {
+            return isValidIntegral(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
+        @Override
+        @NotNull
+        public Optional<Integer> parse(@NotNull ResultSet resultSet, int columnIndex) throws SQLException {
+            int value = resultSet.getInt(columnIndex);
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(value);
+        }
+
         @Override
         @NotNull
         public Class<Integer> getType() {
@@ -71,13 +163,51 @@ public abstract /* final */ class ColumnParser<T> {
         }
     };
     /**
+     * @see #PRIMITIVE_INTEGER_COLUMN_PARSER
      * @since v0.1
      */
-    public static final ColumnParser<Boolean> BOOLEAN_COLUMN_PARSER = new ColumnParser<>() {
+    public static final ColumnParser<Integer> INTEGER_COLUMN_PARSER = PRIMITIVE_INTEGER_COLUMN_PARSER;
+    /**
+     * The parser of {@link Boolean} values. It additionally parses values without boxing them.
+     *
+     * @see #BOOLEAN_COLUMN_PARSER
+     * @since v0.2
+     */
+    public static final BooleanColumnParser PRIMITIVE_BOOLEAN_COLUMN_PARSER = new BooleanColumnParser() {
+        @Override
+        public boolean parseBoolean(@Nullable String value) {
+            return "1".equalsIgnoreCase(value);
+        }
+
         @Override
         @NotNull
         public Optional<Boolean> parse(String value) {
-            return Optional.of("1".equalsIgnoreCase(value));
+            return Optional.of(parseBoolean(value));
+        }
+
+        @Override
+        @NotNull
+        Boolean tryParse(@NotNull String value) {
+            return parseBoolean(value);
+        }
+
+        @Override
+        @NotNull
+        Boolean parseOrNull(@NotNull CharSequence value, int beginIndex, int endIndex) {
+            return parseBoolean(value, beginIndex, endIndex);
+        }
+
+        @Override
+        @NotNull
+        Boolean parseOrNull(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+            return parseBoolean(utf8, beginIndex, endIndex);
+        }
+
+        @Override
+        @NotNull
+        public Optional<Boolean> parse(@NotNull ResultSet resultSet, int columnIndex) throws SQLException {
+            //NOTE Only "1" is true and SQL NULL is false like the String based parsing does
+            return Optional.of("1".equals(resultSet.getString(columnIndex)));
         }
 
         @Override
@@ -92,6 +222,11 @@ public abstract /* final */ class ColumnParser<T> {
             return Boolean.class;
         }
     };
+    /**
+     * @see #PRIMITIVE_BOOLEAN_COLUMN_PARSER
+     * @since v0.1
+     */
+    public static final ColumnParser<Boolean> BOOLEAN_COLUMN_PARSER = PRIMITIVE_BOOLEAN_COLUMN_PARSER;
     /**
      * @since v0.1
      */
@@ -104,16 +239,51 @@ public abstract /* final */ class ColumnParser<T> {
                 throw new DateTimeParseException("Can´t parse null", "null", 0);
             }
 
-            LocalDate date = null;
-            try {
-                date = LocalDate.parse(value);
-            } catch (DateTimeParseException ex) {
-                Logger.getLogger(ColumnParser.class.getName())
-                        .log(Level.WARNING, value + " is an invalid date", ex);
+            //NOTE Only non canonical dates require the full parser
+            LocalDate date = FastDateParser.parse(value, 0, value.length());
+            if (date == null) {
+                if (isValidDate(value)) {
+                    date = LocalDate.parse(value);
+                } else {
+                    Logger.getLogger(ColumnParser.class.getName())
+                            .log(Level.WARNING, "{0} is an invalid date", value);
+                }
             }
             return Optional.ofNullable(date);
         }
 
+        @Override
+        @Nullable
+        LocalDate tryParse(@NotNull String value) {
+            LocalDate date = FastDateParser.parse(value, 0, value.length());
+            return date == null ? super.tryParse(value) : date;
+        }
+
+        @Override
+        @Nullable
+        LocalDate parseOrNull(@NotNull CharSequence value, int beginIndex, int endIndex) {
+            LocalDate date = FastDateParser.parse(value, beginIndex, endIndex);
+            return date == null ? parseOrNull(value.subSequence(beginIndex, endIndex).toString()) : date;
+        }
+
+        @Override
+        @Nullable
+        LocalDate parseOrNull(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+            LocalDate date = FastDateParser.parse(utf8, beginIndex, endIndex);
+            return date == null ? parseOrNull(ByteRowSource.decodeUtf8(utf8, beginIndex, endIndex)) : date;
+        }
+
+        @Override
+        public boolean isValid(@Nullable String value) {
+            return value != null && (FastDateParser.encode(value, 0, value.length()) >= 0 || isValidDate(value));
+        }
+
+        @Override
+        @NotNull
+        public Optional<LocalDate> parse(@NotNull ResultSet resultSet, int columnIndex) throws SQLException {
+            return Optional.ofNullable(resultSet.getObject(columnIndex, LocalDate.class));
+        }
+
         @Override
         @NotNull
         protected String toStringImpl(@NotNull LocalDate value) {
@@ -127,29 +297,179 @@ public abstract /* final */ class ColumnParser<T> {
         }
     };
     /**
-     * @since v0.1
+     * The parser of {@link Double} values. It additionally parses values without boxing them.
+     *
+     * @see #DOUBLE_COLUMN_PARSER
+     * @since v0.2
      */
-    public static final ColumnParser<Double> DOUBLE_COLUMN_PARSER = new ColumnParser<Double>() {
+    public static final DoubleColumnParser PRIMITIVE_DOUBLE_COLUMN_PARSER = new DoubleColumnParser() {
+        @Override
+        public double parseDouble(@NotNull String value) {
+            return parseDouble(value, 0, value.length());
+        }
+
         @Override
         @NotNull
         public Optional<Double> parse(String value) {
             Optional<Double> parsedValue;
+            if (isValid(value)) {
+                parsedValue = Optional.of(parseDouble(value));
+            } else {
+                Logger.getLogger(ColumnParser.class.getName())
+                        .log(Level.WARNING, "{0} is not a valid double", value);
+                parsedValue = Optional.empty();
+            }
+            return parsedValue;
+        }
+
+        @Override
+        @Nullable
+        Double parseOrNull(@NotNull CharSequence value, int beginIndex, int endIndex) {
+            Double parsedValue;
             try {
-                parsedValue = Optional.of(Double.parseDouble(value));
+                parsedValue = parseDouble(value, beginIndex, endIndex);
             } catch (NumberFormatException ex) {
                 Logger.getLogger(ColumnParser.class.getName())
-                        .log(Level.WARNING, null, ex);
-                parsedValue = Optional.empty();
+                        .log(Level.WARNING, "{0} is not a valid double", value.subSequence(beginIndex, endIndex));
+                parsedValue = null;
+            }
+            return parsedValue;
+        }
+
+        @Override
+        @Nullable
+        Double parseOrNull(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+            Double parsedValue;
+            try {
+                parsedValue = parseDouble(utf8, beginIndex, endIndex);
+            } catch (NumberFormatException ex) {
+                Logger.getLogger(ColumnParser.class.getName())
+                        .log(Level.WARNING, "{0} is not a valid double",
+                                ByteRowSource.decodeUtf8(utf8, beginIndex, endIndex));
+                parsedValue = null;
             }
             return parsedValue;
         }
 
+        @Override
+        @Nullable
+        Double tryParse(@NotNull String value) {
+            double parsedValue = FastNumberParser.tryParseDouble(value, 0, value.length());
+            //NOTE Only invalid values and rare notations like NaN or hexadecimal values are not decided quickly
+            return Double.isNaN(parsedValue) ? super.tryParse(value) : Double.valueOf(parsedValue);
+        }
+
+        @Override
+        public boolean isValid(@Nullable String value) {
+            return isValidDouble(value);
+        }
+
+        @Override
+        @NotNull
+        public Optional<Double> parse(@NotNull ResultSet resultSet, int columnIndex) throws SQLException {
+            double value = resultSet.getDouble(columnIndex);
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(value);
+        }
+
         @Override
         @NotNull
         public Class<Double> getType() {
             return Double.class;
         }
     };
+    /**
+     * @see #PRIMITIVE_DOUBLE_COLUMN_PARSER
+     * @since v0.1
+     */
+    public static final ColumnParser<Double> DOUBLE_COLUMN_PARSER = PRIMITIVE_DOUBLE_COLUMN_PARSER;
+    /**
+     * The parser of {@link Long} values. It additionally parses values without boxing them.
+     *
+     * @see #LONG_COLUMN_PARSER
+     * @since v0.2
+     */
+    public static final LongColumnParser PRIMITIVE_LONG_COLUMN_PARSER = new LongColumnParser() {
+        @Override
+        public long parseLong(@NotNull String value) {
+            return parseLong(value, 0, value.length());
+        }
+
+        @Override
+        @NotNull
+        public Optional<Long> parse(String value) {
+            Optional<Long> parsedValue;
+            if (isValid(value)) {
+                parsedValue = Optional.of(parseLong(value));
+            } else {
+                Logger.getLogger(ColumnParser.class.getName())
+                        .log(Level.WARNING, "{0} is not a valid long", value);
+                parsedValue = Optional.empty();
+            }
+            return parsedValue;
+        }
+
+        @Override
+        @Nullable
+        Long parseOrNull(@NotNull CharSequence value, int beginIndex, int endIndex) {
+            Long parsedValue;
+            try {
+                parsedValue = parseLong(value, beginIndex, endIndex);
+            } catch (NumberFormatException ex) {
+                Logger.getLogger(ColumnParser.class.getName())
+                        .log(Level.WARNING, "{0} is not a valid long", value.subSequence(beginIndex, endIndex));
+                parsedValue = null;
+            }
+            return parsedValue;
+        }
+
+        @Override
+        @Nullable
+        Long parseOrNull(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+            Long parsedValue;
+            try {
+                parsedValue = parseLong(utf8, beginIndex, endIndex);
+            } catch (NumberFormatException ex) {
+                Logger.getLogger(ColumnParser.class.getName())
+                        .log(Level.WARNING, "{0} is not a valid long",
+                                ByteRowSource.decodeUtf8(utf8, beginIndex, endIndex));
+                parsedValue = null;
+            }
+            return parsedValue;
+        }
+
+        @Override
+        @Nullable
+        Long tryParse(@NotNull String value) {
+            long parsedValue = FastNumberParser.tryParseIntegral(
+                    value, 0, value.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+            //NOTE Only invalid values, other Unicode digits and the minimum are not decided quickly
+            return parsedValue == FastNumberParser.UNDECIDED_INTEGRAL
+                    ? super.tryParse(value) : Long.valueOf(parsedValue);
+        }
+
+        @Override
+        public boolean isValid(@Nullable String value) {
+            return isValidIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+
+        @Override
+        @NotNull
+        public Optional<Long> parse(@NotNull ResultSet resultSet, int columnIndex) throws SQLException {
+            long value = resultSet.getLong(columnIndex);
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(value);
+        }
+
+        @Override
+        @NotNull
+        public Class<Long> getType() {
+            return Long.class;
+        }
+    };
+    /**
+     * @see #PRIMITIVE_LONG_COLUMN_PARSER
+     * @since v0.2
+     */
+    public static final ColumnParser<Long> LONG_COLUMN_PARSER = PRIMITIVE_LONG_COLUMN_PARSER;
 
     private ColumnParser() {
         //Prohibit construction of additional parser outside this class
@@ -166,6 +486,143 @@ public abstract /* final */ class ColumnParser<T> {
     @NotNull
     public abstract Optional<T> parse(@Nullable String value);
 
+    /**
+     * Parses the given value like {@link #parse(java.lang.String)} but returns {@code null} instead of
+     * {@link Optional#empty()} such that parsing a cell does not require to allocate an {@link Optional}.
+     *
+     * @param value The value to parse.
+     * @return The typed value represented by {@code value} or {@code null} if it could not be converted.
+     * @since v0.2
+     */
+    @Nullable
+    T parseOrNull(@Nullable String value) {
+        return parse(value).orElse(null);
+    }
+
+    /**
+     * Parses the given range of characters like {@link #parse(java.lang.String)}. Parsers of numbers, booleans and
+     * dates parse the range directly without creating an intermediate {@link String}.
+     *
+     * @param value      The characters containing the value to parse.
+     * @param beginIndex The index of the first character of the value (inclusive).
+     * @param endIndex   The index after the last character of the value (exclusive).
+     * @return The typed value represented by the given range.
+     * @since v0.2
+     */
+    @NotNull
+    public final Optional<T> parse(@NotNull CharSequence value, int beginIndex, int endIndex) {
+        Objects.checkFromToIndex(beginIndex, endIndex, value.length());
+        return Optional.ofNullable(parseOrNull(value, beginIndex, endIndex));
+    }
+
+    /**
+     * Parses the given range of UTF-8 encoded bytes like {@link #parse(java.lang.String)}. Parsers of numbers,
+     * booleans and dates parse the range directly without decoding it. The position and the limit of {@code utf8} are
+     * neither respected nor changed.
+     *
+     * @param utf8       The bytes containing the value to parse.
+     * @param beginIndex The index of the first byte of the value (inclusive).
+     * @param endIndex   The index after the last byte of the value (exclusive).
+     * @return The typed value represented by the given range.
+     * @since v0.2
+     */
+    @NotNull
+    public final Optional<T> parse(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+        Objects.checkFromToIndex(beginIndex, endIndex, utf8.capacity());
+        return Optional.ofNullable(parseOrNull(utf8, beginIndex, endIndex));
+    }
+
+    /**
+     * The default implementation converts the range to a {@link String} and delegates to
+     * {@link #parseOrNull(String)}.
+     *
+     * @see #parse(CharSequence, int, int)
+     * @since v0.2
+     */
+    @Nullable
+    T parseOrNull(@NotNull CharSequence value, int beginIndex, int endIndex) {
+        return parseOrNull(value.subSequence(beginIndex, endIndex).toString());
+    }
+
+    /**
+     * The default implementation decodes the range and delegates to {@link #parseOrNull(String)}.
+     *
+     * @see #parse(ByteBuffer, int, int)
+     * @since v0.2
+     */
+    @Nullable
+    T parseOrNull(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+        return parseOrNull(ByteRowSource.decodeUtf8(utf8, beginIndex, endIndex));
+    }
+
+    /**
+     * Parses the given cell of the current row of {@code source} which must not represent SQL {@code NULL}. Cells of
+     * UTF-8 encoded {@link ByteRowSource}s are parsed from their bytes, all other cells from their characters.
+     *
+     * @param source      The source whose cursor points to the row to read from.
+     * @param columnIndex The index of the cell to parse starting at 0.
+     * @return The typed value of the given cell or {@code null} if it could not be converted.
+     * @since v0.2
+     */
+    @Nullable
+    T parseOrNull(@NotNull RowSource source, int columnIndex) {
+        T parsedValue;
+        if (source instanceof ByteRowSource && ((ByteRowSource) source).isUtf8()) {
+            ByteRowSource byteSource = (ByteRowSource) source;
+            int begin = byteSource.getCellBegin(columnIndex);
+            int end = byteSource.getCellEnd(columnIndex);
+            parsedValue = parseOrNull(byteSource.getBuffer(), begin, end);
+        } else {
+            CharSequence cell = Objects.requireNonNull(source.getCell(columnIndex));
+            parsedValue = parseOrNull(cell, 0, cell.length());
+        }
+        return parsedValue;
+    }
+
+    /**
+     * Parses the given value like {@link #parseOrNull(String)} but neither throws nor logs anything for invalid values.
+     * Hence it is suitable for values which are expected to be invalid, e.g. when evaluating a {@link ColumnPredicate}.
+     * The default implementation checks the value using {@link #isValid(String)} before parsing it. Parsers of
+     * strings, numbers, booleans and dates parse valid values in a single pass.
+     *
+     * @param value The value to parse.
+     * @return The typed value represented by {@code value} or {@code null} if it could not be converted.
+     * @since v0.2
+     */
+    @Nullable
+    T tryParse(@NotNull String value) {
+        return isValid(value) ? parseOrNull(value) : null;
+    }
+
+    /**
+     * Checks whether {@link #parse(java.lang.String)} is able to convert the given value without actually converting
+     * it. In contrast to parsing it neither throws nor logs anything for invalid values. The default implementation
+     * delegates to {@link #parse(java.lang.String)}.
+     *
+     * @param value The value to check.
+     * @return {@code true} only if {@code value} represents a valid value of this column.
+     * @since v0.2
+     */
+    public boolean isValid(@Nullable String value) {
+        return parse(value).isPresent();
+    }
+
+    /**
+     * Reads the value of the given column of the current row of {@code resultSet} using the getter matching the type
+     * of this column. Returns {@link Optional#empty()} if the value is SQL {@code NULL} or could not be converted. The
+     * default implementation reads the value as {@link String} and delegates to {@link #parse(java.lang.String)}.
+     *
+     * @param resultSet   The result set whose cursor points to the row to read from.
+     * @param columnIndex The index of the column to read starting at 1.
+     * @return The typed value of the given column.
+     * @throws SQLException Thrown only if the column can not be read from {@code resultSet}.
+     * @since v0.2
+     */
+    @NotNull
+    public Optional<T> parse(@NotNull ResultSet resultSet, int columnIndex) throws SQLException {
+        return parse(resultSet.getString(columnIndex));
+    }
+
     /**
      * Returns the {@link String} representation of the given value suitable for SQL. NOTE: For implementation it can be
      * assumed that the value is not {@code null} since this is handled by {@link #toString(java.lang.Object)}. The
@@ -200,6 +657,129 @@ public abstract /* final */ class ColumnParser<T> {
         return valueSql;
     }
 
+    /**
+     * Checks whether the given value represents a decimal integer in the given range without throwing any exception.
+     * The accepted syntax is the one of {@link Long#parseLong(String)}.
+     */
+    private static boolean isValidIntegral(@Nullable String value, long minValue, long maxValue) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        int index = 0;
+        boolean negative = false;
+        char firstChar = value.charAt(0);
+        if (firstChar == '-' || firstChar == '+') {
+            negative = firstChar == '-';
+            index++;
+            if (value.length() == 1) {
+                return false;
+            }
+        }
+        // Accumulate negatively since the magnitude of the minimum may exceed the one of the maximum
+        long limit = negative ? minValue : -maxValue;
+        long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (; index < value.length(); index++) {
+            int digit = Character.digit(value.charAt(index), 10);
+            if (digit < 0 || result < multiplicationLimit) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        return true;
+    }
+
+    private static int skipDigits(@NotNull String value, int startIndex, int radix) {
+        int index = startIndex;
+        while (index < value.length() && value.charAt(index) < 128
+                && Character.digit(value.charAt(index), radix) >= 0) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Checks whether the given value is accepted by {@link Double#parseDouble(String)} without throwing any exception.
+     */
+    private static boolean isValidDouble(@Nullable String value) {
+        if (value == null) {
+            return false;
+        }
+        String trimmed = value.trim();
+        int index = 0;
+        if (!trimmed.isEmpty() && (trimmed.charAt(0) == '-' || trimmed.charAt(0) == '+')) {
+            index++;
+        }
+        if (trimmed.startsWith("NaN", index) || trimmed.startsWith("Infinity", index)) {
+            return trimmed.length() == index + (trimmed.charAt(index) == 'N' ? "NaN" : "Infinity").length();
+        }
+
+        boolean isHex = trimmed.startsWith("0x", index) || trimmed.startsWith("0X", index);
+        int radix = 10;
+        if (isHex) {
+            index += 2;
+            radix = 16;
+        }
+        int integerEnd = skipDigits(trimmed, index, radix);
+        int numDigits = integerEnd - index;
+        index = integerEnd;
+        if (index < trimmed.length() && trimmed.charAt(index) == '.') {
+            int fractionEnd = skipDigits(trimmed, index + 1, radix);
+            numDigits += fractionEnd - index - 1;
+            index = fractionEnd;
+        }
+        if (numDigits <= 0) {
+            return false;
+        }
+
+        // The binary exponent is mandatory for hexadecimal values
+        char exponentChar = isHex ? 'p' : 'e';
+        if (index < trimmed.length() && Character.toLowerCase(trimmed.charAt(index)) == exponentChar) {
+            index++;
+            if (index < trimmed.length() && (trimmed.charAt(index) == '-' || trimmed.charAt(index) == '+')) {
+                index++;
+            }
+            int exponentEnd = skipDigits(trimmed, index, 10);
+            if (exponentEnd == index) {
+                return false;
+            }
+            index = exponentEnd;
+        } else if (isHex) {
+            return false;
+        }
+
+        if (index < trimmed.length() && "fFdD".indexOf(trimmed.charAt(index)) >= 0) {
+            index++;
+        }
+        return index == trimmed.length();
+    }
+
+    /**
+     * Checks whether the given value is accepted by {@link LocalDate#parse(CharSequence)} without throwing any
+     * exception.
+     */
+    private static boolean isValidDate(@Nullable String value) {
+        if (value == null) {
+            return false;
+        }
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor fields = DateTimeFormatter.ISO_LOCAL_DATE.parseUnresolved(value, position);
+        if (fields == null || position.getErrorIndex() >= 0 || position.getIndex() != value.length()) {
+            return false;
+        }
+        long year = fields.getLong(ChronoField.YEAR);
+        long month = fields.getLong(ChronoField.MONTH_OF_YEAR);
+        long dayOfMonth = fields.getLong(ChronoField.DAY_OF_MONTH);
+        return ChronoField.YEAR.range().isValidValue(year)
+                && ChronoField.MONTH_OF_YEAR.range().isValidValue(month)
+                && dayOfMonth >= 1
+                && dayOfMonth <= Month.of((int) month).length(Year.isLeap(year));
+    }
+
     /**
      * Returns the generic type of the class. This method is needed since type ereasure takes place.
      *
@@ -208,4 +788,306 @@ public abstract /* final */ class ColumnParser<T> {
      */
     @NotNull
     public abstract Class<T> getType();
+
+    /**
+     * Represents a parser for {@code int} columns which additionally parses values without boxing them and without
+     * wrapping them into an {@link Optional}.
+     *
+     * @author Stefan Huber
+     * @since v0.2
+     */
+    public abstract static class IntColumnParser extends ColumnParser<Integer> {
+        private IntColumnParser() {
+            //Prohibit construction of additional parser outside the enclosing class
+        }
+
+        /**
+         * Parses the given value to a primitive {@code int}.
+         *
+         * @param value The value to parse.
+         * @return The {@code int} represented by {@code value}.
+         * @throws NumberFormatException Thrown only if {@code value} does not represent an {@code int}.
+         * @since v0.2
+         */
+        public abstract int parseInt(@NotNull String value);
+
+        /**
+         * Parses the given range of characters to a primitive {@code int} without creating an intermediate
+         * {@link String}. The accepted syntax equals the one of {@link #parseInt(String)}.
+         *
+         * @param value      The characters containing the value to parse.
+         * @param beginIndex The index of the first character of the value (inclusive).
+         * @param endIndex   The index after the last character of the value (exclusive).
+         * @return The {@code int} represented by the given range.
+         * @throws NumberFormatException Thrown only if the given range does not represent an {@code int}.
+         * @since v0.2
+         */
+        public int parseInt(@NotNull CharSequence value, int beginIndex, int endIndex) {
+            Objects.checkFromToIndex(beginIndex, endIndex, value.length());
+            return (int) FastNumberParser.parseIntegral(
+                    value, beginIndex, endIndex, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Parses the given range of UTF-8 encoded bytes to a primitive {@code int} without decoding them. The
+         * position and the limit of {@code utf8} are neither respected nor changed.
+         *
+         * @param utf8       The bytes containing the value to parse.
+         * @param beginIndex The index of the first byte of the value (inclusive).
+         * @param endIndex   The index after the last byte of the value (exclusive).
+         * @return The {@code int} represented by the given range.
+         * @throws NumberFormatException Thrown only if the given range does not represent an {@code int}.
+         * @see #parseInt(CharSequence, int, int)
+         * @since v0.2
+         */
+        public int parseInt(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+            Objects.checkFromToIndex(beginIndex, endIndex, utf8.capacity());
+            return (int) FastNumberParser.parseIntegral(
+                    utf8, beginIndex, endIndex, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Parses the given cell of the current row of {@code source} which must not represent SQL {@code NULL}.
+         *
+         * @throws NumberFormatException Thrown only if the cell does not represent an {@code int}.
+         * @see ColumnParser#parseOrNull(RowSource, int)
+         */
+        int parseInt(@NotNull RowSource source, int columnIndex) {
+            int value;
+            if (source instanceof ByteRowSource) {
+                ByteRowSource byteSource = (ByteRowSource) source;
+                int begin = byteSource.getCellBegin(columnIndex);
+                int end = byteSource.getCellEnd(columnIndex);
+                value = parseInt(byteSource.getBuffer(), begin, end);
+            } else {
+                CharSequence cell = Objects.requireNonNull(source.getCell(columnIndex));
+                value = parseInt(cell, 0, cell.length());
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Represents a parser for {@code long} columns which additionally parses values without boxing them and without
+     * wrapping them into an {@link Optional}.
+     *
+     * @author Stefan Huber
+     * @since v0.2
+     */
+    public abstract static class LongColumnParser extends ColumnParser<Long> {
+        private LongColumnParser() {
+            //Prohibit construction of additional parser outside the enclosing class
+        }
+
+        /**
+         * Parses the given value to a primitive {@code long}.
+         *
+         * @param value The value to parse.
+         * @return The {@code long} represented by {@code value}.
+         * @throws NumberFormatException Thrown only if {@code value} does not represent a {@code long}.
+         * @since v0.2
+         */
+        public abstract long parseLong(@NotNull String value);
+
+        /**
+         * Parses the given range of characters to a primitive {@code long} without creating an intermediate
+         * {@link String}. The accepted syntax equals the one of {@link #parseLong(String)}.
+         *
+         * @param value      The characters containing the value to parse.
+         * @param beginIndex The index of the first character of the value (inclusive).
+         * @param endIndex   The index after the last character of the value (exclusive).
+         * @return The {@code long} represented by the given range.
+         * @throws NumberFormatException Thrown only if the given range does not represent a {@code long}.
+         * @since v0.2
+         */
+        public long parseLong(@NotNull CharSequence value, int beginIndex, int endIndex) {
+            Objects.checkFromToIndex(beginIndex, endIndex, value.length());
+            return FastNumberParser.parseIntegral(value, beginIndex, endIndex, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+
+        /**
+         * Parses the given range of UTF-8 encoded bytes to a primitive {@code long} without decoding them. The
+         * position and the limit of {@code utf8} are neither respected nor changed.
+         *
+         * @param utf8       The bytes containing the value to parse.
+         * @param beginIndex The index of the first byte of the value (inclusive).
+         * @param endIndex   The index after the last byte of the value (exclusive).
+         * @return The {@code long} represented by the given range.
+         * @throws NumberFormatException Thrown only if the given range does not represent a {@code long}.
+         * @see #parseLong(CharSequence, int, int)
+         * @since v0.2
+         */
+        public long parseLong(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+            Objects.checkFromToIndex(beginIndex, endIndex, utf8.capacity());
+            return FastNumberParser.parseIntegral(utf8, beginIndex, endIndex, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+
+        /**
+         * Parses the given cell of the current row of {@code source} which must not represent SQL {@code NULL}.
+         *
+         * @throws NumberFormatException Thrown only if the cell does not represent a {@code long}.
+         * @see ColumnParser#parseOrNull(RowSource, int)
+         */
+        long parseLong(@NotNull RowSource source, int columnIndex) {
+            long value;
+            if (source instanceof ByteRowSource) {
+                ByteRowSource byteSource = (ByteRowSource) source;
+                int begin = byteSource.getCellBegin(columnIndex);
+                int end = byteSource.getCellEnd(columnIndex);
+                value = parseLong(byteSource.getBuffer(), begin, end);
+            } else {
+                CharSequence cell = Objects.requireNonNull(source.getCell(columnIndex));
+                value = parseLong(cell, 0, cell.length());
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Represents a parser for {@code double} columns which additionally parses values without boxing them and without
+     * wrapping them into an {@link Optional}.
+     *
+     * @author Stefan Huber
+     * @since v0.2
+     */
+    public abstract static class DoubleColumnParser extends ColumnParser<Double> {
+        private DoubleColumnParser() {
+            //Prohibit construction of additional parser outside the enclosing class
+        }
+
+        /**
+         * Parses the given value to a primitive {@code double}.
+         *
+         * @param value The value to parse.
+         * @return The {@code double} represented by {@code value}.
+         * @throws NumberFormatException Thrown only if {@code value} does not represent a {@code double}.
+         * @since v0.2
+         */
+        public abstract double parseDouble(@NotNull String value);
+
+        /**
+         * Parses the given range of characters to a primitive {@code double} without creating an intermediate
+         * {@link String}. The accepted syntax and the results equal the ones of {@link Double#parseDouble(String)}.
+         * Plain decimal values with up to 19 significant digits are converted by the algorithm of Eisel and Lemire
+         * instead of the JDK.
+         *
+         * @param value      The characters containing the value to parse.
+         * @param beginIndex The index of the first character of the value (inclusive).
+         * @param endIndex   The index after the last character of the value (exclusive).
+         * @return The {@code double} represented by the given range.
+         * @throws NumberFormatException Thrown only if the given range does not represent a {@code double}.
+         * @since v0.2
+         */
+        public double parseDouble(@NotNull CharSequence value, int beginIndex, int endIndex) {
+            Objects.checkFromToIndex(beginIndex, endIndex, value.length());
+            return FastNumberParser.parseDouble(value, beginIndex, endIndex);
+        }
+
+        /**
+         * Parses the given range of UTF-8 encoded bytes to a primitive {@code double} without decoding them. The
+         * position and the limit of {@code utf8} are neither respected nor changed.
+         *
+         * @param utf8       The bytes containing the value to parse.
+         * @param beginIndex The index of the first byte of the value (inclusive).
+         * @param endIndex   The index after the last byte of the value (exclusive).
+         * @return The {@code double} represented by the given range.
+         * @throws NumberFormatException Thrown only if the given range does not represent a {@code double}.
+         * @see #parseDouble(CharSequence, int, int)
+         * @since v0.2
+         */
+        public double parseDouble(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+            Objects.checkFromToIndex(beginIndex, endIndex, utf8.capacity());
+            return FastNumberParser.parseDouble(utf8, beginIndex, endIndex);
+        }
+
+        /**
+         * Parses the given cell of the current row of {@code source} which must not represent SQL {@code NULL}.
+         *
+         * @throws NumberFormatException Thrown only if the cell does not represent a {@code double}.
+         * @see ColumnParser#parseOrNull(RowSource, int)
+         */
+        double parseDouble(@NotNull RowSource source, int columnIndex) {
+            double value;
+            if (source instanceof ByteRowSource) {
+                ByteRowSource byteSource = (ByteRowSource) source;
+                int begin = byteSource.getCellBegin(columnIndex);
+                int end = byteSource.getCellEnd(columnIndex);
+                value = parseDouble(byteSource.getBuffer(), begin, end);
+            } else {
+                CharSequence cell = Objects.requireNonNull(source.getCell(columnIndex));
+                value = parseDouble(cell, 0, cell.length());
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Represents a parser for {@code boolean} columns which additionally parses values without boxing them and without
+     * wrapping them into an {@link Optional}.
+     *
+     * @author Stefan Huber
+     * @since v0.2
+     */
+    public abstract static class BooleanColumnParser extends ColumnParser<Boolean> {
+        private BooleanColumnParser() {
+            //Prohibit construction of additional parser outside the enclosing class
+        }
+
+        /**
+         * Parses the given value to a primitive {@code boolean}.
+         *
+         * @param value The value to parse.
+         * @return The {@code boolean} represented by {@code value}.
+         * @since v0.2
+         */
+        public abstract boolean parseBoolean(@Nullable String value);
+
+        /**
+         * Parses the given range of characters to a primitive {@code boolean} like {@link #parseBoolean(String)}.
+         *
+         * @param value      The characters containing the value to parse.
+         * @param beginIndex The index of the first character of the value (inclusive).
+         * @param endIndex   The index after the last character of the value (exclusive).
+         * @return The {@code boolean} represented by the given range.
+         * @since v0.2
+         */
+        public boolean parseBoolean(@NotNull CharSequence value, int beginIndex, int endIndex) {
+            Objects.checkFromToIndex(beginIndex, endIndex, value.length());
+            return endIndex - beginIndex == 1 && value.charAt(beginIndex) == '1';
+        }
+
+        /**
+         * Parses the given range of UTF-8 encoded bytes to a primitive {@code boolean} like
+         * {@link #parseBoolean(String)}. The position and the limit of {@code utf8} are neither respected nor changed.
+         *
+         * @param utf8       The bytes containing the value to parse.
+         * @param beginIndex The index of the first byte of the value (inclusive).
+         * @param endIndex   The index after the last byte of the value (exclusive).
+         * @return The {@code boolean} represented by the given range.
+         * @since v0.2
+         */
+        public boolean parseBoolean(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+            Objects.checkFromToIndex(beginIndex, endIndex, utf8.capacity());
+            return endIndex - beginIndex == 1 && utf8.get(beginIndex) == '1';
+        }
+
+        /**
+         * Parses the given cell of the current row of {@code source} which must not represent SQL {@code NULL}.
+         *
+         * @see ColumnParser#parseOrNull(RowSource, int)
+         */
+        boolean parseBoolean(@NotNull RowSource source, int columnIndex) {
+            boolean value;
+            if (source instanceof ByteRowSource) {
+                ByteRowSource byteSource = (ByteRowSource) source;
+                int begin = byteSource.getCellBegin(columnIndex);
+                int end = byteSource.getCellEnd(columnIndex);
+                value = parseBoolean(byteSource.getBuffer(), begin, end);
+            } else {
+                CharSequence cell = Objects.requireNonNull(source.getCell(columnIndex));
+                value = parseBoolean(cell, 0, cell.length());
+            }
+            return value;
+        }
+    }
 }
@@ -3,6 +3,11 @@ package bayern.steinbrecher.database.scheme;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -17,6 +22,14 @@ import java.util.regex.Pattern;
 public abstract class ColumnPattern<T, U> {
 
     private static final Logger LOGGER = Logger.getLogger(ColumnPattern.class.getName());
+    /**
+     * The lower case text representing SQL {@code NULL}.
+     */
+    private static final String NULL_VALUE = "null";
+    /**
+     * The bit distinguishing upper and lower case ASCII letters.
+     */
+    private static final int CASE_BIT = 0x20;
     private final Pattern columnNamePattern;
     private final ColumnParser<T> parser;
 
@@ -71,23 +84,267 @@ public abstract class ColumnPattern<T, U> {
      */
     public final U combine(@NotNull U toSet, @NotNull String columnName, @Nullable String value) {
         if (getColumnNamePattern().matcher(columnName).matches()) {
-            String valueToParse;
-            if (value == null || value.equalsIgnoreCase("null")) {
-                valueToParse = null;
-            } else {
-                valueToParse = value;
-            }
-            return combineImpl(toSet, columnName, valueToParse);
+            return combineImpl(toSet, columnName, normalizeValue(value));
         } else {
             throw new IllegalArgumentException("The given column name does not match this pattern.");
         }
     }
 
+    /**
+     * Returns the key distinguishing the given column from other columns matching this pattern. For bound columns it
+     * is computed once and passed to {@link #combineBound(Object, String, Object, String)} for every row. The default
+     * implementation returns {@code null} since most patterns do not distinguish their columns.
+     *
+     * @param columnName The column name matching this pattern to extract the key from.
+     * @return The key of the given column.
+     * @since v0.2
+     */
+    @Nullable
+    Object extractKey(@NotNull String columnName) {
+        return null;
+    }
+
+    /**
+     * Returns the keys of all columns a table binds to this pattern. The default implementation calls
+     * {@link #extractKey(String)} for each column. Patterns whose keys depend on all bound columns may override it.
+     *
+     * @param columnNames The names of all columns bound to this pattern in the order they appear in the headings.
+     * @return The keys of the given columns in the same order.
+     * @since v0.2
+     */
+    @NotNull
+    List<Object> extractKeys(@NotNull List<String> columnNames) {
+        List<Object> keys = new ArrayList<>(columnNames.size());
+        for (String columnName : columnNames) {
+            keys.add(extractKey(columnName));
+        }
+        return keys;
+    }
+
+    /**
+     * Parses the given value and sets it to the object of type {@link U} without checking whether the column name
+     * matches this pattern. This is meant for columns which are already known to match like bound columns.
+     *
+     * @param toSet      The object to set the parsed value to.
+     * @param columnName The column name matching this pattern.
+     * @param key        The key of the column as returned by {@link #extractKey(String)}.
+     * @param value      The value to parse and to set.
+     * @return The resulting object of type {@link U}.
+     * @see #combine(Object, String, String)
+     * @since v0.2
+     */
+    final U combineBound(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @Nullable String value) {
+        return combineImpl(toSet, columnName, key, normalizeValue(value));
+    }
+
+    /**
+     * The default implementation ignores the key and delegates to {@link #combineImpl(Object, String, String)}.
+     *
+     * @see #combineBound(Object, String, Object, String)
+     * @since v0.2
+     */
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @Nullable String valueToParse) {
+        return combineImpl(toSet, columnName, valueToParse);
+    }
+
+    /**
+     * Maps textual representations of SQL {@code NULL} to {@code null}.
+     *
+     * @param value The raw value of a cell.
+     * @return {@code null} if {@code value} represents SQL {@code NULL}, {@code value} otherwise.
+     * @since v0.2
+     */
+    @Nullable
+    static String normalizeValue(@Nullable String value) {
+        String valueToParse;
+        if (isNullValue(value)) {
+            valueToParse = null;
+        } else {
+            valueToParse = value;
+        }
+        return valueToParse;
+    }
+
+    /**
+     * Checks whether the given raw value of a cell represents SQL {@code NULL}, i.e. whether it is {@code null} or the
+     * text {@code NULL} in any case. This is the single definition of textual SQL {@code NULL} used by all ways of
+     * parsing.
+     *
+     * @param value The raw value of a cell.
+     * @return {@code true} only if {@code value} represents SQL {@code NULL}.
+     * @since v0.2
+     */
+    static boolean isNullValue(@Nullable CharSequence value) {
+        return value == null || isNullValue(value, 0, value.length());
+    }
+
+    /**
+     * Checks whether the given range represents the text {@code NULL} in any case.
+     *
+     * @since v0.2
+     */
+    static boolean isNullValue(@NotNull CharSequence value, int beginIndex, int endIndex) {
+        //NOTE Only 'N', 'U' and 'L' map to their lower case letter by setting the case bit
+        return endIndex - beginIndex == NULL_VALUE.length()
+                && (value.charAt(beginIndex) | CASE_BIT) == NULL_VALUE.charAt(0)
+                && (value.charAt(beginIndex + 1) | CASE_BIT) == NULL_VALUE.charAt(1)
+                && (value.charAt(beginIndex + 2) | CASE_BIT) == NULL_VALUE.charAt(2)
+                && (value.charAt(beginIndex + 3) | CASE_BIT) == NULL_VALUE.charAt(3);
+    }
+
+    /**
+     * Checks whether the given range of UTF-8, Latin-1 or ASCII encoded bytes represents the text {@code NULL} in any
+     * case.
+     *
+     * @since v0.2
+     */
+    static boolean isNullValue(@NotNull ByteBuffer encodedValue, int beginIndex, int endIndex) {
+        return endIndex - beginIndex == NULL_VALUE.length()
+                && (encodedValue.get(beginIndex) | CASE_BIT) == NULL_VALUE.charAt(0)
+                && (encodedValue.get(beginIndex + 1) | CASE_BIT) == NULL_VALUE.charAt(1)
+                && (encodedValue.get(beginIndex + 2) | CASE_BIT) == NULL_VALUE.charAt(2)
+                && (encodedValue.get(beginIndex + 3) | CASE_BIT) == NULL_VALUE.charAt(3);
+    }
+
     /**
      * @since v0.1
      */
     public abstract U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable String valueToParse);
 
+    /**
+     * Reads the value of the given column of the current row of {@code resultSet} using the typed getter of the parser
+     * of this pattern and sets it to the object of type {@link U}. It is assumed that {@code columnName} is already
+     * known to match this pattern.
+     *
+     * @param toSet       The object to set the read value to.
+     * @param columnName  The column name matching this pattern.
+     * @param key         The key of the column as returned by {@link #extractKey(String)}.
+     * @param resultSet   The result set whose cursor points to the row to read from.
+     * @param columnIndex The index of the column to read starting at 1.
+     * @return The resulting object of type {@link U}.
+     * @throws SQLException Thrown only if the column can not be read from {@code resultSet}.
+     * @since v0.2
+     */
+    final U combineBound(@NotNull U toSet, @NotNull String columnName, @Nullable Object key,
+                         @NotNull ResultSet resultSet, int columnIndex) throws SQLException {
+        return combineImpl(toSet, columnName, key, resultSet, columnIndex);
+    }
+
+    /**
+     * The default implementation reads the value using {@link ResultSet#getString(int)} and delegates to
+     * {@link #combineImpl(Object, String, Object, String)} such that patterns which do not read values with the typed
+     * getters of their parser behave like when parsing the value as text.
+     *
+     * @see #combineBound(Object, String, Object, ResultSet, int)
+     * @since v0.2
+     */
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull ResultSet resultSet,
+                  int columnIndex) throws SQLException {
+        return combineImpl(toSet, columnName, key, normalizeValue(resultSet.getString(columnIndex)));
+    }
+
+    /**
+     * Reads the value of the given column using {@link ColumnParser#parse(ResultSet, int)}. Patterns setting parsed
+     * values use it to read values with the typed getters of their parser.
+     *
+     * @param columnName  The column name matching this pattern. Only used for messages.
+     * @param resultSet   The result set whose cursor points to the row to read from.
+     * @param columnIndex The index of the column to read starting at 1.
+     * @return The parsed value.
+     * @throws SQLException             Thrown only if the column can not be read from {@code resultSet}.
+     * @throws IllegalArgumentException Thrown only if the value can not be parsed.
+     * @see #combineBound(Object, String, Object, ResultSet, int)
+     * @since v0.2
+     */
+    @NotNull
+    final T parseTyped(@NotNull String columnName, @NotNull ResultSet resultSet, int columnIndex) throws SQLException {
+        return getParser()
+                .parse(resultSet, columnIndex)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Can not parse the value of column " + columnName + " (index " + columnIndex + ")"));
+    }
+
+    /**
+     * Parses the given cell of the current row of {@code source} and sets it to the object of type {@link U}. It is
+     * assumed that {@code columnName} is already known to match this pattern.
+     *
+     * @param toSet       The object to set the parsed value to.
+     * @param columnName  The column name matching this pattern.
+     * @param key         The key of the column as returned by {@link #extractKey(String)}.
+     * @param source      The source whose cursor points to the row to read from.
+     * @param columnIndex The index of the cell to read starting at 0.
+     * @return The resulting object of type {@link U}.
+     * @since v0.2
+     */
+    final U combineBound(@NotNull U toSet, @NotNull String columnName, @Nullable Object key,
+                         @NotNull RowSource source, int columnIndex) {
+        return combineImpl(toSet, columnName, key, source, columnIndex);
+    }
+
+    /**
+     * The default implementation converts the cell to a {@link String} and delegates to
+     * {@link #combineImpl(Object, String, Object, String)}.
+     *
+     * @see #combineBound(Object, String, Object, RowSource, int)
+     * @since v0.2
+     */
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull RowSource source,
+                  int columnIndex) {
+        String valueToParse = source.isNull(columnIndex) ? null : String.valueOf(source.getCell(columnIndex));
+        return combineImpl(toSet, columnName, key, valueToParse);
+    }
+
+    /**
+     * Returns the type of the values this pattern stores in {@link RowSlots}.
+     *
+     * @return The type of the values this pattern stores in {@link RowSlots}. The default implementation returns the
+     * type of its parser.
+     * @see #parseInto(RowSlots, int, String)
+     * @since v0.2
+     */
+    @NotNull
+    Class<?> getSlotType() {
+        return getParser().getType();
+    }
+
+    /**
+     * Parses the given value and stores it in the given slot instead of setting it to an object of type {@link U}.
+     *
+     * @param slots        The slots of the row currently parsed.
+     * @param slot         The slot to store the parsed value in.
+     * @param valueToParse The value to parse.
+     * @see EntryConstructor
+     * @since v0.2
+     */
+    void parseInto(@NotNull RowSlots slots, int slot, @Nullable String valueToParse) {
+        T parsedValue = getParser()
+                .parseOrNull(valueToParse);
+        if (parsedValue == null) {
+            throw new IllegalArgumentException(this + " can not parse " + valueToParse);
+        }
+        slots.setObject(slot, parsedValue);
+    }
+
+    /**
+     * Sets the value which a {@link ColumnPredicate} already parsed and stored in the given slot. Values are stored in
+     * the representation of {@link #getSlotType()}. The default implementation ignores the slot and parses
+     * {@code valueToParse} again.
+     *
+     * @param toSet        The object to set the parsed value to.
+     * @param columnName   The column name matching this pattern.
+     * @param key          The key of the column as returned by {@link #extractKey(String)}.
+     * @param slots        The slots of the row currently parsed.
+     * @param slot         The slot holding the parsed value.
+     * @param valueToParse The value the slot was parsed from.
+     * @return The resulting object of type {@link U}.
+     * @see Table#parseFrom(List, java.util.Collection)
+     * @since v0.2
+     */
+    U combineSlot(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull RowSlots slots,
+                  int slot, @Nullable String valueToParse) {
+        return combineImpl(toSet, columnName, key, valueToParse);
+    }
+
     /**
      * Checks whether this pattern reflects the same column names as the given object. NOTE It is only checked whether
      * their regex are identical not whether they express the same column names.
@@ -0,0 +1,243 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Represents a condition on the cells of a single column which a row has to fulfill in order to be parsed. When
+ * parsing with predicates a {@link Table} evaluates them on the raw cells of each row before any entry is created such
+ * that rejected rows only cost the evaluation of the predicates. Each predicate parses its cell at most once and the
+ * parsed value is reused when the entry of an accepted row is created. If a column is bound to multiple headings a
+ * row is only accepted if the condition holds for all of them.
+ *
+ * @author Stefan Huber
+ * @see Table#parseFrom(java.util.List, java.util.Collection)
+ * @since v0.2
+ */
+public abstract class ColumnPredicate {
+    private final ColumnPattern<?, ?> column;
+
+    private ColumnPredicate(@NotNull ColumnPattern<?, ?> column) {
+        this.column = Objects.requireNonNull(column);
+    }
+
+    /**
+     * Creates a predicate on the raw values of the given column.
+     *
+     * @param column    The column whose cells to test.
+     * @param predicate The condition on the raw value of a cell. It is passed {@code null} if the cell represents SQL
+     *                  {@code NULL}.
+     * @return The resulting predicate.
+     * @since v0.2
+     */
+    @NotNull
+    public static ColumnPredicate onRaw(@NotNull ColumnPattern<?, ?> column,
+                                       @NotNull Predicate<? super String> predicate) {
+        Objects.requireNonNull(predicate);
+        return new ColumnPredicate(column) {
+            @Override
+            boolean test(@Nullable String valueToParse, @NotNull RowSlots slots, int slot) {
+                return predicate.test(valueToParse);
+            }
+        };
+    }
+
+    /**
+     * Creates a predicate on the parsed values of the given column. Cells which represent SQL {@code NULL} or can not
+     * be parsed are rejected without calling {@code predicate}.
+     *
+     * @param column    The column whose cells to test.
+     * @param predicate The condition on the parsed value of a cell.
+     * @param <T>       The type of the column content.
+     * @return The resulting predicate.
+     * @since v0.2
+     */
+    @NotNull
+    public static <T> ColumnPredicate onValue(@NotNull ColumnPattern<T, ?> column,
+                                              @NotNull Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        ColumnParser<T> parser = column.getParser();
+        Class<?> slotType = column.getSlotType();
+        return new ColumnPredicate(column) {
+            @Override
+            boolean test(@Nullable String valueToParse, @NotNull RowSlots slots, int slot) {
+                T parsedValue = valueToParse == null ? null : parser.tryParse(valueToParse);
+                boolean isAccepted = parsedValue != null && predicate.test(parsedValue);
+                if (isAccepted) {
+                    storeValue(slots, slot, slotType, parsedValue);
+                }
+                return isAccepted;
+            }
+        };
+    }
+
+    /**
+     * Creates a predicate on the values of the given integer column which are parsed without boxing. Cells which
+     * represent SQL {@code NULL} or can not be parsed are rejected without calling {@code predicate}.
+     *
+     * @since v0.2
+     */
+    @NotNull
+    public static ColumnPredicate onInt(@NotNull ColumnPattern<Integer, ?> column, @NotNull IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        boolean isStored = column.getParser() == ColumnParser.INTEGER_COLUMN_PARSER;
+        boolean isPrimitiveSlot = column.getSlotType() == int.class;
+        return new ColumnPredicate(column) {
+            @Override
+            boolean test(@Nullable String valueToParse, @NotNull RowSlots slots, int slot) {
+                boolean isValid = valueToParse != null;
+                int parsedValue = 0;
+                if (isValid) {
+                    long fastValue = FastNumberParser.tryParseIntegral(
+                            valueToParse, 0, valueToParse.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+                    if (fastValue == FastNumberParser.UNDECIDED_INTEGRAL) {
+                        //NOTE Only invalid values and other Unicode digits are not decided quickly
+                        isValid = ColumnParser.INTEGER_COLUMN_PARSER.isValid(valueToParse);
+                        if (isValid) {
+                            parsedValue = ColumnParser.PRIMITIVE_INTEGER_COLUMN_PARSER.parseInt(valueToParse);
+                        }
+                    } else {
+                        parsedValue = (int) fastValue;
+                    }
+                }
+                boolean isAccepted = isValid && predicate.test(parsedValue);
+                if (isAccepted && isStored) {
+                    if (isPrimitiveSlot) {
+                        slots.setInt(slot, parsedValue);
+                    } else {
+                        slots.setObject(slot, parsedValue);
+                    }
+                }
+                return isAccepted;
+            }
+        };
+    }
+
+    /**
+     * Creates a predicate on the values of the given long column which are parsed without boxing. Cells which
+     * represent SQL {@code NULL} or can not be parsed are rejected without calling {@code predicate}.
+     *
+     * @since v0.2
+     */
+    @NotNull
+    public static ColumnPredicate onLong(@NotNull ColumnPattern<Long, ?> column, @NotNull LongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        boolean isStored = column.getParser() == ColumnParser.LONG_COLUMN_PARSER;
+        boolean isPrimitiveSlot = column.getSlotType() == long.class;
+        return new ColumnPredicate(column) {
+            @Override
+            boolean test(@Nullable String valueToParse, @NotNull RowSlots slots, int slot) {
+                boolean isValid = valueToParse != null;
+                long parsedValue = 0;
+                if (isValid) {
+                    parsedValue = FastNumberParser.tryParseIntegral(
+                            valueToParse, 0, valueToParse.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+                    if (parsedValue == FastNumberParser.UNDECIDED_INTEGRAL) {
+                        //NOTE Only invalid values, other Unicode digits and the minimum are not decided quickly
+                        isValid = ColumnParser.LONG_COLUMN_PARSER.isValid(valueToParse);
+                        if (isValid) {
+                            parsedValue = ColumnParser.PRIMITIVE_LONG_COLUMN_PARSER.parseLong(valueToParse);
+                        }
+                    }
+                }
+                boolean isAccepted = isValid && predicate.test(parsedValue);
+                if (isAccepted && isStored) {
+                    if (isPrimitiveSlot) {
+                        slots.setLong(slot, parsedValue);
+                    } else {
+                        slots.setObject(slot, parsedValue);
+                    }
+                }
+                return isAccepted;
+            }
+        };
+    }
+
+    /**
+     * Creates a predicate on the values of the given double column which are parsed without boxing. Cells which
+     * represent SQL {@code NULL} or can not be parsed are rejected without calling {@code predicate}.
+     *
+     * @since v0.2
+     */
+    @NotNull
+    public static ColumnPredicate onDouble(@NotNull ColumnPattern<Double, ?> column,
+                                           @NotNull DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        boolean isStored = column.getParser() == ColumnParser.DOUBLE_COLUMN_PARSER;
+        boolean isPrimitiveSlot = column.getSlotType() == double.class;
+        return new ColumnPredicate(column) {
+            @Override
+            boolean test(@Nullable String valueToParse, @NotNull RowSlots slots, int slot) {
+                boolean isValid = valueToParse != null;
+                double parsedValue = 0;
+                if (isValid) {
+                    parsedValue = FastNumberParser.tryParseDouble(valueToParse, 0, valueToParse.length());
+                    if (Double.isNaN(parsedValue)) {
+                        //NOTE Only invalid values and rare notations like NaN or hexadecimal are not decided quickly
+                        isValid = ColumnParser.DOUBLE_COLUMN_PARSER.isValid(valueToParse);
+                        if (isValid) {
+                            parsedValue = ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER.parseDouble(valueToParse);
+                        }
+                    }
+                }
+                boolean isAccepted = isValid && predicate.test(parsedValue);
+                if (isAccepted && isStored) {
+                    if (isPrimitiveSlot) {
+                        slots.setDouble(slot, parsedValue);
+                    } else {
+                        slots.setObject(slot, parsedValue);
+                    }
+                }
+                return isAccepted;
+            }
+        };
+    }
+
+    /**
+     * Stores the given value in the representation of the given slot type.
+     */
+    private static void storeValue(@NotNull RowSlots slots, int slot, @NotNull Class<?> slotType,
+                                   @NotNull Object value) {
+        if (slotType == int.class) {
+            slots.setInt(slot, (Integer) value);
+        } else if (slotType == long.class) {
+            slots.setLong(slot, (Long) value);
+        } else if (slotType == double.class) {
+            slots.setDouble(slot, (Double) value);
+        } else if (slotType == boolean.class) {
+            slots.setBoolean(slot, (Boolean) value);
+        } else {
+            slots.setObject(slot, value);
+        }
+    }
+
+    /**
+     * Tests the value of a single cell. Predicates which parse the cell store the parsed value of accepted cells in the
+     * given slot if its column would parse it in the same way. The value is stored in the representation of
+     * {@link ColumnPattern#getSlotType()}.
+     *
+     * @param valueToParse The value of the cell or {@code null} if it represents SQL {@code NULL}.
+     * @param slots        The slots of the row currently tested.
+     * @param slot         The slot to store the parsed value in.
+     * @return {@code true} only if the row containing the cell may be accepted.
+     * @see ColumnPattern#combineSlot(Object, String, Object, RowSlots, int, String)
+     */
+    abstract boolean test(@Nullable String valueToParse, @NotNull RowSlots slots, int slot);
+
+    /**
+     * Returns the column whose cells are tested.
+     *
+     * @return The column whose cells are tested.
+     * @since v0.2
+     */
+    @NotNull
+    public ColumnPattern<?, ?> getColumn() {
+        return column;
+    }
+}
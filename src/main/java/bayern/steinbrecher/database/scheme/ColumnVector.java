@@ -0,0 +1,632 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents all values of a single column of a {@link ColumnBatch}. The values are stored in a growable primitive
+ * array whereas cells which are SQL {@code NULL} or can not be parsed are tracked by a separate bitmap. Cells marked
+ * as {@code null} hold the default value of their type in the underlying array.
+ *
+ * @author Stefan Huber
+ * @see ColumnBatch
+ * @since v0.2
+ */
+public abstract class ColumnVector {
+    private static final Logger LOGGER = Logger.getLogger(ColumnVector.class.getName());
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int MIN_CAPACITY = 16;
+    private long[] nulls;
+    private int size;
+
+    ColumnVector(int initialCapacity) {
+        nulls = new long[wordsFor(capacityFor(initialCapacity))];
+    }
+
+    static int capacityFor(int expectedSize) {
+        return Math.max(expectedSize, MIN_CAPACITY);
+    }
+
+    private static int wordsFor(int numBits) {
+        return ((numBits - 1) >> ADDRESS_BITS_PER_WORD) + 1;
+    }
+
+    /**
+     * Creates an empty vector for values of the given type.
+     *
+     * @param type            The type of the values to store.
+     * @param initialCapacity The expected number of values.
+     * @return The created vector.
+     * @throws IllegalArgumentException Thrown only if there is no vector for values of type {@code type}.
+     */
+    @NotNull
+    static ColumnVector forType(@NotNull Class<?> type, int initialCapacity) {
+        ColumnVector vector;
+        if (type == Integer.class) {
+            vector = new IntColumnVector(initialCapacity);
+        } else if (type == Long.class) {
+            vector = new LongColumnVector(initialCapacity);
+        } else if (type == Double.class) {
+            vector = new DoubleColumnVector(initialCapacity);
+        } else if (type == Boolean.class) {
+            vector = new BooleanColumnVector(initialCapacity);
+        } else if (type == LocalDate.class) {
+            vector = new DateColumnVector(initialCapacity);
+        } else if (type == String.class) {
+            vector = new StringColumnVector(initialCapacity);
+        } else {
+            throw new IllegalArgumentException("There is no column vector for values of type " + type.getName());
+        }
+        return vector;
+    }
+
+    /**
+     * Parses the given value and appends it to this vector.
+     *
+     * @param valueToParse The value to parse or {@code null} if the cell represents SQL {@code NULL}.
+     */
+    final void append(@Nullable String valueToParse) {
+        if (valueToParse == null) {
+            appendNull();
+        } else if (isValid(valueToParse)) {
+            ensureCapacity(size + 1);
+            appendValid(size, valueToParse);
+            size++;
+        } else {
+            LOGGER.log(Level.WARNING, "{0} can not be parsed and is stored as null", valueToParse);
+            appendNull();
+        }
+    }
+
+    private void appendNull() {
+        ensureCapacity(size + 1);
+        nulls[size >> ADDRESS_BITS_PER_WORD] |= 1L << size;
+        size++;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        int capacity = getCapacity();
+        if (minCapacity > capacity) {
+            int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+            grow(newCapacity);
+            nulls = Arrays.copyOf(nulls, wordsFor(newCapacity));
+        }
+    }
+
+    /**
+     * Returns the number of values the underlying array is able to hold.
+     */
+    abstract int getCapacity();
+
+    /**
+     * Enlarges the underlying array such that it is able to hold at least the given number of values.
+     */
+    abstract void grow(int minCapacity);
+
+    /**
+     * Checks whether the given value is valid for this vector.
+     */
+    abstract boolean isValid(@NotNull String valueToParse);
+
+    /**
+     * Parses the given value which is valid and stores it at the given index.
+     */
+    abstract void appendValid(int index, @NotNull String valueToParse);
+
+    /**
+     * Writes the number of values, the null bitmap and the values of this vector.
+     */
+    final void writeTo(@NotNull TableSnapshot.Output output) throws IOException {
+        output.putInt(size);
+        output.putLongs(nulls, size == 0 ? 0 : wordsFor(size));
+        writeValues(output);
+    }
+
+    /**
+     * Replaces the content of this empty vector by the content written by {@link #writeTo(TableSnapshot.Output)}. The
+     * values are copied in bulk without being parsed.
+     */
+    final void readFrom(@NotNull ByteBuffer input) {
+        int readSize = input.getInt();
+        if (readSize < 0) {
+            throw new IllegalArgumentException("The size of a vector must not be negative");
+        }
+        int capacity = capacityFor(readSize);
+        nulls = new long[wordsFor(capacity)];
+        input.asLongBuffer().get(nulls, 0, readSize == 0 ? 0 : wordsFor(readSize));
+        input.position(input.position() + (readSize == 0 ? 0 : wordsFor(readSize)) * Long.BYTES);
+        readValues(input, readSize, capacity);
+        size = readSize;
+    }
+
+    /**
+     * Writes the values of all rows of this vector.
+     */
+    abstract void writeValues(@NotNull TableSnapshot.Output output) throws IOException;
+
+    /**
+     * Replaces the values of this vector by the given number of values written by
+     * {@link #writeValues(TableSnapshot.Output)} and advances the position of {@code input} accordingly.
+     */
+    abstract void readValues(@NotNull ByteBuffer input, int size, int capacity);
+
+    /**
+     * Returns the number of values of this vector which is the number of rows of its batch.
+     *
+     * @return The number of values of this vector.
+     * @since v0.2
+     */
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the cell of the given row was SQL {@code NULL} or could not be parsed.
+     *
+     * @param row The index of the row to check.
+     * @return {@code true} only if the given row has no value.
+     * @since v0.2
+     */
+    public final boolean isNull(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("The row " + row + " is not within [0, " + size + ")");
+        }
+        return (nulls[row >> ADDRESS_BITS_PER_WORD] & (1L << row)) != 0;
+    }
+
+    /**
+     * Returns the number of rows having no value.
+     *
+     * @return The number of rows having no value.
+     * @since v0.2
+     */
+    public final int getNullCount() {
+        int nullCount = 0;
+        for (long word : nulls) {
+            nullCount += Long.bitCount(word);
+        }
+        return nullCount;
+    }
+
+    /**
+     * Returns the value of the given row as object.
+     *
+     * @param row The index of the row to get the value of.
+     * @return The value of the given row or {@code null} if it has none.
+     * @since v0.2
+     */
+    @Nullable
+    public abstract Object getObject(int row);
+
+    /**
+     * Holds the values of a column of type {@link Integer}.
+     *
+     * @since v0.2
+     */
+    public static final class IntColumnVector extends ColumnVector {
+        private int[] values;
+
+        IntColumnVector(int initialCapacity) {
+            super(initialCapacity);
+            values = new int[capacityFor(initialCapacity)];
+        }
+
+        @Override
+        int getCapacity() {
+            return values.length;
+        }
+
+        @Override
+        void grow(int minCapacity) {
+            values = Arrays.copyOf(values, minCapacity);
+        }
+
+        @Override
+        boolean isValid(@NotNull String valueToParse) {
+            return ColumnParser.INTEGER_COLUMN_PARSER.isValid(valueToParse);
+        }
+
+        @Override
+        void appendValid(int index, @NotNull String valueToParse) {
+            values[index] = ColumnParser.PRIMITIVE_INTEGER_COLUMN_PARSER.parseInt(valueToParse);
+        }
+
+        @Override
+        void writeValues(@NotNull TableSnapshot.Output output) throws IOException {
+            output.putInts(values, size());
+        }
+
+        @Override
+        void readValues(@NotNull ByteBuffer input, int size, int capacity) {
+            values = new int[capacity];
+            input.asIntBuffer().get(values, 0, size);
+            input.position(input.position() + size * Integer.BYTES);
+        }
+
+        /**
+         * @return The value of the given row or {@code 0} if it has none.
+         * @since v0.2
+         */
+        public int getInt(int row) {
+            return values[row];
+        }
+
+        /**
+         * @since v0.2
+         */
+        @Override
+        @Nullable
+        public Integer getObject(int row) {
+            return isNull(row) ? null : values[row];
+        }
+    }
+
+    /**
+     * Holds the values of a column of type {@link Long}.
+     *
+     * @since v0.2
+     */
+    public static final class LongColumnVector extends ColumnVector {
+        private long[] values;
+
+        LongColumnVector(int initialCapacity) {
+            super(initialCapacity);
+            values = new long[capacityFor(initialCapacity)];
+        }
+
+        @Override
+        int getCapacity() {
+            return values.length;
+        }
+
+        @Override
+        void grow(int minCapacity) {
+            values = Arrays.copyOf(values, minCapacity);
+        }
+
+        @Override
+        boolean isValid(@NotNull String valueToParse) {
+            return ColumnParser.LONG_COLUMN_PARSER.isValid(valueToParse);
+        }
+
+        @Override
+        void appendValid(int index, @NotNull String valueToParse) {
+            values[index] = ColumnParser.PRIMITIVE_LONG_COLUMN_PARSER.parseLong(valueToParse);
+        }
+
+        @Override
+        void writeValues(@NotNull TableSnapshot.Output output) throws IOException {
+            output.putLongs(values, size());
+        }
+
+        @Override
+        void readValues(@NotNull ByteBuffer input, int size, int capacity) {
+            values = new long[capacity];
+            input.asLongBuffer().get(values, 0, size);
+            input.position(input.position() + size * Long.BYTES);
+        }
+
+        /**
+         * @return The value of the given row or {@code 0} if it has none.
+         * @since v0.2
+         */
+        public long getLong(int row) {
+            return values[row];
+        }
+
+        /**
+         * @since v0.2
+         */
+        @Override
+        @Nullable
+        public Long getObject(int row) {
+            return isNull(row) ? null : values[row];
+        }
+    }
+
+    /**
+     * Holds the values of a column of type {@link Double}.
+     *
+     * @since v0.2
+     */
+    public static final class DoubleColumnVector extends ColumnVector {
+        private double[] values;
+
+        DoubleColumnVector(int initialCapacity) {
+            super(initialCapacity);
+            values = new double[capacityFor(initialCapacity)];
+        }
+
+        @Override
+        int getCapacity() {
+            return values.length;
+        }
+
+        @Override
+        void grow(int minCapacity) {
+            values = Arrays.copyOf(values, minCapacity);
+        }
+
+        @Override
+        boolean isValid(@NotNull String valueToParse) {
+            return ColumnParser.DOUBLE_COLUMN_PARSER.isValid(valueToParse);
+        }
+
+        @Override
+        void appendValid(int index, @NotNull String valueToParse) {
+            values[index] = ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER.parseDouble(valueToParse);
+        }
+
+        @Override
+        void writeValues(@NotNull TableSnapshot.Output output) throws IOException {
+            output.putDoubles(values, size());
+        }
+
+        @Override
+        void readValues(@NotNull ByteBuffer input, int size, int capacity) {
+            values = new double[capacity];
+            input.asDoubleBuffer().get(values, 0, size);
+            input.position(input.position() + size * Double.BYTES);
+        }
+
+        /**
+         * @return The value of the given row or {@code 0} if it has none.
+         * @since v0.2
+         */
+        public double getDouble(int row) {
+            return values[row];
+        }
+
+        /**
+         * @since v0.2
+         */
+        @Override
+        @Nullable
+        public Double getObject(int row) {
+            return isNull(row) ? null : values[row];
+        }
+    }
+
+    /**
+     * Holds the values of a column of type {@link Boolean} as bitset.
+     *
+     * @since v0.2
+     */
+    public static final class BooleanColumnVector extends ColumnVector {
+        private long[] values;
+
+        BooleanColumnVector(int initialCapacity) {
+            super(initialCapacity);
+            values = new long[wordsFor(capacityFor(initialCapacity))];
+        }
+
+        @Override
+        int getCapacity() {
+            return values.length << ADDRESS_BITS_PER_WORD;
+        }
+
+        @Override
+        void grow(int minCapacity) {
+            values = Arrays.copyOf(values, wordsFor(minCapacity));
+        }
+
+        @Override
+        boolean isValid(@NotNull String valueToParse) {
+            return ColumnParser.BOOLEAN_COLUMN_PARSER.isValid(valueToParse);
+        }
+
+        @Override
+        void appendValid(int index, @NotNull String valueToParse) {
+            if (ColumnParser.PRIMITIVE_BOOLEAN_COLUMN_PARSER.parseBoolean(valueToParse)) {
+                values[index >> ADDRESS_BITS_PER_WORD] |= 1L << index;
+            }
+        }
+
+        @Override
+        void writeValues(@NotNull TableSnapshot.Output output) throws IOException {
+            output.putLongs(values, size() == 0 ? 0 : wordsFor(size()));
+        }
+
+        @Override
+        void readValues(@NotNull ByteBuffer input, int size, int capacity) {
+            int numWords = size == 0 ? 0 : wordsFor(size);
+            values = new long[wordsFor(capacity)];
+            input.asLongBuffer().get(values, 0, numWords);
+            input.position(input.position() + numWords * Long.BYTES);
+        }
+
+        /**
+         * @return The value of the given row or {@code false} if it has none.
+         * @since v0.2
+         */
+        public boolean getBoolean(int row) {
+            return (values[row >> ADDRESS_BITS_PER_WORD] & (1L << row)) != 0;
+        }
+
+        /**
+         * @since v0.2
+         */
+        @Override
+        @Nullable
+        public Boolean getObject(int row) {
+            return isNull(row) ? null : getBoolean(row);
+        }
+    }
+
+    /**
+     * Holds the values of a column of type {@link LocalDate} as epoch days.
+     *
+     * @since v0.2
+     */
+    public static final class DateColumnVector extends ColumnVector {
+        private long[] epochDays;
+
+        DateColumnVector(int initialCapacity) {
+            super(initialCapacity);
+            epochDays = new long[capacityFor(initialCapacity)];
+        }
+
+        @Override
+        int getCapacity() {
+            return epochDays.length;
+        }
+
+        @Override
+        void grow(int minCapacity) {
+            epochDays = Arrays.copyOf(epochDays, minCapacity);
+        }
+
+        @Override
+        boolean isValid(@NotNull String valueToParse) {
+            return ColumnParser.LOCALDATE_COLUMN_PARSER.isValid(valueToParse);
+        }
+
+        @Override
+        void appendValid(int index, @NotNull String valueToParse) {
+            epochDays[index] = ColumnParser.LOCALDATE_COLUMN_PARSER.parseOrNull(valueToParse).toEpochDay();
+        }
+
+        @Override
+        void writeValues(@NotNull TableSnapshot.Output output) throws IOException {
+            output.putLongs(epochDays, size());
+        }
+
+        @Override
+        void readValues(@NotNull ByteBuffer input, int size, int capacity) {
+            epochDays = new long[capacity];
+            input.asLongBuffer().get(epochDays, 0, size);
+            input.position(input.position() + size * Long.BYTES);
+        }
+
+        /**
+         * @return The value of the given row as epoch day or {@code 0} if it has none.
+         * @see LocalDate#toEpochDay()
+         * @since v0.2
+         */
+        public long getEpochDay(int row) {
+            return epochDays[row];
+        }
+
+        /**
+         * @since v0.2
+         */
+        @Override
+        @Nullable
+        public LocalDate getObject(int row) {
+            return isNull(row) ? null : LocalDate.ofEpochDay(epochDays[row]);
+        }
+    }
+
+    /**
+     * Holds the values of a column of type {@link String} encoded by a dictionary. Each distinct value is stored once
+     * and the rows only refer to its code.
+     *
+     * @since v0.2
+     */
+    public static final class StringColumnVector extends ColumnVector {
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Integer> codeOfValue = new HashMap<>();
+        private int[] codes;
+
+        StringColumnVector(int initialCapacity) {
+            super(initialCapacity);
+            codes = new int[capacityFor(initialCapacity)];
+        }
+
+        @Override
+        int getCapacity() {
+            return codes.length;
+        }
+
+        @Override
+        void grow(int minCapacity) {
+            codes = Arrays.copyOf(codes, minCapacity);
+        }
+
+        @Override
+        boolean isValid(@NotNull String valueToParse) {
+            return true;
+        }
+
+        @Override
+        void appendValid(int index, @NotNull String valueToParse) {
+            codes[index] = codeOfValue.computeIfAbsent(valueToParse, value -> {
+                dictionary.add(value);
+                return dictionary.size() - 1;
+            });
+        }
+
+        /**
+         * Writes the dictionary followed by the codes of all rows.
+         */
+        @Override
+        void writeValues(@NotNull TableSnapshot.Output output) throws IOException {
+            output.putInt(dictionary.size());
+            for (String value : dictionary) {
+                output.putString(value);
+            }
+            output.putInts(codes, size());
+        }
+
+        @Override
+        void readValues(@NotNull ByteBuffer input, int size, int capacity) {
+            int dictionarySize = input.getInt();
+            dictionary.clear();
+            codeOfValue.clear();
+            for (int code = 0; code < dictionarySize; code++) {
+                byte[] encoded = new byte[input.getInt()];
+                input.get(encoded);
+                String value = new String(encoded, StandardCharsets.UTF_8);
+                dictionary.add(value);
+                codeOfValue.put(value, code);
+            }
+            codes = new int[capacity];
+            input.asIntBuffer().get(codes, 0, size);
+            input.position(input.position() + size * Integer.BYTES);
+        }
+
+        /**
+         * Returns the code of the value of the given row.
+         *
+         * @param row The index of the row to get the code of.
+         * @return The index of the value within {@link #getDictionary()} or {@code 0} if the row has no value.
+         * @since v0.2
+         */
+        public int getCode(int row) {
+            return codes[row];
+        }
+
+        /**
+         * Returns all distinct values of this column in the order of their first occurrence.
+         *
+         * @return All distinct values of this column. The index of a value is its code.
+         * @since v0.2
+         */
+        @NotNull
+        public List<String> getDictionary() {
+            return Collections.unmodifiableList(dictionary);
+        }
+
+        /**
+         * @since v0.2
+         */
+        @Override
+        @Nullable
+        public String getObject(int row) {
+            return isNull(row) ? null : dictionary.get(codes[row]);
+        }
+    }
+}
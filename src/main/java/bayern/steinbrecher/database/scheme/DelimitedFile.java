@@ -0,0 +1,325 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Represents a delimited text file like CSV or TSV whose first record contains the headings. The file is read by
+ * memory mapping it instead of reading it line by line such that cells are parsed directly from the mapped bytes.
+ * Since a single mapping is limited to 2 GB the file is mapped in parts each containing only complete records. The
+ * parts can be parsed in parallel using {@link Table#parseFromParallel(List, java.util.concurrent.ForkJoinPool)}.
+ * Records are separated by {@code \n} or {@code \r\n}. The last record may also end with a single {@code \r} or
+ * without any line break. Cells may be enclosed in quotes in which case they may contain delimiters, line breaks and
+ * quotes escaped by doubling them. Quotes must not occur within cells which are not enclosed in quotes since the
+ * boundaries of parts are determined by counting quotes. Quoted cells never represent SQL {@code NULL}, unquoted cells
+ * only if they contain the text {@code NULL} in any case.
+ *
+ * @author Stefan Huber
+ * @since v0.2
+ */
+public final class DelimitedFile implements Closeable {
+    /**
+     * The maximum number of bytes of a part.
+     */
+    private static final long MAX_PART_SIZE = 1L << 30;
+    private static final byte[] UTF8_BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final int MAX_ASCII = 127;
+    private final FileChannel channel;
+    private final Charset charset;
+    private final byte delimiter;
+    private final byte quote;
+    private final long size;
+    private final List<String> headings;
+    private final long dataStart;
+
+    private DelimitedFile(@NotNull FileChannel channel, @NotNull Charset charset, byte delimiter, byte quote)
+            throws IOException {
+        this.channel = channel;
+        this.charset = charset;
+        this.delimiter = delimiter;
+        this.quote = quote;
+        this.size = channel.size();
+
+        MappedByteBuffer head = map(0, Math.min(size, MAX_PART_SIZE));
+        int headingsStart = 0;
+        if (StandardCharsets.UTF_8.equals(charset) && startsWithByteOrderMark(head)) {
+            headingsStart = UTF8_BYTE_ORDER_MARK.length;
+        }
+        DelimitedRowSource headingsSource = new DelimitedRowSource(
+                head.slice(headingsStart, head.capacity() - headingsStart), List.of(), charset, delimiter, quote,
+                headingsStart);
+        if (!headingsSource.next()) {
+            throw new IllegalArgumentException("The file does not contain headings.");
+        }
+        List<String> parsedHeadings = new ArrayList<>();
+        for (int i = 0; i < headingsSource.getCellCount(); i++) {
+            parsedHeadings.add(String.valueOf(headingsSource.getCell(i)));
+        }
+        this.headings = List.copyOf(parsedHeadings);
+        this.dataStart = headingsStart + headingsSource.getPosition();
+    }
+
+    /**
+     * Opens the given delimited file and reads its headings.
+     *
+     * @param path      The file to open.
+     * @param charset   The encoding of the file. Supported are UTF-8, ISO-8859-1 (Latin-1) and US-ASCII.
+     * @param delimiter The character separating cells.
+     * @param quote     The character enclosing cells.
+     * @return The opened file.
+     * @throws IOException              Thrown only if the file can not be read.
+     * @throws IllegalArgumentException Thrown only if the encoding is not supported, the delimiter or the quote is no
+     *                                  ASCII character or the file does not contain headings.
+     * @since v0.2
+     */
+    @NotNull
+    public static DelimitedFile open(@NotNull Path path, @NotNull Charset charset, char delimiter, char quote)
+            throws IOException {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(charset);
+        if (delimiter > MAX_ASCII || quote > MAX_ASCII || delimiter == quote) {
+            throw new IllegalArgumentException("The delimiter and the quote have to be distinct ASCII characters");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new DelimitedFile(channel, charset, (byte) delimiter, (byte) quote);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Opens the given UTF-8 encoded file whose cells are separated by commas and enclosed in double quotes.
+     *
+     * @see #open(Path, Charset, char, char)
+     * @since v0.2
+     */
+    @NotNull
+    public static DelimitedFile openCsv(@NotNull Path path) throws IOException {
+        return open(path, StandardCharsets.UTF_8, ',', '"');
+    }
+
+    /**
+     * Opens the given UTF-8 encoded file whose cells are separated by tabs and enclosed in double quotes.
+     *
+     * @see #open(Path, Charset, char, char)
+     * @since v0.2
+     */
+    @NotNull
+    public static DelimitedFile openTsv(@NotNull Path path) throws IOException {
+        return open(path, StandardCharsets.UTF_8, '\t', '"');
+    }
+
+    private static boolean startsWithByteOrderMark(@NotNull ByteBuffer buffer) {
+        boolean startsWithMark = buffer.capacity() >= UTF8_BYTE_ORDER_MARK.length;
+        for (int i = 0; i < UTF8_BYTE_ORDER_MARK.length && startsWithMark; i++) {
+            startsWithMark = buffer.get(i) == UTF8_BYTE_ORDER_MARK[i];
+        }
+        return startsWithMark;
+    }
+
+    @NotNull
+    private MappedByteBuffer map(long position, long length) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+    /**
+     * Returns the headings of this file.
+     *
+     * @return The headings of this file.
+     * @since v0.2
+     */
+    @NotNull
+    public List<String> getHeadings() {
+        return headings;
+    }
+
+    /**
+     * Splits all records following the headings into parts of similar size.
+     *
+     * @param minParts The minimum number of parts to create. More parts are created if required to keep each part below
+     *                 the limit of a single mapping.
+     * @return The sources over the records of each part in the order of the parts.
+     * @throws IOException              Thrown only if the file can not be mapped.
+     * @throws IllegalArgumentException Thrown only if a single record exceeds the limit of a mapping.
+     * @since v0.2
+     */
+    @NotNull
+    public List<ByteRowSource> split(int minParts) throws IOException {
+        if (minParts < 1) {
+            throw new IllegalArgumentException("At least a single part is required");
+        }
+        long dataSize = size - dataStart;
+        int numParts = (int) Math.max(minParts, (dataSize + MAX_PART_SIZE - 1) / MAX_PART_SIZE);
+        long[] candidates = new long[numParts + 1];
+        for (int part = 0; part <= numParts; part++) {
+            candidates[part] = dataStart + (dataSize * part / numParts);
+        }
+
+        // The parity of the number of quotes preceding a candidate tells whether it lies within a quoted cell
+        long[] quoteCounts;
+        try {
+            quoteCounts = IntStream.range(0, numParts)
+                    .parallel()
+                    .mapToLong(part -> {
+                        try {
+                            return countQuotes(candidates[part], candidates[part + 1]);
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    })
+                    .toArray();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        long[] boundaries = new long[numParts + 1];
+        boundaries[0] = dataStart;
+        boundaries[numParts] = size;
+        long precedingQuotes = 0;
+        for (int part = 1; part < numParts; part++) {
+            precedingQuotes += quoteCounts[part - 1];
+            boundaries[part] = Math.max(
+                    boundaries[part - 1], findRecordStart(candidates[part], precedingQuotes % 2 == 1));
+        }
+
+        List<ByteRowSource> parts = new ArrayList<>(numParts);
+        for (int part = 0; part < numParts; part++) {
+            long length = boundaries[part + 1] - boundaries[part];
+            if (length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The records starting at byte " + boundaries[part]
+                        + " can not be split into parts of at most " + Integer.MAX_VALUE + " bytes");
+            }
+            parts.add(new DelimitedRowSource(
+                    map(boundaries[part], length), headings, charset, delimiter, quote, boundaries[part]));
+        }
+        return parts;
+    }
+
+    private long countQuotes(long start, long end) throws IOException {
+        MappedByteBuffer buffer = map(start, end - start);
+        long count = 0;
+        for (int index = 0; index < buffer.capacity(); index++) {
+            if (buffer.get(index) == quote) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the position of the first record starting at or after {@code position}.
+     *
+     * @param position The position to start searching at.
+     * @param isQuoted Whether {@code position} lies within a quoted cell.
+     * @return The position of the first record starting at or after {@code position} or the size of the file if there
+     * is none.
+     */
+    private long findRecordStart(long position, boolean isQuoted) throws IOException {
+        long recordStart = size;
+        if (position > dataStart && position < size) {
+            // Check whether position directly follows a line break
+            MappedByteBuffer buffer = map(position - 1, Math.min(size - position + 1, MAX_PART_SIZE));
+            boolean inQuotes = isQuoted;
+            if (buffer.get(0) == '\n' && !inQuotes) {
+                recordStart = position;
+            } else {
+                for (int index = 1; index < buffer.capacity(); index++) {
+                    byte value = buffer.get(index);
+                    if (value == quote) {
+                        inQuotes = !inQuotes;
+                    } else if (value == '\n' && !inQuotes) {
+                        recordStart = position - 1 + index + 1;
+                        break;
+                    }
+                }
+                if (recordStart == size && position - 1 + buffer.capacity() < size) {
+                    throw new IllegalArgumentException("The record containing byte " + position + " exceeds "
+                            + MAX_PART_SIZE + " bytes");
+                }
+            }
+        }
+        return recordStart;
+    }
+
+    /**
+     * Returns a source over all records following the headings. Files exceeding the limit of a single mapping are
+     * read part by part.
+     *
+     * @return The source over all records.
+     * @throws IOException Thrown only if the file can not be mapped.
+     * @since v0.2
+     */
+    @NotNull
+    public ByteRowSource rows() throws IOException {
+        List<ByteRowSource> parts = split(1);
+        return new ByteRowSource(charset) {
+            private int currentPart = 0;
+
+            @Override
+            @NotNull
+            public List<String> getHeadings() {
+                return headings;
+            }
+
+            @Override
+            public boolean next() {
+                boolean hasNext = false;
+                while (!hasNext && currentPart < parts.size()) {
+                    hasNext = parts.get(currentPart).next();
+                    if (!hasNext) {
+                        currentPart++;
+                    }
+                }
+                return hasNext;
+            }
+
+            @Override
+            @NotNull
+            public ByteBuffer getBuffer() {
+                return parts.get(currentPart).getBuffer();
+            }
+
+            @Override
+            public int getCellBegin(int columnIndex) {
+                return parts.get(currentPart).getCellBegin(columnIndex);
+            }
+
+            @Override
+            public int getCellEnd(int columnIndex) {
+                return parts.get(currentPart).getCellEnd(columnIndex);
+            }
+
+            @Override
+            public boolean isNull(int columnIndex) {
+                return parts.get(currentPart).isNull(columnIndex);
+            }
+        };
+    }
+
+    /**
+     * Closes the underlying channel. Sources created before remain readable until they are garbage collected.
+     *
+     * @throws IOException Thrown only if the channel can not be closed.
+     * @since v0.2
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
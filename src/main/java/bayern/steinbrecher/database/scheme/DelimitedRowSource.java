@@ -0,0 +1,210 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a {@link ByteRowSource} over a buffer containing complete records of a delimited file. Records are
+ * separated by {@code \n} or {@code \r\n}. The last record may end with either of them, with a single {@code \r} or
+ * without any line break. Cells may be enclosed in quotes in which case they may contain delimiters,
+ * line breaks and quotes escaped by doubling them. Cells are exposed as ranges of the given buffer. Only records
+ * containing escaped quotes are copied into a separate buffer in order to remove the escaping.
+ *
+ * @author Stefan Huber
+ * @see DelimitedFile
+ * @since v0.2
+ */
+final class DelimitedRowSource extends ByteRowSource {
+    private static final int INITIAL_CELL_CAPACITY = 16;
+    private final ByteBuffer data;
+    private final List<String> headings;
+    private final byte delimiter;
+    private final byte quote;
+    private final long offset;
+    private ByteBuffer rowBuffer;
+    private ByteBuffer unescapedRow = ByteBuffer.allocate(0);
+    private int[] cellBegins = new int[INITIAL_CELL_CAPACITY];
+    private int[] cellEnds = new int[INITIAL_CELL_CAPACITY];
+    private boolean[] quotedCells = new boolean[INITIAL_CELL_CAPACITY];
+    private int numCells;
+    private int position;
+
+    /**
+     * @param data      The buffer containing complete records starting at index 0.
+     * @param headings  The headings of the file. If it is empty the number of cells of records is not checked.
+     * @param charset   The encoding of the file.
+     * @param delimiter The ASCII character separating cells.
+     * @param quote     The ASCII character enclosing cells.
+     * @param offset    The offset of {@code data} within the file. Only used for messages.
+     */
+    DelimitedRowSource(@NotNull ByteBuffer data, @NotNull List<String> headings, @NotNull Charset charset,
+                       byte delimiter, byte quote, long offset) {
+        super(charset);
+        this.data = Objects.requireNonNull(data);
+        this.headings = Objects.requireNonNull(headings);
+        this.delimiter = delimiter;
+        this.quote = quote;
+        this.offset = offset;
+        this.rowBuffer = data;
+    }
+
+    @Override
+    @NotNull
+    public List<String> getHeadings() {
+        return headings;
+    }
+
+    @Override
+    public boolean next() {
+        int limit = data.capacity();
+        boolean hasNext = position < limit;
+        if (hasNext) {
+            long recordOffset = offset + position;
+            numCells = 0;
+            rowBuffer = data;
+            boolean containsEscapedQuotes = false;
+            boolean isRecordEnd = false;
+            while (!isRecordEnd) {
+                ensureCellCapacity();
+                int begin;
+                int end;
+                boolean isQuoted = position < limit && data.get(position) == quote;
+                if (isQuoted) {
+                    position++;
+                    begin = position;
+                    while (true) {
+                        if (position >= limit) {
+                            throw new IllegalArgumentException(
+                                    "The record at byte " + recordOffset + " contains an unterminated quoted cell");
+                        }
+                        if (data.get(position) == quote) {
+                            if (position + 1 < limit && data.get(position + 1) == quote) {
+                                containsEscapedQuotes = true;
+                                position += 2;
+                            } else {
+                                break;
+                            }
+                        } else {
+                            position++;
+                        }
+                    }
+                    end = position;
+                    position++; //Skip closing quote
+                    if (position < limit && data.get(position) == '\r'
+                            && (position + 1 == limit || data.get(position + 1) == '\n')) {
+                        position++;
+                    }
+                    if (position < limit && data.get(position) != delimiter && data.get(position) != '\n') {
+                        throw new IllegalArgumentException("The record at byte " + recordOffset
+                                + " contains characters after the closing quote of a cell");
+                    }
+                } else {
+                    begin = position;
+                    while (position < limit && data.get(position) != delimiter && data.get(position) != '\n') {
+                        position++;
+                    }
+                    end = position;
+                    boolean isLineEnd = position >= limit || data.get(position) == '\n';
+                    if (isLineEnd && end > begin && data.get(end - 1) == '\r') {
+                        end--;
+                    }
+                }
+                cellBegins[numCells] = begin;
+                cellEnds[numCells] = end;
+                quotedCells[numCells] = isQuoted;
+                numCells++;
+                isRecordEnd = position >= limit || data.get(position) == '\n';
+                position++; //Skip delimiter or line break
+            }
+            if (!headings.isEmpty() && numCells != headings.size()) {
+                throw new IllegalArgumentException("The record at byte " + recordOffset + " contains " + numCells
+                        + " instead of " + headings.size() + " cells");
+            }
+            if (containsEscapedQuotes) {
+                unescapeRow();
+            }
+        }
+        return hasNext;
+    }
+
+    private void ensureCellCapacity() {
+        if (numCells >= cellBegins.length) {
+            cellBegins = Arrays.copyOf(cellBegins, cellBegins.length * 2);
+            cellEnds = Arrays.copyOf(cellEnds, cellEnds.length * 2);
+            quotedCells = Arrays.copyOf(quotedCells, quotedCells.length * 2);
+        }
+    }
+
+    /**
+     * Copies all cells of the current record into a separate buffer while replacing escaped quotes by single ones.
+     */
+    private void unescapeRow() {
+        int requiredCapacity = cellEnds[numCells - 1] - cellBegins[0];
+        if (unescapedRow.capacity() < requiredCapacity) {
+            unescapedRow = ByteBuffer.allocate(Math.max(requiredCapacity, unescapedRow.capacity() * 2));
+        }
+        int target = 0;
+        for (int cell = 0; cell < numCells; cell++) {
+            int begin = target;
+            for (int index = cellBegins[cell]; index < cellEnds[cell]; index++) {
+                byte value = data.get(index);
+                unescapedRow.put(target, value);
+                target++;
+                if (value == quote && quotedCells[cell]) {
+                    index++; //Skip the second quote of the escaped quote
+                }
+            }
+            cellBegins[cell] = begin;
+            cellEnds[cell] = target;
+        }
+        rowBuffer = unescapedRow;
+    }
+
+    /**
+     * Returns the number of cells of the current record.
+     */
+    int getCellCount() {
+        return numCells;
+    }
+
+    /**
+     * Returns the index of the byte following the current record.
+     */
+    int getPosition() {
+        return Math.min(position, data.capacity());
+    }
+
+    @Override
+    @NotNull
+    public ByteBuffer getBuffer() {
+        return rowBuffer;
+    }
+
+    @Override
+    public int getCellBegin(int columnIndex) {
+        Objects.checkIndex(columnIndex, numCells);
+        return cellBegins[columnIndex];
+    }
+
+    @Override
+    public int getCellEnd(int columnIndex) {
+        Objects.checkIndex(columnIndex, numCells);
+        return cellEnds[columnIndex];
+    }
+
+    /**
+     * {@inheritDoc} Quoted cells never represent SQL {@code NULL}.
+     *
+     * @since v0.2
+     */
+    @Override
+    public boolean isNull(int columnIndex) {
+        Objects.checkIndex(columnIndex, numCells);
+        return !quotedCells[columnIndex] && super.isNull(columnIndex);
+    }
+}
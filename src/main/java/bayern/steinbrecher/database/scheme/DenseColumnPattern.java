@@ -0,0 +1,199 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Represents a {@link ColumnPattern} for a family of numeric columns like {@code month_1} to {@code month_12} which are
+ * distinguished by a small integer key. In contrast to a {@link RegexColumnPattern} the values of all columns are
+ * stored in a single {@link DenseValues} object per entry instead of boxing each key and value. When a {@link Table}
+ * binds this pattern the range of keys is derived from all matching headings such that the {@link DenseValues} of an
+ * entry are allocated once with their final size.
+ *
+ * @param <T> The type of the column content.
+ * @param <U> The type of object to set the content of this column to.
+ * @param <V> The type of the object holding the values of all columns of a family.
+ * @author Stefan Huber
+ * @since v0.2
+ */
+public abstract class DenseColumnPattern<T, U, V extends DenseValues> extends ColumnPattern<T, U> {
+
+    private final ToIntFunction<String> keyExtractor;
+    private final Function<U, V> getter;
+    private final BiFunction<U, V, U> setter;
+
+    /**
+     * @param columnNamePattern The pattern of column names to match.
+     * @param parser            The parser to convert values from and to a SQL representation.
+     * @param keyExtractor      Extracts the key for a given column name matching this pattern.
+     * @param getter            Returns the values of the family currently associated with a given object. Returns
+     *                          {@code null} if there are none yet.
+     * @param setter            The function used to associate new values of the family with a given object. The
+     *                          setter should only return a new object of type {@link U} if the handed in one is
+     *                          immutable.
+     */
+    DenseColumnPattern(@NotNull String columnNamePattern, @NotNull ColumnParser<T> parser,
+                       @NotNull ToIntFunction<String> keyExtractor, @NotNull Function<U, V> getter,
+                       @NotNull BiFunction<U, V, U> setter) {
+        super(columnNamePattern, parser);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(getter);
+        Objects.requireNonNull(setter);
+
+        this.keyExtractor = keyExtractor;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates empty values covering the given range of keys.
+     *
+     * @param minKey The smallest key to cover.
+     * @param maxKey The greatest key to cover.
+     * @return The created values.
+     */
+    @NotNull
+    abstract V createValues(int minKey, int maxKey);
+
+    /**
+     * Parses the given value and stores it for the given key.
+     *
+     * @param values       The values to store the parsed value in.
+     * @param columnName   The name of the column the value belongs to.
+     * @param key          The key to store the parsed value for.
+     * @param valueToParse The value to parse.
+     */
+    abstract void setValue(@NotNull V values, @NotNull String columnName, int key, @Nullable String valueToParse);
+
+    /**
+     * Reads the value of the given column with a typed getter and stores it for the given key.
+     *
+     * @param values      The values to store the read value in.
+     * @param columnName  The name of the column the value belongs to.
+     * @param key         The key to store the read value for.
+     * @param resultSet   The result set whose cursor points to the row to read from.
+     * @param columnIndex The index of the column to read starting at 1.
+     * @throws SQLException Thrown only if the column can not be read from {@code resultSet}.
+     */
+    abstract void setValue(@NotNull V values, @NotNull String columnName, int key, @NotNull ResultSet resultSet,
+                           int columnIndex) throws SQLException;
+
+    /**
+     * Makes sure the given object is associated with values covering the key of the given slot. The first column of a
+     * bound family always associates new values with the object.
+     *
+     * @return The resulting object of type {@link U}.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private U prepareValues(@NotNull U toSet, @NotNull Slot slot) {
+        V values = getter.apply(toSet);
+        U result = toSet;
+        if (slot.first || values == null) {
+            result = setter.apply(toSet, createValues(slot.minKey, slot.maxKey));
+        } else if (!values.covers(slot.key)) {
+            //NOTE Each implementation of copyCovering(int) returns its own type
+            result = setter.apply(toSet, (V) values.copyCovering(slot.key));
+        }
+        return result;
+    }
+
+    @NotNull
+    private V getValues(@NotNull U toSet) {
+        return Objects.requireNonNull(getter.apply(toSet), "The getter did not return the values set before");
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    Object extractKey(@NotNull String columnName) {
+        int key = keyExtractor.applyAsInt(columnName);
+        return new Slot(key, key, key, false);
+    }
+
+    /**
+     * Extracts the keys of all bound columns and associates each of them with the range of all these keys.
+     *
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    List<Object> extractKeys(@NotNull List<String> columnNames) {
+        int[] keys = columnNames.stream()
+                .mapToInt(keyExtractor)
+                .toArray();
+        int minKey = Integer.MAX_VALUE;
+        int maxKey = Integer.MIN_VALUE;
+        for (int key : keys) {
+            minKey = Math.min(minKey, key);
+            maxKey = Math.max(maxKey, key);
+        }
+        List<Object> slots = new ArrayList<>(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            slots.add(new Slot(keys[i], minKey, maxKey, i == 0));
+        }
+        return slots;
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    public U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable String valueToParse) {
+        return combineImpl(toSet, columnName, extractKey(columnName), valueToParse);
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @Nullable String valueToParse) {
+        Slot slot = (Slot) key;
+        U result = prepareValues(toSet, slot);
+        setValue(getValues(result), columnName, slot.key, valueToParse);
+        return result;
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull ResultSet resultSet,
+                  int columnIndex) throws SQLException {
+        Slot slot = (Slot) key;
+        U result = prepareValues(toSet, slot);
+        setValue(getValues(result), columnName, slot.key, resultSet, columnIndex);
+        return result;
+    }
+
+    /**
+     * The key of a single column along with the range of keys of all columns bound together with it.
+     */
+    private static final class Slot {
+        private final int key;
+        private final int minKey;
+        private final int maxKey;
+        private final boolean first;
+
+        Slot(int key, int minKey, int maxKey, boolean first) {
+            this.key = key;
+            this.minKey = minKey;
+            this.maxKey = maxKey;
+            this.first = first;
+        }
+    }
+}
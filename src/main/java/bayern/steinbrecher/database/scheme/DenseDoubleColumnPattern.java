@@ -0,0 +1,70 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Represents a {@link DenseColumnPattern} for a family of {@code double} columns.
+ *
+ * @param <U> The type of object to set the content of this column to.
+ * @author Stefan Huber
+ * @since v0.2
+ */
+public class DenseDoubleColumnPattern<U> extends DenseColumnPattern<Double, U, DenseDoubleValues> {
+
+    /**
+     * Creates a column pattern matching a family of {@code double} columns. This constructor may be used if
+     * {@link U} is an immutable type.
+     *
+     * @param columnNamePattern The pattern of column names to match.
+     * @param keyExtractor      Extracts the key for a given column name matching this pattern.
+     * @param getter            Returns the values of the family currently associated with a given object. Returns
+     *                          {@code null} if there are none yet.
+     * @param setter            The function used to associate new values of the family with a given object. The
+     *                          setter should only return a new object of type {@link U} if the handed in one is
+     *                          immutable.
+     * @since v0.2
+     */
+    public DenseDoubleColumnPattern(@NotNull String columnNamePattern, @NotNull ToIntFunction<String> keyExtractor,
+                                    @NotNull Function<U, DenseDoubleValues> getter,
+                                    @NotNull BiFunction<U, DenseDoubleValues, U> setter) {
+        super(columnNamePattern, ColumnParser.DOUBLE_COLUMN_PARSER, keyExtractor, getter, setter);
+    }
+
+    @Override
+    @NotNull
+    DenseDoubleValues createValues(int minKey, int maxKey) {
+        return new DenseDoubleValues(minKey, maxKey);
+    }
+
+    @Override
+    void setValue(@NotNull DenseDoubleValues values, @NotNull String columnName, int key,
+                  @Nullable String valueToParse) {
+        if (valueToParse == null) {
+            throw new IllegalArgumentException(columnName + " can not parse null");
+        }
+        double parsedValue;
+        try {
+            parsedValue = ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER.parseDouble(valueToParse);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(columnName + " can not parse " + valueToParse, ex);
+        }
+        values.set(key, parsedValue);
+    }
+
+    @Override
+    void setValue(@NotNull DenseDoubleValues values, @NotNull String columnName, int key,
+                  @NotNull ResultSet resultSet, int columnIndex) throws SQLException {
+        double value = resultSet.getDouble(columnIndex);
+        if (resultSet.wasNull()) {
+            throw new IllegalArgumentException(columnName + " can not parse null");
+        }
+        values.set(key, value);
+    }
+}
@@ -0,0 +1,75 @@
+package bayern.steinbrecher.database.scheme;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Represents {@link DenseValues} of {@code int} columns.
+ *
+ * @author Stefan Huber
+ * @see DenseIntColumnPattern
+ * @since v0.2
+ */
+public final class DenseIntValues extends DenseValues {
+    private final int[] values;
+
+    /**
+     * Creates an object able to hold a value for each key within the given range.
+     *
+     * @param minKey The smallest key to hold a value for.
+     * @param maxKey The greatest key to hold a value for.
+     * @since v0.2
+     */
+    public DenseIntValues(int minKey, int maxKey) {
+        super(minKey, maxKey);
+        values = new int[maxKey - minKey + 1];
+    }
+
+    /**
+     * Sets the value for the given key.
+     *
+     * @param key   The key to set the value for.
+     * @param value The value to set.
+     * @throws IndexOutOfBoundsException Thrown only if {@code key} is not covered by this object.
+     * @since v0.2
+     */
+    public void set(int key, int value) {
+        int index = indexOf(key);
+        values[index] = value;
+        markPresent(index);
+    }
+
+    /**
+     * Returns the value stored for the given key.
+     *
+     * @param key The key to get the value for.
+     * @return The value stored for the given key.
+     * @throws NoSuchElementException Thrown only if no value is stored for {@code key}.
+     * @since v0.2
+     */
+    public int get(int key) {
+        if (!isPresent(key)) {
+            throw new NoSuchElementException("There is no value for key " + key);
+        }
+        return values[key - getMinKey()];
+    }
+
+    /**
+     * Returns the value stored for the given key or the given default value if there is none.
+     *
+     * @param key          The key to get the value for.
+     * @param defaultValue The value to return if there is no value for {@code key}.
+     * @return The value stored for the given key or {@code defaultValue}.
+     * @since v0.2
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        return isPresent(key) ? values[key - getMinKey()] : defaultValue;
+    }
+
+    @Override
+    DenseIntValues copyCovering(int key) {
+        DenseIntValues copy = new DenseIntValues(Math.min(key, getMinKey()), Math.max(key, getMaxKey()));
+        System.arraycopy(values, 0, copy.values, getMinKey() - copy.getMinKey(), values.length);
+        copyPresenceTo(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,119 @@
+package bayern.steinbrecher.database.scheme;
+
+import java.util.stream.IntStream;
+
+/**
+ * Represents the values of a family of columns like {@code month_1} to {@code month_12} which are distinguished by a
+ * small integer key. The values are stored densely in a primitive array covering all keys between a minimum and a
+ * maximum key. Which of these keys actually have a value is tracked by a bitset.
+ *
+ * @author Stefan Huber
+ * @see DenseColumnPattern
+ * @since v0.2
+ */
+public abstract class DenseValues {
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private final int minKey;
+    private final int maxKey;
+    private final long[] presence;
+
+    DenseValues(int minKey, int maxKey) {
+        if (minKey > maxKey) {
+            throw new IllegalArgumentException("The minimum key must not be greater than the maximum key");
+        }
+        this.minKey = minKey;
+        this.maxKey = maxKey;
+        this.presence = new long[((maxKey - minKey) >> ADDRESS_BITS_PER_WORD) + 1];
+    }
+
+    /**
+     * Returns the index within the underlying array representing the given key.
+     *
+     * @param key The key to get the index for.
+     * @return The index within the underlying array representing the given key.
+     * @throws IndexOutOfBoundsException Thrown only if {@code key} is not covered.
+     */
+    final int indexOf(int key) {
+        if (!covers(key)) {
+            throw new IndexOutOfBoundsException("The key " + key + " is not within [" + minKey + ", " + maxKey + "]");
+        }
+        return key - minKey;
+    }
+
+    /**
+     * Marks the value at the given index as present.
+     *
+     * @param index The index within the underlying array.
+     */
+    final void markPresent(int index) {
+        presence[index >> ADDRESS_BITS_PER_WORD] |= 1L << index;
+    }
+
+    /**
+     * Copies the presence of all keys of this object to the given object.
+     *
+     * @param target The object covering all keys of this object.
+     */
+    final void copyPresenceTo(DenseValues target) {
+        presentKeys().forEach(key -> target.markPresent(target.indexOf(key)));
+    }
+
+    /**
+     * Returns a copy of this object which covers additionally the given key.
+     *
+     * @param key The key to cover additionally.
+     * @return The copy covering the range of keys of this object and {@code key}.
+     */
+    abstract DenseValues copyCovering(int key);
+
+    /**
+     * Checks whether the given key lies within the range of keys this object is able to hold values for.
+     *
+     * @param key The key to check.
+     * @return {@code true} only if a value for {@code key} may be stored in this object.
+     * @since v0.2
+     */
+    public final boolean covers(int key) {
+        return key >= minKey && key <= maxKey;
+    }
+
+    /**
+     * Checks whether a value is stored for the given key.
+     *
+     * @param key The key to check.
+     * @return {@code true} only if a value for {@code key} is stored.
+     * @since v0.2
+     */
+    public final boolean isPresent(int key) {
+        if (covers(key)) {
+            int index = key - minKey;
+            return (presence[index >> ADDRESS_BITS_PER_WORD] & (1L << index)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Returns all keys which have a value in ascending order.
+     *
+     * @return All keys which have a value in ascending order.
+     * @since v0.2
+     */
+    public final IntStream presentKeys() {
+        return IntStream.rangeClosed(minKey, maxKey)
+                .filter(this::isPresent);
+    }
+
+    /**
+     * @since v0.2
+     */
+    public final int getMinKey() {
+        return minKey;
+    }
+
+    /**
+     * @since v0.2
+     */
+    public final int getMaxKey() {
+        return maxKey;
+    }
+}
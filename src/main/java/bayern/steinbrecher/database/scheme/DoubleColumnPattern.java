@@ -0,0 +1,142 @@
+package bayern.steinbrecher.database.scheme;
+
+import bayern.steinbrecher.utility.ObjDoubleFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Represents a {@link SimpleColumnPattern} for {@code double} columns which parses and sets values without boxing them
+ * and without wrapping them into an {@link Optional}.
+ *
+ * @param <U> The type of object to set the content of this column to.
+ * @author Stefan Huber
+ * @see ColumnParser#DOUBLE_COLUMN_PARSER
+ * @since v0.2
+ */
+public class DoubleColumnPattern<U> extends SimpleColumnPattern<Double, U> {
+
+    private final ObjDoubleFunction<U, U> doubleSetter;
+
+    /**
+     * Creates a new simple column pattern for {@code double} columns. This constructor may be used if {@link U} is an
+     * immutable type.
+     *
+     * @param realColumnName The exact name of the column to match.
+     * @param keywords       The keywords to specify when creating a column matching this pattern.
+     * @param setter         The function used to set a parsed value to a given object. The setter should only return
+     *                       a new object of type {@link U} if the handed in one is immutable.
+     * @since v0.2
+     */
+    public DoubleColumnPattern(@NotNull String realColumnName, @NotNull Set<TableCreationKeywords> keywords,
+                               @NotNull ObjDoubleFunction<U, U> setter) {
+        this(realColumnName, keywords, setter, Optional.empty());
+    }
+
+    /**
+     * Creates a new simple column pattern for {@code double} columns. This constructor may be used if {@link U} is an
+     * immutable type.
+     *
+     * @param realColumnName The exact name of the column to match.
+     * @param keywords       The keywords to specify when creating a column matching this pattern.
+     * @param setter         The function used to set a parsed value to a given object. The setter should only return
+     *                       a new object of type {@link U} if the handed in one is immutable.
+     * @param defaultValue   The default value of this column. See {@link SimpleColumnPattern#getDefaultValue()}.
+     * @since v0.2
+     */
+    public DoubleColumnPattern(@NotNull String realColumnName, @NotNull Set<TableCreationKeywords> keywords,
+                               @NotNull ObjDoubleFunction<U, U> setter,
+                               @NotNull Optional<Optional<Double>> defaultValue) {
+        super(realColumnName, keywords, ColumnParser.DOUBLE_COLUMN_PARSER, setter::apply, defaultValue);
+        Objects.requireNonNull(setter);
+
+        this.doubleSetter = setter;
+    }
+
+    private double parseValue(@Nullable String valueToParse) {
+        if (valueToParse == null) {
+            throw new IllegalArgumentException(getRealColumnName() + " can not parse null");
+        }
+        try {
+            return ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER.parseDouble(valueToParse);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(getRealColumnName() + " can not parse " + valueToParse, ex);
+        }
+    }
+
+    private double parseValue(@NotNull RowSource source, int columnIndex) {
+        if (source.isNull(columnIndex)) {
+            throw new IllegalArgumentException(getRealColumnName() + " can not parse null");
+        }
+        try {
+            return ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER.parseDouble(source, columnIndex);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(
+                    getRealColumnName() + " can not parse " + source.getCell(columnIndex), ex);
+        }
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    public U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable String valueToParse) {
+        return doubleSetter.apply(toSet, parseValue(valueToParse));
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull RowSource source,
+                  int columnIndex) {
+        return doubleSetter.apply(toSet, parseValue(source, columnIndex));
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull ResultSet resultSet,
+                  int columnIndex) throws SQLException {
+        double value = resultSet.getDouble(columnIndex);
+        if (resultSet.wasNull()) {
+            throw new IllegalArgumentException(getRealColumnName() + " can not parse null");
+        }
+        return doubleSetter.apply(toSet, value);
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    U combineSlot(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull RowSlots slots,
+                  int slot, @Nullable String valueToParse) {
+        return doubleSetter.apply(toSet, slots.getDouble(slot));
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    Class<?> getSlotType() {
+        return double.class;
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    void parseInto(@NotNull RowSlots slots, int slot, @Nullable String valueToParse) {
+        slots.setDouble(slot, parseValue(valueToParse));
+    }
+}
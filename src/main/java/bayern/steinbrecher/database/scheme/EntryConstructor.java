@@ -0,0 +1,165 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Creates entries of a {@link Table} at once from all parsed values of a row instead of calling a setter for each
+ * column. This avoids creating an intermediate object per column when the type of the entries is immutable, e.g. if
+ * it is a record or requires a builder. The values of the slot columns are collected in {@link RowSlots} which are
+ * passed to a single factory per row. Columns of the table which are no slot columns are set afterwards using their
+ * setters.
+ *
+ * @param <E> The type of an entry of the table.
+ * @author Stefan Huber
+ * @see Table#parseFrom(List, EntryConstructor)
+ * @since v0.2
+ */
+public final class EntryConstructor<E> {
+    private final List<SimpleColumnPattern<?, E>> slotColumns;
+    private final Function<RowSlots, E> factory;
+
+    private EntryConstructor(@NotNull List<? extends SimpleColumnPattern<?, E>> slotColumns,
+                             @NotNull Function<RowSlots, E> factory) {
+        Objects.requireNonNull(slotColumns);
+        Objects.requireNonNull(factory);
+
+        this.slotColumns = List.copyOf(slotColumns);
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a constructor calling the given factory once per row.
+     *
+     * @param slotColumns The columns whose values are passed to the factory. The value of the column at index
+     *                    {@code i} is stored in slot {@code i}.
+     * @param factory     The factory creating an entry from the values of a row.
+     * @param <E>         The type of an entry of the table.
+     * @return The resulting constructor.
+     * @since v0.2
+     */
+    @NotNull
+    public static <E> EntryConstructor<E> of(@NotNull List<? extends SimpleColumnPattern<?, E>> slotColumns,
+                                             @NotNull Function<RowSlots, E> factory) {
+        return new EntryConstructor<>(slotColumns, factory);
+    }
+
+    /**
+     * Creates a constructor calling the constructor of {@code type} whose parameters correspond to the given columns,
+     * e.g. the canonical constructor of a record. Primitive columns like {@link IntColumnPattern} correspond to
+     * primitive parameters, all other columns to parameters of the type of their {@link ColumnParser}.
+     *
+     * @param lookup      The lookup having access to the constructor.
+     * @param type        The type of the entries to create.
+     * @param slotColumns The columns whose values are passed to the constructor in the order of its parameters.
+     * @param <E>         The type of an entry of the table.
+     * @return The resulting constructor.
+     * @throws IllegalArgumentException Thrown only if there is no accessible constructor matching the given columns.
+     * @since v0.2
+     */
+    @NotNull
+    public static <E> EntryConstructor<E> ofConstructor(
+            @NotNull MethodHandles.Lookup lookup, @NotNull Class<E> type,
+            @NotNull List<? extends SimpleColumnPattern<?, E>> slotColumns) {
+        Objects.requireNonNull(lookup);
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(slotColumns);
+
+        Class<?>[] parameterTypes = slotColumns.stream()
+                .map(ColumnPattern::getSlotType)
+                .toArray(Class<?>[]::new);
+        MethodHandle constructor;
+        try {
+            constructor = lookup.findConstructor(type, MethodType.methodType(void.class, parameterTypes));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new IllegalArgumentException("There is no accessible constructor of " + type.getName()
+                    + " matching the types of the given columns", ex);
+        }
+
+        // Read each parameter from its slot using the getter matching its type
+        MethodHandle[] slotReaders = new MethodHandle[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            slotReaders[i] = MethodHandles.insertArguments(findSlotGetter(parameterTypes[i]), 1, i);
+        }
+        MethodHandle fromSlots = MethodHandles.permuteArguments(
+                MethodHandles.filterArguments(constructor, 0, slotReaders),
+                MethodType.methodType(type, RowSlots.class), new int[parameterTypes.length]);
+        MethodHandle genericFromSlots = fromSlots.asType(MethodType.methodType(Object.class, RowSlots.class));
+        return new EntryConstructor<>(slotColumns, slots -> {
+            try {
+                return type.cast(genericFromSlots.invokeExact(slots));
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException("Could not create an entry of type " + type.getName(), ex);
+            }
+        });
+    }
+
+    /**
+     * Creates a constructor calling the public constructor of {@code type} whose parameters correspond to the given
+     * columns.
+     *
+     * @see #ofConstructor(MethodHandles.Lookup, Class, List)
+     * @since v0.2
+     */
+    @NotNull
+    public static <E> EntryConstructor<E> ofConstructor(
+            @NotNull Class<E> type, @NotNull List<? extends SimpleColumnPattern<?, E>> slotColumns) {
+        return ofConstructor(MethodHandles.publicLookup(), type, slotColumns);
+    }
+
+    @NotNull
+    private static MethodHandle findSlotGetter(@NotNull Class<?> type) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            MethodHandle getter;
+            if (type == int.class) {
+                getter = lookup.findVirtual(RowSlots.class, "getInt", MethodType.methodType(int.class, int.class));
+            } else if (type == long.class) {
+                getter = lookup.findVirtual(RowSlots.class, "getLong", MethodType.methodType(long.class, int.class));
+            } else if (type == double.class) {
+                getter = lookup.findVirtual(
+                        RowSlots.class, "getDouble", MethodType.methodType(double.class, int.class));
+            } else if (type == boolean.class) {
+                getter = lookup.findVirtual(
+                        RowSlots.class, "getBoolean", MethodType.methodType(boolean.class, int.class));
+            } else {
+                getter = lookup.findVirtual(RowSlots.class, "get", MethodType.methodType(Object.class, int.class))
+                        .asType(MethodType.methodType(type, RowSlots.class, int.class));
+            }
+            return getter;
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new IllegalStateException("The getters of RowSlots are not accessible", ex);
+        }
+    }
+
+    /**
+     * Returns the columns whose values are collected in {@link RowSlots}.
+     *
+     * @return The columns whose values are collected in {@link RowSlots}. The value of the column at index {@code i}
+     * is stored in slot {@code i}.
+     * @since v0.2
+     */
+    @NotNull
+    public List<SimpleColumnPattern<?, E>> getSlotColumns() {
+        return slotColumns;
+    }
+
+    /**
+     * Creates an entry from the values of a row.
+     *
+     * @param slots The values of the row.
+     * @return The created entry.
+     */
+    @NotNull
+    E create(@NotNull RowSlots slots) {
+        return factory.apply(slots);
+    }
+}
@@ -0,0 +1,150 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Parses dates in the canonical format {@code yyyy-MM-dd} by decoding their digits directly instead of using a
+ * {@link java.time.format.DateTimeFormatter}. Since date columns typically contain only a few distinct days parsed
+ * dates are kept in a small cache which maps the encoded date {@code yyyyMMdd} to its {@link LocalDate}. The cache is
+ * direct mapped, i.e. a date only evicts the single date which occupies the same slot. All other formats accepted by
+ * {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE} like signed years with more than four digits are not
+ * handled and have to be parsed by the caller.
+ *
+ * @author Stefan Huber
+ * @since v0.2
+ */
+final class FastDateParser {
+    private static final int CANONICAL_LENGTH = 10;
+    private static final int FIRST_SEPARATOR_INDEX = 4;
+    private static final int SECOND_SEPARATOR_INDEX = 7;
+    private static final int YEAR_FACTOR = 10_000;
+    private static final int MONTH_FACTOR = 100;
+    private static final int CACHE_SIZE = 4096;
+    /**
+     * The golden ratio as 32 bit integer used for spreading encoded dates over the slots of the cache.
+     */
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+    /**
+     * NOTE Reads and writes of slots are not synchronized. This is safe since {@link LocalDate} is immutable and a
+     * slot is always validated against the requested date.
+     */
+    private static final LocalDate[] CACHE = new LocalDate[CACHE_SIZE];
+
+    private FastDateParser() {
+        //Prohibit construction
+    }
+
+    /**
+     * Encodes the given range if it represents a canonical valid date.
+     *
+     * @return The encoded date {@code yyyyMMdd} or {@code -1} if the range is no canonical valid date.
+     */
+    static int encode(@NotNull CharSequence value, int beginIndex, int endIndex) {
+        int encoded = -1;
+        if (endIndex - beginIndex == CANONICAL_LENGTH
+                && value.charAt(beginIndex + FIRST_SEPARATOR_INDEX) == '-'
+                && value.charAt(beginIndex + SECOND_SEPARATOR_INDEX) == '-') {
+            int year = digits(value, beginIndex, beginIndex + FIRST_SEPARATOR_INDEX);
+            int month = digits(value, beginIndex + FIRST_SEPARATOR_INDEX + 1, beginIndex + SECOND_SEPARATOR_INDEX);
+            int dayOfMonth = digits(value, beginIndex + SECOND_SEPARATOR_INDEX + 1, endIndex);
+            encoded = encodeIfValid(year, month, dayOfMonth);
+        }
+        return encoded;
+    }
+
+    /**
+     * Encodes the given range of UTF-8 encoded bytes if it represents a canonical valid date.
+     *
+     * @return The encoded date {@code yyyyMMdd} or {@code -1} if the range is no canonical valid date.
+     * @see #encode(CharSequence, int, int)
+     */
+    static int encode(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+        int encoded = -1;
+        if (endIndex - beginIndex == CANONICAL_LENGTH
+                && utf8.get(beginIndex + FIRST_SEPARATOR_INDEX) == '-'
+                && utf8.get(beginIndex + SECOND_SEPARATOR_INDEX) == '-') {
+            int year = digits(utf8, beginIndex, beginIndex + FIRST_SEPARATOR_INDEX);
+            int month = digits(utf8, beginIndex + FIRST_SEPARATOR_INDEX + 1, beginIndex + SECOND_SEPARATOR_INDEX);
+            int dayOfMonth = digits(utf8, beginIndex + SECOND_SEPARATOR_INDEX + 1, endIndex);
+            encoded = encodeIfValid(year, month, dayOfMonth);
+        }
+        return encoded;
+    }
+
+    /**
+     * @return The non negative value of the given ASCII digits or a negative value if any character is no ASCII
+     * digit.
+     */
+    private static int digits(@NotNull CharSequence value, int beginIndex, int endIndex) {
+        int result = 0;
+        for (int index = beginIndex; index < endIndex && result >= 0; index++) {
+            int digit = value.charAt(index) - '0';
+            result = (digit < 0 || digit > 9) ? -1 : result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static int digits(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+        int result = 0;
+        for (int index = beginIndex; index < endIndex && result >= 0; index++) {
+            int digit = utf8.get(index) - '0';
+            result = (digit < 0 || digit > 9) ? -1 : result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static int encodeIfValid(int year, int month, int dayOfMonth) {
+        boolean isValid = year >= 0 && month >= 1 && month <= Month.DECEMBER.getValue()
+                && dayOfMonth >= 1 && dayOfMonth <= Month.of(month).length(Year.isLeap(year));
+        return isValid ? (year * YEAR_FACTOR) + (month * MONTH_FACTOR) + dayOfMonth : -1;
+    }
+
+    private static int encode(@NotNull LocalDate date) {
+        return (date.getYear() * YEAR_FACTOR) + (date.getMonthValue() * MONTH_FACTOR) + date.getDayOfMonth();
+    }
+
+    /**
+     * Returns the date represented by the given encoded date. The date is taken from the cache if possible.
+     *
+     * @param encoded A valid encoded date as returned by {@link #encode(CharSequence, int, int)}.
+     * @return The date represented by {@code encoded}.
+     */
+    @NotNull
+    static LocalDate decode(int encoded) {
+        int slot = (encoded * HASH_MULTIPLIER) >>> (Integer.SIZE - Integer.numberOfTrailingZeros(CACHE_SIZE));
+        LocalDate date = CACHE[slot];
+        if (date == null || encode(date) != encoded) {
+            date = LocalDate.of(encoded / YEAR_FACTOR, (encoded / MONTH_FACTOR) % MONTH_FACTOR, encoded % MONTH_FACTOR);
+            CACHE[slot] = date;
+        }
+        return date;
+    }
+
+    /**
+     * Parses the given range if it represents a canonical valid date.
+     *
+     * @return The parsed date or {@code null} if the range is no canonical valid date.
+     */
+    @Nullable
+    static LocalDate parse(@NotNull CharSequence value, int beginIndex, int endIndex) {
+        int encoded = encode(value, beginIndex, endIndex);
+        return encoded < 0 ? null : decode(encoded);
+    }
+
+    /**
+     * Parses the given range of UTF-8 encoded bytes if it represents a canonical valid date.
+     *
+     * @return The parsed date or {@code null} if the range is no canonical valid date.
+     */
+    @Nullable
+    static LocalDate parse(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+        int encoded = encode(utf8, beginIndex, endIndex);
+        return encoded < 0 ? null : decode(encoded);
+    }
+}
@@ -0,0 +1,473 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * Parses decimal numbers directly from ranges of {@link CharSequence}s or UTF-8 encoded {@link ByteBuffer}s without
+ * creating intermediate {@link String}s. The common syntax of numbers in query results, i.e. ASCII digits with an
+ * optional sign, fraction and exponent, is handled by hand-rolled loops. Doubles are converted using the algorithm of
+ * Eisel and Lemire which is exact for nearly all inputs. Any other syntax like non ASCII digits, hexadecimal values,
+ * surrounding whitespace or more than 19 significant digits as well as the rare ambiguous cases of the algorithm fall
+ * back to {@link Long#parseLong(String)} and {@link Double#parseDouble(String)}. Therefore the results and the accepted
+ * syntax equal the ones of these methods.
+ *
+ * @author Stefan Huber
+ * @since v0.2
+ */
+final class FastNumberParser {
+    private static final int RADIX = 10;
+    /**
+     * The maximum number of significant decimal digits which always fit into an unsigned long.
+     */
+    private static final int MAX_MANTISSA_DIGITS = 19;
+    /**
+     * The greatest exponent which is still parsed. Larger exponents are handled by the fallback.
+     */
+    private static final int MAX_EXPONENT = 100_000;
+    /**
+     * The greatest integer such that it and all smaller non negative integers are exactly representable as double.
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_EXACT_POWER_OF_TEN = 22;
+    private static final double[] EXACT_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19,
+        1e20, 1e21, 1e22
+    };
+    private static final int DOUBLE_EXPONENT_BIAS = 1023;
+    private static final int DOUBLE_MANTISSA_BITS = 52;
+    private static final long DOUBLE_MANTISSA_MASK = (1L << DOUBLE_MANTISSA_BITS) - 1;
+    private static final long DOUBLE_MAX_BIASED_EXPONENT = 0x7FF;
+    /**
+     * Marks that a double can not be determined quickly, e.g. since the algorithm of Eisel and Lemire can not decide
+     * on the result. Results of the fast path are never NaN.
+     */
+    static final double UNDECIDED = Double.NaN;
+    /**
+     * Marks that {@link #tryParseIntegral(CharSequence, int, int, long, long)} can not decide on the result.
+     */
+    static final long UNDECIDED_INTEGRAL = Long.MIN_VALUE;
+
+    private FastNumberParser() {
+        //Prohibit construction
+    }
+
+    @NotNull
+    private static NumberFormatException createNumberFormatException(@NotNull CharSequence value) {
+        return new NumberFormatException("For input string: \"" + value + "\"");
+    }
+
+    private static long checkRange(long value, long minValue, long maxValue, @NotNull CharSequence input) {
+        if (value < minValue || value > maxValue) {
+            throw createNumberFormatException(input);
+        }
+        return value;
+    }
+
+    /**
+     * Parses a decimal integer within the given range without throwing any exception.
+     *
+     * @return The parsed value or {@link #UNDECIDED_INTEGRAL} if the given range contains anything else than ASCII
+     * digits and an optional sign, exceeds {@code [minValue, maxValue]} or represents {@link Long#MIN_VALUE}. These
+     * rare cases have to be decided by the caller.
+     * @see #parseIntegral(CharSequence, int, int, long, long)
+     */
+    static long tryParseIntegral(@NotNull CharSequence value, int beginIndex, int endIndex, long minValue,
+                                 long maxValue) {
+        if (beginIndex >= endIndex) {
+            return UNDECIDED_INTEGRAL;
+        }
+        int index = beginIndex;
+        boolean negative = false;
+        char firstChar = value.charAt(index);
+        if (firstChar == '-' || firstChar == '+') {
+            negative = firstChar == '-';
+            index++;
+            if (index == endIndex) {
+                return UNDECIDED_INTEGRAL;
+            }
+        }
+        // Accumulate negatively since the magnitude of the minimum may exceed the one of the maximum
+        long limit = negative ? minValue : -maxValue;
+        long multiplicationLimit = limit / RADIX;
+        long result = 0;
+        for (; index < endIndex; index++) {
+            int digit = value.charAt(index) - '0';
+            if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+                return UNDECIDED_INTEGRAL;
+            }
+            result *= RADIX;
+            if (result < limit + digit) {
+                return UNDECIDED_INTEGRAL;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses a decimal integer within the given range.
+     *
+     * @throws NumberFormatException Thrown only if the given range does not represent an integer within
+     *                               {@code [minValue, maxValue]}.
+     * @see Long#parseLong(CharSequence, int, int, int)
+     */
+    static long parseIntegral(@NotNull CharSequence value, int beginIndex, int endIndex, long minValue,
+                              long maxValue) {
+        long result = tryParseIntegral(value, beginIndex, endIndex, minValue, maxValue);
+        if (result == UNDECIDED_INTEGRAL) {
+            //NOTE Other Unicode digits and Long.MIN_VALUE are rare enough to be handled by the JDK
+            CharSequence input = value.subSequence(beginIndex, endIndex);
+            try {
+                result = checkRange(Long.parseLong(value, beginIndex, endIndex, RADIX), minValue, maxValue, input);
+            } catch (NumberFormatException ex) {
+                throw createNumberFormatException(input);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parses a UTF-8 encoded decimal integer within the given range.
+     *
+     * @throws NumberFormatException Thrown only if the given range does not represent an integer within
+     *                               {@code [minValue, maxValue]}.
+     * @see #parseIntegral(CharSequence, int, int, long, long)
+     */
+    static long parseIntegral(@NotNull ByteBuffer utf8, int beginIndex, int endIndex, long minValue, long maxValue) {
+        if (beginIndex >= endIndex) {
+            throw createNumberFormatException("");
+        }
+        int index = beginIndex;
+        boolean negative = false;
+        byte firstByte = utf8.get(index);
+        if (firstByte == '-' || firstByte == '+') {
+            negative = firstByte == '-';
+            index++;
+            if (index == endIndex) {
+                throw createNumberFormatException(ByteRowSource.decodeUtf8(utf8, beginIndex, endIndex));
+            }
+        }
+        long limit = negative ? minValue : -maxValue;
+        long multiplicationLimit = limit / RADIX;
+        long result = 0;
+        for (; index < endIndex; index++) {
+            byte digitByte = utf8.get(index);
+            int digit = digitByte - '0';
+            if (digit < 0 || digit > 9) {
+                if (digitByte < 0) {
+                    String decoded = ByteRowSource.decodeUtf8(utf8, beginIndex, endIndex);
+                    return checkRange(Long.parseLong(decoded), minValue, maxValue, decoded);
+                }
+                throw createNumberFormatException(ByteRowSource.decodeUtf8(utf8, beginIndex, endIndex));
+            }
+            if (result < multiplicationLimit) {
+                throw createNumberFormatException(ByteRowSource.decodeUtf8(utf8, beginIndex, endIndex));
+            }
+            result *= RADIX;
+            if (result < limit + digit) {
+                throw createNumberFormatException(ByteRowSource.decodeUtf8(utf8, beginIndex, endIndex));
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses a double without throwing any exception.
+     *
+     * @return The parsed value or {@link #UNDECIDED} if the given range is no plain decimal number or its nearest
+     * double can not be determined quickly. These cases have to be decided by the caller.
+     * @see #parseDouble(CharSequence, int, int)
+     */
+    static double tryParseDouble(@NotNull CharSequence value, int beginIndex, int endIndex) {
+        int index = beginIndex;
+        boolean negative = false;
+        if (index < endIndex && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+            negative = value.charAt(index) == '-';
+            index++;
+        }
+        long mantissa = 0;
+        int numSignificantDigits = 0;
+        int numDigits = 0;
+        int exponent = 0;
+        for (; index < endIndex; index++) {
+            int digit = value.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if (mantissa != 0 || digit != 0) {
+                mantissa = mantissa * RADIX + digit;
+                numSignificantDigits++;
+            }
+            numDigits++;
+        }
+        if (index < endIndex && value.charAt(index) == '.') {
+            for (index++; index < endIndex; index++) {
+                int digit = value.charAt(index) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (mantissa != 0 || digit != 0) {
+                    mantissa = mantissa * RADIX + digit;
+                    numSignificantDigits++;
+                }
+                numDigits++;
+                exponent--;
+            }
+        }
+        boolean isValidSyntax = numDigits > 0 && numSignificantDigits <= MAX_MANTISSA_DIGITS;
+        if (isValidSyntax && index < endIndex && (value.charAt(index) == 'e' || value.charAt(index) == 'E')) {
+            index++;
+            boolean negativeExponent = false;
+            if (index < endIndex && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+                negativeExponent = value.charAt(index) == '-';
+                index++;
+            }
+            int explicitExponent = 0;
+            int exponentStart = index;
+            for (; index < endIndex && explicitExponent < MAX_EXPONENT; index++) {
+                int digit = value.charAt(index) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                explicitExponent = explicitExponent * RADIX + digit;
+            }
+            isValidSyntax = index > exponentStart;
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        double result = UNDECIDED;
+        if (isValidSyntax && index == endIndex) {
+            result = toDouble(mantissa, exponent, negative);
+        }
+        return result;
+    }
+
+
+    /**
+     * Parses a double.
+     *
+     * @throws NumberFormatException Thrown only if the given range is not accepted by
+     *                               {@link Double#parseDouble(String)}.
+     */
+    static double parseDouble(@NotNull CharSequence value, int beginIndex, int endIndex) {
+        double result = tryParseDouble(value, beginIndex, endIndex);
+        if (Double.isNaN(result)) {
+            result = Double.parseDouble(value.subSequence(beginIndex, endIndex).toString());
+        }
+        return result;
+    }
+
+    /**
+     * Parses a UTF-8 encoded double.
+     *
+     * @throws NumberFormatException Thrown only if the given range is not accepted by
+     *                               {@link Double#parseDouble(String)}.
+     * @see #parseDouble(CharSequence, int, int)
+     */
+    static double parseDouble(@NotNull ByteBuffer utf8, int beginIndex, int endIndex) {
+        int index = beginIndex;
+        boolean negative = false;
+        if (index < endIndex && (utf8.get(index) == '-' || utf8.get(index) == '+')) {
+            negative = utf8.get(index) == '-';
+            index++;
+        }
+        long mantissa = 0;
+        int numSignificantDigits = 0;
+        int numDigits = 0;
+        int exponent = 0;
+        for (; index < endIndex; index++) {
+            int digit = utf8.get(index) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if (mantissa != 0 || digit != 0) {
+                mantissa = mantissa * RADIX + digit;
+                numSignificantDigits++;
+            }
+            numDigits++;
+        }
+        if (index < endIndex && utf8.get(index) == '.') {
+            for (index++; index < endIndex; index++) {
+                int digit = utf8.get(index) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (mantissa != 0 || digit != 0) {
+                    mantissa = mantissa * RADIX + digit;
+                    numSignificantDigits++;
+                }
+                numDigits++;
+                exponent--;
+            }
+        }
+        boolean isValidSyntax = numDigits > 0 && numSignificantDigits <= MAX_MANTISSA_DIGITS;
+        if (isValidSyntax && index < endIndex && (utf8.get(index) == 'e' || utf8.get(index) == 'E')) {
+            index++;
+            boolean negativeExponent = false;
+            if (index < endIndex && (utf8.get(index) == '-' || utf8.get(index) == '+')) {
+                negativeExponent = utf8.get(index) == '-';
+                index++;
+            }
+            int explicitExponent = 0;
+            int exponentStart = index;
+            for (; index < endIndex && explicitExponent < MAX_EXPONENT; index++) {
+                int digit = utf8.get(index) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                explicitExponent = explicitExponent * RADIX + digit;
+            }
+            isValidSyntax = index > exponentStart;
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        double result = UNDECIDED;
+        if (isValidSyntax && index == endIndex) {
+            result = toDouble(mantissa, exponent, negative);
+        }
+        if (Double.isNaN(result)) {
+            result = Double.parseDouble(ByteRowSource.decodeUtf8(utf8, beginIndex, endIndex));
+        }
+        return result;
+    }
+
+    /**
+     * Converts {@code mantissa * 10^exponent} to the nearest double.
+     *
+     * @param mantissa The decimal mantissa which is interpreted as unsigned value.
+     * @param exponent The decimal exponent.
+     * @param negative Whether the result is negative.
+     * @return The nearest double or {@link #UNDECIDED} if the result could not be determined.
+     */
+    private static double toDouble(long mantissa, int exponent, boolean negative) {
+        double result;
+        if (mantissa == 0) {
+            result = 0;
+        } else if (mantissa >= 0 && mantissa <= MAX_EXACT_MANTISSA && Math.abs(exponent) <= MAX_EXACT_POWER_OF_TEN) {
+            // Both operands are exact so IEEE 754 guarantees a correctly rounded result (Clinger's fast path)
+            if (exponent < 0) {
+                result = mantissa / EXACT_POWERS_OF_TEN[-exponent];
+            } else {
+                result = mantissa * EXACT_POWERS_OF_TEN[exponent];
+            }
+        } else if (exponent < PowersOfFive.MIN_EXPONENT) {
+            result = 0;
+        } else if (exponent > PowersOfFive.MAX_EXPONENT) {
+            result = Double.POSITIVE_INFINITY;
+        } else {
+            result = eiselLemire(mantissa, exponent);
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Converts {@code mantissa * 10^exponent} to the nearest double using the algorithm described by Daniel Lemire in
+     * "Number Parsing at a Gigabyte per Second" (2021).
+     *
+     * @param mantissa The non zero decimal mantissa which is interpreted as unsigned value.
+     * @param exponent The decimal exponent within the range of {@link PowersOfFive}.
+     * @return The nearest positive double or {@link #UNDECIDED} if the result could not be determined.
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    private static double eiselLemire(long mantissa, int exponent) {
+        // Normalization
+        int leadingZeros = Long.numberOfLeadingZeros(mantissa);
+        long normalizedMantissa = mantissa << leadingZeros;
+        // 217706 / 2^16 approximates log2(10)
+        long biasedExponent = ((217_706L * exponent) >> 16) + 64 + DOUBLE_EXPONENT_BIAS - leadingZeros;
+
+        // Multiplication with the 128 bit approximation of the power of ten
+        int tableIndex = 2 * (exponent - PowersOfFive.MIN_EXPONENT);
+        long powerHigh = PowersOfFive.TABLE[tableIndex];
+        long powerLow = PowersOfFive.TABLE[tableIndex + 1];
+        long productHigh = unsignedMultiplyHigh(normalizedMantissa, powerHigh);
+        long productLow = normalizedMantissa * powerHigh;
+
+        // Wider approximation if the lower bits are not sufficient to decide on the rounding
+        if ((productHigh & 0x1FF) == 0x1FF && Long.compareUnsigned(productLow + normalizedMantissa,
+                normalizedMantissa) < 0) {
+            long lowHigh = unsignedMultiplyHigh(normalizedMantissa, powerLow);
+            long lowLow = normalizedMantissa * powerLow;
+            long mergedHigh = productHigh;
+            long mergedLow = productLow + lowHigh;
+            if (Long.compareUnsigned(mergedLow, productLow) < 0) {
+                mergedHigh++;
+            }
+            if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow + 1 == 0
+                    && Long.compareUnsigned(lowLow + normalizedMantissa, normalizedMantissa) < 0) {
+                return UNDECIDED;
+            }
+            productHigh = mergedHigh;
+            productLow = mergedLow;
+        }
+
+        // Shifting to 54 bits
+        long mostSignificantBit = productHigh >>> 63;
+        long resultMantissa = productHigh >>> (mostSignificantBit + 9);
+        biasedExponent -= 1 ^ mostSignificantBit;
+
+        // Ambiguity of values exactly halfway between two doubles
+        if (productLow == 0 && (productHigh & 0x1FF) == 0 && (resultMantissa & 3) == 1) {
+            return UNDECIDED;
+        }
+
+        // Rounding from 54 to 53 bits
+        resultMantissa += resultMantissa & 1;
+        resultMantissa >>>= 1;
+        if ((resultMantissa >>> (DOUBLE_MANTISSA_BITS + 1)) > 0) {
+            resultMantissa >>>= 1;
+            biasedExponent++;
+        }
+        // Subnormal values, infinity and NaN are left to the fallback
+        if (biasedExponent <= 0 || biasedExponent >= DOUBLE_MAX_BIASED_EXPONENT) {
+            return UNDECIDED;
+        }
+        return Double.longBitsToDouble((biasedExponent << DOUBLE_MANTISSA_BITS)
+                | (resultMantissa & DOUBLE_MANTISSA_MASK));
+    }
+
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    /**
+     * Holds the 128 bit approximations of the powers of ten used by the algorithm of Eisel and Lemire. Each power is
+     * represented by its 128 most significant bits rounded down. The table is computed once when it is first needed.
+     */
+    private static final class PowersOfFive {
+        static final int MIN_EXPONENT = -348;
+        static final int MAX_EXPONENT = 347;
+        /**
+         * Contains for each exponent the upper and the lower 64 bits of its approximation.
+         */
+        static final long[] TABLE = computeTable();
+
+        private PowersOfFive() {
+            //Prohibit construction
+        }
+
+        @NotNull
+        private static long[] computeTable() {
+            long[] table = new long[2 * (MAX_EXPONENT - MIN_EXPONENT + 1)];
+            for (int exponent = MIN_EXPONENT; exponent <= MAX_EXPONENT; exponent++) {
+                BigInteger approximation;
+                if (exponent >= 0) {
+                    BigInteger power = BigInteger.TEN.pow(exponent);
+                    int shift = power.bitLength() - 128;
+                    approximation = shift > 0 ? power.shiftRight(shift) : power.shiftLeft(-shift);
+                } else {
+                    BigInteger inversePower = BigInteger.TEN.pow(-exponent);
+                    approximation = BigInteger.ONE
+                            .shiftLeft(inversePower.bitLength() + 127)
+                            .divide(inversePower);
+                }
+                int index = 2 * (exponent - MIN_EXPONENT);
+                table[index] = approximation.shiftRight(64).longValue();
+                table[index + 1] = approximation.longValue();
+            }
+            return table;
+        }
+    }
+}
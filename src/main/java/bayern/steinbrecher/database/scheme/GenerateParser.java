@@ -0,0 +1,23 @@
+package bayern.steinbrecher.database.scheme;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity type for which the annotation processor of the module {@code DBSchemeDescriptor-processor} generates
+ * a {@link ParseStrategy}. The generated class is placed into the package of the entity and named after it with the
+ * suffix {@code ParseStrategy}. Either fields of the entity or the parameters of a single constructor have to be
+ * annotated with {@link ParsedColumn}. In the first case the entity needs an accessible constructor without parameters
+ * and the annotated fields must neither be private nor final.
+ *
+ * @author Stefan Huber
+ * @since v0.2
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateParser {
+}
@@ -0,0 +1,141 @@
+package bayern.steinbrecher.database.scheme;
+
+import bayern.steinbrecher.utility.ObjIntFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Represents a {@link SimpleColumnPattern} for {@code int} columns which parses and sets values without boxing them
+ * and without wrapping them into an {@link Optional}.
+ *
+ * @param <U> The type of object to set the content of this column to.
+ * @author Stefan Huber
+ * @see ColumnParser#INTEGER_COLUMN_PARSER
+ * @since v0.2
+ */
+public class IntColumnPattern<U> extends SimpleColumnPattern<Integer, U> {
+
+    private final ObjIntFunction<U, U> intSetter;
+
+    /**
+     * Creates a new simple column pattern for {@code int} columns. This constructor may be used if {@link U} is an
+     * immutable type.
+     *
+     * @param realColumnName The exact name of the column to match.
+     * @param keywords       The keywords to specify when creating a column matching this pattern.
+     * @param setter         The function used to set a parsed value to a given object. The setter should only return
+     *                       a new object of type {@link U} if the handed in one is immutable.
+     * @since v0.2
+     */
+    public IntColumnPattern(@NotNull String realColumnName, @NotNull Set<TableCreationKeywords> keywords,
+                            @NotNull ObjIntFunction<U, U> setter) {
+        this(realColumnName, keywords, setter, Optional.empty());
+    }
+
+    /**
+     * Creates a new simple column pattern for {@code int} columns. This constructor may be used if {@link U} is an
+     * immutable type.
+     *
+     * @param realColumnName The exact name of the column to match.
+     * @param keywords       The keywords to specify when creating a column matching this pattern.
+     * @param setter         The function used to set a parsed value to a given object. The setter should only return
+     *                       a new object of type {@link U} if the handed in one is immutable.
+     * @param defaultValue   The default value of this column. See {@link SimpleColumnPattern#getDefaultValue()}.
+     * @since v0.2
+     */
+    public IntColumnPattern(@NotNull String realColumnName, @NotNull Set<TableCreationKeywords> keywords,
+                            @NotNull ObjIntFunction<U, U> setter, @NotNull Optional<Optional<Integer>> defaultValue) {
+        super(realColumnName, keywords, ColumnParser.INTEGER_COLUMN_PARSER, setter::apply, defaultValue);
+        Objects.requireNonNull(setter);
+
+        this.intSetter = setter;
+    }
+
+    private int parseValue(@Nullable String valueToParse) {
+        if (valueToParse == null) {
+            throw new IllegalArgumentException(getRealColumnName() + " can not parse null");
+        }
+        try {
+            return ColumnParser.PRIMITIVE_INTEGER_COLUMN_PARSER.parseInt(valueToParse);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(getRealColumnName() + " can not parse " + valueToParse, ex);
+        }
+    }
+
+    private int parseValue(@NotNull RowSource source, int columnIndex) {
+        if (source.isNull(columnIndex)) {
+            throw new IllegalArgumentException(getRealColumnName() + " can not parse null");
+        }
+        try {
+            return ColumnParser.PRIMITIVE_INTEGER_COLUMN_PARSER.parseInt(source, columnIndex);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(
+                    getRealColumnName() + " can not parse " + source.getCell(columnIndex), ex);
+        }
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    public U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable String valueToParse) {
+        return intSetter.apply(toSet, parseValue(valueToParse));
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull RowSource source,
+                  int columnIndex) {
+        return intSetter.apply(toSet, parseValue(source, columnIndex));
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull ResultSet resultSet,
+                  int columnIndex) throws SQLException {
+        int value = resultSet.getInt(columnIndex);
+        if (resultSet.wasNull()) {
+            throw new IllegalArgumentException(getRealColumnName() + " can not parse null");
+        }
+        return intSetter.apply(toSet, value);
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    U combineSlot(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull RowSlots slots,
+                  int slot, @Nullable String valueToParse) {
+        return intSetter.apply(toSet, slots.getInt(slot));
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    Class<?> getSlotType() {
+        return int.class;
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    void parseInto(@NotNull RowSlots slots, int slot, @Nullable String valueToParse) {
+        slots.setInt(slot, parseValue(valueToParse));
+    }
+}
@@ -0,0 +1,132 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the cells which could not be parsed during a validating parse of a {@link Table}. For each column the
+ * number of invalid cells is counted and the first few offending values are kept as samples. Recording does not
+ * acquire any lock, so a single instance may be shared by concurrent parses.
+ *
+ * @author Stefan Huber
+ * @see Table#parseFrom(java.util.List, InvalidCellStatistics)
+ * @since v0.2
+ */
+public final class InvalidCellStatistics {
+    private final int maxSamplesPerColumn;
+    private final Map<String, ColumnStatistics> columnStatistics = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty statistic.
+     *
+     * @param maxSamplesPerColumn The maximum number of offending values to keep for each column.
+     * @since v0.2
+     */
+    public InvalidCellStatistics(int maxSamplesPerColumn) {
+        if (maxSamplesPerColumn < 0) {
+            throw new IllegalArgumentException("The number of samples to keep must not be negative");
+        }
+        this.maxSamplesPerColumn = maxSamplesPerColumn;
+    }
+
+    /**
+     * Records an invalid value of the given column.
+     *
+     * @param columnName The name of the column containing the invalid value.
+     * @param value      The invalid value.
+     */
+    void record(@NotNull String columnName, @Nullable String value) {
+        columnStatistics.computeIfAbsent(columnName, name -> new ColumnStatistics(maxSamplesPerColumn))
+                .record(value);
+    }
+
+    /**
+     * Returns the names of all columns containing at least a single invalid value.
+     *
+     * @return The names of all columns containing at least a single invalid value.
+     * @since v0.2
+     */
+    @NotNull
+    public Set<String> getColumnNames() {
+        return Collections.unmodifiableSet(columnStatistics.keySet());
+    }
+
+    /**
+     * Returns the number of invalid values recorded for the given column.
+     *
+     * @param columnName The name of the column to get the number of invalid values for.
+     * @return The number of invalid values recorded for the given column.
+     * @since v0.2
+     */
+    public long getInvalidCount(@NotNull String columnName) {
+        Objects.requireNonNull(columnName);
+        ColumnStatistics statistics = columnStatistics.get(columnName);
+        return statistics == null ? 0 : statistics.invalidCount.sum();
+    }
+
+    /**
+     * Returns the number of invalid values recorded for all columns.
+     *
+     * @return The number of invalid values recorded for all columns.
+     * @since v0.2
+     */
+    public long getTotalInvalidCount() {
+        return columnStatistics.values()
+                .stream()
+                .mapToLong(statistics -> statistics.invalidCount.sum())
+                .sum();
+    }
+
+    /**
+     * Returns the first recorded invalid values of the given column. The list contains at most as many values as
+     * specified on construction. SQL {@code NULL} values are represented by {@code null}.
+     *
+     * @param columnName The name of the column to get samples of invalid values for.
+     * @return The first recorded invalid values of the given column.
+     * @since v0.2
+     */
+    @NotNull
+    public List<String> getSamples(@NotNull String columnName) {
+        Objects.requireNonNull(columnName);
+        ColumnStatistics statistics = columnStatistics.get(columnName);
+        List<String> samples = new ArrayList<>();
+        if (statistics != null) {
+            int numSamples = Math.min(statistics.numSampleSlotsClaimed.get(), statistics.samples.length());
+            for (int i = 0; i < numSamples; i++) {
+                samples.add(statistics.samples.get(i));
+            }
+        }
+        return samples;
+    }
+
+    private static final class ColumnStatistics {
+        private final LongAdder invalidCount = new LongAdder();
+        private final AtomicInteger numSampleSlotsClaimed = new AtomicInteger();
+        private final AtomicReferenceArray<String> samples;
+
+        ColumnStatistics(int maxSamples) {
+            samples = new AtomicReferenceArray<>(maxSamples);
+        }
+
+        void record(@Nullable String value) {
+            invalidCount.increment();
+            if (numSampleSlotsClaimed.get() < samples.length()) {
+                int slot = numSampleSlotsClaimed.getAndIncrement();
+                if (slot < samples.length()) {
+                    samples.set(slot, value);
+                }
+            }
+        }
+    }
+}
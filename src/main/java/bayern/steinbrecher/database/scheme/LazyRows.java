@@ -0,0 +1,341 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Represents the rows of a query result whose cells are only parsed when they are read. The raw values of all cells
+ * are stored in a single flat character array along with the offset of each cell instead of keeping a {@link String}
+ * per cell. Rows are exposed as lightweight {@link LazyRow} views which call the {@link ColumnParser} of a column only
+ * when its value is requested. Thereby memory and CPU usage scale with the cells actually read. Optionally parsed
+ * values are memoized such that reading a cell multiple times parses it only once. Rows memoizing their values must
+ * not be read concurrently.
+ *
+ * @author Stefan Huber
+ * @see Table#parseLazily(List, boolean)
+ * @since v0.2
+ */
+public final class LazyRows {
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    /**
+     * The number of characters initially reserved per cell.
+     */
+    private static final int EXPECTED_CELL_LENGTH = 8;
+    /**
+     * Marks a memoized cell whose parsed value is {@code null}.
+     */
+    private static final Object NULL_VALUE = new Object();
+    private final List<SimpleColumnPattern<?, ?>> columns;
+    private final Map<SimpleColumnPattern<?, ?>, Integer> slotOfColumn = new HashMap<>();
+    private final int rowCount;
+    private final char[] data;
+    private final CharBuffer dataView;
+    private final int[] offsets;
+    private final long[] nulls;
+    private final boolean memoize;
+    private Object[] memoizedValues;
+
+    private LazyRows(@NotNull List<SimpleColumnPattern<?, ?>> columns, int rowCount, @NotNull char[] data,
+                     @NotNull int[] offsets, @NotNull long[] nulls, boolean memoize) {
+        this.columns = columns;
+        this.rowCount = rowCount;
+        this.data = data;
+        this.dataView = CharBuffer.wrap(data);
+        this.offsets = offsets;
+        this.nulls = nulls;
+        this.memoize = memoize;
+        for (int slot = 0; slot < columns.size(); slot++) {
+            slotOfColumn.put(columns.get(slot), slot);
+        }
+    }
+
+    private int slotOf(@NotNull SimpleColumnPattern<?, ?> column) {
+        Integer slot = slotOfColumn.get(Objects.requireNonNull(column));
+        if (slot == null) {
+            throw new IllegalArgumentException("The column " + column.getRealColumnName() + " is not bound");
+        }
+        return slot;
+    }
+
+    private boolean isNullCell(int cell) {
+        return (nulls[cell >> ADDRESS_BITS_PER_WORD] & (1L << cell)) != 0;
+    }
+
+    @Nullable
+    private String getRawCell(int cell) {
+        return isNullCell(cell) ? null : new String(data, offsets[cell], offsets[cell + 1] - offsets[cell]);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private <T> T parseCell(@NotNull SimpleColumnPattern<T, ?> column, int cell) {
+        T value;
+        if (memoize) {
+            if (memoizedValues == null) {
+                memoizedValues = new Object[offsets.length - 1];
+            }
+            Object memoizedValue = memoizedValues[cell];
+            if (memoizedValue == null) {
+                value = parseCellImpl(column, cell);
+                memoizedValues[cell] = value == null ? NULL_VALUE : value;
+            } else {
+                //NOTE Only values parsed by the parser of the column of the cell are memoized
+                value = memoizedValue == NULL_VALUE ? null : (T) memoizedValue;
+            }
+        } else {
+            value = parseCellImpl(column, cell);
+        }
+        return value;
+    }
+
+    @Nullable
+    private <T> T parseCellImpl(@NotNull SimpleColumnPattern<T, ?> column, int cell) {
+        String valueToParse = getRawCell(cell);
+        return valueToParse == null ? null : column.getParser().parseOrNull(valueToParse);
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return The number of rows.
+     * @since v0.2
+     */
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Returns all columns whose cells are stored.
+     *
+     * @return All columns whose cells are stored in the order they were bound.
+     * @since v0.2
+     */
+    @NotNull
+    public List<SimpleColumnPattern<?, ?>> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns a view of the given row.
+     *
+     * @param rowIndex The index of the row to view.
+     * @return The view of the given row.
+     * @since v0.2
+     */
+    @NotNull
+    public LazyRow getRow(int rowIndex) {
+        Objects.checkIndex(rowIndex, rowCount);
+        return new LazyRow(rowIndex);
+    }
+
+    /**
+     * Returns views of all rows in their original order.
+     *
+     * @return Views of all rows.
+     * @since v0.2
+     */
+    @NotNull
+    public Stream<LazyRow> rows() {
+        return IntStream.range(0, rowCount)
+                .mapToObj(LazyRow::new);
+    }
+
+    /**
+     * Represents a single row of {@link LazyRows}. A view only consists of its row index, i.e. creating it neither
+     * copies nor parses any cell.
+     *
+     * @since v0.2
+     */
+    public final class LazyRow {
+        private final int rowIndex;
+
+        private LazyRow(int rowIndex) {
+            this.rowIndex = rowIndex;
+        }
+
+        private int cellOf(@NotNull SimpleColumnPattern<?, ?> column) {
+            return rowIndex * columns.size() + slotOf(column);
+        }
+
+        private void requireNonNullCell(@NotNull SimpleColumnPattern<?, ?> column, int cell) {
+            if (isNullCell(cell)) {
+                throw new IllegalArgumentException(column.getRealColumnName() + " can not parse null");
+            }
+        }
+
+        /**
+         * @since v0.2
+         */
+        public int getRowIndex() {
+            return rowIndex;
+        }
+
+        /**
+         * Checks whether the cell of the given column represents SQL {@code NULL}.
+         *
+         * @param column The column to check.
+         * @return {@code true} only if the cell of the given column represents SQL {@code NULL}.
+         * @throws IllegalArgumentException Thrown only if {@code column} was not bound to any heading.
+         * @since v0.2
+         */
+        public boolean isNull(@NotNull SimpleColumnPattern<?, ?> column) {
+            return isNullCell(cellOf(column));
+        }
+
+        /**
+         * Returns the unparsed value of the cell of the given column.
+         *
+         * @param column The column to get the value of.
+         * @return The unparsed value or {@code null} if the cell represents SQL {@code NULL}.
+         * @throws IllegalArgumentException Thrown only if {@code column} was not bound to any heading.
+         * @since v0.2
+         */
+        @Nullable
+        public String getRaw(@NotNull SimpleColumnPattern<?, ?> column) {
+            return getRawCell(cellOf(column));
+        }
+
+        /**
+         * Parses the cell of the given column using its {@link ColumnParser}. If memoization is enabled the cell is
+         * only parsed on the first call.
+         *
+         * @param column The column to get the value of.
+         * @param <T>    The type of the column content.
+         * @return The parsed value or {@code null} if the cell represents SQL {@code NULL} or can not be parsed.
+         * @throws IllegalArgumentException Thrown only if {@code column} was not bound to any heading.
+         * @since v0.2
+         */
+        @Nullable
+        public <T> T get(@NotNull SimpleColumnPattern<T, ?> column) {
+            return parseCell(column, cellOf(column));
+        }
+
+        /**
+         * Parses the cell of the given integer column directly from the underlying characters without boxing.
+         *
+         * @throws IllegalArgumentException Thrown only if {@code column} was not bound to any heading or its cell is
+         *                                  SQL {@code NULL} or no valid integer.
+         * @since v0.2
+         */
+        public int getInt(@NotNull SimpleColumnPattern<Integer, ?> column) {
+            int cell = cellOf(column);
+            requireNonNullCell(column, cell);
+            try {
+                return ColumnParser.PRIMITIVE_INTEGER_COLUMN_PARSER
+                        .parseInt(dataView, offsets[cell], offsets[cell + 1]);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(
+                        column.getRealColumnName() + " can not parse " + getRawCell(cell), ex);
+            }
+        }
+
+        /**
+         * Parses the cell of the given long column directly from the underlying characters without boxing.
+         *
+         * @throws IllegalArgumentException Thrown only if {@code column} was not bound to any heading or its cell is
+         *                                  SQL {@code NULL} or no valid long.
+         * @since v0.2
+         */
+        public long getLong(@NotNull SimpleColumnPattern<Long, ?> column) {
+            int cell = cellOf(column);
+            requireNonNullCell(column, cell);
+            try {
+                return ColumnParser.PRIMITIVE_LONG_COLUMN_PARSER
+                        .parseLong(dataView, offsets[cell], offsets[cell + 1]);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(
+                        column.getRealColumnName() + " can not parse " + getRawCell(cell), ex);
+            }
+        }
+
+        /**
+         * Parses the cell of the given double column directly from the underlying characters without boxing.
+         *
+         * @throws IllegalArgumentException Thrown only if {@code column} was not bound to any heading or its cell is
+         *                                  SQL {@code NULL} or no valid double.
+         * @since v0.2
+         */
+        public double getDouble(@NotNull SimpleColumnPattern<Double, ?> column) {
+            int cell = cellOf(column);
+            requireNonNullCell(column, cell);
+            try {
+                return ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER
+                        .parseDouble(dataView, offsets[cell], offsets[cell + 1]);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(
+                        column.getRealColumnName() + " can not parse " + getRawCell(cell), ex);
+            }
+        }
+
+        /**
+         * Parses the cell of the given boolean column directly from the underlying characters.
+         *
+         * @return {@code true} only if the cell is {@code "1"}.
+         * @throws IllegalArgumentException Thrown only if {@code column} was not bound to any heading.
+         * @since v0.2
+         */
+        public boolean getBoolean(@NotNull SimpleColumnPattern<Boolean, ?> column) {
+            int cell = cellOf(column);
+            return !isNullCell(cell) && offsets[cell + 1] - offsets[cell] == 1 && data[offsets[cell]] == '1';
+        }
+    }
+
+    /**
+     * Collects the raw values of cells row by row.
+     */
+    static final class Builder {
+        private char[] data;
+        private int[] offsets;
+        private long[] nulls;
+        private int numCells;
+
+        Builder(int numColumns, int expectedRows) {
+            int expectedCells = Math.max(1, numColumns * expectedRows);
+            data = new char[expectedCells * EXPECTED_CELL_LENGTH];
+            offsets = new int[expectedCells + 1];
+            nulls = new long[(expectedCells >> ADDRESS_BITS_PER_WORD) + 1];
+        }
+
+        /**
+         * Appends the value of the next cell.
+         *
+         * @param value The value of the cell or {@code null} if it represents SQL {@code NULL}.
+         */
+        void append(@Nullable String value) {
+            if (numCells + 1 >= offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            if ((numCells >> ADDRESS_BITS_PER_WORD) >= nulls.length) {
+                nulls = Arrays.copyOf(nulls, nulls.length * 2);
+            }
+            int start = offsets[numCells];
+            int end = start;
+            if (value == null) {
+                nulls[numCells >> ADDRESS_BITS_PER_WORD] |= 1L << numCells;
+            } else {
+                end = start + value.length();
+                if (end > data.length) {
+                    data = Arrays.copyOf(data, Math.max(end, data.length * 2));
+                }
+                value.getChars(0, value.length(), data, start);
+            }
+            numCells++;
+            offsets[numCells] = end;
+        }
+
+        @NotNull
+        LazyRows build(@NotNull List<SimpleColumnPattern<?, ?>> columns, int rowCount, boolean memoize) {
+            return new LazyRows(columns, rowCount, Arrays.copyOf(data, offsets[numCells]),
+                    Arrays.copyOf(offsets, numCells + 1), nulls, memoize);
+        }
+    }
+}
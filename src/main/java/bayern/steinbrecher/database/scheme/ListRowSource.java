@@ -0,0 +1,53 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a {@link RowSource} over a query result which is already given as {@link String}s.
+ *
+ * @author Stefan Huber
+ * @see RowSource#of(List)
+ * @since v0.2
+ */
+final class ListRowSource implements RowSource {
+    private final List<String> headings;
+    private final Iterator<? extends List<String>> rows;
+    private List<String> currentRow;
+
+    ListRowSource(@NotNull List<? extends List<String>> queryResult) {
+        Objects.requireNonNull(queryResult);
+        if (queryResult.isEmpty()) {
+            throw new IllegalArgumentException("The query result does not contain headings.");
+        }
+        this.headings = queryResult.get(0);
+        this.rows = queryResult.subList(1, queryResult.size())
+                .iterator();
+    }
+
+    @Override
+    @NotNull
+    public List<String> getHeadings() {
+        return headings;
+    }
+
+    @Override
+    public boolean next() {
+        boolean hasNext = rows.hasNext();
+        currentRow = hasNext ? rows.next() : null;
+        return hasNext;
+    }
+
+    @Override
+    @Nullable
+    public CharSequence getCell(int columnIndex) {
+        if (currentRow == null) {
+            throw new IllegalStateException("The cursor does not point to any row");
+        }
+        return currentRow.get(columnIndex);
+    }
+}
@@ -0,0 +1,720 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Represents a {@link RowSource} over the rows a dump created by {@code mysqldump} inserts into a single table. The
+ * dump is read through a {@link ReadableByteChannel} into a buffer which only has to hold the current row such that
+ * dumps of any size are read in bounded memory. Rows of other tables and all other statements are skipped. The
+ * headings are taken from the column list of the {@code INSERT} statements if they specify one and from the preceding
+ * {@code CREATE TABLE} statement of the table otherwise. String literals are unescaped in place. Hexadecimal literals
+ * like {@code X'4142'} or {@code 0x4142} as written by {@code mysqldump --hex-blob} are decoded in place into their
+ * bytes which are interpreted in the encoding of the dump. Unquoted {@code NULL} represents SQL {@code NULL} whereas
+ * string and hexadecimal literals never do. Reading failures are thrown as {@link UncheckedIOException}.
+ *
+ * @author Stefan Huber
+ * @see Table#parseFrom(RowSource)
+ * @since v0.2
+ */
+public final class MysqlDumpSource extends ByteRowSource implements Closeable {
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+    private static final int INITIAL_CELL_CAPACITY = 16;
+    private static final int END_OF_INPUT = -1;
+    private static final int GZIP_MAGIC_FIRST = 0x1F;
+    private static final int GZIP_MAGIC_SECOND = 0x8B;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int HEX_RADIX = 16;
+    private static final int BITS_PER_HEX_DIGIT = 4;
+    /**
+     * Marks cells which were hexadecimal literals in {@link #cellQuotes}.
+     */
+    private static final byte HEX_LITERAL = 'X';
+    /**
+     * Keywords which may start a definition within {@code CREATE TABLE} which does not describe a column.
+     */
+    private static final Set<String> NON_COLUMN_DEFINITIONS = Set.of(
+            "PRIMARY", "KEY", "INDEX", "UNIQUE", "CONSTRAINT", "FOREIGN", "FULLTEXT", "SPATIAL", "CHECK");
+    private final ReadableByteChannel channel;
+    private final String tableName;
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private int limit;
+    private int position;
+    /**
+     * The index of the first byte which has to be kept when reading more input.
+     */
+    private int mark;
+    private int[] cellBegins = new int[INITIAL_CELL_CAPACITY];
+    private int[] cellEnds = new int[INITIAL_CELL_CAPACITY];
+    /**
+     * The quote enclosing each cell, {@link #HEX_LITERAL} if the cell is a hexadecimal literal or {@code 0} if the
+     * cell is not quoted.
+     */
+    private byte[] cellQuotes = new byte[INITIAL_CELL_CAPACITY];
+    private boolean[] escapedCells = new boolean[INITIAL_CELL_CAPACITY];
+    private int numCells;
+    private List<String> createTableColumns;
+    private List<String> headings;
+    private boolean inValues;
+
+    /**
+     * @param channel   The channel to read the dump from.
+     * @param tableName The name of the table whose rows to read.
+     * @param charset   The encoding of the dump. Supported are UTF-8, ISO-8859-1 (Latin-1) and US-ASCII.
+     * @since v0.2
+     */
+    public MysqlDumpSource(@NotNull ReadableByteChannel channel, @NotNull String tableName,
+                           @NotNull Charset charset) {
+        super(charset);
+        this.channel = Objects.requireNonNull(channel);
+        this.tableName = Objects.requireNonNull(tableName);
+    }
+
+    /**
+     * Opens the given UTF-8 encoded dump. Dumps compressed using gzip are decompressed transparently.
+     *
+     * @param path      The dump to read.
+     * @param tableName The name of the table whose rows to read.
+     * @return The source reading the rows of the given table.
+     * @throws IOException Thrown only if the dump can not be opened.
+     * @since v0.2
+     */
+    @NotNull
+    public static MysqlDumpSource open(@NotNull Path path, @NotNull String tableName) throws IOException {
+        boolean isCompressed;
+        try (InputStream input = Files.newInputStream(path)) {
+            isCompressed = input.read() == GZIP_MAGIC_FIRST && input.read() == GZIP_MAGIC_SECOND;
+        }
+        ReadableByteChannel channel;
+        if (isCompressed) {
+            channel = Channels.newChannel(new GZIPInputStream(Files.newInputStream(path), INITIAL_BUFFER_SIZE));
+        } else {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        }
+        return new MysqlDumpSource(channel, tableName, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the byte at the given offset from the current position. The buffer is refilled if required which may
+     * move its content.
+     *
+     * @return The byte as unsigned value or {@link #END_OF_INPUT}.
+     */
+    private int peek(int lookahead) throws IOException {
+        int value = END_OF_INPUT;
+        boolean isAvailable = true;
+        while (isAvailable && position + lookahead >= limit) {
+            isAvailable = fill();
+        }
+        if (isAvailable) {
+            value = buffer.get(position + lookahead) & BYTE_MASK;
+        }
+        return value;
+    }
+
+    /**
+     * Reads more input. Bytes before {@link #mark} are discarded if the buffer is full. The buffer only grows if a
+     * single unit like a row does not fit.
+     *
+     * @return {@code false} only if the end of the input is reached.
+     */
+    private boolean fill() throws IOException {
+        if (limit == buffer.capacity()) {
+            if (mark > 0) {
+                int shift = Math.min(mark, limit);
+                ByteBuffer source = buffer.duplicate();
+                source.position(shift).limit(limit);
+                buffer.position(0);
+                buffer.put(source);
+                limit -= shift;
+                position -= shift;
+                mark = 0;
+                //NOTE The cell currently read is included since its begin is already recorded
+                for (int cell = 0; cell <= numCells && cell < cellBegins.length; cell++) {
+                    cellBegins[cell] -= shift;
+                    cellEnds[cell] -= shift;
+                }
+            } else {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2)
+                        .put(buffer.position(0).limit(limit));
+            }
+        }
+        buffer.limit(buffer.capacity()).position(limit);
+        int read = 0;
+        while (read == 0) {
+            read = channel.read(buffer);
+        }
+        boolean hasRead = read > 0;
+        if (hasRead) {
+            limit += read;
+        }
+        return hasRead;
+    }
+
+    private static boolean isWhitespace(int value) {
+        return value == ' ' || value == '\n' || value == '\r' || value == '\t';
+    }
+
+    private void skipWhitespace() throws IOException {
+        while (isWhitespace(peek(0))) {
+            position++;
+        }
+    }
+
+    /**
+     * Skips whitespace and comments between statements.
+     */
+    private void skipWhitespaceAndComments() throws IOException {
+        boolean skipped = true;
+        while (skipped) {
+            mark = position;
+            skipWhitespace();
+            int current = peek(0);
+            if (current == '#' || (current == '-' && peek(1) == '-' && isWhitespace(peek(2)))) {
+                while (peek(0) != END_OF_INPUT && peek(0) != '\n') {
+                    position++;
+                    mark = position;
+                }
+            } else if (current == '/' && peek(1) == '*') {
+                position += 2;
+                while (peek(0) != END_OF_INPUT && !(peek(0) == '*' && peek(1) == '/')) {
+                    position++;
+                    mark = position;
+                }
+                position += 2;
+            } else {
+                skipped = false;
+            }
+        }
+    }
+
+    /**
+     * Skips a quoted string or identifier starting at the current position.
+     */
+    private void skipQuoted(int quote) throws IOException {
+        position++;
+        while (true) {
+            int current = peek(0);
+            if (current == END_OF_INPUT) {
+                throw new IllegalArgumentException("The dump ends within a quoted string");
+            }
+            if (current == '\\' && quote != '`') {
+                position += 2;
+            } else if (current == quote) {
+                position++;
+                if (peek(0) != quote) {
+                    break;
+                }
+                position++;
+            } else {
+                position++;
+            }
+            mark = position;
+        }
+    }
+
+    /**
+     * Skips the remaining statement including its terminating semicolon.
+     */
+    private void skipStatement() throws IOException {
+        int current = peek(0);
+        while (current != END_OF_INPUT && current != ';') {
+            if (current == '\'' || current == '"' || current == '`') {
+                skipQuoted(current);
+            } else {
+                position++;
+            }
+            mark = position;
+            current = peek(0);
+        }
+        position++;
+    }
+
+    /**
+     * Reads a keyword or an identifier which may be quoted in backticks. Qualified names are not resolved.
+     *
+     * @return The keyword or the unquoted identifier. It is empty if there is none at the current position.
+     */
+    @NotNull
+    private String readWord() throws IOException {
+        skipWhitespace();
+        mark = position;
+        String word;
+        if (peek(0) == '`') {
+            position++;
+            while (!(peek(0) == '`' && peek(1) != '`')) {
+                if (peek(0) == END_OF_INPUT) {
+                    throw new IllegalArgumentException("The dump ends within an identifier");
+                }
+                position += peek(0) == '`' ? 2 : 1;
+            }
+            word = decode(mark + 1, position).replace("``", "`");
+            position++; //Skip closing backtick
+        } else {
+            int current = peek(0);
+            while (current == '_' || current == '$' || Character.isLetterOrDigit(current)) {
+                position++;
+                current = peek(0);
+            }
+            word = decode(mark, position);
+        }
+        return word;
+    }
+
+    /**
+     * Reads a possibly qualified table name and returns its last part.
+     */
+    @NotNull
+    private String readTableName() throws IOException {
+        String name = readWord();
+        while (peek(0) == '.') {
+            position++;
+            name = readWord();
+        }
+        return name;
+    }
+
+    @NotNull
+    private String decode(int beginIndex, int endIndex) {
+        String decoded;
+        if (isUtf8()) {
+            decoded = decodeUtf8(buffer, beginIndex, endIndex);
+        } else {
+            decoded = new ByteSlice(buffer, beginIndex, endIndex).toString();
+        }
+        return decoded;
+    }
+
+    /**
+     * Reads a parenthesized list of backtick quoted identifiers.
+     */
+    @NotNull
+    private List<String> readColumnList() throws IOException {
+        List<String> columns = new ArrayList<>();
+        position++; //Skip opening parenthesis
+        boolean isEnd = false;
+        while (!isEnd) {
+            columns.add(readWord());
+            skipWhitespace();
+            int current = peek(0);
+            if (current != ',' && current != ')') {
+                throw new IllegalArgumentException("The column list of an INSERT statement is malformed");
+            }
+            isEnd = current == ')';
+            position++;
+        }
+        return columns;
+    }
+
+    /**
+     * Reads the column definitions of a {@code CREATE TABLE} statement whose name was already read.
+     */
+    @NotNull
+    private List<String> readColumnDefinitions() throws IOException {
+        List<String> columns = new ArrayList<>();
+        skipWhitespace();
+        if (peek(0) == '(') {
+            position++;
+            boolean isEnd = false;
+            while (!isEnd) {
+                skipWhitespace();
+                boolean isQuoted = peek(0) == '`';
+                String name = readWord();
+                if (isQuoted || !NON_COLUMN_DEFINITIONS.contains(name.toUpperCase(Locale.ROOT))) {
+                    columns.add(name);
+                }
+                // Skip the remaining definition
+                int depth = 0;
+                int current = peek(0);
+                while (current != END_OF_INPUT && !(depth == 0 && (current == ',' || current == ')'))) {
+                    if (current == '\'' || current == '"' || current == '`') {
+                        skipQuoted(current);
+                    } else {
+                        if (current == '(') {
+                            depth++;
+                        } else if (current == ')') {
+                            depth--;
+                        }
+                        position++;
+                    }
+                    mark = position;
+                    current = peek(0);
+                }
+                isEnd = current != ',';
+                position++;
+            }
+        }
+        skipStatement();
+        return columns;
+    }
+
+    /**
+     * Reads statements until the values of an {@code INSERT} statement into the table are reached or the input ends.
+     *
+     * @return {@code true} only if the values of an {@code INSERT} statement are reached.
+     */
+    private boolean seekValues() throws IOException {
+        while (!inValues) {
+            skipWhitespaceAndComments();
+            if (peek(0) == END_OF_INPUT) {
+                break;
+            }
+            String keyword = readWord().toUpperCase(Locale.ROOT);
+            if ("INSERT".equals(keyword) || "REPLACE".equals(keyword)) {
+                String word = readWord().toUpperCase(Locale.ROOT);
+                while (!"INTO".equals(word) && !word.isEmpty()) {
+                    word = readWord().toUpperCase(Locale.ROOT); //Skip modifiers like IGNORE
+                }
+                if (tableName.equalsIgnoreCase(readTableName())) {
+                    skipWhitespace();
+                    List<String> columns = peek(0) == '(' ? readColumnList() : createTableColumns;
+                    if (columns == null) {
+                        throw new IllegalStateException(
+                                "The dump neither specifies the columns nor the table definition of " + tableName);
+                    }
+                    if (headings != null && !headings.equals(columns)) {
+                        throw new IllegalStateException("The INSERT statements for " + tableName
+                                + " specify different columns");
+                    }
+                    headings = List.copyOf(columns);
+                    String valuesKeyword = readWord().toUpperCase(Locale.ROOT);
+                    if (!"VALUES".equals(valuesKeyword) && !"VALUE".equals(valuesKeyword)) {
+                        throw new IllegalArgumentException("Only INSERT statements using VALUES are supported");
+                    }
+                    inValues = true;
+                } else {
+                    skipStatement();
+                }
+            } else if ("CREATE".equals(keyword) && "TABLE".equalsIgnoreCase(readWord())) {
+                String name = readTableName();
+                if ("IF".equalsIgnoreCase(name)) {
+                    readWord(); //NOT
+                    readWord(); //EXISTS
+                    name = readTableName();
+                }
+                if (tableName.equalsIgnoreCase(name)) {
+                    createTableColumns = readColumnDefinitions();
+                } else {
+                    skipStatement();
+                }
+            } else {
+                skipStatement();
+            }
+        }
+        return inValues;
+    }
+
+    /**
+     * {@inheritDoc} The headings are read from the dump up to the first {@code INSERT} statement into the table.
+     *
+     * @throws IllegalArgumentException Thrown only if the dump neither inserts into the table nor defines it.
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    public List<String> getHeadings() {
+        if (headings == null) {
+            try {
+                seekValues();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            if (headings == null) {
+                if (createTableColumns == null) {
+                    throw new IllegalArgumentException("The dump does not contain the table " + tableName);
+                }
+                headings = List.copyOf(createTableColumns);
+            }
+        }
+        return headings;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since v0.2
+     */
+    @Override
+    public boolean next() {
+        try {
+            boolean hasNext = false;
+            numCells = 0;
+            while (!hasNext && seekValues()) {
+                mark = position;
+                skipWhitespace();
+                int current = peek(0);
+                if (current == '(') {
+                    readRow();
+                    hasNext = true;
+                } else if (current == ',') {
+                    position++;
+                } else if (current == ';') {
+                    position++;
+                    inValues = false;
+                } else {
+                    throw new IllegalArgumentException("The values of an INSERT statement are malformed");
+                }
+            }
+            return hasNext;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void ensureCellCapacity() {
+        if (numCells + 1 >= cellBegins.length) {
+            cellBegins = Arrays.copyOf(cellBegins, cellBegins.length * 2);
+            cellEnds = Arrays.copyOf(cellEnds, cellEnds.length * 2);
+            cellQuotes = Arrays.copyOf(cellQuotes, cellQuotes.length * 2);
+            escapedCells = Arrays.copyOf(escapedCells, escapedCells.length * 2);
+        }
+    }
+
+    /**
+     * Reads a parenthesized row of values. The whole row is kept in the buffer.
+     */
+    private void readRow() throws IOException {
+        mark = position;
+        position++; //Skip opening parenthesis
+        boolean isEnd = false;
+        while (!isEnd) {
+            ensureCellCapacity();
+            skipWhitespace();
+            int current = peek(0);
+            boolean isQuoted = current == '\'' || current == '"';
+            cellBegins[numCells] = position;
+            boolean isHex = isHexLiteral();
+            if (!isQuoted && !isHex) {
+                while (current != END_OF_INPUT && current != ',' && current != ')' && !isWhitespace(current)) {
+                    position++;
+                    current = peek(0);
+                }
+                skipWhitespace();
+                if (buffer.get(cellBegins[numCells]) == '_') {
+                    // Skip the character set introducer like _binary
+                    current = peek(0);
+                    isQuoted = current == '\'' || current == '"';
+                    isHex = isHexLiteral();
+                }
+            }
+            if (isQuoted) {
+                readString(current);
+            } else if (isHex) {
+                readHexLiteral();
+            } else {
+                cellEnds[numCells] = position;
+                cellQuotes[numCells] = 0;
+                escapedCells[numCells] = false;
+            }
+            numCells++;
+            skipWhitespace();
+            current = peek(0);
+            if (current != ',' && current != ')') {
+                throw new IllegalArgumentException("A row of an INSERT statement is malformed");
+            }
+            isEnd = current == ')';
+            position++;
+        }
+        if (numCells != headings.size()) {
+            throw new IllegalArgumentException(
+                    "A row contains " + numCells + " instead of " + headings.size() + " values");
+        }
+        for (int cell = 0; cell < numCells; cell++) {
+            if (escapedCells[cell]) {
+                unescape(cell);
+            }
+        }
+    }
+
+    /**
+     * Reads a quoted string literal starting at the current position into the current cell.
+     */
+    private void readString(int quote) throws IOException {
+        boolean isEscaped = false;
+        position++;
+        cellBegins[numCells] = position;
+        while (true) {
+            int current = peek(0);
+            if (current == END_OF_INPUT) {
+                throw new IllegalArgumentException("The dump ends within a string literal");
+            }
+            if (current == '\\') {
+                isEscaped = true;
+                position += 2;
+            } else if (current == quote) {
+                if (peek(1) != quote) {
+                    break;
+                }
+                isEscaped = true;
+                position += 2;
+            } else {
+                position++;
+            }
+        }
+        cellEnds[numCells] = position;
+        position++; //Skip closing quote
+        cellQuotes[numCells] = (byte) quote;
+        escapedCells[numCells] = isEscaped;
+    }
+
+    /**
+     * Checks whether a hexadecimal literal like {@code X'4142'} or {@code 0x4142} starts at the current position.
+     */
+    private boolean isHexLiteral() throws IOException {
+        int current = peek(0);
+        return ((current == 'X' || current == 'x') && peek(1) == '\'') || (current == '0' && peek(1) == 'x');
+    }
+
+    /**
+     * Reads a hexadecimal literal starting at the current position into the current cell and decodes it in place. As
+     * in MySQL an odd number of digits is only allowed in the notation {@code 0x4142} where it implies a leading zero.
+     */
+    private void readHexLiteral() throws IOException {
+        boolean isQuoted = peek(0) != '0';
+        position += 2; //Skip prefix
+        int digitsBegin = position;
+        while (Character.digit(peek(0), HEX_RADIX) >= 0) {
+            position++;
+        }
+        int digitsEnd = position;
+        int numDigits = digitsEnd - digitsBegin;
+        if (isQuoted) {
+            if (peek(0) != '\'' || numDigits % 2 != 0) {
+                throw new IllegalArgumentException(
+                        "A hexadecimal literal X'...' must contain an even number of digits");
+            }
+            position++; //Skip closing quote
+        } else if (numDigits == 0) {
+            throw new IllegalArgumentException("A hexadecimal literal 0x... contains no digits");
+        }
+        // The decoded bytes never overtake the digits since each byte is decoded from at least one digit
+        int target = cellBegins[numCells];
+        int index = digitsBegin;
+        if (numDigits % 2 != 0) {
+            buffer.put(target, (byte) Character.digit(buffer.get(index), HEX_RADIX));
+            target++;
+            index++;
+        }
+        for (; index < digitsEnd; index += 2) {
+            int high = Character.digit(buffer.get(index), HEX_RADIX);
+            int low = Character.digit(buffer.get(index + 1), HEX_RADIX);
+            buffer.put(target, (byte) ((high << BITS_PER_HEX_DIGIT) | low));
+            target++;
+        }
+        cellEnds[numCells] = target;
+        cellQuotes[numCells] = HEX_LITERAL;
+        escapedCells[numCells] = false;
+    }
+
+    /**
+     * Replaces the escape sequences of the given cell in place.
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    private void unescape(int cell) {
+        int target = cellBegins[cell];
+        int end = cellEnds[cell];
+        byte quote = cellQuotes[cell];
+        for (int index = cellBegins[cell]; index < end; index++) {
+            byte current = buffer.get(index);
+            if (current == '\\' && index + 1 < end) {
+                index++;
+                byte escaped = buffer.get(index);
+                switch (escaped) {
+                    case '0':
+                        current = 0;
+                        break;
+                    case 'b':
+                        current = '\b';
+                        break;
+                    case 'n':
+                        current = '\n';
+                        break;
+                    case 'r':
+                        current = '\r';
+                        break;
+                    case 't':
+                        current = '\t';
+                        break;
+                    case 'Z':
+                        current = 0x1A;
+                        break;
+                    case '%':
+                    case '_':
+                        //NOTE MySQL keeps the backslash of these sequences
+                        buffer.put(target, (byte) '\\');
+                        target++;
+                        current = escaped;
+                        break;
+                    default:
+                        current = escaped;
+                        break;
+                }
+            } else if (current == quote && index + 1 < end && buffer.get(index + 1) == quote) {
+                index++; //Skip the second quote of a doubled quote
+            }
+            buffer.put(target, current);
+            target++;
+        }
+        cellEnds[cell] = target;
+    }
+
+    @Override
+    @NotNull
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    @Override
+    public int getCellBegin(int columnIndex) {
+        Objects.checkIndex(columnIndex, numCells);
+        return cellBegins[columnIndex];
+    }
+
+    @Override
+    public int getCellEnd(int columnIndex) {
+        Objects.checkIndex(columnIndex, numCells);
+        return cellEnds[columnIndex];
+    }
+
+    /**
+     * {@inheritDoc} String and hexadecimal literals never represent SQL {@code NULL}.
+     *
+     * @since v0.2
+     */
+    @Override
+    public boolean isNull(int columnIndex) {
+        Objects.checkIndex(columnIndex, numCells);
+        return cellQuotes[columnIndex] == 0 && super.isNull(columnIndex);
+    }
+
+    /**
+     * Closes the underlying channel.
+     *
+     * @throws IOException Thrown only if the channel can not be closed.
+     * @since v0.2
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,139 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Represents a query result parsed column by column into storage outside the Java heap. Each bound
+ * {@link SimpleColumnPattern} is associated with an {@link OffHeapColumn} holding its values of all rows in direct
+ * buffers. In contrast to a {@link ColumnBatch} the memory occupied on the Java heap does not depend on the number of
+ * rows such that even tables with hundreds of millions of rows do not prolong garbage collections.
+ *
+ * @author Stefan Huber
+ * @see Table#parseOffHeap(RowSource)
+ * @since v0.2
+ */
+public final class OffHeapBatch {
+    private final List<String> headings;
+    private final long rowCount;
+    private final Map<SimpleColumnPattern<?, ?>, OffHeapColumn> columns;
+
+    OffHeapBatch(@NotNull List<String> headings, long rowCount,
+                 @NotNull Map<SimpleColumnPattern<?, ?>, OffHeapColumn> columns) {
+        Objects.requireNonNull(headings);
+        Objects.requireNonNull(columns);
+
+        this.headings = headings;
+        this.rowCount = rowCount;
+        this.columns = Collections.unmodifiableMap(columns);
+    }
+
+    /**
+     * Returns the headings of the query result this batch was parsed from.
+     *
+     * @return The headings of the query result this batch was parsed from.
+     * @since v0.2
+     */
+    @NotNull
+    public List<String> getHeadings() {
+        return headings;
+    }
+
+    /**
+     * Returns the number of rows which is also the size of each column.
+     *
+     * @return The number of rows.
+     * @since v0.2
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns all columns of this batch in the order they were bound.
+     *
+     * @return All columns having storage within this batch.
+     * @since v0.2
+     */
+    @NotNull
+    public Set<SimpleColumnPattern<?, ?>> getColumns() {
+        return columns.keySet();
+    }
+
+    /**
+     * Returns the storage holding the values of the given column.
+     *
+     * @param column The column to get the storage of.
+     * @return The storage holding the values of {@code column}.
+     * @throws IllegalArgumentException Thrown only if {@code column} was not bound to any heading.
+     * @since v0.2
+     */
+    @NotNull
+    public OffHeapColumn getColumn(@NotNull SimpleColumnPattern<?, ?> column) {
+        OffHeapColumn storage = columns.get(Objects.requireNonNull(column));
+        if (storage == null) {
+            throw new IllegalArgumentException("The column " + column.getRealColumnName() + " is not bound");
+        }
+        return storage;
+    }
+
+    /**
+     * @see #getColumn(SimpleColumnPattern)
+     * @since v0.2
+     */
+    @NotNull
+    public OffHeapColumn.IntColumn getIntColumn(@NotNull SimpleColumnPattern<Integer, ?> column) {
+        return (OffHeapColumn.IntColumn) getColumn(column);
+    }
+
+    /**
+     * @see #getColumn(SimpleColumnPattern)
+     * @since v0.2
+     */
+    @NotNull
+    public OffHeapColumn.LongColumn getLongColumn(@NotNull SimpleColumnPattern<Long, ?> column) {
+        return (OffHeapColumn.LongColumn) getColumn(column);
+    }
+
+    /**
+     * @see #getColumn(SimpleColumnPattern)
+     * @since v0.2
+     */
+    @NotNull
+    public OffHeapColumn.DoubleColumn getDoubleColumn(@NotNull SimpleColumnPattern<Double, ?> column) {
+        return (OffHeapColumn.DoubleColumn) getColumn(column);
+    }
+
+    /**
+     * @see #getColumn(SimpleColumnPattern)
+     * @since v0.2
+     */
+    @NotNull
+    public OffHeapColumn.BooleanColumn getBooleanColumn(@NotNull SimpleColumnPattern<Boolean, ?> column) {
+        return (OffHeapColumn.BooleanColumn) getColumn(column);
+    }
+
+    /**
+     * @see #getColumn(SimpleColumnPattern)
+     * @since v0.2
+     */
+    @NotNull
+    public OffHeapColumn.DateColumn getDateColumn(@NotNull SimpleColumnPattern<LocalDate, ?> column) {
+        return (OffHeapColumn.DateColumn) getColumn(column);
+    }
+
+    /**
+     * @see #getColumn(SimpleColumnPattern)
+     * @since v0.2
+     */
+    @NotNull
+    public OffHeapColumn.StringColumn getStringColumn(@NotNull SimpleColumnPattern<String, ?> column) {
+        return (OffHeapColumn.StringColumn) getColumn(column);
+    }
+}
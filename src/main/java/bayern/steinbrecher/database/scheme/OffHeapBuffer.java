@@ -0,0 +1,145 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Represents a growable sequence of bytes stored outside the Java heap in direct {@link ByteBuffer}s. Since a single
+ * buffer is limited to 2 GB the bytes are split into chunks of {@link #CHUNK_SIZE} bytes which are addressed by a
+ * {@code long} offset. Only the last chunk grows by copying it, all other chunks are full. Values never span multiple
+ * chunks. Values are stored in the native byte order.
+ *
+ * @author Stefan Huber
+ * @since v0.2
+ */
+final class OffHeapBuffer {
+    private static final int CHUNK_SHIFT = 26;
+    /**
+     * The maximum number of bytes of a chunk and therefore of a single value.
+     */
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final long OFFSET_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_CHUNK_CAPACITY = 1 << 10;
+    private ByteBuffer[] chunks = new ByteBuffer[0];
+    private long size;
+
+    /**
+     * Reserves the given number of consecutive bytes at the end of this buffer. The reserved bytes are zero.
+     *
+     * @param numBytes The number of bytes to reserve.
+     * @return The offset of the first reserved byte.
+     * @throws IllegalArgumentException Thrown only if {@code numBytes} exceeds {@link #CHUNK_SIZE}.
+     */
+    long allocate(int numBytes) {
+        if (numBytes < 0 || numBytes > CHUNK_SIZE) {
+            throw new IllegalArgumentException("Values have to consist of at most " + CHUNK_SIZE + " bytes");
+        }
+        long offset = size;
+        int chunk = chunkOf(offset);
+        int index = indexOf(offset);
+        if (index + numBytes > CHUNK_SIZE) {
+            //NOTE The remainder of the current chunk stays unused since values must not span multiple chunks
+            chunk++;
+            index = 0;
+            offset = (long) chunk << CHUNK_SHIFT;
+        }
+        ensureCapacity(chunk, index + numBytes);
+        size = offset + numBytes;
+        return offset;
+    }
+
+    private void ensureCapacity(int chunk, int minCapacity) {
+        if (chunk >= chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunk + 1);
+        }
+        ByteBuffer current = chunks[chunk];
+        if (current == null || current.capacity() < minCapacity) {
+            int capacity = current == null ? INITIAL_CHUNK_CAPACITY : current.capacity();
+            while (capacity < minCapacity) {
+                capacity = Math.min(2 * capacity, CHUNK_SIZE);
+            }
+            ByteBuffer grown = ByteBuffer.allocateDirect(capacity)
+                    .order(ByteOrder.nativeOrder());
+            if (current != null) {
+                grown.put(current.duplicate().clear());
+            }
+            chunks[chunk] = grown;
+        }
+    }
+
+    private static int chunkOf(long offset) {
+        return (int) (offset >>> CHUNK_SHIFT);
+    }
+
+    private static int indexOf(long offset) {
+        return (int) (offset & OFFSET_MASK);
+    }
+
+    /**
+     * Returns the number of bytes of this buffer including unused remainders of chunks.
+     */
+    long size() {
+        return size;
+    }
+
+    byte get(long offset) {
+        return chunks[chunkOf(offset)].get(indexOf(offset));
+    }
+
+    void put(long offset, byte value) {
+        chunks[chunkOf(offset)].put(indexOf(offset), value);
+    }
+
+    int getInt(long offset) {
+        return chunks[chunkOf(offset)].getInt(indexOf(offset));
+    }
+
+    void putInt(long offset, int value) {
+        chunks[chunkOf(offset)].putInt(indexOf(offset), value);
+    }
+
+    long getLong(long offset) {
+        return chunks[chunkOf(offset)].getLong(indexOf(offset));
+    }
+
+    void putLong(long offset, long value) {
+        chunks[chunkOf(offset)].putLong(indexOf(offset), value);
+    }
+
+    double getDouble(long offset) {
+        return chunks[chunkOf(offset)].getDouble(indexOf(offset));
+    }
+
+    void putDouble(long offset, double value) {
+        chunks[chunkOf(offset)].putDouble(indexOf(offset), value);
+    }
+
+    /**
+     * Copies the given number of bytes starting at {@code offset} into {@code target}.
+     */
+    void get(long offset, @NotNull byte[] target, int targetOffset, int length) {
+        chunks[chunkOf(offset)].get(indexOf(offset), target, targetOffset, length);
+    }
+
+    /**
+     * Copies the given range of {@code source} to the bytes starting at {@code offset}.
+     */
+    void put(long offset, @NotNull byte[] source, int sourceOffset, int length) {
+        chunks[chunkOf(offset)].put(indexOf(offset), source, sourceOffset, length);
+    }
+
+    /**
+     * Copies the given range of {@code source} to the bytes starting at {@code offset}. The position and the limit of
+     * {@code source} are ignored.
+     */
+    void put(long offset, @NotNull ByteBuffer source, int beginIndex, int endIndex) {
+        ByteBuffer target = chunks[chunkOf(offset)].duplicate();
+        target.position(indexOf(offset));
+        ByteBuffer range = source.duplicate();
+        range.limit(endIndex).position(beginIndex);
+        target.put(range);
+    }
+}
@@ -0,0 +1,473 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents all values of a single column of an {@link OffHeapBatch}. The values as well as the bitmap tracking cells
+ * which are SQL {@code NULL} or can not be parsed are stored outside the Java heap. Fixed width values are addressed
+ * by their row whereas strings are stored UTF-8 encoded in an arena referenced by an offset per row. Therefore the
+ * memory a column occupies on the Java heap does not grow with its number of rows and reading a value allocates
+ * nothing unless stated otherwise. Cells marked as {@code null} hold the default value of their type.
+ *
+ * @author Stefan Huber
+ * @see OffHeapBatch
+ * @since v0.2
+ */
+public abstract class OffHeapColumn {
+    private static final Logger LOGGER = Logger.getLogger(OffHeapColumn.class.getName());
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final long BIT_INDEX_MASK = (1L << ADDRESS_BITS_PER_WORD) - 1;
+    private final OffHeapBuffer nulls = new OffHeapBuffer();
+    private long size;
+
+    OffHeapColumn() {
+        //Prohibit construction outside of this package
+    }
+
+    /**
+     * Creates an empty column for values of the given type.
+     *
+     * @param type The type of the values to store.
+     * @return The created column.
+     * @throws IllegalArgumentException Thrown only if there is no column for values of type {@code type}.
+     */
+    @NotNull
+    static OffHeapColumn forType(@NotNull Class<?> type) {
+        OffHeapColumn column;
+        if (type == Integer.class) {
+            column = new IntColumn();
+        } else if (type == Long.class) {
+            column = new LongColumn();
+        } else if (type == Double.class) {
+            column = new DoubleColumn();
+        } else if (type == Boolean.class) {
+            column = new BooleanColumn();
+        } else if (type == LocalDate.class) {
+            column = new DateColumn();
+        } else if (type == String.class) {
+            column = new StringColumn();
+        } else {
+            throw new IllegalArgumentException("There is no off-heap column for values of type " + type.getName());
+        }
+        return column;
+    }
+
+    /**
+     * Parses the given cell of the current row of {@code source} and appends it to this column.
+     *
+     * @param source      The source whose cursor points to the row to read from.
+     * @param columnIndex The index of the cell to parse starting at 0.
+     */
+    final void append(@NotNull RowSource source, int columnIndex) {
+        if ((size & BIT_INDEX_MASK) == 0) {
+            nulls.allocate(Long.BYTES);
+        }
+        boolean isNull = source.isNull(columnIndex);
+        if (!isNull && !appendValue(source, columnIndex)) {
+            LOGGER.log(Level.WARNING, "{0} can not be parsed and is stored as null", source.getCell(columnIndex));
+            isNull = true;
+        }
+        if (isNull) {
+            appendNull();
+            long wordOffset = (size >>> ADDRESS_BITS_PER_WORD) * Long.BYTES;
+            nulls.putLong(wordOffset, nulls.getLong(wordOffset) | (1L << size));
+        }
+        size++;
+    }
+
+    /**
+     * Parses the given cell which does not represent SQL {@code NULL} and appends it.
+     *
+     * @return {@code false} only if the cell can not be parsed in which case nothing is appended.
+     */
+    abstract boolean appendValue(@NotNull RowSource source, int columnIndex);
+
+    /**
+     * Appends the default value of the type of this column.
+     */
+    abstract void appendNull();
+
+    /**
+     * Checks whether the given row exists.
+     *
+     * @throws IndexOutOfBoundsException Thrown only if {@code row} is not within {@code [0, size())}.
+     */
+    final void checkRow(long row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("The row " + row + " is not within [0, " + size + ")");
+        }
+    }
+
+    /**
+     * Returns the number of values of this column which is the number of rows of its batch.
+     *
+     * @return The number of values of this column.
+     * @since v0.2
+     */
+    public final long size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the cell of the given row was SQL {@code NULL} or could not be parsed.
+     *
+     * @param row The index of the row to check.
+     * @return {@code true} only if the given row has no value.
+     * @since v0.2
+     */
+    public final boolean isNull(long row) {
+        checkRow(row);
+        return (nulls.getLong((row >>> ADDRESS_BITS_PER_WORD) * Long.BYTES) & (1L << row)) != 0;
+    }
+
+    /**
+     * Returns the number of rows having no value.
+     *
+     * @return The number of rows having no value.
+     * @since v0.2
+     */
+    public final long getNullCount() {
+        long nullCount = 0;
+        for (long wordOffset = 0; wordOffset < nulls.size(); wordOffset += Long.BYTES) {
+            nullCount += Long.bitCount(nulls.getLong(wordOffset));
+        }
+        return nullCount;
+    }
+
+    /**
+     * Returns the value of the given row as object. In contrast to the typed accessors this allocates the returned
+     * object.
+     *
+     * @param row The index of the row to get the value of.
+     * @return The value of the given row or {@code null} if it has none.
+     * @since v0.2
+     */
+    @Nullable
+    public abstract Object getObject(long row);
+
+    /**
+     * Holds the values of a column of type {@link Integer}.
+     *
+     * @since v0.2
+     */
+    public static final class IntColumn extends OffHeapColumn {
+        private final OffHeapBuffer values = new OffHeapBuffer();
+
+        @Override
+        boolean appendValue(@NotNull RowSource source, int columnIndex) {
+            boolean isValid = true;
+            try {
+                int value = ColumnParser.PRIMITIVE_INTEGER_COLUMN_PARSER.parseInt(source, columnIndex);
+                values.putInt(values.allocate(Integer.BYTES), value);
+            } catch (NumberFormatException ex) {
+                isValid = false;
+            }
+            return isValid;
+        }
+
+        @Override
+        void appendNull() {
+            values.allocate(Integer.BYTES);
+        }
+
+        /**
+         * @return The value of the given row or {@code 0} if it has none.
+         * @since v0.2
+         */
+        public int getInt(long row) {
+            checkRow(row);
+            return values.getInt(row * Integer.BYTES);
+        }
+
+        /**
+         * @since v0.2
+         */
+        @Override
+        @Nullable
+        public Integer getObject(long row) {
+            return isNull(row) ? null : getInt(row);
+        }
+    }
+
+    /**
+     * Holds the values of a column of type {@link Long}.
+     *
+     * @since v0.2
+     */
+    public static final class LongColumn extends OffHeapColumn {
+        private final OffHeapBuffer values = new OffHeapBuffer();
+
+        @Override
+        boolean appendValue(@NotNull RowSource source, int columnIndex) {
+            boolean isValid = true;
+            try {
+                long value = ColumnParser.PRIMITIVE_LONG_COLUMN_PARSER.parseLong(source, columnIndex);
+                values.putLong(values.allocate(Long.BYTES), value);
+            } catch (NumberFormatException ex) {
+                isValid = false;
+            }
+            return isValid;
+        }
+
+        @Override
+        void appendNull() {
+            values.allocate(Long.BYTES);
+        }
+
+        /**
+         * @return The value of the given row or {@code 0} if it has none.
+         * @since v0.2
+         */
+        public long getLong(long row) {
+            checkRow(row);
+            return values.getLong(row * Long.BYTES);
+        }
+
+        /**
+         * @since v0.2
+         */
+        @Override
+        @Nullable
+        public Long getObject(long row) {
+            return isNull(row) ? null : getLong(row);
+        }
+    }
+
+    /**
+     * Holds the values of a column of type {@link Double}.
+     *
+     * @since v0.2
+     */
+    public static final class DoubleColumn extends OffHeapColumn {
+        private final OffHeapBuffer values = new OffHeapBuffer();
+
+        @Override
+        boolean appendValue(@NotNull RowSource source, int columnIndex) {
+            boolean isValid = true;
+            try {
+                double value = ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER.parseDouble(source, columnIndex);
+                values.putDouble(values.allocate(Double.BYTES), value);
+            } catch (NumberFormatException ex) {
+                isValid = false;
+            }
+            return isValid;
+        }
+
+        @Override
+        void appendNull() {
+            values.allocate(Double.BYTES);
+        }
+
+        /**
+         * @return The value of the given row or {@code 0} if it has none.
+         * @since v0.2
+         */
+        public double getDouble(long row) {
+            checkRow(row);
+            return values.getDouble(row * Double.BYTES);
+        }
+
+        /**
+         * @since v0.2
+         */
+        @Override
+        @Nullable
+        public Double getObject(long row) {
+            return isNull(row) ? null : getDouble(row);
+        }
+    }
+
+    /**
+     * Holds the values of a column of type {@link Boolean} as a byte per row.
+     *
+     * @since v0.2
+     */
+    public static final class BooleanColumn extends OffHeapColumn {
+        private final OffHeapBuffer values = new OffHeapBuffer();
+
+        @Override
+        boolean appendValue(@NotNull RowSource source, int columnIndex) {
+            Boolean value = ColumnParser.BOOLEAN_COLUMN_PARSER.parseOrNull(source, columnIndex);
+            if (value != null) {
+                values.put(values.allocate(Byte.BYTES), value ? (byte) 1 : (byte) 0);
+            }
+            return value != null;
+        }
+
+        @Override
+        void appendNull() {
+            values.allocate(Byte.BYTES);
+        }
+
+        /**
+         * @return The value of the given row or {@code false} if it has none.
+         * @since v0.2
+         */
+        public boolean getBoolean(long row) {
+            checkRow(row);
+            return values.get(row) != 0;
+        }
+
+        /**
+         * @since v0.2
+         */
+        @Override
+        @Nullable
+        public Boolean getObject(long row) {
+            return isNull(row) ? null : getBoolean(row);
+        }
+    }
+
+    /**
+     * Holds the values of a column of type {@link LocalDate} as epoch days.
+     *
+     * @since v0.2
+     */
+    public static final class DateColumn extends OffHeapColumn {
+        private final OffHeapBuffer epochDays = new OffHeapBuffer();
+
+        @Override
+        boolean appendValue(@NotNull RowSource source, int columnIndex) {
+            LocalDate value = ColumnParser.LOCALDATE_COLUMN_PARSER.parseOrNull(source, columnIndex);
+            if (value != null) {
+                epochDays.putLong(epochDays.allocate(Long.BYTES), value.toEpochDay());
+            }
+            return value != null;
+        }
+
+        @Override
+        void appendNull() {
+            epochDays.allocate(Long.BYTES);
+        }
+
+        /**
+         * @return The value of the given row as epoch day or {@code 0} if it has none.
+         * @see LocalDate#toEpochDay()
+         * @since v0.2
+         */
+        public long getEpochDay(long row) {
+            checkRow(row);
+            return epochDays.getLong(row * Long.BYTES);
+        }
+
+        /**
+         * @since v0.2
+         */
+        @Override
+        @Nullable
+        public LocalDate getObject(long row) {
+            return isNull(row) ? null : LocalDate.ofEpochDay(getEpochDay(row));
+        }
+    }
+
+    /**
+     * Holds the values of a column of type {@link String}. Each value is stored UTF-8 encoded in an arena preceded by
+     * its number of bytes. Each row refers to the offset of its value within the arena. Cells of UTF-8 encoded
+     * {@link ByteRowSource}s are copied into the arena without decoding them.
+     *
+     * @since v0.2
+     */
+    public static final class StringColumn extends OffHeapColumn {
+        private static final long NO_VALUE = -1;
+        private final OffHeapBuffer offsets = new OffHeapBuffer();
+        private final OffHeapBuffer arena = new OffHeapBuffer();
+
+        @Override
+        boolean appendValue(@NotNull RowSource source, int columnIndex) {
+            long offset;
+            if (source instanceof ByteRowSource && ((ByteRowSource) source).isUtf8()) {
+                ByteRowSource byteSource = (ByteRowSource) source;
+                int begin = byteSource.getCellBegin(columnIndex);
+                int end = byteSource.getCellEnd(columnIndex);
+                offset = arena.allocate(Integer.BYTES + end - begin);
+                arena.putInt(offset, end - begin);
+                arena.put(offset + Integer.BYTES, byteSource.getBuffer(), begin, end);
+            } else {
+                byte[] encoded = String.valueOf(source.getCell(columnIndex))
+                        .getBytes(StandardCharsets.UTF_8);
+                offset = arena.allocate(Integer.BYTES + encoded.length);
+                arena.putInt(offset, encoded.length);
+                arena.put(offset + Integer.BYTES, encoded, 0, encoded.length);
+            }
+            offsets.putLong(offsets.allocate(Long.BYTES), offset);
+            return true;
+        }
+
+        @Override
+        void appendNull() {
+            offsets.putLong(offsets.allocate(Long.BYTES), NO_VALUE);
+        }
+
+        private long getOffset(long row) {
+            checkRow(row);
+            return offsets.getLong(row * Long.BYTES);
+        }
+
+        /**
+         * Returns the number of bytes of the UTF-8 encoded value of the given row.
+         *
+         * @param row The index of the row to get the length of.
+         * @return The number of bytes of the value of the given row or {@code 0} if it has none.
+         * @since v0.2
+         */
+        public int getUtf8Length(long row) {
+            long offset = getOffset(row);
+            return offset == NO_VALUE ? 0 : arena.getInt(offset);
+        }
+
+        /**
+         * Copies the UTF-8 encoded value of the given row into {@code target}.
+         *
+         * @param row          The index of the row to get the value of.
+         * @param target       The array to copy the value to. It has to be able to hold
+         *                     {@link #getUtf8Length(long)} bytes starting at {@code targetOffset}.
+         * @param targetOffset The index of {@code target} to copy the first byte to.
+         * @return The number of copied bytes which is {@code 0} if the row has no value.
+         * @since v0.2
+         */
+        public int copyUtf8(long row, @NotNull byte[] target, int targetOffset) {
+            long offset = getOffset(row);
+            int length = 0;
+            if (offset != NO_VALUE) {
+                length = arena.getInt(offset);
+                arena.get(offset + Integer.BYTES, target, targetOffset, length);
+            }
+            return length;
+        }
+
+        /**
+         * Decodes the value of the given row. In contrast to {@link #copyUtf8(long, byte[], int)} this allocates the
+         * returned {@link String}.
+         *
+         * @param row The index of the row to get the value of.
+         * @return The value of the given row or {@code null} if it has none.
+         * @since v0.2
+         */
+        @Nullable
+        public String getString(long row) {
+            long offset = getOffset(row);
+            String value = null;
+            if (offset != NO_VALUE) {
+                byte[] encoded = new byte[arena.getInt(offset)];
+                arena.get(offset + Integer.BYTES, encoded, 0, encoded.length);
+                value = new String(encoded, StandardCharsets.UTF_8);
+            }
+            return value;
+        }
+
+        /**
+         * @since v0.2
+         */
+        @Override
+        @Nullable
+        public String getObject(long row) {
+            return getString(row);
+        }
+    }
+}
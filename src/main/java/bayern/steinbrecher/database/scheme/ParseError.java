@@ -0,0 +1,83 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Describes a single cell which could not be parsed during a tolerant parse of a {@link Table}.
+ *
+ * @author Stefan Huber
+ * @see Table#parseTolerantly(java.util.List, ParseErrorPolicy)
+ * @since v0.2
+ */
+public final class ParseError {
+    private final int rowIndex;
+    private final String columnName;
+    private final String rawValue;
+    private final String message;
+
+    ParseError(int rowIndex, @NotNull String columnName, @Nullable String rawValue, @NotNull String message) {
+        Objects.requireNonNull(columnName);
+        Objects.requireNonNull(message);
+
+        this.rowIndex = rowIndex;
+        this.columnName = columnName;
+        this.rawValue = rawValue;
+        this.message = message;
+    }
+
+    /**
+     * Returns the index of the row within the query result. Since the query result starts with the headings the
+     * first row has index {@code 1}.
+     *
+     * @return The index of the row within the query result.
+     * @since v0.2
+     */
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    /**
+     * Returns the heading of the column containing the cell.
+     *
+     * @return The heading of the column containing the cell.
+     * @since v0.2
+     */
+    @NotNull
+    public String getColumnName() {
+        return columnName;
+    }
+
+    /**
+     * Returns the value of the cell as contained in the query result.
+     *
+     * @return The value of the cell as contained in the query result.
+     * @since v0.2
+     */
+    @Nullable
+    public String getRawValue() {
+        return rawValue;
+    }
+
+    /**
+     * Returns the reason why the cell could not be parsed.
+     *
+     * @return The reason why the cell could not be parsed.
+     * @since v0.2
+     */
+    @NotNull
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @NotNull
+    public String toString() {
+        return "Row " + rowIndex + ", column " + columnName + ", value " + rawValue + ": " + message;
+    }
+}
@@ -0,0 +1,20 @@
+package bayern.steinbrecher.database.scheme;
+
+/**
+ * Determines how a tolerant parse of a {@link Table} handles cells which can not be parsed.
+ *
+ * @author Stefan Huber
+ * @see Table#parseTolerantly(java.util.List, ParseErrorPolicy)
+ * @since v0.2
+ */
+public enum ParseErrorPolicy {
+    /**
+     * Drops the whole row containing the cell. The remaining cells of the row are not parsed.
+     */
+    SKIP_ROW,
+    /**
+     * Skips only the cell such that its entry keeps the value provided by the empty entry supplier, which usually is
+     * {@code null}.
+     */
+    SKIP_CELL;
+}
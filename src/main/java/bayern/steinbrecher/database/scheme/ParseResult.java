@@ -0,0 +1,53 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the outcome of a tolerant parse of a {@link Table}, i.e. the reduced representation of all rows which
+ * were kept along with all cells which could not be parsed.
+ *
+ * @param <T> The type representing the whole table.
+ * @author Stefan Huber
+ * @see Table#parseTolerantly(java.util.List, ParseErrorPolicy)
+ * @since v0.2
+ */
+public final class ParseResult<T> {
+    private final T result;
+    private final List<ParseError> errors;
+
+    ParseResult(T result, @NotNull List<ParseError> errors) {
+        Objects.requireNonNull(errors);
+
+        this.result = result;
+        this.errors = List.copyOf(errors);
+    }
+
+    /**
+     * @since v0.2
+     */
+    public T getResult() {
+        return result;
+    }
+
+    /**
+     * Returns all cells which could not be parsed ordered by their row. Errors of the same row are ordered like the
+     * columns of the table.
+     *
+     * @return All cells which could not be parsed.
+     * @since v0.2
+     */
+    @NotNull
+    public List<ParseError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @since v0.2
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
@@ -0,0 +1,31 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Represents an alternative way of converting the rows of a query result into entries of a {@link Table}. In contrast
+ * to the patterns of a table a strategy is bound once to the headings of a query result and returns a single function
+ * converting a whole row. Implementations are usually generated at compile time for entity types annotated with
+ * {@link GenerateParser}.
+ *
+ * @param <E> The type of an entry of the table.
+ * @author Stefan Huber
+ * @see Table#parseFrom(List, ParseStrategy)
+ * @since v0.2
+ */
+@FunctionalInterface
+public interface ParseStrategy<E> {
+    /**
+     * Resolves the columns to parse from the given headings.
+     *
+     * @param headings The headings of the query result to parse.
+     * @return The function converting a row of the query result into an entry.
+     * @throws IllegalStateException Thrown only if any required column is not contained in {@code headings}.
+     * @since v0.2
+     */
+    @NotNull
+    Function<List<String>, E> bind(@NotNull List<String> headings);
+}
@@ -0,0 +1,32 @@
+package bayern.steinbrecher.database.scheme;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Associates a field or a constructor parameter of an entity annotated with {@link GenerateParser} with a column. The
+ * supported types are {@code int}, {@code long}, {@code double}, {@code boolean}, their wrapper types, {@link String}
+ * and {@link java.time.LocalDate}. Values representing SQL {@code NULL} result in {@code null} for all non primitive
+ * types.
+ *
+ * @author Stefan Huber
+ * @since v0.2
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+public @interface ParsedColumn {
+    /**
+     * The name of the column which is compared ignoring case to the headings of a query result.
+     */
+    String value();
+
+    /**
+     * Whether a query result has to contain this column. Missing optional columns keep the default value of their
+     * field or pass the default value of their type to the constructor.
+     */
+    boolean required() default true;
+}
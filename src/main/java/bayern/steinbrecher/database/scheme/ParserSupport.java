@@ -0,0 +1,173 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Contains the operations called by {@link ParseStrategy ParseStrategies} generated for entities annotated with
+ * {@link GenerateParser}. All of them are static such that the generated per row code only consists of direct calls
+ * which are easily inlined. The parsing semantics equal the ones of the corresponding column patterns.
+ *
+ * @author Stefan Huber
+ * @since v0.2
+ */
+public final class ParserSupport {
+    private ParserSupport() {
+        //Prohibit construction
+    }
+
+    /**
+     * Returns the index of the heading matching the given column name ignoring case.
+     *
+     * @param headings   The headings to search.
+     * @param columnName The name of the column to search.
+     * @param required   Whether the column has to be contained in {@code headings}.
+     * @return The index of the last matching heading or {@code -1} if there is none and the column is optional.
+     * @throws IllegalStateException Thrown only if the column is required but not contained in {@code headings}.
+     * @since v0.2
+     */
+    public static int indexOf(@NotNull List<String> headings, @NotNull String columnName, boolean required) {
+        Objects.requireNonNull(headings);
+        String foldedColumnName = SimpleColumnPattern.foldCase(columnName);
+        int index = -1;
+        for (int i = 0; i < headings.size(); i++) {
+            if (SimpleColumnPattern.foldCase(headings.get(i)).equals(foldedColumnName)) {
+                index = i;
+            }
+        }
+        if (index < 0 && required) {
+            throw new IllegalStateException("The required column " + columnName + " is not contained in " + headings);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the value of the cell at the given index.
+     *
+     * @param row   The row to get the cell from.
+     * @param index The index of the cell.
+     * @return The value of the cell or {@code null} if it represents SQL {@code NULL}.
+     * @since v0.2
+     */
+    @Nullable
+    public static String cell(@NotNull List<String> row, int index) {
+        return ColumnPattern.normalizeValue(row.get(index));
+    }
+
+    @NotNull
+    private static String requireValue(@Nullable String value, @NotNull String columnName) {
+        if (value == null) {
+            throw new IllegalArgumentException(columnName + " can not parse null");
+        }
+        return value;
+    }
+
+    /**
+     * @throws IllegalArgumentException Thrown only if {@code value} is {@code null} or no valid integer.
+     * @since v0.2
+     */
+    public static int parseInt(@Nullable String value, @NotNull String columnName) {
+        try {
+            return ColumnParser.PRIMITIVE_INTEGER_COLUMN_PARSER.parseInt(requireValue(value, columnName));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(columnName + " can not parse " + value, ex);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException Thrown only if {@code value} is {@code null} or no valid long.
+     * @since v0.2
+     */
+    public static long parseLong(@Nullable String value, @NotNull String columnName) {
+        try {
+            return ColumnParser.PRIMITIVE_LONG_COLUMN_PARSER.parseLong(requireValue(value, columnName));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(columnName + " can not parse " + value, ex);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException Thrown only if {@code value} is {@code null} or no valid double.
+     * @since v0.2
+     */
+    public static double parseDouble(@Nullable String value, @NotNull String columnName) {
+        try {
+            return ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER.parseDouble(requireValue(value, columnName));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(columnName + " can not parse " + value, ex);
+        }
+    }
+
+    /**
+     * @return {@code true} only if {@code value} is {@code "1"}.
+     * @since v0.2
+     */
+    public static boolean parseBoolean(@Nullable String value) {
+        return ColumnParser.PRIMITIVE_BOOLEAN_COLUMN_PARSER.parseBoolean(value);
+    }
+
+    /**
+     * @return The parsed value or {@code null} if {@code value} is {@code null}.
+     * @throws IllegalArgumentException Thrown only if {@code value} is no valid integer.
+     * @since v0.2
+     */
+    @Nullable
+    public static Integer parseNullableInt(@Nullable String value, @NotNull String columnName) {
+        return value == null ? null : parseInt(value, columnName);
+    }
+
+    /**
+     * @return The parsed value or {@code null} if {@code value} is {@code null}.
+     * @throws IllegalArgumentException Thrown only if {@code value} is no valid long.
+     * @since v0.2
+     */
+    @Nullable
+    public static Long parseNullableLong(@Nullable String value, @NotNull String columnName) {
+        return value == null ? null : parseLong(value, columnName);
+    }
+
+    /**
+     * @return The parsed value or {@code null} if {@code value} is {@code null}.
+     * @throws IllegalArgumentException Thrown only if {@code value} is no valid double.
+     * @since v0.2
+     */
+    @Nullable
+    public static Double parseNullableDouble(@Nullable String value, @NotNull String columnName) {
+        return value == null ? null : parseDouble(value, columnName);
+    }
+
+    /**
+     * @return The parsed value or {@code null} if {@code value} is {@code null}.
+     * @since v0.2
+     */
+    @Nullable
+    public static Boolean parseNullableBoolean(@Nullable String value) {
+        return value == null ? null : parseBoolean(value);
+    }
+
+    /**
+     * @return The parsed value or {@code null} if {@code value} is {@code null}.
+     * @throws IllegalArgumentException Thrown only if {@code value} is no valid ISO-8601 date.
+     * @since v0.2
+     */
+    @Nullable
+    public static LocalDate parseDate(@Nullable String value, @NotNull String columnName) {
+        LocalDate date = null;
+        if (value != null) {
+            date = FastDateParser.parse(value, 0, value.length());
+            if (date == null) {
+                try {
+                    date = LocalDate.parse(value);
+                } catch (DateTimeParseException ex) {
+                    throw new IllegalArgumentException(columnName + " can not parse " + value, ex);
+                }
+            }
+        }
+        return date;
+    }
+}
@@ -4,6 +4,8 @@ import bayern.steinbrecher.utility.TriFunction;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -49,10 +51,81 @@ public class RegexColumnPattern<T, U, K> extends ColumnPattern<T, U> {
      * @since v0.1
      */
     public U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable String valueToParse) {
-        K key = keyExtractor.apply(columnName);
         T parsedValue = getParser()
                 .parse(valueToParse)
                 .orElseThrow(() -> new IllegalArgumentException("Can not parse " + valueToParse));
-        return setter.accept(toSet, key, parsedValue);
+        return combineParsed(toSet, columnName, parsedValue);
+    }
+
+    /**
+     * Sets an already parsed value to the object of type {@link U}.
+     *
+     * @param toSet       The object to set the parsed value to.
+     * @param columnName  The column name matching this pattern to extract the key from.
+     * @param parsedValue The value to set.
+     * @return The resulting object of type {@link U}.
+     * @since v0.2
+     */
+    U combineParsed(@NotNull U toSet, @NotNull String columnName, @NotNull T parsedValue) {
+        return setter.accept(toSet, keyExtractor.apply(columnName), parsedValue);
+    }
+
+    /**
+     * Reads the value using the typed getter of the parser of this pattern.
+     *
+     * @since v0.2
+     */
+    @Override
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull ResultSet resultSet,
+                  int columnIndex) throws SQLException {
+        return combineParsed(toSet, columnName, key, parseTyped(columnName, resultSet, columnIndex));
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    @Nullable
+    Object extractKey(@NotNull String columnName) {
+        return keyExtractor.apply(columnName);
+    }
+
+    /**
+     * Parses the given value and passes it to the setter along with the key which was extracted when binding the
+     * column.
+     *
+     * @since v0.2
+     */
+    @Override
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @Nullable String valueToParse) {
+        T parsedValue = getParser()
+                .parse(valueToParse)
+                .orElseThrow(() -> new IllegalArgumentException("Can not parse " + valueToParse));
+        return combineParsed(toSet, columnName, key, parsedValue);
+    }
+
+    /**
+     * @since v0.2
+     */
+    @Override
+    U combineSlot(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull RowSlots slots,
+                  int slot, @Nullable String valueToParse) {
+        return combineParsed(toSet, columnName, key, getParser().getType().cast(slots.get(slot)));
+    }
+
+    /**
+     * Sets an already parsed value of a bound column to the object of type {@link U}.
+     *
+     * @param toSet       The object to set the parsed value to.
+     * @param columnName  The column name matching this pattern.
+     * @param key         The key of the column as returned by {@link #extractKey(String)}.
+     * @param parsedValue The value to set.
+     * @return The resulting object of type {@link U}.
+     * @since v0.2
+     */
+    @SuppressWarnings("unchecked")
+    U combineParsed(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull T parsedValue) {
+        //NOTE The key was created by extractKey(String) and is therefore of type K
+        return setter.accept(toSet, (K) key, parsedValue);
     }
 }
@@ -0,0 +1,125 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Holds the parsed values of a single row while an {@link EntryConstructor} is applied. Each slot corresponds to a
+ * column passed to the {@link EntryConstructor}. Values of primitive columns are stored without boxing. The same
+ * instance is reused for all rows of a parse, so references to it must not be kept.
+ *
+ * @author Stefan Huber
+ * @see EntryConstructor
+ * @since v0.2
+ */
+public final class RowSlots {
+    private final long[] integralValues;
+    private final double[] floatingValues;
+    private final Object[] objectValues;
+    private final boolean[] present;
+
+    RowSlots(int numSlots) {
+        integralValues = new long[numSlots];
+        floatingValues = new double[numSlots];
+        objectValues = new Object[numSlots];
+        present = new boolean[numSlots];
+    }
+
+    /**
+     * Resets all slots to their default values.
+     */
+    void clear() {
+        Arrays.fill(integralValues, 0);
+        Arrays.fill(floatingValues, 0);
+        Arrays.fill(objectValues, null);
+        Arrays.fill(present, false);
+    }
+
+    void setInt(int slot, int value) {
+        integralValues[slot] = value;
+        present[slot] = true;
+    }
+
+    void setLong(int slot, long value) {
+        integralValues[slot] = value;
+        present[slot] = true;
+    }
+
+    void setBoolean(int slot, boolean value) {
+        integralValues[slot] = value ? 1 : 0;
+        present[slot] = true;
+    }
+
+    void setDouble(int slot, double value) {
+        floatingValues[slot] = value;
+        present[slot] = true;
+    }
+
+    void setObject(int slot, @Nullable Object value) {
+        objectValues[slot] = value;
+        present[slot] = true;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return The number of slots.
+     * @since v0.2
+     */
+    public int size() {
+        return present.length;
+    }
+
+    /**
+     * Checks whether a value was parsed for the given slot in the current row. Slots without a value hold the default
+     * value of their type, i.e. {@code 0}, {@code false} or {@code null}.
+     *
+     * @param slot The slot to check.
+     * @return {@code true} only if the column of the given slot is bound and its value was set.
+     * @since v0.2
+     */
+    public boolean isPresent(int slot) {
+        return present[slot];
+    }
+
+    /**
+     * @since v0.2
+     */
+    public int getInt(int slot) {
+        return (int) integralValues[slot];
+    }
+
+    /**
+     * @since v0.2
+     */
+    public long getLong(int slot) {
+        return integralValues[slot];
+    }
+
+    /**
+     * @since v0.2
+     */
+    public boolean getBoolean(int slot) {
+        return integralValues[slot] != 0;
+    }
+
+    /**
+     * @since v0.2
+     */
+    public double getDouble(int slot) {
+        return floatingValues[slot];
+    }
+
+    /**
+     * Returns the value of a slot whose column is not primitive.
+     *
+     * @param slot The slot to get the value of.
+     * @return The value of the given slot.
+     * @since v0.2
+     */
+    @Nullable
+    public Object get(int slot) {
+        return objectValues[slot];
+    }
+}
@@ -0,0 +1,70 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Represents a cursor over the rows of a query result whose cells are accessed by their index instead of being
+ * materialized as {@link String}s. Cells are exposed as {@link CharSequence}s which may be views of a buffer shared by
+ * all cells. Therefore cells are only valid until the cursor is moved. Sources whose cells are UTF-8 or Latin-1 encoded
+ * bytes should extend {@link ByteRowSource} such that their cells can be parsed without decoding them.
+ *
+ * @author Stefan Huber
+ * @see Table#parseFrom(RowSource)
+ * @since v0.2
+ */
+public interface RowSource {
+    /**
+     * Returns the headings of the query result.
+     *
+     * @return The headings of the query result.
+     * @since v0.2
+     */
+    @NotNull
+    List<String> getHeadings();
+
+    /**
+     * Moves the cursor to the next row. Initially the cursor is placed before the first row.
+     *
+     * @return {@code true} only if there is a next row.
+     * @since v0.2
+     */
+    boolean next();
+
+    /**
+     * Returns the raw value of the given cell of the current row. The returned value is only valid until the cursor is
+     * moved.
+     *
+     * @param columnIndex The index of the cell in the current row starting at 0.
+     * @return The raw value of the given cell or {@code null} if the source itself represents it as {@code null}.
+     * @since v0.2
+     */
+    @Nullable
+    CharSequence getCell(int columnIndex);
+
+    /**
+     * Checks whether the given cell of the current row represents SQL {@code NULL}. The default implementation checks
+     * whether the cell is {@code null} or the text {@code NULL} in any case.
+     *
+     * @param columnIndex The index of the cell in the current row starting at 0.
+     * @return {@code true} only if the given cell represents SQL {@code NULL}.
+     * @since v0.2
+     */
+    default boolean isNull(int columnIndex) {
+        return ColumnPattern.isNullValue(getCell(columnIndex));
+    }
+
+    /**
+     * Returns a source iterating over the given query result.
+     *
+     * @param queryResult The headings followed by all rows of the query result.
+     * @return The source iterating over the rows of {@code queryResult}.
+     * @since v0.2
+     */
+    @NotNull
+    static RowSource of(@NotNull List<? extends List<String>> queryResult) {
+        return new ListRowSource(queryResult);
+    }
+}
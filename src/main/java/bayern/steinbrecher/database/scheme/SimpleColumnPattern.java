@@ -3,6 +3,8 @@ package bayern.steinbrecher.database.scheme;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
@@ -21,6 +23,7 @@ import java.util.function.BiFunction;
 public class SimpleColumnPattern<T, U> extends ColumnPattern<T, U> {
 
     private final String realColumnName;
+    private final String foldedColumnName;
     private final Optional<Optional<T>> defaultValue;
     private final Set<TableCreationKeywords> keywords;
     private final BiFunction<U, T, U> setter;
@@ -75,6 +78,7 @@ public class SimpleColumnPattern<T, U> extends ColumnPattern<T, U> {
             keywordsCopy.add(TableCreationKeywords.DEFAULT);
         }
         this.realColumnName = realColumnName;
+        this.foldedColumnName = foldCase(realColumnName);
         this.defaultValue = defaultValue;
         this.keywords = keywordsCopy;
         this.setter = setter;
@@ -87,12 +91,101 @@ public class SimpleColumnPattern<T, U> extends ColumnPattern<T, U> {
     @NotNull
     public U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable String valueToParse) {
         T parsedValue = getParser()
-                .parse(valueToParse)
-                .orElseThrow(
-                        () -> new IllegalArgumentException(getRealColumnName() + " can not parse " + valueToParse));
+                .parseOrNull(valueToParse);
+        if (parsedValue == null) {
+            throw new IllegalArgumentException(getRealColumnName() + " can not parse " + valueToParse);
+        }
+        return combineParsed(toSet, columnName, parsedValue);
+    }
+
+    /**
+     * Parses the cell directly from {@code source} using {@link ColumnParser#parseOrNull(RowSource, int)}. Cells
+     * representing SQL {@code NULL} are handled like by {@link #combineImpl(Object, String, String)}.
+     *
+     * @since v0.2
+     */
+    @Override
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull RowSource source,
+                  int columnIndex) {
+        U result;
+        if (source.isNull(columnIndex)) {
+            result = combineImpl(toSet, columnName, key, (String) null);
+        } else {
+            T parsedValue = getParser()
+                    .parseOrNull(source, columnIndex);
+            if (parsedValue == null) {
+                throw new IllegalArgumentException(
+                        getRealColumnName() + " can not parse " + source.getCell(columnIndex));
+            }
+            result = combineParsed(toSet, columnName, parsedValue);
+        }
+        return result;
+    }
+
+    /**
+     * Sets an already parsed value to the object of type {@link U}.
+     *
+     * @param toSet       The object to set the parsed value to.
+     * @param columnName  The column name matching this pattern.
+     * @param parsedValue The value to set.
+     * @return The resulting object of type {@link U}.
+     * @since v0.2
+     */
+    @NotNull
+    U combineParsed(@NotNull U toSet, @NotNull String columnName, @NotNull T parsedValue) {
         return setter.apply(toSet, parsedValue);
     }
 
+    /**
+     * @since v0.2
+     */
+    @Override
+    U combineSlot(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull RowSlots slots,
+                  int slot, @Nullable String valueToParse) {
+        return combineParsed(toSet, columnName, getParser().getType().cast(slots.get(slot)));
+    }
+
+    /**
+     * Reads the value using the typed getter of the parser of this pattern.
+     *
+     * @since v0.2
+     */
+    @Override
+    U combineImpl(@NotNull U toSet, @NotNull String columnName, @Nullable Object key, @NotNull ResultSet resultSet,
+                  int columnIndex) throws SQLException {
+        return combineParsed(toSet, columnName, parseTyped(columnName, resultSet, columnIndex));
+    }
+
+    /**
+     * Converts the given column name to a representation which is equal for all column names matching the same
+     * {@link SimpleColumnPattern}. This corresponds to the case insensitive and Unicode aware matching of
+     * {@link #getColumnNamePattern()}.
+     *
+     * @param columnName The column name to convert.
+     * @return The case folded column name.
+     * @since v0.2
+     */
+    @NotNull
+    static String foldCase(@NotNull String columnName) {
+        StringBuilder folded = new StringBuilder(columnName.length());
+        columnName.codePoints()
+                .map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                .forEach(folded::appendCodePoint);
+        return folded.toString();
+    }
+
+    /**
+     * Returns the case folded real column name of this column.
+     *
+     * @return The case folded real column name of this column.
+     * @see #foldCase(String)
+     * @since v0.2
+     */
+    @NotNull
+    String getFoldedColumnName() {
+        return foldedColumnName;
+    }
+
     /**
      * Checks whether a default value is set for this column
      *
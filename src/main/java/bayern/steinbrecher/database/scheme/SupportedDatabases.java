@@ -38,6 +38,7 @@ public enum SupportedDatabases {
                     Boolean.class, new SQLTypeKeyword("TINYINT", 1), //BOOLEAN is an alias for TINYINT(1)
                     Double.class, new SQLTypeKeyword("FLOAT"),
                     Integer.class, new SQLTypeKeyword("INT"), //INTEGER is an alias for INT
+                    Long.class, new SQLTypeKeyword("BIGINT"),
                     LocalDate.class, new SQLTypeKeyword("DATE"),
                     String.class, new SQLTypeKeyword("VARCHAR", 255)
             )),
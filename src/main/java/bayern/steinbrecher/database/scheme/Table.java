@@ -1,21 +1,44 @@
 package bayern.steinbrecher.database.scheme;
 
-import javafx.util.Pair;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a table and all patterns for its required and optional columns.
@@ -27,11 +50,23 @@ import java.util.stream.Stream;
  */
 public class Table<T, E> {
     private static final Logger LOGGER = Logger.getLogger(Table.class.getName());
+    /**
+     * The maximum number of distinct lists of headings for which binding plans are kept.
+     */
+    private static final int MAX_CACHED_BINDING_PLANS = 16;
+    /**
+     * The number of rows converted by a single task when parsing in parallel.
+     */
+    private static final int PARALLEL_CHUNK_SIZE = 4096;
     private final String realTableName;
     private final Collection<SimpleColumnPattern<?, E>> requiredColumns;
     private final Collection<ColumnPattern<?, E>> optionalColumns;
     private final Supplier<E> emptyEntrySupplier;
     private final Function<Stream<E>, T> reducer;
+    private final Cache<List<String>, ColumnBindingPlan<E>> bindingPlans = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_BINDING_PLANS)
+            .build();
+    private volatile Consumer<BindingDiagnostics> bindingDiagnosticsListener;
 
     public Table(@NotNull String realTableName, @NotNull Collection<SimpleColumnPattern<?, E>> requiredColumns,
                  @NotNull Collection<ColumnPattern<?, E>> optionalColumns,
@@ -49,63 +84,680 @@ public class Table<T, E> {
         this.reducer = reducer;
     }
 
+    /**
+     * Returns the plan associating the patterns of this table with the given headings. Plans are cached per distinct
+     * list of headings.
+     *
+     * @param headings The headings to bind the patterns of this table to.
+     * @return The plan associating the patterns of this table with the given headings.
+     * @throws IllegalStateException Thrown only if any heading is matched by multiple patterns.
+     */
     @NotNull
-    private Stream<ColumnPattern<?, E>> streamAllColumns() {
-        return Stream.concat(getRequiredColumns().stream(), getOptionalColumns().stream());
+    ColumnBindingPlan<E> getBindingPlan(@NotNull List<String> headings) {
+        List<String> cachedHeadings = List.copyOf(headings);
+        return getCached(bindingPlans, cachedHeadings, () -> compileAndReport(cachedHeadings));
+    }
+
+    /**
+     * Compiles the plan for the given headings and reports its diagnostics to the current listener. In case there is
+     * no listener problems are logged. Since this is only called when loading a plan into the cache diagnostics are
+     * reported once per cached plan.
+     */
+    @NotNull
+    private ColumnBindingPlan<E> compileAndReport(@NotNull List<String> headings) {
+        ColumnBindingPlan<E> plan
+                = ColumnBindingPlan.compile(getRealTableName(), headings, getRequiredColumns(), getOptionalColumns());
+        Consumer<BindingDiagnostics> listener = bindingDiagnosticsListener;
+        if (listener == null) {
+            if (plan.getDiagnostics().hasProblems()) {
+                LOGGER.log(Level.WARNING, "{0}", plan.getDiagnostics());
+            }
+        } else {
+            listener.accept(plan.getDiagnostics());
+        }
+        return plan;
+    }
+
+    /**
+     * Returns the value cached for the given key and atomically loads it if absent. Exceptions thrown by
+     * {@code loader} are rethrown unwrapped.
+     */
+    @NotNull
+    private static <K, V> V getCached(@NotNull Cache<K, V> cache, @NotNull K key, @NotNull Callable<V> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError ex) {
+            Throwables.throwIfUnchecked(ex.getCause());
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    /**
+     * Binds the patterns of this table to the given headings and returns the conspicuities found. The binding is
+     * cached and reused by subsequent parses of query results having the same headings.
+     *
+     * @param headings The headings to bind the patterns of this table to.
+     * @return The conspicuities found when binding the patterns of this table to the given headings.
+     * @throws IllegalStateException Thrown only if any heading is matched by multiple patterns.
+     * @since v0.2
+     */
+    @NotNull
+    public BindingDiagnostics getBindingDiagnostics(@NotNull List<String> headings) {
+        return getBindingPlan(headings).getDiagnostics();
+    }
+
+    /**
+     * Sets the listener to notify whenever the patterns of this table are bound to a list of headings which is not
+     * cached yet. Conditions like missing or ambiguous columns only depend on the headings and are therefore reported
+     * once per binding instead of once per row. If no listener is set bindings showing problems are logged.
+     *
+     * @param listener The listener to notify or {@code null} to log problematic bindings.
+     * @see BindingDiagnostics#hasProblems()
+     * @since v0.2
+     */
+    public void setBindingDiagnosticsListener(@Nullable Consumer<BindingDiagnostics> listener) {
+        this.bindingDiagnosticsListener = listener;
+    }
+
+    @NotNull
+    private T parseRows(@NotNull List<String> headings, @NotNull Stream<? extends List<String>> rows) {
+        ColumnBindingPlan<E> plan = getBindingPlan(headings);
+        return reducer.apply(rows.map(row -> plan.createEntry(emptyEntrySupplier, row)));
     }
 
     /**
      * @since v0.1
      */
     public T parseFrom(@NotNull List<List<String>> queryResult) {
-        List<String> headings = queryResult.get(0);
-        Map<ColumnPattern<?, E>, Collection<Integer>> patternToColumnMapping = streamAllColumns()
-                .map(pattern -> {
-                    Collection<Integer> targetIndices = new ArrayList<>();
-                    for (int i = 0; i < headings.size(); i++) {
-                        if (pattern.matches(headings.get(i))) {
-                            targetIndices.add(i);
-                        }
-                    }
-                    return new Pair<>(pattern, targetIndices);
-                })
-                .filter(pair -> !pair.getValue().isEmpty())
-                .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
+        return parseRows(queryResult.get(0), queryResult.stream()
+                .skip(1)); //Skip headings
+    }
 
-        //Check duplicate target column indices
-        Set<Integer> mappedTargetIndices = new HashSet<>();
-        if (!patternToColumnMapping.values()
-                .stream()
-                .flatMap(Collection::stream)
-                .allMatch(mappedTargetIndices::add)) {
-            throw new IllegalStateException("Table " + getRealTableName() + " contains intersecting column patterns.");
-        }
+    /**
+     * Parses the given query result without throwing or logging anything for cells that can not be parsed. Such cells
+     * are not set to their entry, i.e. the entry keeps the value provided by the empty entry supplier, and are recorded
+     * in {@code invalidCells} instead.
+     *
+     * @param queryResult  The headings followed by all rows of the query result.
+     * @param invalidCells The statistics to record cells in which could not be parsed.
+     * @return The reduced representation of the whole table.
+     * @see ColumnParser#isValid(String)
+     * @since v0.2
+     */
+    public T parseFrom(@NotNull List<List<String>> queryResult, @NotNull InvalidCellStatistics invalidCells) {
+        Objects.requireNonNull(invalidCells);
+        ColumnBindingPlan<E> plan = getBindingPlan(queryResult.get(0));
+        return reducer.apply(queryResult.stream()
+                .skip(1) //Skip headings
+                .map(row -> plan.createEntry(emptyEntrySupplier, row, invalidCells)));
+    }
+
+    /**
+     * Parses the given query result without aborting on cells which can not be parsed. Each such cell is recorded
+     * along with its row and column and handled according to the given policy. All remaining rows are passed to the
+     * reducer as usual. The errors are complete once the reducer returned, so it must consume all entries eagerly.
+     *
+     * @param queryResult The headings followed by all rows of the query result.
+     * @param policy      Determines whether to skip the whole row or only the cell which can not be parsed.
+     * @return The reduced representation of all kept rows along with all cells which could not be parsed.
+     * @since v0.2
+     */
+    @NotNull
+    public ParseResult<T> parseTolerantly(@NotNull List<List<String>> queryResult, @NotNull ParseErrorPolicy policy) {
+        Objects.requireNonNull(policy);
+        ColumnBindingPlan<E> plan = getBindingPlan(queryResult.get(0));
+        Collection<ParseError> errors = new ConcurrentLinkedQueue<>();
+        T result = reducer.apply(IntStream.range(1, queryResult.size()) //Skip headings
+                .mapToObj(rowIndex -> plan.createEntry(
+                        emptyEntrySupplier, queryResult.get(rowIndex), rowIndex, policy, errors::add))
+                .filter(Objects::nonNull));
+        List<ParseError> sortedErrors = new ArrayList<>(errors);
+        sortedErrors.sort(Comparator.comparingInt(ParseError::getRowIndex));
+        return new ParseResult<>(result, sortedErrors);
+    }
 
+    /**
+     * Parses the given query result creating each entry at once using the given {@link EntryConstructor} instead of
+     * starting with an empty entry and calling the setter of each column. The empty entry supplier of this table is
+     * not used.
+     *
+     * @param queryResult      The headings followed by all rows of the query result.
+     * @param entryConstructor The constructor creating an entry from the parsed values of a row.
+     * @return The reduced representation of the whole table.
+     * @since v0.2
+     */
+    public T parseFrom(@NotNull List<List<String>> queryResult, @NotNull EntryConstructor<E> entryConstructor) {
+        Objects.requireNonNull(entryConstructor);
+        ColumnBindingPlan<E> plan = getBindingPlan(queryResult.get(0));
+        int[] slotOfColumn = plan.findSlots(entryConstructor);
+        int numSlots = entryConstructor.getSlotColumns().size();
+        // The slots are reused for all rows but must not be shared in case the reducer processes rows in parallel
+        ThreadLocal<RowSlots> slots = ThreadLocal.withInitial(() -> new RowSlots(numSlots));
         return reducer.apply(queryResult.stream()
                 .skip(1) //Skip headings
-                .map(row -> {
-                    E rowRepresentation = emptyEntrySupplier.get();
-                    for (Map.Entry<ColumnPattern<?, E>, Collection<Integer>> columnMapping
-                            : patternToColumnMapping.entrySet()) {
-                        ColumnPattern<?, E> pattern = columnMapping.getKey();
-                        Collection<Integer> targetIndices = columnMapping.getValue();
-                        if (targetIndices.size() <= 0) {
-                            LOGGER.log(Level.WARNING,
-                                    "Pattern {0} is registered for {1} but there is no matching column",
-                                    new Object[]{pattern.getColumnNamePattern().pattern(), getRealTableName()});
-                        }
-                        if (pattern instanceof SimpleColumnPattern<?, ?>
-                                && targetIndices.size() > 1) { //NOPMD - Check whether association is ambiguous.
-                            LOGGER.log(Level.WARNING, "The simple column {0} is associated to more than "
-                                            + "1 column name matches. Only the last match is applied.",
-                                    pattern.getColumnNamePattern().pattern());
-                        }
-                        for (Integer index : targetIndices) {
-                            rowRepresentation = pattern.combine(rowRepresentation, headings.get(index), row.get(index));
+                .map(row -> plan.createEntry(entryConstructor, slotOfColumn, slots.get(), row)));
+    }
+
+    /**
+     * Parses only the rows of the given query result which fulfill all given predicates. The predicates are evaluated
+     * on the raw cells of each row before its entry is created such that rejected rows are neither parsed nor passed
+     * to the reducer. The values parsed by the predicates are reused when creating the entries of accepted rows.
+     *
+     * @param queryResult The headings followed by all rows of the query result.
+     * @param predicates  The predicates each row has to fulfill.
+     * @return The reduced representation of all accepted rows.
+     * @throws IllegalArgumentException Thrown only if the column of any predicate is not bound to the headings.
+     * @since v0.2
+     */
+    public T parseFrom(@NotNull List<List<String>> queryResult,
+                       @NotNull Collection<? extends ColumnPredicate> predicates) {
+        Objects.requireNonNull(predicates);
+        ColumnBindingPlan<E> plan = getBindingPlan(queryResult.get(0));
+        Function<List<String>, E> rowParser = plan.bindPredicates(emptyEntrySupplier, predicates);
+        return reducer.apply(queryResult.stream()
+                .skip(1) //Skip headings
+                .map(rowParser)
+                .filter(Objects::nonNull));
+    }
+
+    /**
+     * Parses the given query result using the given {@link ParseStrategy} instead of the patterns of this table. The
+     * strategy is bound once to the headings and then applied to each row. Neither the patterns nor the empty entry
+     * supplier of this table are used.
+     *
+     * @param queryResult The headings followed by all rows of the query result.
+     * @param strategy    The strategy converting the rows into entries, e.g. one generated for a type annotated with
+     *                    {@link GenerateParser}.
+     * @return The reduced representation of the whole table.
+     * @throws IllegalStateException         Thrown only if {@code strategy} can not be bound to the headings.
+     * @throws UnsupportedOperationException Thrown only if this table is a view created by
+     *                                       {@link #project(Collection)} since a strategy always parses all of its
+     *                                       columns.
+     * @since v0.2
+     */
+    public T parseFrom(@NotNull List<List<String>> queryResult, @NotNull ParseStrategy<E> strategy) {
+        Objects.requireNonNull(strategy);
+        Function<List<String>, E> rowParser = strategy.bind(queryResult.get(0));
+        return reducer.apply(queryResult.stream()
+                .skip(1) //Skip headings
+                .map(rowParser));
+    }
+
+    /**
+     * Visits all rows of the given query result using a single mutable entry instead of creating an entry per row.
+     * Before each row the entry is reset, then all bound values of the row are set to it and finally it is passed to
+     * the visitor. Neither the empty entry supplier nor the reducer of this table are used. Since only
+     * {@link IntColumnPattern}s, {@link LongColumnPattern}s, {@link DoubleColumnPattern}s and
+     * {@link BooleanColumnPattern}s may be bound nothing is allocated per row apart from parsing rare doubles which
+     * {@link ColumnParser#PRIMITIVE_DOUBLE_COLUMN_PARSER} can not parse directly like subnormal values. Use
+     * {@link #project(Collection)} for scanning tables having further columns. Since the entry is reused the visitor
+     * must not keep references to it.
+     *
+     * @param queryResult   The headings followed by all rows of the query result.
+     * @param reusableEntry The entry to set the values of each row to.
+     * @param reset         Resets the entry before the values of the next row are set.
+     * @param visitor       The visitor called for each row.
+     * @throws IllegalArgumentException Thrown only if any column bound to the headings is no primitive column.
+     * @throws IllegalStateException    Thrown only if any setter of the bound columns does not modify the given entry
+     *                                  but returns a different object.
+     * @since v0.2
+     */
+    public void scan(@NotNull List<List<String>> queryResult, @NotNull E reusableEntry,
+                     @NotNull Consumer<? super E> reset, @NotNull Consumer<? super E> visitor) {
+        Objects.requireNonNull(reusableEntry);
+        Objects.requireNonNull(reset);
+        Objects.requireNonNull(visitor);
+        ColumnBindingPlan<E> plan = getBindingPlan(queryResult.get(0));
+        plan.requirePrimitiveColumns();
+        for (List<String> row : queryResult.subList(1, queryResult.size())) { //Skip headings
+            reset.accept(reusableEntry);
+            if (plan.fillEntry(reusableEntry, row) != reusableEntry) {
+                throw new IllegalStateException(
+                        "Scanning requires the setters of all bound columns to modify the entry in place");
+            }
+            visitor.accept(reusableEntry);
+        }
+    }
+
+    /**
+     * Parses the given query result column by column instead of creating an entry per row. Each bound
+     * {@link SimpleColumnPattern} fills a {@link ColumnVector} of primitive values. Other patterns, the empty entry
+     * supplier and the reducer of this table are not used. Cells which can not be parsed are logged and treated like
+     * SQL {@code NULL}.
+     *
+     * @param queryResult The headings followed by all rows of the query result.
+     * @return The batch containing a vector for each bound simple column.
+     * @since v0.2
+     */
+    @NotNull
+    public ColumnBatch parseColumnar(@NotNull List<List<String>> queryResult) {
+        ColumnBindingPlan<E> plan = getBindingPlan(queryResult.get(0));
+        return plan.createBatch(queryResult.subList(1, queryResult.size())); //Skip headings
+    }
+
+    /**
+     * Stores the raw cells of all bound simple columns of the given query result without parsing them. Each cell is
+     * only parsed when it is read from its {@link LazyRows.LazyRow}. Other patterns, the empty entry supplier and the
+     * reducer of this table are not used.
+     *
+     * @param queryResult The headings followed by all rows of the query result.
+     * @param memoize     Whether parsed values are kept such that each cell is parsed at most once.
+     * @return The rows parsing their cells on first access.
+     * @since v0.2
+     */
+    @NotNull
+    public LazyRows parseLazily(@NotNull List<List<String>> queryResult, boolean memoize) {
+        ColumnBindingPlan<E> plan = getBindingPlan(queryResult.get(0));
+        return plan.createLazyRows(queryResult.subList(1, queryResult.size()), memoize); //Skip headings
+    }
+
+    /**
+     * Parses all remaining rows of the given source column by column into storage outside the Java heap. Each bound
+     * {@link SimpleColumnPattern} fills an {@link OffHeapColumn}. Other patterns, the empty entry supplier and the
+     * reducer of this table are not used. Cells which can not be parsed are logged and treated like SQL {@code NULL}.
+     *
+     * @param source The source to parse.
+     * @return The batch containing the storage of each bound simple column.
+     * @see #parseColumnar(List)
+     * @since v0.2
+     */
+    @NotNull
+    public OffHeapBatch parseOffHeap(@NotNull RowSource source) {
+        Objects.requireNonNull(source);
+        return getBindingPlan(source.getHeadings()).createOffHeapBatch(source);
+    }
+
+    /**
+     * Parses the given query result column by column into storage outside the Java heap.
+     *
+     * @param queryResult The headings followed by all rows of the query result.
+     * @return The batch containing the storage of each bound simple column.
+     * @see #parseOffHeap(RowSource)
+     * @since v0.2
+     */
+    @NotNull
+    public OffHeapBatch parseOffHeap(@NotNull List<List<String>> queryResult) {
+        return parseOffHeap(RowSource.of(queryResult));
+    }
+
+    @NotNull
+    private byte[] getFingerprint() {
+        return TableSnapshot.fingerprint(getRealTableName(), getRequiredColumns(), getOptionalColumns());
+    }
+
+    /**
+     * Writes the given batch to a binary snapshot file. Besides the values of all vectors the snapshot contains the
+     * headings the batch was parsed from and a fingerprint of the definition of this table. An existing file is only
+     * replaced once the snapshot is written completely. Since snapshots are memory mapped when reading them a snapshot
+     * is limited to 2 GB.
+     *
+     * @param batch    The batch to write. It has to be parsed by this table.
+     * @param snapshot The file to write the snapshot to.
+     * @throws IOException              Thrown only if the snapshot can not be written.
+     * @throws IllegalArgumentException Thrown only if {@code batch} was not parsed by this table or its snapshot would
+     *                                  exceed 2 GB.
+     * @see #parseColumnar(List)
+     * @since v0.2
+     */
+    public void writeSnapshot(@NotNull ColumnBatch batch, @NotNull Path snapshot) throws IOException {
+        Objects.requireNonNull(batch);
+        Objects.requireNonNull(snapshot);
+        TableSnapshot.write(snapshot, getFingerprint(), getBindingPlan(batch.getHeadings()), batch);
+    }
+
+    /**
+     * Reads a batch from a snapshot written by {@link #writeSnapshot(ColumnBatch, Path)}. The snapshot is memory mapped
+     * and the values of its vectors are copied in bulk without involving any {@link ColumnParser}. Snapshots written by
+     * a table having a different definition, i.e. a different name or different columns, are rejected. So are
+     * snapshots which are corrupt, exceed 2 GB or can not be mapped.
+     *
+     * @param snapshot The file to read the snapshot from.
+     * @return The batch stored in the snapshot or {@link Optional#empty()} if the snapshot was rejected.
+     * @throws IOException Thrown only if the snapshot can not be opened.
+     * @since v0.2
+     */
+    @NotNull
+    public Optional<ColumnBatch> readSnapshot(@NotNull Path snapshot) throws IOException {
+        Objects.requireNonNull(snapshot);
+        return TableSnapshot.read(snapshot, getFingerprint(), this::getBindingPlan);
+    }
+
+    /**
+     * Reads a batch from a snapshot like {@link #readSnapshot(Path)} and creates an entry per row of it which are
+     * passed to the reducer of this table. Since snapshots only contain the values of simple columns, values of other
+     * columns as well as values which were SQL {@code NULL} or could not be parsed keep the values provided by the
+     * empty entry supplier.
+     *
+     * @param snapshot The file to read the snapshot from.
+     * @return The reduced representation of the whole table or {@link Optional#empty()} if the snapshot was rejected.
+     * @throws IOException Thrown only if the snapshot can not be read.
+     * @since v0.2
+     */
+    @NotNull
+    public Optional<T> parseSnapshot(@NotNull Path snapshot) throws IOException {
+        return readSnapshot(snapshot)
+                .map(batch -> {
+                    ColumnBindingPlan<E> plan = getBindingPlan(batch.getHeadings());
+                    ColumnVector[] vectors = plan.findVectors(batch);
+                    return reducer.apply(IntStream.range(0, batch.getRowCount())
+                            .mapToObj(row -> plan.createEntry(emptyEntrySupplier, vectors, row)));
+                });
+    }
+
+    /**
+     * Parses a query result whose rows are pulled lazily from the given {@link Spliterator}. The first element has to
+     * contain the headings. The remaining rows are passed to the reducer of this table without being buffered.
+     *
+     * @param queryResult The headings followed by all rows of the query result.
+     * @return The reduced representation of the whole table.
+     * @throws IllegalArgumentException Thrown only if {@code queryResult} does not even contain headings.
+     * @since v0.2
+     */
+    public T parseFrom(@NotNull Spliterator<? extends List<String>> queryResult) {
+        Objects.requireNonNull(queryResult);
+        List<List<String>> headings = new ArrayList<>(1);
+        if (!queryResult.tryAdvance(headings::add)) {
+            throw new IllegalArgumentException("The query result does not contain headings.");
+        }
+        return parseRows(headings.get(0), StreamSupport.stream(queryResult, false));
+    }
+
+    /**
+     * Parses a query result whose rows are pulled lazily from the given {@link Iterator}.
+     *
+     * @param queryResult The headings followed by all rows of the query result.
+     * @return The reduced representation of the whole table.
+     * @see #parseFrom(Spliterator)
+     * @since v0.2
+     */
+    public T parseFrom(@NotNull Iterator<? extends List<String>> queryResult) {
+        return parseFrom(Spliterators.spliteratorUnknownSize(queryResult, Spliterator.ORDERED));
+    }
+
+    /**
+     * Parses a query result whose rows are pulled lazily from the given {@link Stream}. The stream is not closed.
+     *
+     * @param queryResult The headings followed by all rows of the query result.
+     * @return The reduced representation of the whole table.
+     * @see #parseFrom(Spliterator)
+     * @since v0.2
+     */
+    public T parseFrom(@NotNull Stream<? extends List<String>> queryResult) {
+        return parseFrom(queryResult.spliterator());
+    }
+
+    /**
+     * Parses the given query result using multiple threads. The rows are split into chunks which are converted to
+     * entries by tasks of {@code pool}. The entries of all chunks are passed to the reducer of this table as a single
+     * sequential stream, so the reducer does not have to be thread safe.
+     *
+     * @param queryResult The headings followed by all rows of the query result.
+     * @param pool        The pool to run the conversion tasks on.
+     * @param keepOrder   {@code true} if the entries have to be passed to the reducer in the order of their rows.
+     *                    Otherwise chunks are passed as soon as they are converted.
+     * @return The reduced representation of the whole table.
+     * @since v0.2
+     */
+    public T parseFromParallel(@NotNull List<List<String>> queryResult, @NotNull ForkJoinPool pool,
+                               boolean keepOrder) {
+        Objects.requireNonNull(queryResult);
+        Objects.requireNonNull(pool);
+
+        ColumnBindingPlan<E> plan = getBindingPlan(queryResult.get(0));
+        CompletionService<List<E>> completedChunks = new ExecutorCompletionService<>(pool);
+        List<Future<List<E>>> chunks = new ArrayList<>();
+        for (int chunkStart = 1; chunkStart < queryResult.size(); chunkStart += PARALLEL_CHUNK_SIZE) {
+            List<List<String>> rows = queryResult.subList(
+                    chunkStart, Math.min(chunkStart + PARALLEL_CHUNK_SIZE, queryResult.size()));
+            chunks.add(completedChunks.submit(() -> {
+                List<E> entries = new ArrayList<>(rows.size());
+                for (List<String> row : rows) {
+                    entries.add(plan.createEntry(emptyEntrySupplier, row));
+                }
+                return entries;
+            }));
+        }
+
+        return reduceChunks(chunks, completedChunks, keepOrder);
+    }
+
+    /**
+     * Passes the entries of all given chunks to the reducer of this table as a single sequential stream.
+     *
+     * @param chunks          The conversion tasks of all chunks in the order of their rows.
+     * @param completedChunks The service the tasks were submitted to.
+     * @param keepOrder       {@code true} if the entries have to be passed in the order of the chunks. Otherwise chunks
+     *                        are passed as soon as they are converted.
+     * @return The reduced representation of the whole table.
+     */
+    private T reduceChunks(@NotNull List<Future<List<E>>> chunks,
+                           @NotNull CompletionService<List<E>> completedChunks, boolean keepOrder) {
+        try {
+            return reducer.apply(IntStream.range(0, chunks.size())
+                    .mapToObj(chunkIndex -> {
+                        try {
+                            ChunkBlocker<List<E>> blocker = keepOrder
+                                    ? new ChunkBlocker<>(chunks.get(chunkIndex)) : new ChunkBlocker<>(completedChunks);
+                            //NOTE Compensate the blocked worker in case this method is called by a task of the pool
+                            ForkJoinPool.managedBlock(blocker);
+                            return blocker.getChunk()
+                                    .get();
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException("Interrupted while waiting for parsed rows", ex);
+                        } catch (ExecutionException ex) {
+                            Throwable cause = ex.getCause();
+                            if (cause instanceof RuntimeException) {
+                                throw (RuntimeException) cause;
+                            }
+                            if (cause instanceof Error) {
+                                throw (Error) cause;
+                            }
+                            throw new IllegalStateException("Could not parse rows", cause);
                         }
+                    })
+                    .flatMap(List::stream));
+        } finally {
+            // Stop remaining conversions in case the reducer failed or did not consume all entries
+            chunks.forEach(chunk -> chunk.cancel(false));
+        }
+    }
+
+    /**
+     * Waits for a converted chunk without starving the {@link ForkJoinPool} of the waiting thread. In case the waiting
+     * thread is a worker of a pool the pool may activate a spare thread which runs the remaining conversions.
+     *
+     * @param <V> The type of the entries of a chunk.
+     */
+    private static final class ChunkBlocker<V> implements ForkJoinPool.ManagedBlocker {
+        private final CompletionService<V> completedChunks;
+        private Future<V> chunk;
+
+        /**
+         * Creates a blocker waiting for the given chunk.
+         */
+        ChunkBlocker(@NotNull Future<V> chunk) {
+            this.completedChunks = null;
+            this.chunk = Objects.requireNonNull(chunk);
+        }
+
+        /**
+         * Creates a blocker waiting for the next chunk completed by {@code completedChunks}.
+         */
+        ChunkBlocker(@NotNull CompletionService<V> completedChunks) {
+            this.completedChunks = Objects.requireNonNull(completedChunks);
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            if (chunk == null) {
+                chunk = completedChunks.take();
+            } else {
+                try {
+                    chunk.get();
+                } catch (ExecutionException ex) {
+                    //NOTE The failure is reported when the caller requests the result of the chunk
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            if (chunk == null) {
+                chunk = completedChunks.poll();
+            }
+            return chunk != null && chunk.isDone();
+        }
+
+        /**
+         * Returns the chunk this blocker waited for. Only valid after the blocker was passed to
+         * {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)}.
+         */
+        @NotNull
+        Future<V> getChunk() {
+            return chunk;
+        }
+    }
+
+    /**
+     * Parses the given sources using multiple threads. Each source is parsed by a task of {@code pool} like by
+     * {@link #parseFrom(RowSource)}. The entries of all sources are passed to the reducer of this table as a single
+     * sequential stream in the order of the sources, so the reducer does not have to be thread safe. All sources have
+     * to provide the same headings.
+     *
+     * @param sources The sources to parse like the parts of a {@link DelimitedFile}.
+     * @param pool    The pool to run the conversion tasks on.
+     * @return The reduced representation of the whole table.
+     * @throws IllegalArgumentException Thrown only if {@code sources} is empty or the sources provide different
+     *                                  headings.
+     * @see DelimitedFile#split(int)
+     * @since v0.2
+     */
+    public T parseFromParallel(@NotNull List<? extends RowSource> sources, @NotNull ForkJoinPool pool) {
+        Objects.requireNonNull(sources);
+        Objects.requireNonNull(pool);
+        if (sources.isEmpty()) {
+            throw new IllegalArgumentException("At least a single source is required");
+        }
+
+        List<String> headings = sources.get(0).getHeadings();
+        ColumnBindingPlan<E> plan = getBindingPlan(headings);
+        CompletionService<List<E>> completedChunks = new ExecutorCompletionService<>(pool);
+        List<Future<List<E>>> chunks = new ArrayList<>();
+        for (RowSource source : sources) {
+            if (!headings.equals(source.getHeadings())) {
+                chunks.forEach(chunk -> chunk.cancel(false));
+                throw new IllegalArgumentException("The sources provide different headings");
+            }
+            chunks.add(completedChunks.submit(() -> {
+                List<E> entries = new ArrayList<>();
+                while (source.next()) {
+                    entries.add(plan.createEntry(emptyEntrySupplier, source));
+                }
+                return entries;
+            }));
+        }
+        return reduceChunks(chunks, completedChunks, true);
+    }
+
+    /**
+     * Parses the given query result using the common {@link ForkJoinPool}.
+     *
+     * @param queryResult The headings followed by all rows of the query result.
+     * @param keepOrder   {@code true} if the entries have to be passed to the reducer in the order of their rows.
+     * @return The reduced representation of the whole table.
+     * @see #parseFromParallel(List, ForkJoinPool, boolean)
+     * @since v0.2
+     */
+    public T parseFromParallel(@NotNull List<List<String>> queryResult, boolean keepOrder) {
+        return parseFromParallel(queryResult, ForkJoinPool.commonPool(), keepOrder);
+    }
+
+    /**
+     * Parses all remaining rows of the given {@link ResultSet} without converting its values to {@link String}s first.
+     * The patterns are bound to the labels of the columns described by {@link ResultSet#getMetaData()} and each cell
+     * is read with the typed getter of the associated {@link ColumnParser}. Rows are passed to the reducer of this
+     * table as they are fetched. The result set is not closed.
+     *
+     * @param resultSet The result set to parse.
+     * @return The reduced representation of the whole table.
+     * @throws SQLException Thrown only if {@code resultSet} can not be read.
+     * @since v0.2
+     */
+    public T parseFrom(@NotNull ResultSet resultSet) throws SQLException {
+        Objects.requireNonNull(resultSet);
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        List<String> headings = new ArrayList<>(metaData.getColumnCount());
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            headings.add(metaData.getColumnLabel(i));
+        }
+        ColumnBindingPlan<E> plan = getBindingPlan(headings);
+
+        Spliterator<E> entries = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super E> action) {
+                try {
+                    boolean hasNext = resultSet.next();
+                    if (hasNext) {
+                        action.accept(plan.createEntry(emptyEntrySupplier, resultSet));
                     }
-                    return rowRepresentation;
-                }));
+                    return hasNext;
+                } catch (SQLException ex) {
+                    throw new UncheckedSQLException(ex);
+                }
+            }
+        };
+        try {
+            return reducer.apply(StreamSupport.stream(entries, false));
+        } catch (UncheckedSQLException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Parses all remaining rows of the given {@link RowSource}. Cells are parsed directly from the characters or bytes
+     * exposed by the source such that no {@link String} has to be created for cells of numeric, boolean or date
+     * columns. Rows are passed to the reducer of this table as the cursor of the source advances.
+     *
+     * @param source The source to parse.
+     * @return The reduced representation of the whole table.
+     * @since v0.2
+     */
+    public T parseFrom(@NotNull RowSource source) {
+        Objects.requireNonNull(source);
+        ColumnBindingPlan<E> plan = getBindingPlan(source.getHeadings());
+
+        Spliterator<E> entries = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super E> action) {
+                boolean hasNext = source.next();
+                if (hasNext) {
+                    action.accept(plan.createEntry(emptyEntrySupplier, source));
+                }
+                return hasNext;
+            }
+        };
+        return reducer.apply(StreamSupport.stream(entries, false));
+    }
+
+    /**
+     * Sets the fetch size of the given {@link ResultSet} and parses all of its remaining rows.
+     *
+     * @param resultSet The result set to parse.
+     * @param fetchSize The number of rows to fetch from the database at once. See
+     *                  {@link ResultSet#setFetchSize(int)}.
+     * @return The reduced representation of the whole table.
+     * @throws SQLException Thrown only if {@code resultSet} can not be read or the fetch size is rejected.
+     * @see #parseFrom(ResultSet)
+     * @since v0.2
+     */
+    public T parseFrom(@NotNull ResultSet resultSet, int fetchSize) throws SQLException {
+        Objects.requireNonNull(resultSet);
+        resultSet.setFetchSize(fetchSize);
+        return parseFrom(resultSet);
     }
 
     /**
@@ -128,4 +780,103 @@ public class Table<T, E> {
     public Collection<ColumnPattern<?, E>> getOptionalColumns() {
         return optionalColumns;
     }
+
+    /**
+     * Returns a view of this table which only parses the given columns. The view shares the bindings of this table,
+     * i.e. headings are bound once no matter whether they are parsed by this table or any of its views, and skips all
+     * columns which are not projected. All parse methods of the view behave like the ones of this table apart from
+     * leaving the values of unprojected columns as provided by the empty entry supplier. Only
+     * {@link #parseFrom(List, ParseStrategy)} is not supported by the view since the strategy does not use the columns
+     * of the table.
+     *
+     * @param projectedColumns The columns to parse.
+     * @return The view only parsing the given columns.
+     * @throws IllegalArgumentException Thrown only if any of the given columns is not part of this table.
+     * @since v0.2
+     */
+    @NotNull
+    public Table<T, E> project(@NotNull Collection<? extends ColumnPattern<?, E>> projectedColumns) {
+        Objects.requireNonNull(projectedColumns);
+        for (ColumnPattern<?, E> column : projectedColumns) {
+            if (!getRequiredColumns().contains(column) && !getOptionalColumns().contains(column)) {
+                throw new IllegalArgumentException("The column " + column + " is not part of table " + realTableName);
+            }
+        }
+        return new Projection<>(this, projectedColumns);
+    }
+
+    /**
+     * Represents a view of a {@link Table} parsing only a subset of its columns based on the bindings of the table.
+     *
+     * @param <T> The type representing the whole table.
+     * @param <E> The type of an entry of the table.
+     */
+    private static final class Projection<T, E> extends Table<T, E> {
+        private final Table<T, E> parent;
+        private final Set<ColumnPattern<?, E>> projectedColumns;
+        /**
+         * The projected plans by the plans of the parent they are derived from. Keys are compared by identity and held
+         * weakly such that projected plans are dropped together with the plans of the parent.
+         */
+        private final Cache<ColumnBindingPlan<E>, ColumnBindingPlan<E>> projectedPlans = CacheBuilder.newBuilder()
+                .weakKeys()
+                .build();
+
+        Projection(@NotNull Table<T, E> parent, @NotNull Collection<? extends ColumnPattern<?, E>> projectedColumns) {
+            super(parent.realTableName,
+                    parent.requiredColumns
+                            .stream()
+                            .filter(projectedColumns::contains)
+                            .collect(Collectors.toList()),
+                    parent.optionalColumns
+                            .stream()
+                            .filter(projectedColumns::contains)
+                            .collect(Collectors.toList()),
+                    parent.emptyEntrySupplier, parent.reducer);
+            this.parent = parent;
+            this.projectedColumns = Set.copyOf(projectedColumns);
+        }
+
+        @Override
+        @NotNull
+        ColumnBindingPlan<E> getBindingPlan(@NotNull List<String> headings) {
+            ColumnBindingPlan<E> parentPlan = parent.getBindingPlan(headings);
+            return getCached(projectedPlans, parentPlan, () -> parentPlan.project(projectedColumns));
+        }
+
+        /**
+         * Rejects parsing since a {@link ParseStrategy} parses all of its columns regardless of the projection.
+         *
+         * @throws UnsupportedOperationException Always.
+         */
+        @Override
+        public T parseFrom(@NotNull List<List<String>> queryResult, @NotNull ParseStrategy<E> strategy) {
+            throw new UnsupportedOperationException(
+                    "A projection of table " + getRealTableName() + " can not parse using a strategy");
+        }
+
+        /**
+         * Sets the listener of the table this view belongs to since bindings are only created by that table.
+         */
+        @Override
+        public void setBindingDiagnosticsListener(@Nullable Consumer<BindingDiagnostics> listener) {
+            parent.setBindingDiagnosticsListener(listener);
+        }
+    }
+
+    /**
+     * Transports a {@link SQLException} through functional interfaces not allowing checked exceptions.
+     */
+    private static final class UncheckedSQLException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UncheckedSQLException(@NotNull SQLException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
+    }
 }
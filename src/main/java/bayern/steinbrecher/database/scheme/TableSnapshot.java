@@ -0,0 +1,398 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes and reads binary snapshots of {@link ColumnBatch}es. A snapshot contains a fingerprint of the definition of
+ * the {@link Table} it was written by, the headings the batch was parsed from, the heading each vector is bound to and
+ * the content of all vectors. Snapshots are read by memory mapping them and copying the values of each vector in bulk
+ * such that no {@link ColumnParser} is involved. Snapshots whose fingerprint or bindings do not match the reading
+ * {@link Table} are rejected.
+ *
+ * <p>All numbers are stored in big endian byte order. The layout is</p>
+ * <pre>
+ * int magic, int version, byte[32] fingerprint, int rowCount,
+ * int numHeadings, string[numHeadings] headings,
+ * int numVectors, (int headingIndex, vector)[numVectors]
+ * </pre>
+ * <p>where a string is stored as its number of UTF-8 encoded bytes followed by these bytes and a vector is stored as
+ * its size, its null bitmap and its type specific values. Vectors are ordered by the index of their heading such that
+ * the layout does not depend on the iteration order of the collections of columns a {@link Table} is created
+ * with.</p>
+ *
+ * @author Stefan Huber
+ * @see Table#writeSnapshot(ColumnBatch, Path)
+ * @see Table#readSnapshot(Path)
+ * @since v0.2
+ */
+final class TableSnapshot {
+    private static final Logger LOGGER = Logger.getLogger(TableSnapshot.class.getName());
+    /**
+     * The bytes {@code DBSS} identifying a snapshot.
+     */
+    private static final int MAGIC = 0x44425353;
+    private static final int VERSION = 1;
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+    private static final int FINGERPRINT_LENGTH = 32;
+    /**
+     * The maximum number of bytes of a snapshot. A snapshot is mapped as a single {@link ByteBuffer} which is limited
+     * to 2 GB.
+     */
+    static final long MAX_SNAPSHOT_SIZE = Integer.MAX_VALUE;
+    /**
+     * Compares the descriptions of columns lexicographically.
+     */
+    private static final Comparator<List<String>> DESCRIPTION_COMPARATOR = (first, second) -> {
+        int comparison = 0;
+        for (int i = 0; comparison == 0 && i < first.size() && i < second.size(); i++) {
+            comparison = first.get(i).compareTo(second.get(i));
+        }
+        return comparison == 0 ? Integer.compare(first.size(), second.size()) : comparison;
+    };
+
+    private TableSnapshot() {
+        //Prohibit construction
+    }
+
+    /**
+     * Computes a fingerprint of everything determining which values a {@link Table} stores in a {@link ColumnBatch}.
+     * These are the name of the table as well as the kind, the name pattern and the parser of each column and whether
+     * it is required. Since tables may be created with collections like {@link java.util.Set#of(Object[])} whose
+     * iteration order differs between runs the columns are described in a canonical order.
+     *
+     * @param tableName       The name of the table.
+     * @param requiredColumns All required patterns of the table.
+     * @param optionalColumns All optional patterns of the table.
+     * @return The fingerprint of the table.
+     */
+    @NotNull
+    static byte[] fingerprint(@NotNull String tableName,
+                              @NotNull Collection<? extends ColumnPattern<?, ?>> requiredColumns,
+                              @NotNull Collection<? extends ColumnPattern<?, ?>> optionalColumns) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Every Java platform has to support " + FINGERPRINT_ALGORITHM, ex);
+        }
+        List<String> components = new ArrayList<>();
+        components.add(String.valueOf(VERSION));
+        components.add(tableName);
+        addComponents(components, "required", requiredColumns);
+        addComponents(components, "optional", optionalColumns);
+        for (String component : components) {
+            byte[] encoded = component.getBytes(StandardCharsets.UTF_8);
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(encoded.length).array());
+            digest.update(encoded);
+        }
+        return digest.digest();
+    }
+
+    private static void addComponents(@NotNull List<String> components, @NotNull String kind,
+                                      @NotNull Collection<? extends ColumnPattern<?, ?>> columns) {
+        columns.stream()
+                .map(TableSnapshot::describe)
+                .sorted(DESCRIPTION_COMPARATOR)
+                .forEachOrdered(description -> {
+                    components.add(kind);
+                    components.addAll(description);
+                });
+    }
+
+    /**
+     * Describes the kind, the name pattern and the parser of the given column.
+     */
+    @NotNull
+    private static List<String> describe(@NotNull ColumnPattern<?, ?> column) {
+        return List.of(
+                column.getClass().getName(),
+                column.getColumnNamePattern().pattern(),
+                String.valueOf(column.getColumnNamePattern().flags()),
+                column.getParser().getClass().getName(),
+                column.getParser().getType().getName());
+    }
+
+    /**
+     * Returns the bound simple columns of the given plan along with the index of their heading ordered by this index.
+     * Since a heading is bound to at most one column the order only depends on the headings but not on the iteration
+     * order of the columns of the table.
+     */
+    @NotNull
+    private static List<Map.Entry<SimpleColumnPattern<?, ?>, Integer>> findOrderedSimpleColumns(
+            @NotNull ColumnBindingPlan<?> plan) {
+        List<Map.Entry<SimpleColumnPattern<?, ?>, Integer>> sourceColumnOfPattern
+                = new ArrayList<>(plan.findSimpleColumns().entrySet());
+        sourceColumnOfPattern.sort(Map.Entry.comparingByValue());
+        return sourceColumnOfPattern;
+    }
+
+    /**
+     * Writes the given batch. The snapshot is written to a temporary file first which replaces {@code snapshot} only
+     * if it is complete.
+     *
+     * @param snapshot    The file to write the snapshot to.
+     * @param fingerprint The fingerprint of the table the batch was parsed by.
+     * @param plan        The plan the batch was parsed with.
+     * @param batch       The batch to write.
+     * @throws IOException              Thrown only if the snapshot can not be written.
+     * @throws IllegalArgumentException Thrown only if the columns of {@code batch} do not correspond to {@code plan} or
+     *                                  the snapshot would exceed {@link #MAX_SNAPSHOT_SIZE} bytes. In the latter case
+     *                                  an existing snapshot is kept.
+     */
+    static void write(@NotNull Path snapshot, @NotNull byte[] fingerprint, @NotNull ColumnBindingPlan<?> plan,
+                      @NotNull ColumnBatch batch) throws IOException {
+        List<Map.Entry<SimpleColumnPattern<?, ?>, Integer>> sourceColumnOfPattern = findOrderedSimpleColumns(plan);
+        if (!plan.findSimpleColumns().keySet().equals(batch.getColumns())) {
+            throw new IllegalArgumentException("The batch was not parsed by the table writing the snapshot");
+        }
+        Path absoluteSnapshot = snapshot.toAbsolutePath();
+        Path temporary = Files.createTempFile(
+                absoluteSnapshot.getParent(), absoluteSnapshot.getFileName().toString(), ".tmp");
+        try {
+            try (Output output = new Output(FileChannel.open(temporary, StandardOpenOption.WRITE))) {
+                output.putInt(MAGIC);
+                output.putInt(VERSION);
+                output.putBytes(fingerprint);
+                output.putInt(batch.getRowCount());
+                List<String> headings = plan.getHeadings();
+                output.putInt(headings.size());
+                for (String heading : headings) {
+                    output.putString(heading);
+                }
+                output.putInt(sourceColumnOfPattern.size());
+                for (Map.Entry<SimpleColumnPattern<?, ?>, Integer> entry : sourceColumnOfPattern) {
+                    output.putInt(entry.getValue());
+                    batch.getVector(entry.getKey()).writeTo(output);
+                }
+            }
+            Files.move(temporary, absoluteSnapshot, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Reads the batch stored in the given snapshot.
+     *
+     * @param snapshot     The file to read the snapshot from.
+     * @param fingerprint  The fingerprint of the table reading the snapshot.
+     * @param planSupplier Returns the plan of the table reading the snapshot for the stored headings.
+     * @return The stored batch or {@link Optional#empty()} if the snapshot is no valid snapshot of the table reading
+     * it, exceeds {@link #MAX_SNAPSHOT_SIZE} bytes or can not be mapped. Rejected snapshots are logged.
+     * @throws IOException Thrown only if the snapshot can not be opened.
+     */
+    @NotNull
+    static Optional<ColumnBatch> read(@NotNull Path snapshot, @NotNull byte[] fingerprint,
+                                      @NotNull Function<List<String>, ColumnBindingPlan<?>> planSupplier)
+            throws IOException {
+        Optional<ColumnBatch> batch = Optional.empty();
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_SNAPSHOT_SIZE) {
+                LOGGER.log(Level.INFO, "The snapshot {0} is rejected since it exceeds {1} bytes",
+                        new Object[]{snapshot, MAX_SNAPSHOT_SIZE});
+            } else {
+                ByteBuffer input = null;
+                try {
+                    input = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                } catch (IOException | IllegalArgumentException ex) {
+                    LOGGER.log(
+                            Level.WARNING, "The snapshot " + snapshot + " is rejected since it can not be mapped", ex);
+                }
+                if (input != null) {
+                    batch = parse(snapshot, input, fingerprint, planSupplier);
+                }
+            }
+        }
+        return batch;
+    }
+
+    @NotNull
+    private static Optional<ColumnBatch> parse(@NotNull Path snapshot, @NotNull ByteBuffer input,
+                                               @NotNull byte[] fingerprint,
+                                               @NotNull Function<List<String>, ColumnBindingPlan<?>> planSupplier) {
+        Optional<ColumnBatch> batch = Optional.empty();
+        try {
+            String rejection = null;
+            if (input.remaining() < 2 * Integer.BYTES || input.getInt() != MAGIC) {
+                rejection = "it is no snapshot";
+            } else if (input.getInt() != VERSION) {
+                rejection = "it was written in an unsupported version";
+            } else {
+                byte[] storedFingerprint = new byte[FINGERPRINT_LENGTH];
+                input.get(storedFingerprint);
+                if (!Arrays.equals(storedFingerprint, fingerprint)) {
+                    rejection = "the definition of the table changed";
+                } else {
+                    int rowCount = input.getInt();
+                    List<String> headings = new ArrayList<>();
+                    int numHeadings = input.getInt();
+                    for (int i = 0; i < numHeadings; i++) {
+                        headings.add(getString(input));
+                    }
+                    List<Map.Entry<SimpleColumnPattern<?, ?>, Integer>> sourceColumnOfPattern
+                            = findOrderedSimpleColumns(planSupplier.apply(headings));
+                    Map<SimpleColumnPattern<?, ?>, ColumnVector> vectorOfPattern = new LinkedHashMap<>();
+                    int numVectors = input.getInt();
+                    if (numVectors == sourceColumnOfPattern.size()) {
+                        for (Map.Entry<SimpleColumnPattern<?, ?>, Integer> entry : sourceColumnOfPattern) {
+                            if (input.getInt() != entry.getValue()) {
+                                break;
+                            }
+                            ColumnVector vector = ColumnVector.forType(entry.getKey().getParser().getType(), 0);
+                            vector.readFrom(input);
+                            if (vector.size() != rowCount) {
+                                break;
+                            }
+                            vectorOfPattern.put(entry.getKey(), vector);
+                        }
+                    }
+                    if (vectorOfPattern.size() == sourceColumnOfPattern.size()) {
+                        batch = Optional.of(new ColumnBatch(List.copyOf(headings), rowCount, vectorOfPattern));
+                    } else {
+                        rejection = "its bindings do not match the table";
+                    }
+                }
+            }
+            if (rejection != null) {
+                LOGGER.log(Level.INFO, "The snapshot {0} is rejected since {1}", new Object[]{snapshot, rejection});
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException ex) {
+            LOGGER.log(Level.WARNING, "The snapshot " + snapshot + " is rejected since it is corrupt", ex);
+        }
+        return batch;
+    }
+
+    @NotNull
+    private static String getString(@NotNull ByteBuffer input) {
+        byte[] encoded = new byte[input.getInt()];
+        input.get(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes values through a buffer to a channel.
+     */
+    static final class Output implements Closeable {
+        private static final int BUFFER_SIZE = 1 << 16;
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private long size;
+
+        Output(@NotNull WritableByteChannel channel) {
+            this.channel = Objects.requireNonNull(channel);
+        }
+
+        private void ensureRemaining(int numBytes) throws IOException {
+            if (buffer.remaining() < numBytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            size += buffer.position();
+            if (size > MAX_SNAPSHOT_SIZE) {
+                throw new IllegalArgumentException(
+                        "The snapshot would exceed the maximum size of " + MAX_SNAPSHOT_SIZE + " bytes");
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putBytes(@NotNull byte[] values) throws IOException {
+            int offset = 0;
+            while (offset < values.length) {
+                ensureRemaining(1);
+                int length = Math.min(buffer.remaining(), values.length - offset);
+                buffer.put(values, offset, length);
+                offset += length;
+            }
+        }
+
+        void putString(@NotNull String value) throws IOException {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            putInt(encoded.length);
+            putBytes(encoded);
+        }
+
+        void putInts(@NotNull int[] values, int length) throws IOException {
+            int offset = 0;
+            while (offset < length) {
+                ensureRemaining(Integer.BYTES);
+                int count = Math.min(buffer.remaining() / Integer.BYTES, length - offset);
+                buffer.asIntBuffer().put(values, offset, count);
+                buffer.position(buffer.position() + count * Integer.BYTES);
+                offset += count;
+            }
+        }
+
+        void putLongs(@NotNull long[] values, int length) throws IOException {
+            int offset = 0;
+            while (offset < length) {
+                ensureRemaining(Long.BYTES);
+                int count = Math.min(buffer.remaining() / Long.BYTES, length - offset);
+                buffer.asLongBuffer().put(values, offset, count);
+                buffer.position(buffer.position() + count * Long.BYTES);
+                offset += count;
+            }
+        }
+
+        void putDoubles(@NotNull double[] values, int length) throws IOException {
+            int offset = 0;
+            while (offset < length) {
+                ensureRemaining(Double.BYTES);
+                int count = Math.min(buffer.remaining() / Double.BYTES, length - offset);
+                buffer.asDoubleBuffer().put(values, offset, count);
+                buffer.position(buffer.position() + count * Double.BYTES);
+                offset += count;
+            }
+        }
+
+        /**
+         * Writes all buffered values and closes the channel.
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package bayern.steinbrecher.utility;
+
+/**
+ * Represents a {@link java.util.function.BiFunction} whose second argument is a {@code boolean}. This is the
+ * boolean-consuming primitive specialization of {@link java.util.function.BiFunction} avoiding boxing.
+ *
+ * @param <T> The type of the first argument.
+ * @param <R> The type of the output.
+ * @author Stefan Huber
+ * @see java.util.function.BiFunction
+ * @since v0.2
+ */
+@FunctionalInterface
+@SuppressWarnings("PMD.ShortVariable")
+public interface ObjBooleanFunction<T, R> {
+
+    /**
+     * Performs the given operation on the passed arguments.
+     *
+     * @param t     The first input argument.
+     * @param value The second input argument.
+     * @return The resulting object.
+     */
+    R apply(T t, boolean value);
+}
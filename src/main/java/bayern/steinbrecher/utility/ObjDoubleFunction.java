@@ -0,0 +1,26 @@
+package bayern.steinbrecher.utility;
+
+/**
+ * Represents a {@link java.util.function.BiFunction} whose second argument is a {@code double}. This is the
+ * double-consuming primitive specialization of {@link java.util.function.BiFunction} avoiding boxing.
+ *
+ * @param <T> The type of the first argument.
+ * @param <R> The type of the output.
+ * @author Stefan Huber
+ * @see java.util.function.BiFunction
+ * @see java.util.function.ObjDoubleConsumer
+ * @since v0.2
+ */
+@FunctionalInterface
+@SuppressWarnings("PMD.ShortVariable")
+public interface ObjDoubleFunction<T, R> {
+
+    /**
+     * Performs the given operation on the passed arguments.
+     *
+     * @param t     The first input argument.
+     * @param value The second input argument.
+     * @return The resulting object.
+     */
+    R apply(T t, double value);
+}
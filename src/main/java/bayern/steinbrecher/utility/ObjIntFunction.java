@@ -0,0 +1,26 @@
+package bayern.steinbrecher.utility;
+
+/**
+ * Represents a {@link java.util.function.BiFunction} whose second argument is a {@code int}. This is the
+ * int-consuming primitive specialization of {@link java.util.function.BiFunction} avoiding boxing.
+ *
+ * @param <T> The type of the first argument.
+ * @param <R> The type of the output.
+ * @author Stefan Huber
+ * @see java.util.function.BiFunction
+ * @see java.util.function.ObjIntConsumer
+ * @since v0.2
+ */
+@FunctionalInterface
+@SuppressWarnings("PMD.ShortVariable")
+public interface ObjIntFunction<T, R> {
+
+    /**
+     * Performs the given operation on the passed arguments.
+     *
+     * @param t     The first input argument.
+     * @param value The second input argument.
+     * @return The resulting object.
+     */
+    R apply(T t, int value);
+}
@@ -1,8 +1,10 @@
 module bayern.steinbrecher.DBSchemeDescriptor {
     requires javafx.base;
     requires java.logging;
+    requires java.sql;
     requires org.jetbrains.annotations;
     requires com.google.common;
 
     exports bayern.steinbrecher.database.scheme;
+    exports bayern.steinbrecher.utility;
 }
\ No newline at end of file
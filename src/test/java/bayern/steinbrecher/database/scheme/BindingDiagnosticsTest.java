@@ -0,0 +1,83 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Stefan Huber
+ */
+class BindingDiagnosticsTest {
+    @Test
+    void problemsOfHeadingsAreDescribed() {
+        BindingDiagnostics diagnostics = TestEntry.createTable()
+                .getBindingDiagnostics(List.of("ID", "id", "unknown"));
+
+        assertTrue(diagnostics.hasProblems());
+        assertEquals("test", diagnostics.getRealTableName());
+        assertEquals(List.of("ID", "id", "unknown"), diagnostics.getHeadings());
+        assertEquals(List.of(TestEntry.NAME), diagnostics.getUnmatchedRequiredColumns());
+        assertEquals(List.of(TestEntry.VALUES), diagnostics.getUnmatchedOptionalColumns());
+        assertEquals(Map.of(TestEntry.ID, List.of("ID", "id")), diagnostics.getAmbiguousColumns());
+        assertEquals(List.of("unknown"), diagnostics.getUnboundHeadings());
+    }
+
+    @Test
+    void missingOptionalColumnsAreNoProblem() {
+        BindingDiagnostics diagnostics = TestEntry.createTable()
+                .getBindingDiagnostics(List.of("id", "name", "unknown"));
+
+        assertFalse(diagnostics.hasProblems());
+        assertEquals(List.of(TestEntry.VALUES), diagnostics.getUnmatchedOptionalColumns());
+    }
+
+    @Test
+    void diagnosticsAreReportedOncePerHeadings() {
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+        List<BindingDiagnostics> reports = new ArrayList<>();
+        table.setBindingDiagnosticsListener(reports::add);
+        List<List<String>> rows = List.of(List.of("id", "unknown"), List.of("1", "x"));
+
+        table.parseFrom(rows);
+        table.parseFrom(rows);
+        table.parseFrom(List.of(List.of("name", "id"), List.of("a", "1")));
+
+        assertEquals(2, reports.size());
+        assertTrue(reports.get(0).hasProblems());
+        assertFalse(reports.get(1).hasProblems());
+    }
+
+    @Test
+    void concurrentParsesReportOnce() throws Exception {
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+        List<BindingDiagnostics> reports = Collections.synchronizedList(new ArrayList<>());
+        table.setBindingDiagnosticsListener(reports::add);
+        List<List<String>> rows = List.of(List.of("id", "name"), List.of("1", "a"));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<TestEntry>>> parses = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                parses.add(executor.submit(() -> table.parseFrom(rows)));
+            }
+            for (Future<List<TestEntry>> parse : parses) {
+                assertEquals(1, parse.get().size());
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(1, reports.size());
+    }
+}
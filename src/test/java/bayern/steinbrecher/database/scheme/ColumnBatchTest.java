@@ -0,0 +1,84 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Stefan Huber
+ */
+class ColumnBatchTest {
+    private static final List<List<String>> QUERY_RESULT = List.of(
+            List.of("id", "name", "active", "count", "born", "val_1"),
+            List.of("1", "a", "1", "10000000000", "2020-02-29", "1.5"),
+            List.of("NULL", "b", "0", "invalid", "1999-12-31", "2"),
+            List.of("3", "a", "1", "-1", "NULL", "3"));
+
+    @Test
+    void simpleColumnsAreParsedIntoVectors() {
+        ColumnBatch batch = TestEntry.createTable(List.of(TestEntry.ACTIVE, TestEntry.COUNT, TestEntry.BORN))
+                .parseColumnar(QUERY_RESULT);
+
+        assertEquals(QUERY_RESULT.get(0), batch.getHeadings());
+        assertEquals(3, batch.getRowCount());
+        assertEquals(Set.of(TestEntry.ID, TestEntry.NAME, TestEntry.ACTIVE, TestEntry.COUNT, TestEntry.BORN),
+                batch.getColumns());
+
+        ColumnVector.IntColumnVector ids = batch.getIntVector(TestEntry.ID);
+        assertEquals(3, ids.size());
+        assertEquals(1, ids.getInt(0));
+        assertTrue(ids.isNull(1));
+        assertNull(ids.getObject(1));
+        assertEquals(3, ids.getInt(2));
+        assertEquals(1, ids.getNullCount());
+
+        ColumnVector.StringColumnVector names = batch.getStringVector(TestEntry.NAME);
+        assertEquals(List.of("a", "b"), names.getDictionary());
+        assertEquals(names.getCode(0), names.getCode(2));
+        assertEquals("b", names.getObject(1));
+
+        ColumnVector.BooleanColumnVector active = batch.getBooleanVector(TestEntry.ACTIVE);
+        assertTrue(active.getBoolean(0));
+        assertFalse(active.getBoolean(1));
+
+        ColumnVector.LongColumnVector counts = batch.getLongVector(TestEntry.COUNT);
+        assertEquals(10_000_000_000L, counts.getLong(0));
+        // Invalid cells are treated like SQL NULL
+        assertTrue(counts.isNull(1));
+        assertEquals(-1L, counts.getLong(2));
+
+        ColumnVector.DateColumnVector born = batch.getDateVector(TestEntry.BORN);
+        assertEquals(LocalDate.of(2020, 2, 29).toEpochDay(), born.getEpochDay(0));
+        assertEquals(LocalDate.of(1999, 12, 31), born.getObject(1));
+        assertTrue(born.isNull(2));
+    }
+
+    @Test
+    void onlyBoundSimpleColumnsHaveVectors() {
+        ColumnBatch batch = TestEntry.createTable()
+                .parseColumnar(List.of(List.of("id", "val_1"), List.of("1", "2")));
+
+        assertEquals(Set.of(TestEntry.ID), batch.getColumns());
+        assertThrows(IllegalArgumentException.class, () -> batch.getVector(TestEntry.NAME));
+    }
+
+    @Test
+    void doublesAreStoredUnboxed() {
+        SimpleColumnPattern<Double, TestEntry> score = new SimpleColumnPattern<>(
+                "score", Set.of(), ColumnParser.DOUBLE_COLUMN_PARSER, (entry, value) -> entry);
+
+        ColumnBatch batch = TestEntry.createTable(List.of(score))
+                .parseColumnar(List.of(List.of("score"), List.of("0.1"), List.of("-1e300")));
+
+        assertEquals(0.1, batch.getDoubleVector(score).getDouble(0));
+        assertEquals(-1e300, batch.getDoubleVector(score).getDouble(1));
+    }
+}
@@ -0,0 +1,60 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Stefan Huber
+ */
+class ColumnBindingPlanTest {
+    private static final SimpleColumnPattern<String, TestEntry> UMLAUT = new SimpleColumnPattern<>(
+            "größe", Set.of(), ColumnParser.STRING_COLUMN_PARSER, (entry, value) -> {
+        entry.name = value;
+        return entry;
+    });
+    private static final SimpleColumnPattern<String, TestEntry> DOTTED = new SimpleColumnPattern<>(
+            "a.b", Set.of(), ColumnParser.STRING_COLUMN_PARSER, (entry, value) -> {
+        entry.name = value;
+        return entry;
+    });
+
+    private static ColumnBindingPlan<TestEntry> compile(List<String> headings,
+                                                        List<SimpleColumnPattern<?, TestEntry>> columns) {
+        return ColumnBindingPlan.compile("test", headings, columns, List.of());
+    }
+
+    @Test
+    void exactNamesAreBoundCaseInsensitively() {
+        ColumnBindingPlan<TestEntry> plan = compile(List.of("x", "GRÖSSE", "GRÖßE"), List.of(UMLAUT));
+
+        // Case folding does not expand characters like regular expressions do not
+        assertEquals(List.of("x", "GRÖSSE"), plan.getDiagnostics().getUnboundHeadings());
+        assertEquals("v", plan.createEntry(TestEntry::new, List.of("w", "u", "v")).name);
+    }
+
+    @Test
+    void exactNamesAreNoRegularExpressions() {
+        ColumnBindingPlan<TestEntry> plan = compile(List.of("axb", "A.B"), List.of(DOTTED));
+
+        assertEquals(List.of("axb"), plan.getDiagnostics().getUnboundHeadings());
+        assertEquals("y", plan.createEntry(TestEntry::new, List.of("x", "y")).name);
+    }
+
+    @Test
+    void lastOfAmbiguousHeadingsWins() {
+        ColumnBindingPlan<TestEntry> plan = compile(List.of("name", "NAME"), List.of(TestEntry.NAME));
+
+        assertEquals(List.of("name", "NAME"), plan.getDiagnostics().getAmbiguousColumns().get(TestEntry.NAME));
+        assertEquals("second", plan.createEntry(TestEntry::new, List.of("first", "second")).name);
+    }
+
+    @Test
+    void foldedNamesAreEqualForAllMatchingNames() {
+        assertEquals(SimpleColumnPattern.foldCase("Größe"), SimpleColumnPattern.foldCase("GRÖßE"));
+        assertEquals(SimpleColumnPattern.foldCase("größe"), UMLAUT.getFoldedColumnName());
+    }
+}
@@ -0,0 +1,73 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Stefan Huber
+ */
+class ColumnParserTest {
+    @Test
+    void publicParsersKeepTheirDeclaredTypes() throws NoSuchFieldException {
+        for (String parserName : new String[]{"INTEGER", "BOOLEAN", "DOUBLE", "LONG"}) {
+            assertEquals(ColumnParser.class,
+                    ColumnParser.class.getField(parserName + "_COLUMN_PARSER").getType(), parserName);
+        }
+    }
+
+    @Test
+    void primitiveParsersAreTheBoxedParsers() {
+        assertSame(ColumnParser.INTEGER_COLUMN_PARSER, ColumnParser.PRIMITIVE_INTEGER_COLUMN_PARSER);
+        assertSame(ColumnParser.LONG_COLUMN_PARSER, ColumnParser.PRIMITIVE_LONG_COLUMN_PARSER);
+        assertSame(ColumnParser.DOUBLE_COLUMN_PARSER, ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER);
+        assertSame(ColumnParser.BOOLEAN_COLUMN_PARSER, ColumnParser.PRIMITIVE_BOOLEAN_COLUMN_PARSER);
+    }
+
+    @Test
+    void primitiveParsingMatchesBoxedParsing() {
+        for (String value : new String[]{"0", "-1", "+42", "2147483647", "-2147483648"}) {
+            assertEquals(ColumnParser.INTEGER_COLUMN_PARSER.parse(value),
+                    Optional.of(ColumnParser.PRIMITIVE_INTEGER_COLUMN_PARSER.parseInt(value)), value);
+        }
+        for (String value : new String[]{"0", "-9223372036854775808", "9223372036854775807"}) {
+            assertEquals(ColumnParser.LONG_COLUMN_PARSER.parse(value),
+                    Optional.of(ColumnParser.PRIMITIVE_LONG_COLUMN_PARSER.parseLong(value)), value);
+        }
+        for (String value : new String[]{"0", "-0.5", "1e10", "3.141592653589793"}) {
+            assertEquals(ColumnParser.DOUBLE_COLUMN_PARSER.parse(value),
+                    Optional.of(ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER.parseDouble(value)), value);
+        }
+        assertTrue(ColumnParser.PRIMITIVE_BOOLEAN_COLUMN_PARSER.parseBoolean("1"));
+        assertFalse(ColumnParser.PRIMITIVE_BOOLEAN_COLUMN_PARSER.parseBoolean("0"));
+        assertFalse(ColumnParser.PRIMITIVE_BOOLEAN_COLUMN_PARSER.parseBoolean(null));
+    }
+
+    @Test
+    void rangesAreParsedWithoutCopies() {
+        String row = "x;-123;y";
+
+        assertEquals(-123, ColumnParser.PRIMITIVE_INTEGER_COLUMN_PARSER.parseInt(row, 2, 6));
+        assertEquals(-123L, ColumnParser.PRIMITIVE_LONG_COLUMN_PARSER.parseLong(row, 2, 6));
+        assertEquals(-123d, ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER.parseDouble(row, 2, 6));
+    }
+
+    @Test
+    void invalidValuesAreRejected() {
+        assertThrows(NumberFormatException.class, () -> ColumnParser.PRIMITIVE_INTEGER_COLUMN_PARSER.parseInt("1x"));
+        assertThrows(NumberFormatException.class,
+                () -> ColumnParser.PRIMITIVE_INTEGER_COLUMN_PARSER.parseInt("2147483648"));
+        assertThrows(NumberFormatException.class,
+                () -> ColumnParser.PRIMITIVE_LONG_COLUMN_PARSER.parseLong("9223372036854775808"));
+        assertThrows(NumberFormatException.class, () -> ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER.parseDouble(""));
+        assertFalse(ColumnParser.INTEGER_COLUMN_PARSER.isValid("1.5"));
+        assertFalse(ColumnParser.INTEGER_COLUMN_PARSER.isValid(null));
+        assertTrue(ColumnParser.DOUBLE_COLUMN_PARSER.isValid("1.5"));
+    }
+}
@@ -0,0 +1,166 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Stefan Huber
+ */
+class ColumnPredicateTest {
+    private static List<Integer> ids(List<TestEntry> entries) {
+        return entries.stream()
+                .map(entry -> entry.id)
+                .collect(Collectors.toList());
+    }
+
+    private static List<List<String>> rows(List<String> headings, String... cells) {
+        List<List<String>> queryResult = new ArrayList<>();
+        queryResult.add(headings);
+        for (int i = 0; i < cells.length; i += headings.size()) {
+            queryResult.add(Arrays.asList(cells).subList(i, i + headings.size()));
+        }
+        return queryResult;
+    }
+
+    @Test
+    void rawPredicatesSeeSqlNullAsNull() {
+        List<String> seen = new ArrayList<>();
+
+        List<TestEntry> entries = TestEntry.createTable().parseFrom(
+                rows(List.of("id", "name"), "1", "a", "2", "NULL", "3", "c"),
+                List.of(ColumnPredicate.onRaw(TestEntry.NAME, name -> {
+                    seen.add(name);
+                    return name != null;
+                })));
+
+        assertEquals(List.of(1, 3), ids(entries));
+        assertEquals(Arrays.asList("a", null, "c"), seen);
+    }
+
+    @Test
+    void valuePredicatesRejectNullWithoutCallingThePredicate() {
+        List<TestEntry> entries = TestEntry.createTable().parseFrom(
+                rows(List.of("id", "name"), "1", "alice", "2", "NULL", "3", "bob"),
+                List.of(ColumnPredicate.onValue(TestEntry.NAME, name -> name.startsWith("b"))));
+
+        assertEquals(List.of(3), ids(entries));
+        assertEquals("bob", entries.get(0).name);
+    }
+
+    @Test
+    void intPredicatesRejectInvalidCells() {
+        List<TestEntry> entries = TestEntry.createTable().parseFrom(
+                rows(List.of("id", "name"), "1", "a", "abc", "b", "NULL", "c", "99999999999", "d", "4", "e"),
+                List.of(ColumnPredicate.onInt(TestEntry.ID, id -> id > 0)));
+
+        assertEquals(List.of(1, 4), ids(entries));
+    }
+
+    @Test
+    void longPredicatesAcceptRarelyUsedNotations() {
+        List<TestEntry> entries = TestEntry.createTable(List.of(TestEntry.COUNT)).parseFrom(
+                rows(List.of("id", "name", "count"),
+                        "1", "a", String.valueOf(Long.MIN_VALUE),
+                        "2", "b", "١٢",
+                        "3", "c", "12x"),
+                List.of(ColumnPredicate.onLong(TestEntry.COUNT, count -> true)));
+
+        assertEquals(List.of(1, 2), ids(entries));
+        assertEquals(Long.MIN_VALUE, entries.get(0).count);
+        assertEquals(12L, entries.get(1).count);
+    }
+
+    @Test
+    void doublePredicatesHaveToHoldForAllBoundHeadings() {
+        List<TestEntry> entries = TestEntry.createTable().parseFrom(
+                rows(List.of("id", "name", "val_1", "val_2"),
+                        "1", "a", "1.5", "2.5",
+                        "2", "b", "1.5", "-1",
+                        "3", "c", "NaN", "0x1p3"),
+                List.of(ColumnPredicate.onDouble(TestEntry.VALUES, value -> !(value < 0))));
+
+        assertEquals(List.of(1, 3), ids(entries));
+        assertEquals(2.5, entries.get(0).values.get(2));
+        assertEquals(Double.NaN, entries.get(1).values.get(1));
+        assertEquals(8.0, entries.get(1).values.get(2));
+    }
+
+    @Test
+    void primitiveColumnsReuseTheValuesOfPredicates() {
+        int[] counts = new int[2];
+        IntColumnPattern<int[]> first = new IntColumnPattern<>("first", Set.of(), (values, value) -> {
+            values[0] = value;
+            return values;
+        });
+        IntColumnPattern<int[]> second = new IntColumnPattern<>("second", Set.of(), (values, value) -> {
+            values[1] = value;
+            return values;
+        });
+        Table<List<int[]>, int[]> table = new Table<>("counts", List.of(first, second), List.of(),
+                () -> counts, values -> values.collect(Collectors.toList()));
+
+        List<int[]> entries = table.parseFrom(rows(List.of("first", "second"), "1", "2", "-1", "3"), List.of(
+                ColumnPredicate.onInt(first, value -> value > 0),
+                ColumnPredicate.onValue(second, value -> value > 1)));
+
+        assertEquals(1, entries.size());
+        assertEquals(1, counts[0]);
+        assertEquals(2, counts[1]);
+    }
+
+    @Test
+    void predicateCellsAreNotParsedAgain() {
+        AtomicInteger numParsed = new AtomicInteger();
+        SimpleColumnPattern<String, TestEntry> name = new SimpleColumnPattern<>("name", Set.of(),
+                ColumnParser.STRING_COLUMN_PARSER, (entry, value) -> {
+            entry.name = value;
+            return entry;
+        }) {
+            @Override
+            public TestEntry combineImpl(TestEntry toSet, String columnName, String valueToParse) {
+                numParsed.incrementAndGet();
+                return super.combineImpl(toSet, columnName, valueToParse);
+            }
+        };
+        Table<List<TestEntry>, TestEntry> table = new Table<>("test", List.of(TestEntry.ID, name), List.of(),
+                TestEntry::new, entries -> entries.collect(Collectors.toList()));
+
+        List<TestEntry> entries = table.parseFrom(rows(List.of("id", "name"), "1", "a", "2", "b"),
+                List.of(ColumnPredicate.onValue(name, value -> value.equals("b"))));
+
+        assertEquals(List.of(2), ids(entries));
+        assertEquals("b", entries.get(0).name);
+        assertEquals(0, numParsed.get());
+        // Without predicates the cells are parsed when creating the entries
+        table.parseFrom(rows(List.of("id", "name"), "1", "a", "2", "b"));
+        assertEquals(2, numParsed.get());
+    }
+
+    @Test
+    void columnsWithoutPredicatesAreParsedAsUsual() {
+        List<TestEntry> entries = TestEntry.createTable().parseFrom(
+                rows(List.of("id", "name", "val_1"), "1", "a", "2.5"),
+                List.of(ColumnPredicate.onInt(TestEntry.ID, id -> true)));
+
+        assertEquals(1, entries.size());
+        assertEquals("a", entries.get(0).name);
+        assertEquals(2.5, entries.get(0).values.get(1));
+    }
+
+    @Test
+    void predicatesOnUnboundColumnsAreRejected() {
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+
+        assertThrows(IllegalArgumentException.class, () -> table.parseFrom(rows(List.of("id", "name"), "1", "a"),
+                List.of(ColumnPredicate.onLong(TestEntry.COUNT, count -> true))));
+    }
+}
@@ -0,0 +1,132 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Stefan Huber
+ */
+class DelimitedFileTest {
+    @TempDir
+    Path directory;
+
+    private Path write(String content) throws IOException {
+        Path file = Files.createTempFile(directory, "table", ".csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * Reads all records of the given source representing SQL {@code NULL} by {@code null}.
+     */
+    private static List<List<String>> readAll(RowSource source) {
+        List<List<String>> records = new ArrayList<>();
+        while (source.next()) {
+            List<String> record = new ArrayList<>();
+            for (int i = 0; i < source.getHeadings().size(); i++) {
+                record.add(source.isNull(i) ? null : String.valueOf(source.getCell(i)));
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    private List<List<String>> readCsv(String content) throws IOException {
+        try (DelimitedFile file = DelimitedFile.openCsv(write(content))) {
+            return readAll(file.rows());
+        }
+    }
+
+    @Test
+    void recordsAreSplitIntoCells() throws IOException {
+        try (DelimitedFile file = DelimitedFile.openCsv(write("﻿id,name\n1,a\n2,b\n"))) {
+            assertEquals(List.of("id", "name"), file.getHeadings());
+            assertEquals(List.of(List.of("1", "a"), List.of("2", "b")), readAll(file.rows()));
+        }
+    }
+
+    @Test
+    void quotedCellsMayContainDelimitersLineBreaksAndQuotes() throws IOException {
+        assertEquals(List.of(List.of("1", "a,b"), List.of("2", "line\nbreak"), List.of("3", "say \"hi\"")),
+                readCsv("id,name\n1,\"a,b\"\n2,\"line\nbreak\"\n3,\"say \"\"hi\"\"\"\n"));
+    }
+
+    @Test
+    void onlyUnquotedNullRepresentsSqlNull() throws IOException {
+        assertEquals(List.of(Arrays.asList("1", null), List.of("2", "NULL")),
+                readCsv("id,name\n1,null\n2,\"NULL\"\n"));
+    }
+
+    @Test
+    void carriageReturnsBeforeLineBreaksAreDropped() throws IOException {
+        List<List<String>> expected = List.of(List.of("1", "a"), List.of("2", "b"));
+
+        assertEquals(expected, readCsv("id,name\r\n1,a\r\n2,b\r\n"));
+        assertEquals(expected, readCsv("id,name\r\n1,a\r\n2,b"));
+        assertEquals(expected, readCsv("id,name\r\n1,a\r\n2,b\r"));
+        assertEquals(expected, readCsv("id,name\r\n1,\"a\"\r\n2,\"b\"\r"));
+        // Carriage returns within cells are kept
+        assertEquals(List.of(List.of("1", "a\rb")), readCsv("id,name\n1,a\rb\n"));
+    }
+
+    @Test
+    void tabSeparatedFilesAreSupported() throws IOException {
+        try (DelimitedFile file = DelimitedFile.openTsv(write("id\tname\n1\ta,b\n"))) {
+            assertEquals(List.of(List.of("1", "a,b")), readAll(file.rows()));
+        }
+    }
+
+    @Test
+    void partsContainOnlyCompleteRecords() throws IOException {
+        StringBuilder content = new StringBuilder("id,name\n");
+        List<List<String>> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String name = (i % 3 == 0) ? "multi\nline " + i : "name " + i;
+            content.append(i)
+                    .append(",\"")
+                    .append(name)
+                    .append("\"\r\n");
+            expected.add(List.of(String.valueOf(i), name));
+        }
+
+        try (DelimitedFile file = DelimitedFile.openCsv(write(content.toString()))) {
+            List<ByteRowSource> parts = file.split(7);
+            assertEquals(7, parts.size());
+            assertEquals(expected, parts.stream()
+                    .flatMap(part -> readAll(part).stream())
+                    .collect(Collectors.toList()));
+            assertThrows(IllegalArgumentException.class, () -> file.split(0));
+        }
+    }
+
+    @Test
+    void filesAreParsedByTables() throws IOException {
+        try (DelimitedFile file = DelimitedFile.openCsv(write("id,name,val_2\n1,a,0.5\r\n2,b,1.5\r"))) {
+            List<TestEntry> entries = TestEntry.createTable().parseFrom(file.rows());
+
+            assertEquals(2, entries.size());
+            assertEquals("b", entries.get(1).name);
+            assertEquals(1.5, entries.get(1).values.get(2));
+        }
+    }
+
+    @Test
+    void malformedRecordsAreRejected() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> readCsv("id,name\n1\n"));
+        assertThrows(IllegalArgumentException.class, () -> readCsv("id,name\n1,\"a\n"));
+        assertThrows(IllegalArgumentException.class, () -> readCsv("id,name\n1,\"a\"b\n"));
+        assertThrows(IllegalArgumentException.class, () -> DelimitedFile.openCsv(write("")));
+    }
+}
@@ -0,0 +1,75 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Stefan Huber
+ */
+class DenseColumnPatternTest {
+    private static final class Scores {
+        DenseIntValues points;
+    }
+
+    private static final DenseIntColumnPattern<Scores> POINTS = new DenseIntColumnPattern<>("^round_\\d+$",
+            heading -> Integer.parseInt(heading.substring("round_".length())),
+            scores -> scores.points, (scores, points) -> {
+        scores.points = points;
+        return scores;
+    });
+
+    private static Table<List<Scores>, Scores> createTable() {
+        return new Table<>("scores", List.of(), List.of(POINTS), Scores::new,
+                scores -> scores.collect(Collectors.toList()));
+    }
+
+    @Test
+    void familiesAreStoredByKey() {
+        List<Scores> scores = createTable()
+                .parseFrom(List.of(
+                        List.of("round_5", "other", "round_2", "round_3"),
+                        List.of("50", "x", "20", "30"),
+                        List.of("-5", "y", "-2", "-3")));
+
+        DenseIntValues points = scores.get(0).points;
+        assertEquals(2, points.getMinKey());
+        assertEquals(5, points.getMaxKey());
+        assertEquals(List.of(2, 3, 5), points.presentKeys()
+                .boxed()
+                .collect(Collectors.toList()));
+        assertEquals(20, points.get(2));
+        assertEquals(50, points.get(5));
+        assertTrue(points.covers(4));
+        assertFalse(points.isPresent(4));
+        assertEquals(-1, points.getOrDefault(4, -1));
+        assertEquals(-3, scores.get(1).points.get(3));
+    }
+
+    @Test
+    void eachEntryGetsItsOwnValues() {
+        List<Scores> scores = createTable()
+                .parseFrom(List.of(List.of("round_1"), List.of("1"), List.of("2")));
+
+        assertNotSame(scores.get(0).points, scores.get(1).points);
+        assertEquals(1, scores.get(0).points.get(1));
+        assertEquals(2, scores.get(1).points.get(1));
+    }
+
+    @Test
+    void invalidValuesAreRejected() {
+        Table<List<Scores>, Scores> table = createTable();
+
+        assertThrows(IllegalArgumentException.class, () -> table.parseFrom(List.of(
+                List.of("round_1"), List.of("1.5"))));
+        assertThrows(IllegalArgumentException.class, () -> table.parseFrom(List.of(
+                List.of("round_1"), List.of("NULL"))));
+    }
+}
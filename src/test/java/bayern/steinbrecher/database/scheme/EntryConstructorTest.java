@@ -0,0 +1,88 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Stefan Huber
+ */
+class EntryConstructorTest {
+    private static final class Point {
+        final int x;
+        final String label;
+        final String comment;
+
+        Point(int x, String label) {
+            this(x, label, null);
+        }
+
+        Point(int x, String label, String comment) {
+            this.x = x;
+            this.label = label;
+            this.comment = comment;
+        }
+    }
+
+    private static final IntColumnPattern<Point> X = new IntColumnPattern<>("x", Set.of(),
+            (point, value) -> new Point(value, point.label, point.comment));
+    private static final SimpleColumnPattern<String, Point> LABEL = new SimpleColumnPattern<>(
+            "label", Set.of(), ColumnParser.STRING_COLUMN_PARSER,
+            (point, value) -> new Point(point.x, value, point.comment));
+    private static final SimpleColumnPattern<String, Point> COMMENT = new SimpleColumnPattern<>(
+            "comment", Set.of(), ColumnParser.STRING_COLUMN_PARSER,
+            (point, value) -> new Point(point.x, point.label, value));
+    private static final Table<List<Point>, Point> TABLE = new Table<>("points", List.of(X, LABEL),
+            List.of(COMMENT), () -> new Point(0, null), points -> points.collect(Collectors.toList()));
+
+    @Test
+    void constructorsAreCalledWithSlotValues() {
+        EntryConstructor<Point> constructor
+                = EntryConstructor.ofConstructor(MethodHandles.lookup(), Point.class, List.of(X, LABEL));
+
+        List<Point> points = TABLE.parseFrom(List.of(
+                List.of("label", "x", "comment"),
+                List.of("a", "1", "first"),
+                List.of("b", "-2", "second")), constructor);
+
+        assertEquals(2, points.size());
+        assertEquals(1, points.get(0).x);
+        assertEquals("a", points.get(0).label);
+        // Columns without slot are set afterwards
+        assertEquals("first", points.get(0).comment);
+        assertEquals(-2, points.get(1).x);
+        assertEquals("second", points.get(1).comment);
+    }
+
+    @Test
+    void factoriesSeeWhichSlotsArePresent() {
+        EntryConstructor<Point> constructor = EntryConstructor.of(List.of(X, LABEL), slots -> {
+            assertEquals(2, slots.size());
+            assertTrue(slots.isPresent(0));
+            assertFalse(slots.isPresent(1));
+            assertNull(slots.get(1));
+            return new Point(slots.getInt(0), "missing");
+        });
+
+        List<Point> points = TABLE.parseFrom(List.of(List.of("x"), List.of("3"), List.of("4")), constructor);
+
+        assertEquals(3, points.get(0).x);
+        assertEquals(4, points.get(1).x);
+        assertEquals("missing", points.get(1).label);
+    }
+
+    @Test
+    void constructorsHaveToMatchTheColumns() {
+        assertThrows(IllegalArgumentException.class,
+                () -> EntryConstructor.ofConstructor(MethodHandles.lookup(), Point.class, List.of(LABEL, X)));
+    }
+}
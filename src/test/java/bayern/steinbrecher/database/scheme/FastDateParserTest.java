@@ -0,0 +1,72 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @author Stefan Huber
+ */
+class FastDateParserTest {
+    private static LocalDate parse(String value) {
+        return FastDateParser.parse(value, 0, value.length());
+    }
+
+    private static LocalDate parseUtf8(String value) {
+        ByteBuffer utf8 = ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+        return FastDateParser.parse(utf8, 0, utf8.limit());
+    }
+
+    @Test
+    void canonicalDatesAreParsedLikeTheJdk() {
+        LocalDate date = LocalDate.of(1899, 12, 31);
+        LocalDate end = LocalDate.of(2101, 1, 1);
+        for (; date.isBefore(end); date = date.plusDays(1)) {
+            String value = date.toString();
+            assertEquals(date, parse(value), value);
+            assertEquals(date, parseUtf8(value), value);
+            assertEquals(date, FastDateParser.decode(FastDateParser.encode(value, 0, value.length())), value);
+        }
+    }
+
+    @Test
+    void invalidDatesAreRejected() {
+        for (String value : new String[]{"2001-02-29", "1900-02-29", "2020-13-01", "2020-00-10", "2020-04-31",
+                "2020-01-00", "2020/01/01", "2020-1-01", "20200101", "", "٢٠٢٠-01-01", "2020-01-01 "}) {
+            assertNull(parse(value), value);
+            assertNull(parseUtf8(value), value);
+            assertEquals(-1, FastDateParser.encode(value, 0, value.length()), value);
+        }
+        assertEquals(LocalDate.of(2000, 2, 29), parse("2000-02-29"));
+    }
+
+    @Test
+    void nonCanonicalDatesAreLeftToTheCaller() {
+        assertNull(parse("+12345-01-01"));
+        assertEquals(LocalDate.of(12345, 1, 1), ColumnParser.LOCALDATE_COLUMN_PARSER.parseOrNull("+12345-01-01"));
+        assertEquals(LocalDate.of(12345, 1, 1), ColumnParser.LOCALDATE_COLUMN_PARSER.tryParse("+12345-01-01"));
+        assertNull(ColumnParser.LOCALDATE_COLUMN_PARSER.tryParse("2001-02-29"));
+    }
+
+    @Test
+    void rangesWithinLongerValuesAreParsed() {
+        String value = "born on 2020-06-15.";
+
+        assertEquals(LocalDate.of(2020, 6, 15), FastDateParser.parse(value, 8, 18));
+        assertNull(FastDateParser.parse(value, 8, 19));
+    }
+
+    @Test
+    void repeatedDatesAreTakenFromTheCache() {
+        LocalDate first = parse("2021-03-04");
+
+        assertSame(first, parse("2021-03-04"));
+        assertSame(first, parseUtf8("2021-03-04"));
+    }
+}
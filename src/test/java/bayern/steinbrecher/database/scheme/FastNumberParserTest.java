@@ -0,0 +1,153 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Stefan Huber
+ */
+class FastNumberParserTest {
+    private static final long SEED = 42;
+    private static final int NUM_RANDOM_VALUES = 100_000;
+
+    private static ByteBuffer encode(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertParsedLikeJdk(String value) {
+        ByteBuffer utf8 = encode(value);
+        double expected;
+        try {
+            expected = Double.parseDouble(value);
+        } catch (NumberFormatException ex) {
+            assertThrows(NumberFormatException.class, () -> FastNumberParser.parseDouble(value, 0, value.length()),
+                    value);
+            assertThrows(NumberFormatException.class, () -> FastNumberParser.parseDouble(utf8, 0, utf8.limit()),
+                    value);
+            return;
+        }
+        // Compare the bits to distinguish -0.0 from 0.0
+        assertEquals(Double.doubleToLongBits(expected),
+                Double.doubleToLongBits(FastNumberParser.parseDouble(value, 0, value.length())), value);
+        assertEquals(Double.doubleToLongBits(expected),
+                Double.doubleToLongBits(FastNumberParser.parseDouble(utf8, 0, utf8.limit())), value);
+        double fastValue = FastNumberParser.tryParseDouble(value, 0, value.length());
+        if (!Double.isNaN(fastValue)) {
+            assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(fastValue), value);
+        }
+    }
+
+    private static void assertParsedLikeJdk(String value, long minValue, long maxValue) {
+        ByteBuffer utf8 = encode(value);
+        Long expected;
+        try {
+            long parsed = Long.parseLong(value);
+            expected = (parsed < minValue || parsed > maxValue) ? null : parsed;
+        } catch (NumberFormatException ex) {
+            expected = null;
+        }
+        if (expected == null) {
+            assertThrows(NumberFormatException.class,
+                    () -> FastNumberParser.parseIntegral(value, 0, value.length(), minValue, maxValue), value);
+            assertThrows(NumberFormatException.class,
+                    () -> FastNumberParser.parseIntegral(utf8, 0, utf8.limit(), minValue, maxValue), value);
+            assertEquals(FastNumberParser.UNDECIDED_INTEGRAL,
+                    FastNumberParser.tryParseIntegral(value, 0, value.length(), minValue, maxValue), value);
+        } else {
+            assertEquals(expected, FastNumberParser.parseIntegral(value, 0, value.length(), minValue, maxValue),
+                    value);
+            assertEquals(expected, FastNumberParser.parseIntegral(utf8, 0, utf8.limit(), minValue, maxValue), value);
+        }
+    }
+
+    @Test
+    void halfwayCasesAreRoundedToEven() {
+        // 2^53 + 1 lies exactly between two doubles
+        assertParsedLikeJdk("9007199254740993");
+        assertParsedLikeJdk("9007199254740995");
+        // 1 + 2^-53 lies exactly between 1 and its successor
+        assertParsedLikeJdk("1.00000000000000011102230246251565404236316680908203125");
+        assertParsedLikeJdk("1.00000000000000011102230246251565404236316680908203126");
+        assertParsedLikeJdk("1.00000000000000011102230246251565404236316680908203124");
+        assertParsedLikeJdk("2.2250738585072011e-308");
+        assertParsedLikeJdk("0.1");
+        assertParsedLikeJdk("0.3");
+    }
+
+    @Test
+    void subnormalsAreParsedLikeTheJdk() {
+        assertParsedLikeJdk("4.9e-324");
+        assertParsedLikeJdk("2.4703282292062327e-324");
+        assertParsedLikeJdk("2.4703282292062328e-324");
+        assertParsedLikeJdk("1e-320");
+        assertParsedLikeJdk("2.2250738585072009e-308");
+        assertParsedLikeJdk("-1e-310");
+        assertParsedLikeJdk("1e-400");
+    }
+
+    @Test
+    void overflowingValuesAreParsedLikeTheJdk() {
+        assertParsedLikeJdk("1.7976931348623157e308");
+        assertParsedLikeJdk("1.7976931348623159e308");
+        assertParsedLikeJdk("1.8e308");
+        assertParsedLikeJdk("-1e400");
+        assertParsedLikeJdk("1e100000000000");
+        assertParsedLikeJdk("9223372036854775807", Long.MIN_VALUE, Long.MAX_VALUE);
+        assertParsedLikeJdk("9223372036854775808", Long.MIN_VALUE, Long.MAX_VALUE);
+        assertParsedLikeJdk("-9223372036854775808", Long.MIN_VALUE, Long.MAX_VALUE);
+        assertParsedLikeJdk("-9223372036854775809", Long.MIN_VALUE, Long.MAX_VALUE);
+        assertParsedLikeJdk("2147483647", Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertParsedLikeJdk("2147483648", Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertParsedLikeJdk("-2147483648", Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertParsedLikeJdk("-2147483649", Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void nonAsciiDigitsAreParsedLikeTheJdk() {
+        assertParsedLikeJdk("١٢٣", Long.MIN_VALUE, Long.MAX_VALUE);
+        assertParsedLikeJdk("-٤٢", Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertParsedLikeJdk("１２", Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertParsedLikeJdk("1٢3");
+        assertParsedLikeJdk("１.５");
+    }
+
+    @Test
+    void unusualNotationsAreParsedLikeTheJdk() {
+        for (String value : new String[]{"", "-", "+", ".", "e5", "1e", "1e+", "+.5", "-0", "-0.0", "007", "1.",
+                "1.5E3", " 1.5 ", "NaN", "-Infinity", "0x1p3", "1d", "1f", "1_000", "--1", "1.2.3"}) {
+            assertParsedLikeJdk(value);
+            assertParsedLikeJdk(value, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void randomDoublesAreParsedLikeTheJdk() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < NUM_RANDOM_VALUES; i++) {
+            assertParsedLikeJdk(Double.toString(Double.longBitsToDouble(random.nextLong())));
+            StringBuilder digits = new StringBuilder();
+            int numDigits = 1 + random.nextInt(25);
+            for (int j = 0; j < numDigits; j++) {
+                digits.append((char) ('0' + random.nextInt(10)));
+            }
+            digits.insert(random.nextInt(numDigits + 1), '.');
+            assertParsedLikeJdk(digits + "e" + (random.nextInt(700) - 350));
+        }
+    }
+
+    @Test
+    void randomLongsAreParsedLikeTheJdk() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < NUM_RANDOM_VALUES; i++) {
+            String value = Long.toString(random.nextLong() >> random.nextInt(64));
+            assertParsedLikeJdk(value, Long.MIN_VALUE, Long.MAX_VALUE);
+            assertParsedLikeJdk(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Stefan Huber
+ */
+class InvalidCellStatisticsTest {
+    @Test
+    void invalidCellsAreSkippedAndRecorded() {
+        InvalidCellStatistics invalidCells = new InvalidCellStatistics(2);
+
+        List<TestEntry> entries = TestEntry.createTable()
+                .parseFrom(List.of(
+                        List.of("id", "name", "val_1"),
+                        List.of("1", "a", "1.5"),
+                        List.of("x", "b", "2"),
+                        List.of("y", "c", "z"),
+                        Arrays.asList("NULL", "d", "3"),
+                        List.of("4", "e", "4")), invalidCells);
+
+        assertEquals(5, entries.size());
+        assertEquals(1, entries.get(0).id);
+        assertNull(entries.get(1).id);
+        assertEquals("b", entries.get(1).name);
+        assertEquals(4, entries.get(4).id);
+        assertEquals(Set.of("id", "val_1"), invalidCells.getColumnNames());
+        assertEquals(3, invalidCells.getInvalidCount("id"));
+        assertEquals(1, invalidCells.getInvalidCount("val_1"));
+        assertEquals(0, invalidCells.getInvalidCount("name"));
+        assertEquals(4, invalidCells.getTotalInvalidCount());
+        assertEquals(List.of("x", "y"), invalidCells.getSamples("id"));
+        assertEquals(List.of("z"), invalidCells.getSamples("val_1"));
+    }
+
+    @Test
+    void sqlNullIsSampledAsNull() {
+        InvalidCellStatistics invalidCells = new InvalidCellStatistics(1);
+
+        TestEntry.createTable()
+                .parseFrom(List.of(List.of("id", "name"), List.of("null", "a")), invalidCells);
+
+        List<String> expectedSamples = new ArrayList<>();
+        expectedSamples.add(null);
+        assertEquals(expectedSamples, invalidCells.getSamples("id"));
+    }
+
+    @Test
+    void statisticsCanBeSharedByConcurrentParses() throws InterruptedException {
+        InvalidCellStatistics invalidCells = new InvalidCellStatistics(3);
+        List<List<String>> rows = new ArrayList<>();
+        rows.add(List.of("id", "name"));
+        for (int i = 0; i < 1000; i++) {
+            rows.add(List.of("invalid" + i, "a"));
+        }
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> table.parseFrom(rows, invalidCells));
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(4000, invalidCells.getInvalidCount("id"));
+        assertEquals(3, invalidCells.getSamples("id").size());
+    }
+
+    @Test
+    void negativeSampleCountsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new InvalidCellStatistics(-1));
+    }
+}
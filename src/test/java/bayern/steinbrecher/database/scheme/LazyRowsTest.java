@@ -0,0 +1,111 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Stefan Huber
+ */
+class LazyRowsTest {
+    private static final List<List<String>> QUERY_RESULT = List.of(
+            List.of("id", "name", "count", "active", "born", "val_1"),
+            List.of("1", "alice", "10000000000", "1", "2000-01-31", "0.5"),
+            List.of("2", "NULL", "x", "0", "NULL", "1.5"));
+
+    private static LazyRows parse(boolean memoize) {
+        return TestEntry.createTable(List.of(TestEntry.COUNT, TestEntry.ACTIVE, TestEntry.BORN, TestEntry.VALUES))
+                .parseLazily(QUERY_RESULT, memoize);
+    }
+
+    @Test
+    void onlySimpleColumnsAreStored() {
+        LazyRows rows = parse(false);
+
+        assertEquals(2, rows.size());
+        assertEquals(List.of(TestEntry.ID, TestEntry.NAME, TestEntry.COUNT, TestEntry.ACTIVE, TestEntry.BORN),
+                rows.getColumns());
+        assertEquals(List.of(0, 1), rows.rows()
+                .map(LazyRows.LazyRow::getRowIndex)
+                .collect(Collectors.toList()));
+        assertThrows(IndexOutOfBoundsException.class, () -> rows.getRow(2));
+    }
+
+    @Test
+    void cellsAreParsedOnAccess() {
+        LazyRows.LazyRow first = parse(false).getRow(0);
+
+        assertEquals(1, first.getInt(TestEntry.ID));
+        assertEquals(10_000_000_000L, first.getLong(TestEntry.COUNT));
+        assertTrue(first.getBoolean(TestEntry.ACTIVE));
+        assertEquals("alice", first.get(TestEntry.NAME));
+        assertEquals(LocalDate.of(2000, 1, 31), first.get(TestEntry.BORN));
+        assertEquals("10000000000", first.getRaw(TestEntry.COUNT));
+    }
+
+    @Test
+    void sqlNullIsExposedAsNull() {
+        LazyRows.LazyRow second = parse(false).getRow(1);
+
+        assertTrue(second.isNull(TestEntry.NAME));
+        assertNull(second.getRaw(TestEntry.NAME));
+        assertNull(second.get(TestEntry.BORN));
+        assertFalse(second.getBoolean(TestEntry.ACTIVE));
+        assertThrows(IllegalArgumentException.class, () -> second.getLong(TestEntry.COUNT));
+    }
+
+    @Test
+    void primitiveGettersRejectNullAndInvalidCells() {
+        SimpleColumnPattern<Integer, TestEntry> nameAsInt = new SimpleColumnPattern<>(
+                "name", TestEntry.NAME.getKeywords(), ColumnParser.INTEGER_COLUMN_PARSER, (entry, value) -> entry);
+        LazyRows rows = new Table<>("test", List.of(TestEntry.ID, nameAsInt), List.of(TestEntry.COUNT),
+                TestEntry::new, entries -> entries.collect(Collectors.toList()))
+                .parseLazily(QUERY_RESULT, false);
+
+        assertThrows(IllegalArgumentException.class, () -> rows.getRow(0).getInt(nameAsInt));
+        assertThrows(IllegalArgumentException.class, () -> rows.getRow(1).getInt(nameAsInt));
+        assertThrows(IllegalArgumentException.class, () -> rows.getRow(1).getLong(TestEntry.COUNT));
+        assertNull(rows.getRow(1).get(TestEntry.COUNT));
+    }
+
+    @Test
+    void doublesAreParsedWithoutBoxing() {
+        DoubleColumnPattern<TestEntry> value = new DoubleColumnPattern<>("val_1", Set.of(),
+                (entry, parsed) -> entry);
+        LazyRows rows = new Table<>("test", List.of(TestEntry.ID, value), List.of(), TestEntry::new,
+                entries -> entries.collect(Collectors.toList()))
+                .parseLazily(QUERY_RESULT, false);
+
+        assertEquals(0.5, rows.getRow(0).getDouble(value));
+        assertEquals(1.5, rows.getRow(1).getDouble(value));
+    }
+
+    @Test
+    void memoizedCellsAreParsedOnce() {
+        LazyRows.LazyRow memoized = parse(true).getRow(0);
+        LazyRows.LazyRow unmemoized = parse(false).getRow(0);
+
+        assertSame(memoized.get(TestEntry.NAME), memoized.get(TestEntry.NAME));
+        assertSame(memoized.get(TestEntry.BORN), memoized.get(TestEntry.BORN));
+        assertNotSame(unmemoized.get(TestEntry.NAME), unmemoized.get(TestEntry.NAME));
+    }
+
+    @Test
+    void unboundColumnsAreRejected() {
+        LazyRows rows = TestEntry.createTable().parseLazily(QUERY_RESULT, false);
+
+        assertThrows(IllegalArgumentException.class, () -> rows.getRow(0).get(TestEntry.COUNT));
+        assertThrows(IllegalArgumentException.class, () -> rows.getRow(0).isNull(TestEntry.BORN));
+    }
+}
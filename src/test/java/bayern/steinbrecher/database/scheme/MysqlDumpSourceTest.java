@@ -0,0 +1,164 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Stefan Huber
+ */
+class MysqlDumpSourceTest {
+    private static final String CREATE_TABLE = "CREATE TABLE `test` (\n"
+            + "  `id` int NOT NULL,\n"
+            + "  `name` varchar(255) DEFAULT 'a,b',\n"
+            + "  PRIMARY KEY (`id`)\n"
+            + ") ENGINE=InnoDB;\n";
+
+    @TempDir
+    Path directory;
+
+    private static MysqlDumpSource source(String dump) {
+        return new MysqlDumpSource(Channels.newChannel(new ByteArrayInputStream(dump.getBytes(StandardCharsets.UTF_8))),
+                "test", StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads all rows of the given source representing SQL {@code NULL} by {@code null}.
+     */
+    private static List<List<String>> readAll(RowSource source) {
+        List<List<String>> rows = new ArrayList<>();
+        while (source.next()) {
+            List<String> row = new ArrayList<>();
+            for (int i = 0; i < source.getHeadings().size(); i++) {
+                row.add(source.isNull(i) ? null : source.getCell(i).toString());
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Test
+    void rowsOfTheTableAreRead() {
+        String dump = "-- MySQL dump\n/*!40101 SET NAMES utf8mb4 */;\n"
+                + "CREATE TABLE `other` (`x` int);\n"
+                + "INSERT INTO `other` VALUES (1),(2);\n"
+                + CREATE_TABLE
+                + "LOCK TABLES `test` WRITE;\n"
+                + "INSERT INTO `test` VALUES (1,'Jürgen'),(2,'b');\n"
+                + "INSERT INTO `test` VALUES (3,'c');\n"
+                + "UNLOCK TABLES;\n";
+        MysqlDumpSource source = source(dump);
+
+        assertEquals(List.of("id", "name"), source.getHeadings());
+        assertEquals(List.of(List.of("1", "Jürgen"), List.of("2", "b"), List.of("3", "c")), readAll(source));
+    }
+
+    @Test
+    void columnListsTakePrecedenceOverTheTableDefinition() {
+        assertEquals(List.of(List.of("a", "1")),
+                readAll(source(CREATE_TABLE + "INSERT IGNORE INTO `db`.`test` (`name`, `id`) VALUES ('a', 1);")));
+        assertThrows(IllegalStateException.class,
+                () -> readAll(source("INSERT INTO test VALUES (1,'a');")));
+    }
+
+    @Test
+    void escapesAreReplaced() {
+        String dump = CREATE_TABLE + "INSERT INTO `test` VALUES "
+                + "(1,'it\\'s'),(2,'it''s'),(3,'a\\nb\\tc\\\\'),(4,'100\\%'),(5,\"say \\\"hi\\\"\");";
+
+        assertEquals(List.of(List.of("1", "it's"), List.of("2", "it's"), List.of("3", "a\nb\tc\\"),
+                List.of("4", "100\\%"), List.of("5", "say \"hi\"")), readAll(source(dump)));
+    }
+
+    @Test
+    void onlyUnquotedNullRepresentsSqlNull() {
+        assertEquals(List.of(Arrays.asList("1", null), List.of("2", "NULL")),
+                readAll(source(CREATE_TABLE + "INSERT INTO `test` VALUES (1,NULL),(2,'NULL');")));
+    }
+
+    @Test
+    void hexadecimalLiteralsAreDecoded() {
+        String dump = CREATE_TABLE + "INSERT INTO `test` VALUES "
+                + "(1,0x4A75),(2,X'4a75'),(3,x''),(4,_binary 0x4A75),(5,0x141),(6,0xC3BC);";
+
+        assertEquals(List.of(List.of("1", "Ju"), List.of("2", "Ju"), List.of("3", ""), List.of("4", "Ju"),
+                List.of("5", "\u0001A"), List.of("6", "ü")), readAll(source(dump)));
+        assertThrows(IllegalArgumentException.class,
+                () -> readAll(source(CREATE_TABLE + "INSERT INTO `test` VALUES (1,X'4A7');")));
+        assertThrows(IllegalArgumentException.class,
+                () -> readAll(source(CREATE_TABLE + "INSERT INTO `test` VALUES (1,X'4G');")));
+        assertThrows(IllegalArgumentException.class,
+                () -> readAll(source(CREATE_TABLE + "INSERT INTO `test` VALUES (1,0x);")));
+        assertThrows(IllegalArgumentException.class,
+                () -> readAll(source(CREATE_TABLE + "INSERT INTO `test` VALUES (1,0x4G);")));
+    }
+
+    @Test
+    void dumpsLargerThanTheBufferAreRead() {
+        StringBuilder dump = new StringBuilder(CREATE_TABLE);
+        List<List<String>> expected = new ArrayList<>();
+        for (int statement = 0; statement < 20; statement++) {
+            dump.append("INSERT INTO `test` VALUES ");
+            for (int row = 0; row < 500; row++) {
+                int id = statement * 500 + row;
+                String name = "name\\n" + id + " " + "x".repeat(id % 100);
+                dump.append(row == 0 ? "" : ",")
+                        .append('(')
+                        .append(id)
+                        .append(",'")
+                        .append(name)
+                        .append("')");
+                expected.add(List.of(String.valueOf(id), name.replace("\\n", "\n")));
+            }
+            dump.append(";\n");
+        }
+
+        assertEquals(expected, readAll(source(dump.toString())));
+    }
+
+    @Test
+    void dumpsAreParsedByTables() throws IOException {
+        String dump = CREATE_TABLE + "INSERT INTO `test` VALUES (1,'a'),(2,0x62);\n";
+        Path plain = directory.resolve("dump.sql");
+        Files.write(plain, dump.getBytes(StandardCharsets.UTF_8));
+        Path compressed = directory.resolve("dump.sql.gz");
+        try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(compressed))) {
+            output.write(dump.getBytes(StandardCharsets.UTF_8));
+        }
+
+        for (Path path : List.of(plain, compressed)) {
+            try (MysqlDumpSource source = MysqlDumpSource.open(path, "TEST")) {
+                List<TestEntry> entries = TestEntry.createTable().parseFrom(source);
+
+                assertEquals(2, entries.size());
+                assertEquals(2, entries.get(1).id);
+                assertEquals("b", entries.get(1).name);
+            }
+        }
+    }
+
+    @Test
+    void malformedDumpsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> source("CREATE TABLE `other` (`x` int);").getHeadings());
+        assertThrows(IllegalArgumentException.class,
+                () -> readAll(source(CREATE_TABLE + "INSERT INTO `test` VALUES (1);")));
+        assertThrows(IllegalArgumentException.class,
+                () -> readAll(source(CREATE_TABLE + "INSERT INTO `test` VALUES (1,'a)")));
+        assertThrows(IllegalArgumentException.class,
+                () -> readAll(source(CREATE_TABLE + "INSERT INTO `test` SELECT * FROM `other`;")));
+    }
+}
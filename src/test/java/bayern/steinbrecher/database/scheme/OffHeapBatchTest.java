@@ -0,0 +1,162 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Stefan Huber
+ */
+class OffHeapBatchTest {
+    private static final List<List<String>> QUERY_RESULT = List.of(
+            List.of("id", "name", "active", "count", "born", "score", "val_1"),
+            List.of("1", "Jürgen", "1", "10000000000", "2020-02-29", "0.1", "1.5"),
+            List.of("NULL", "b", "0", "invalid", "1999-12-31", "-1e300", "2"),
+            List.of("3", "NULL", "invalid", "-1", "NULL", "NULL", "3"));
+    private static final SimpleColumnPattern<Double, TestEntry> SCORE = new SimpleColumnPattern<>(
+            "score", Set.of(), ColumnParser.DOUBLE_COLUMN_PARSER, (entry, value) -> entry);
+
+    @TempDir
+    Path directory;
+
+    private static OffHeapBatch parse(RowSource source) {
+        return TestEntry.createTable(
+                List.of(TestEntry.ACTIVE, TestEntry.COUNT, TestEntry.BORN, SCORE, TestEntry.VALUES))
+                .parseOffHeap(source);
+    }
+
+    private DelimitedFile write(List<List<String>> queryResult, Charset charset) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (List<String> row : queryResult) {
+            content.append(String.join(",", row))
+                    .append('\n');
+        }
+        Path file = Files.createTempFile(directory, "table", ".csv");
+        Files.write(file, content.toString().getBytes(charset));
+        return DelimitedFile.open(file, charset, ',', '"');
+    }
+
+    private static void assertBatch(OffHeapBatch batch) {
+        assertEquals(QUERY_RESULT.get(0), batch.getHeadings());
+        assertEquals(3, batch.getRowCount());
+        assertEquals(Set.of(TestEntry.ID, TestEntry.NAME, TestEntry.ACTIVE, TestEntry.COUNT, TestEntry.BORN, SCORE),
+                batch.getColumns());
+
+        OffHeapColumn.IntColumn ids = batch.getIntColumn(TestEntry.ID);
+        assertEquals(3, ids.size());
+        assertEquals(1, ids.getInt(0));
+        assertTrue(ids.isNull(1));
+        assertEquals(0, ids.getInt(1));
+        assertNull(ids.getObject(1));
+        assertEquals(3, ids.getObject(2));
+        assertEquals(1, ids.getNullCount());
+
+        OffHeapColumn.StringColumn names = batch.getStringColumn(TestEntry.NAME);
+        assertEquals("Jürgen", names.getString(0));
+        assertEquals("b", names.getObject(1));
+        assertTrue(names.isNull(2));
+        assertNull(names.getString(2));
+        assertEquals(0, names.getUtf8Length(2));
+
+        OffHeapColumn.BooleanColumn active = batch.getBooleanColumn(TestEntry.ACTIVE);
+        assertTrue(active.getBoolean(0));
+        assertFalse(active.getBoolean(1));
+        // Booleans are true only for 1
+        assertFalse(active.isNull(2));
+        assertFalse(active.getBoolean(2));
+
+        OffHeapColumn.LongColumn counts = batch.getLongColumn(TestEntry.COUNT);
+        assertEquals(10_000_000_000L, counts.getLong(0));
+        // Invalid cells are treated like SQL NULL
+        assertTrue(counts.isNull(1));
+        assertEquals(-1L, counts.getObject(2));
+
+        OffHeapColumn.DateColumn born = batch.getDateColumn(TestEntry.BORN);
+        assertEquals(LocalDate.of(2020, 2, 29).toEpochDay(), born.getEpochDay(0));
+        assertEquals(LocalDate.of(1999, 12, 31), born.getObject(1));
+        assertTrue(born.isNull(2));
+
+        OffHeapColumn.DoubleColumn scores = batch.getDoubleColumn(SCORE);
+        assertEquals(0.1, scores.getDouble(0));
+        assertEquals(-1e300, scores.getDouble(1));
+        assertNull(scores.getObject(2));
+    }
+
+    @Test
+    void queryResultsAreParsedOffHeap() {
+        assertBatch(parse(RowSource.of(QUERY_RESULT)));
+    }
+
+    @Test
+    void byteSourcesAreParsedOffHeap() throws IOException {
+        try (DelimitedFile file = write(QUERY_RESULT, StandardCharsets.UTF_8)) {
+            assertBatch(parse(file.rows()));
+        }
+        try (DelimitedFile file = write(QUERY_RESULT, StandardCharsets.ISO_8859_1)) {
+            assertBatch(parse(file.rows()));
+        }
+    }
+
+    @Test
+    void stringsAreCopiedAsUtf8() {
+        OffHeapColumn.StringColumn names = parse(RowSource.of(QUERY_RESULT)).getStringColumn(TestEntry.NAME);
+        byte[] expected = "Jürgen".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(expected.length, names.getUtf8Length(0));
+        byte[] target = new byte[expected.length + 2];
+        assertEquals(expected.length, names.copyUtf8(0, target, 2));
+        assertArrayEquals(expected, Arrays.copyOfRange(target, 2, target.length));
+        assertEquals(0, names.copyUtf8(2, target, 0));
+    }
+
+    @Test
+    void manyRowsAreStored() {
+        List<List<String>> queryResult = new ArrayList<>();
+        queryResult.add(List.of("id", "name", "count"));
+        for (int row = 0; row < 10_000; row++) {
+            queryResult.add(List.of(row % 7 == 0 ? "NULL" : String.valueOf(row), "name " + row, String.valueOf(-row)));
+        }
+
+        OffHeapBatch batch = TestEntry.createTable(List.of(TestEntry.COUNT)).parseOffHeap(queryResult);
+
+        assertEquals(10_000, batch.getRowCount());
+        OffHeapColumn.IntColumn ids = batch.getIntColumn(TestEntry.ID);
+        OffHeapColumn.StringColumn names = batch.getStringColumn(TestEntry.NAME);
+        OffHeapColumn.LongColumn counts = batch.getLongColumn(TestEntry.COUNT);
+        for (int row = 0; row < 10_000; row++) {
+            assertEquals(row % 7 == 0, ids.isNull(row), "row " + row);
+            assertEquals(row % 7 == 0 ? 0 : row, ids.getInt(row), "row " + row);
+            assertEquals("name " + row, names.getString(row));
+            assertEquals(-row, counts.getLong(row));
+        }
+        assertEquals((10_000 + 6) / 7, ids.getNullCount());
+        assertEquals(0, counts.getNullCount());
+    }
+
+    @Test
+    void invalidAccessesAreRejected() {
+        OffHeapBatch batch = TestEntry.createTable().parseOffHeap(List.of(List.of("id", "name"), List.of("1", "a")));
+
+        assertThrows(IllegalArgumentException.class, () -> batch.getColumn(TestEntry.COUNT));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.getIntColumn(TestEntry.ID).getInt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.getIntColumn(TestEntry.ID).isNull(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.getStringColumn(TestEntry.NAME).getString(1));
+    }
+}
@@ -0,0 +1,96 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * @author Stefan Huber
+ */
+class ParallelParseTest {
+    /**
+     * Spans multiple chunks including a partial one.
+     */
+    private static final int NUM_ROWS = 10_000;
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    private static List<List<String>> createRows(int numRows) {
+        List<List<String>> rows = new ArrayList<>(numRows + 1);
+        rows.add(List.of("id", "name"));
+        for (int i = 0; i < numRows; i++) {
+            rows.add(List.of(String.valueOf(i), "name" + i));
+        }
+        return rows;
+    }
+
+    private static List<Integer> ids(List<TestEntry> entries) {
+        return entries.stream()
+                .map(entry -> entry.id)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void orderedParsingMatchesSequentialParsing() {
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+        List<List<String>> rows = createRows(NUM_ROWS);
+
+        assertEquals(ids(table.parseFrom(rows)), ids(table.parseFromParallel(rows, pool, true)));
+    }
+
+    @Test
+    void unorderedParsingPassesAllRows() {
+        List<Integer> ids = ids(TestEntry.createTable()
+                .parseFromParallel(createRows(NUM_ROWS), pool, false));
+
+        ids.sort(Integer::compare);
+        assertEquals(NUM_ROWS, ids.size());
+        for (int i = 0; i < NUM_ROWS; i++) {
+            assertEquals(i, ids.get(i));
+        }
+    }
+
+    @Test
+    void emptyQueryResultsAreReduced() {
+        assertEquals(List.of(), TestEntry.createTable()
+                .parseFromParallel(createRows(0), pool, true));
+    }
+
+    @Test
+    void failuresOfChunksAreRethrownUnwrapped() {
+        List<List<String>> rows = createRows(NUM_ROWS);
+        rows.set(NUM_ROWS / 2, List.of("noNumber", "x"));
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+
+        assertThrows(IllegalArgumentException.class, () -> table.parseFromParallel(rows, pool, true));
+        assertThrows(IllegalArgumentException.class, () -> table.parseFromParallel(rows, pool, false));
+    }
+
+    @Test
+    void parsingFromWithinASingleThreadedPoolDoesNotDeadlock() {
+        ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        try {
+            List<List<String>> rows = createRows(NUM_ROWS);
+            Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+            List<TestEntry> entries = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> singleThreadPool
+                    .submit(() -> table.parseFromParallel(rows, singleThreadPool, true))
+                    .get());
+            assertEquals(NUM_ROWS, entries.size());
+        } finally {
+            singleThreadPool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Stefan Huber
+ */
+class PrimitiveColumnPatternTest {
+    private static final class Measurement {
+        int count;
+        long total;
+        double mean;
+        boolean valid;
+    }
+
+    private static final IntColumnPattern<Measurement> COUNT = new IntColumnPattern<>("count", Set.of(),
+            (measurement, value) -> {
+                measurement.count = value;
+                return measurement;
+            });
+    private static final LongColumnPattern<Measurement> TOTAL = new LongColumnPattern<>("total", Set.of(),
+            (measurement, value) -> {
+                measurement.total = value;
+                return measurement;
+            });
+    private static final DoubleColumnPattern<Measurement> MEAN = new DoubleColumnPattern<>("mean", Set.of(),
+            (measurement, value) -> {
+                measurement.mean = value;
+                return measurement;
+            });
+    private static final BooleanColumnPattern<Measurement> VALID = new BooleanColumnPattern<>("valid", Set.of(),
+            (measurement, value) -> {
+                measurement.valid = value;
+                return measurement;
+            });
+
+    private static Table<List<Measurement>, Measurement> createTable() {
+        return new Table<>("measurements", List.of(COUNT, TOTAL, MEAN, VALID), List.of(), Measurement::new,
+                measurements -> measurements.collect(Collectors.toList()));
+    }
+
+    @Test
+    void primitiveColumnsAreSet() {
+        List<Measurement> measurements = createTable()
+                .parseFrom(List.of(
+                        List.of("count", "total", "mean", "valid"),
+                        List.of("3", "12000000000", "4.0E9", "1"),
+                        List.of("-1", "0", "-0.25", "0")));
+
+        assertEquals(3, measurements.get(0).count);
+        assertEquals(12_000_000_000L, measurements.get(0).total);
+        assertEquals(4e9, measurements.get(0).mean);
+        assertTrue(measurements.get(0).valid);
+        assertEquals(-1, measurements.get(1).count);
+        assertEquals(-0.25, measurements.get(1).mean);
+        assertFalse(measurements.get(1).valid);
+    }
+
+    @Test
+    void primitivePatternsUseTheBoxedParsers() {
+        assertEquals(ColumnParser.INTEGER_COLUMN_PARSER, COUNT.getParser());
+        assertEquals(ColumnParser.LONG_COLUMN_PARSER, TOTAL.getParser());
+        assertEquals(ColumnParser.DOUBLE_COLUMN_PARSER, MEAN.getParser());
+        assertEquals(ColumnParser.BOOLEAN_COLUMN_PARSER, VALID.getParser());
+    }
+
+    @Test
+    void invalidAndNullValuesAreRejected() {
+        Table<List<Measurement>, Measurement> table = createTable();
+
+        assertThrows(IllegalArgumentException.class, () -> table.parseFrom(List.of(
+                List.of("count"), List.of("1.5"))));
+        assertThrows(IllegalArgumentException.class, () -> table.parseFrom(List.of(
+                List.of("total"), List.of("NULL"))));
+        assertThrows(IllegalArgumentException.class, () -> COUNT.combine(new Measurement(), "count", "x"));
+    }
+}
@@ -0,0 +1,68 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Stefan Huber
+ */
+class ProjectionTest {
+    private static final List<List<String>> QUERY_RESULT = List.of(
+            List.of("id", "name", "val_1"),
+            List.of("1", "a", "0.5"),
+            List.of("2", "b", "1.5"));
+
+    @Test
+    void unprojectedColumnsAreNotParsed() {
+        List<TestEntry> entries = TestEntry.createTable()
+                .project(List.of(TestEntry.ID, TestEntry.VALUES))
+                .parseFrom(QUERY_RESULT);
+
+        assertEquals(2, entries.size());
+        assertEquals(1, entries.get(0).id);
+        assertNull(entries.get(0).name);
+        assertEquals(1.5, entries.get(1).values.get(1));
+    }
+
+    @Test
+    void projectionsShareTheBindingsOfTheirTable() {
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+        Table<List<TestEntry>, TestEntry> projection = table.project(List.of(TestEntry.NAME));
+        List<BindingDiagnostics> reported = new ArrayList<>();
+        // The listener is forwarded to the table since only the table creates bindings
+        projection.setBindingDiagnosticsListener(reported::add);
+
+        table.parseFrom(QUERY_RESULT);
+        List<TestEntry> entries = projection.parseFrom(QUERY_RESULT);
+
+        assertEquals(1, reported.size());
+        assertEquals("a", entries.get(0).name);
+        assertNull(entries.get(0).id);
+    }
+
+    @Test
+    void parseStrategiesAreRejected() {
+        Table<List<TestEntry>, TestEntry> projection = TestEntry.createTable().project(List.of(TestEntry.ID));
+        ParseStrategy<TestEntry> strategy = headings -> row -> new TestEntry();
+
+        assertThrows(UnsupportedOperationException.class, () -> projection.parseFrom(QUERY_RESULT, strategy));
+        // The table itself still supports strategies
+        assertEquals(2, TestEntry.createTable().parseFrom(QUERY_RESULT, strategy).size());
+    }
+
+    @Test
+    void onlyColumnsOfTheTableCanBeProjected() {
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+
+        assertThrows(IllegalArgumentException.class, () -> table.project(List.of(TestEntry.COUNT)));
+        assertTrue(table.project(List.of()).parseFrom(QUERY_RESULT).stream()
+                .allMatch(entry -> entry.id == null && entry.values.isEmpty()));
+    }
+}
@@ -0,0 +1,48 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Stefan Huber
+ */
+class RegexColumnPatternTest {
+    @Test
+    void keysAreExtractedOncePerBoundHeading() {
+        AtomicInteger extractions = new AtomicInteger();
+        RegexColumnPattern<Double, TestEntry, Integer> values = new RegexColumnPattern<>(
+                "^val_\\d+$", ColumnParser.DOUBLE_COLUMN_PARSER, (entry, key, value) -> {
+            entry.values.put(key, value);
+            return entry;
+        }, heading -> {
+            extractions.incrementAndGet();
+            return Integer.parseInt(heading.substring("val_".length()));
+        });
+        List<List<String>> rows = new ArrayList<>();
+        rows.add(List.of("id", "name", "val_1", "val_20"));
+        for (int i = 0; i < 100; i++) {
+            rows.add(List.of(String.valueOf(i), "x", "1", "2"));
+        }
+
+        List<TestEntry> entries = TestEntry.createTable(List.of(values))
+                .parseFrom(rows);
+
+        assertEquals(2, extractions.get());
+        assertEquals(Map.of(1, 1.0, 20, 2.0), entries.get(99).values);
+    }
+
+    @Test
+    void combineExtractsTheKeyOfTheGivenColumn() {
+        TestEntry entry = TestEntry.VALUES.combine(new TestEntry(), "VAL_7", "0.5");
+
+        assertEquals(Map.of(7, 0.5), entry.values);
+        assertThrows(IllegalArgumentException.class, () -> TestEntry.VALUES.combine(new TestEntry(), "other", "1"));
+    }
+}
@@ -0,0 +1,109 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Stefan Huber
+ */
+class ResultSetParseTest {
+    private static final List<ColumnPattern<?, TestEntry>> TYPED_COLUMNS
+            = List.of(TestEntry.ACTIVE, TestEntry.COUNT, TestEntry.BORN, TestEntry.VALUES);
+
+    private static List<Object> row(Object... cells) {
+        return Arrays.asList(cells);
+    }
+
+    @Test
+    void cellsAreReadWithTypedGetters() throws SQLException {
+        StubResultSet stub = StubResultSet.of(List.of("id", "name", "count", "born", "val_3"),
+                List.of(row(1, "a", 10_000_000_000L, LocalDate.of(2020, 2, 29), 1.5)));
+
+        List<TestEntry> entries = TestEntry.createTable(TYPED_COLUMNS)
+                .parseFrom(stub.asResultSet());
+
+        assertEquals(1, entries.size());
+        TestEntry entry = entries.get(0);
+        assertEquals(1, entry.id);
+        assertEquals("a", entry.name);
+        assertEquals(10_000_000_000L, entry.count);
+        assertEquals(LocalDate.of(2020, 2, 29), entry.born);
+        assertEquals(Map.of(3, 1.5), entry.values);
+        assertEquals(List.of("getInt", "getString", "getLong", "getObject", "getDouble"), stub.getCalledGetters());
+    }
+
+    @Test
+    void sqlNullIsDetectedByWasNull() {
+        StubResultSet stub = StubResultSet.of(List.of("id", "name"), List.of(row(null, "a")));
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+
+        // A NULL integer is read as 0 by getInt and must not be set as such
+        assertThrows(IllegalArgumentException.class, () -> table.parseFrom(stub.asResultSet()));
+        assertEquals(List.of("getInt"), stub.getCalledGetters());
+    }
+
+    @Test
+    void booleansAreParsedLikeText() throws SQLException {
+        StubResultSet stub = StubResultSet.of(List.of("id", "name", "active"),
+                List.of(row(1, "a", 1), row(2, "b", 0), row(3, "c", null)));
+
+        List<TestEntry> entries = TestEntry.createTable(TYPED_COLUMNS)
+                .parseFrom(stub.asResultSet());
+
+        assertTrue(entries.get(0).active);
+        assertFalse(entries.get(1).active);
+        assertFalse(entries.get(2).active);
+        List<TestEntry> parsedFromText = TestEntry.createTable(TYPED_COLUMNS)
+                .parseFrom(List.of(List.of("id", "name", "active"), List.of("1", "a", "1"), List.of("2", "b", "0"),
+                        List.of("3", "c", "NULL")));
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(parsedFromText.get(i).active, entries.get(i).active);
+        }
+    }
+
+    @Test
+    void fetchSizeIsAppliedBeforeReading() throws SQLException {
+        StubResultSet stub = StubResultSet.of(List.of("id", "name"), List.of(row(1, "a"), row(2, "b")));
+
+        List<TestEntry> entries = TestEntry.createTable()
+                .parseFrom(stub.asResultSet(), 500);
+
+        assertEquals(500, stub.getFetchSize());
+        assertEquals(2, entries.size());
+        assertThrows(NullPointerException.class, () -> TestEntry.createTable()
+                .parseFrom((ResultSet) null, 500));
+    }
+
+    @Test
+    void customPatternsReadCellsAsText() throws SQLException {
+        List<String> seenValues = new ArrayList<>();
+        ColumnPattern<String, TestEntry> custom = new ColumnPattern<>("^custom$", ColumnParser.STRING_COLUMN_PARSER) {
+            @Override
+            public TestEntry combineImpl(@NotNull TestEntry toSet, @NotNull String columnName,
+                                         @Nullable String valueToParse) {
+                seenValues.add(valueToParse);
+                return toSet;
+            }
+        };
+        StubResultSet stub = StubResultSet.of(List.of("id", "name", "custom"), List.of(row(1, "a", 42)));
+
+        TestEntry.createTable(List.of(custom))
+                .parseFrom(stub.asResultSet());
+
+        assertEquals(List.of("42"), seenValues);
+    }
+}
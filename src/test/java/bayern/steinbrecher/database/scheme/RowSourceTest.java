@@ -0,0 +1,193 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Stefan Huber
+ */
+class RowSourceTest {
+    private static final List<List<String>> QUERY_RESULT = List.of(
+            List.of("id", "name", "born", "count", "val_1"),
+            List.of("1", "Jürgen", "1990-05-17", "10000000000", "0.25"),
+            List.of("2", "Zoë", "2000-02-29", "-3", "1e3"));
+    private static final List<List<String>> NULL_ROW = List.of(
+            QUERY_RESULT.get(0),
+            List.of("3", "NULL", "null", "0", "0"));
+
+    /**
+     * Exposes the cells of a query result encoded in a single buffer per row.
+     */
+    private static final class EncodedRowSource extends ByteRowSource {
+        private final List<List<String>> queryResult;
+        private final Charset charset;
+        private int rowIndex;
+        private ByteBuffer buffer;
+        private int[] offsets;
+
+        EncodedRowSource(List<List<String>> queryResult, Charset charset) {
+            super(charset);
+            this.queryResult = queryResult;
+            this.charset = charset;
+        }
+
+        @Override
+        public List<String> getHeadings() {
+            return queryResult.get(0);
+        }
+
+        @Override
+        public boolean next() {
+            rowIndex++;
+            boolean hasNext = rowIndex < queryResult.size();
+            if (hasNext) {
+                List<String> row = queryResult.get(rowIndex);
+                StringBuilder concatenated = new StringBuilder();
+                offsets = new int[row.size() + 1];
+                for (int i = 0; i < row.size(); i++) {
+                    // Prefix each cell to ensure cells are read from their offsets
+                    concatenated.append('|')
+                            .append(row.get(i));
+                    offsets[i + 1] = concatenated.toString().getBytes(charset).length;
+                }
+                buffer = ByteBuffer.wrap(concatenated.toString().getBytes(charset));
+            }
+            return hasNext;
+        }
+
+        @Override
+        public ByteBuffer getBuffer() {
+            return buffer;
+        }
+
+        @Override
+        public int getCellBegin(int columnIndex) {
+            return offsets[columnIndex] + 1;
+        }
+
+        @Override
+        public int getCellEnd(int columnIndex) {
+            return offsets[columnIndex + 1];
+        }
+    }
+
+    private static final class Entry {
+        int id;
+        String name;
+        LocalDate born;
+        long count;
+        double value;
+    }
+
+    private static Table<List<Entry>, Entry> createTable() {
+        return new Table<>("entries", List.of(
+                new IntColumnPattern<>("id", Set.of(), (entry, id) -> {
+                    entry.id = id;
+                    return entry;
+                }),
+                new SimpleColumnPattern<>("name", Set.of(), ColumnParser.STRING_COLUMN_PARSER, (entry, name) -> {
+                    entry.name = name;
+                    return entry;
+                }),
+                new SimpleColumnPattern<>("born", Set.of(), ColumnParser.LOCALDATE_COLUMN_PARSER, (entry, born) -> {
+                    entry.born = born;
+                    return entry;
+                }),
+                new LongColumnPattern<>("count", Set.of(), (entry, count) -> {
+                    entry.count = count;
+                    return entry;
+                }),
+                new DoubleColumnPattern<>("val_1", Set.of(), (entry, value) -> {
+                    entry.value = value;
+                    return entry;
+                })), List.of(), Entry::new, entries -> entries.collect(Collectors.toList()));
+    }
+
+    private static void assertParsed(List<Entry> entries) {
+        assertEquals(2, entries.size());
+        Entry first = entries.get(0);
+        assertEquals(1, first.id);
+        assertEquals("Jürgen", first.name);
+        assertEquals(LocalDate.of(1990, 5, 17), first.born);
+        assertEquals(10_000_000_000L, first.count);
+        assertEquals(0.25, first.value);
+        Entry second = entries.get(1);
+        assertEquals("Zoë", second.name);
+        assertEquals(LocalDate.of(2000, 2, 29), second.born);
+        assertEquals(-3, second.count);
+        assertEquals(1000, second.value);
+    }
+
+    @Test
+    void listsOfRowsAreExposedAsSource() {
+        RowSource source = RowSource.of(QUERY_RESULT);
+
+        assertEquals(QUERY_RESULT.get(0), source.getHeadings());
+        assertThrows(IllegalStateException.class, () -> source.getCell(0));
+        assertTrue(source.next());
+        assertEquals("Jürgen", source.getCell(1).toString());
+        assertFalse(source.isNull(1));
+        assertTrue(source.next());
+        assertFalse(source.next());
+        RowSource nullSource = RowSource.of(NULL_ROW);
+        assertTrue(nullSource.next());
+        assertTrue(nullSource.isNull(1));
+        assertTrue(nullSource.isNull(2));
+        assertFalse(nullSource.isNull(3));
+        assertThrows(IllegalArgumentException.class, () -> RowSource.of(List.of()));
+    }
+
+    @Test
+    void sourcesAreParsedLikeLists() {
+        assertParsed(createTable().parseFrom(QUERY_RESULT));
+        assertParsed(createTable().parseFrom(RowSource.of(QUERY_RESULT)));
+    }
+
+    @Test
+    void byteSourcesAreParsedFromTheirBytes() {
+        assertParsed(createTable().parseFrom(new EncodedRowSource(QUERY_RESULT, StandardCharsets.UTF_8)));
+        assertParsed(createTable().parseFrom(new EncodedRowSource(QUERY_RESULT, StandardCharsets.ISO_8859_1)));
+    }
+
+    @Test
+    void byteSourcesExposeDecodedCells() {
+        EncodedRowSource source = new EncodedRowSource(QUERY_RESULT, StandardCharsets.UTF_8);
+
+        assertTrue(source.isUtf8());
+        assertTrue(source.next());
+        assertEquals("Jürgen", source.getCell(1).toString());
+        assertEquals("1990-05-17", source.getCell(2).toString());
+        assertFalse(source.isNull(2));
+        assertTrue(source.next());
+        assertEquals("Zoë", source.getCell(1).toString());
+        EncodedRowSource nullSource = new EncodedRowSource(NULL_ROW, StandardCharsets.UTF_8);
+        assertTrue(nullSource.next());
+        assertTrue(nullSource.isNull(1));
+        assertTrue(nullSource.isNull(2));
+        assertFalse(nullSource.isNull(3));
+        assertFalse(new EncodedRowSource(QUERY_RESULT, StandardCharsets.US_ASCII).isUtf8());
+        assertThrows(IllegalArgumentException.class,
+                () -> new EncodedRowSource(QUERY_RESULT, StandardCharsets.UTF_16));
+    }
+
+    @Test
+    void invalidCellsOfSourcesAreRejected() {
+        List<List<String>> queryResult = List.of(QUERY_RESULT.get(0), List.of("x", "a", "2000-01-01", "1", "1"));
+
+        assertThrows(IllegalArgumentException.class, () -> createTable().parseFrom(RowSource.of(queryResult)));
+        assertThrows(IllegalArgumentException.class,
+                () -> createTable().parseFrom(new EncodedRowSource(queryResult, StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,108 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Stefan Huber
+ */
+class ScanTest {
+    private static final class Reading {
+        int sensor;
+        double value;
+        boolean calibrated;
+    }
+
+    private static final IntColumnPattern<Reading> SENSOR = new IntColumnPattern<>("sensor", Set.of(),
+            (reading, sensor) -> {
+                reading.sensor = sensor;
+                return reading;
+            });
+    private static final DoubleColumnPattern<Reading> VALUE = new DoubleColumnPattern<>("value", Set.of(),
+            (reading, value) -> {
+                reading.value = value;
+                return reading;
+            });
+    private static final BooleanColumnPattern<Reading> CALIBRATED = new BooleanColumnPattern<>("calibrated",
+            Set.of(), (reading, calibrated) -> {
+                reading.calibrated = calibrated;
+                return reading;
+            });
+    private static final SimpleColumnPattern<String, Reading> UNIT = new SimpleColumnPattern<>("unit", Set.of(),
+            ColumnParser.STRING_COLUMN_PARSER, (reading, unit) -> reading);
+
+    private static Table<List<Reading>, Reading> createTable() {
+        return new Table<>("readings", List.of(SENSOR, VALUE), List.of(CALIBRATED, UNIT), Reading::new,
+                readings -> readings.collect(Collectors.toList()));
+    }
+
+    private static void reset(Reading reading) {
+        reading.sensor = -1;
+        reading.value = Double.NaN;
+        reading.calibrated = false;
+    }
+
+    @Test
+    void allRowsAreVisitedWithTheSameEntry() {
+        Reading reading = new Reading();
+        List<String> visited = new ArrayList<>();
+
+        createTable().scan(List.of(
+                List.of("sensor", "value", "calibrated"),
+                List.of("1", "0.5", "1"),
+                List.of("2", "-3", "0")), reading, ScanTest::reset, visitedReading -> {
+            assertSame(reading, visitedReading);
+            visited.add(visitedReading.sensor + ":" + visitedReading.value + ":" + visitedReading.calibrated);
+        });
+
+        assertEquals(List.of("1:0.5:true", "2:-3.0:false"), visited);
+    }
+
+    @Test
+    void entriesAreResetBeforeEachRow() {
+        List<Double> values = new ArrayList<>();
+
+        createTable().scan(List.of(List.of("sensor"), List.of("1"), List.of("2")), new Reading(), ScanTest::reset,
+                reading -> values.add(reading.value));
+
+        assertEquals(List.of(Double.NaN, Double.NaN), values);
+    }
+
+    @Test
+    void boxingColumnsAreRejected() {
+        Table<List<Reading>, Reading> table = createTable();
+        List<List<String>> queryResult = List.of(List.of("sensor", "unit"), List.of("1", "kg"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> table.scan(queryResult, new Reading(), ScanTest::reset, reading -> {
+                }));
+        // Projections allow to skip such columns
+        List<Integer> sensors = new ArrayList<>();
+        table.project(List.of(SENSOR))
+                .scan(queryResult, new Reading(), ScanTest::reset, reading -> sensors.add(reading.sensor));
+        assertEquals(List.of(1), sensors);
+    }
+
+    @Test
+    void settersHaveToModifyTheEntryInPlace() {
+        IntColumnPattern<Reading> copyingSensor = new IntColumnPattern<>("sensor", Set.of(), (reading, sensor) -> {
+            Reading copy = new Reading();
+            copy.sensor = sensor;
+            return copy;
+        });
+        Table<List<Reading>, Reading> table = new Table<>("readings", List.of(copyingSensor), List.of(),
+                Reading::new, readings -> readings.collect(Collectors.toList()));
+
+        assertThrows(IllegalStateException.class, () -> table.scan(List.of(List.of("sensor"), List.of("1")),
+                new Reading(), ScanTest::reset, reading -> {
+                }));
+    }
+}
@@ -0,0 +1,66 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Stefan Huber
+ */
+class StreamingParseTest {
+    private static final List<List<String>> QUERY_RESULT = List.of(
+            List.of("id", "name"),
+            List.of("1", "a"),
+            List.of("2", "b"),
+            List.of("3", "c"));
+
+    private static List<Integer> ids(List<TestEntry> entries) {
+        return entries.stream()
+                .map(entry -> entry.id)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void allStreamingOverloadsParseLikeLists() {
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+
+        assertEquals(List.of(1, 2, 3), ids(table.parseFrom(QUERY_RESULT)));
+        assertEquals(List.of(1, 2, 3), ids(table.parseFrom(QUERY_RESULT.spliterator())));
+        assertEquals(List.of(1, 2, 3), ids(table.parseFrom(QUERY_RESULT.iterator())));
+        assertEquals(List.of(1, 2, 3), ids(table.parseFrom(QUERY_RESULT.stream())));
+    }
+
+    @Test
+    void rowsArePulledOnlyWhenConsumed() {
+        AtomicInteger pulledRows = new AtomicInteger();
+        Iterator<List<String>> rows = Stream.iterate(1, i -> i + 1)
+                .map(i -> {
+                    pulledRows.incrementAndGet();
+                    return i == 1 ? List.of("id", "name") : List.of(String.valueOf(i), "x");
+                })
+                .iterator();
+        Table<Integer, TestEntry> table = new Table<>("test", List.of(TestEntry.ID, TestEntry.NAME), List.of(),
+                TestEntry::new, entries -> entries.limit(2)
+                .mapToInt(entry -> entry.id)
+                .sum());
+
+        assertEquals(2 + 3, table.parseFrom(rows));
+        assertEquals(3, pulledRows.get());
+    }
+
+    @Test
+    void missingHeadingsAreRejected() {
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+        Spliterator<List<String>> empty = List.<List<String>>of().spliterator();
+
+        assertThrows(IllegalArgumentException.class, () -> table.parseFrom(empty));
+    }
+}
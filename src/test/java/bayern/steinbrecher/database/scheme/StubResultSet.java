@@ -0,0 +1,137 @@
+package bayern.steinbrecher.database.scheme;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Provides an in-memory {@link ResultSet} supporting only the methods required for reading its rows forward. Cells
+ * are stored as objects whose conversions mimic a JDBC driver, e.g. {@link ResultSet#getInt(int)} returns 0 for SQL
+ * {@code NULL} and sets {@link ResultSet#wasNull()}.
+ *
+ * @author Stefan Huber
+ */
+final class StubResultSet implements InvocationHandler {
+    private final List<String> labels;
+    private final List<List<Object>> rows;
+    private final List<String> calledGetters = new ArrayList<>();
+    private int currentRow = -1;
+    private boolean lastWasNull;
+    private int fetchSize;
+
+    private StubResultSet(List<String> labels, List<List<Object>> rows) {
+        this.labels = labels;
+        this.rows = rows;
+    }
+
+    /**
+     * Creates a stub containing the given rows.
+     *
+     * @param labels The labels of the columns.
+     * @param rows   The cells of each row in the order of the labels. Cells which are {@code null} represent SQL
+     *               {@code NULL}.
+     */
+    static StubResultSet of(List<String> labels, List<List<Object>> rows) {
+        return new StubResultSet(labels, rows);
+    }
+
+    ResultSet asResultSet() {
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class}, this);
+    }
+
+    /**
+     * Returns the names of all getters called so far in the order they were called.
+     */
+    List<String> getCalledGetters() {
+        return calledGetters;
+    }
+
+    int getFetchSize() {
+        return fetchSize;
+    }
+
+    private Object readCell(Object columnIndex) {
+        Object value = rows.get(currentRow)
+                .get((Integer) columnIndex - 1);
+        lastWasNull = value == null;
+        return value;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        String methodName = method.getName();
+        if (methodName.startsWith("get") && args != null && args.length > 0 && args[0] instanceof Integer) {
+            calledGetters.add(methodName);
+        }
+        Object result;
+        switch (methodName) {
+            case "next":
+                currentRow++;
+                result = currentRow < rows.size();
+                break;
+            case "getMetaData":
+                result = createMetaData();
+                break;
+            case "getString":
+                result = Objects.toString(readCell(args[0]), null);
+                break;
+            case "getInt":
+                Object intValue = readCell(args[0]);
+                result = intValue == null ? 0 : ((Number) intValue).intValue();
+                break;
+            case "getLong":
+                Object longValue = readCell(args[0]);
+                result = longValue == null ? 0L : ((Number) longValue).longValue();
+                break;
+            case "getDouble":
+                Object doubleValue = readCell(args[0]);
+                result = doubleValue == null ? 0d : ((Number) doubleValue).doubleValue();
+                break;
+            case "getObject":
+                Object value = readCell(args[0]);
+                result = args.length > 1 ? ((Class<?>) args[1]).cast(value) : value;
+                break;
+            case "wasNull":
+                result = lastWasNull;
+                break;
+            case "setFetchSize":
+                fetchSize = (Integer) args[0];
+                result = null;
+                break;
+            case "getFetchSize":
+                result = fetchSize;
+                break;
+            case "toString":
+                result = "StubResultSet" + labels;
+                break;
+            default:
+                throw new UnsupportedOperationException(methodName + " is not supported by the stub");
+        }
+        return result;
+    }
+
+    private ResultSetMetaData createMetaData() {
+        return (ResultSetMetaData) Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(),
+                new Class<?>[]{ResultSetMetaData.class}, (proxy, method, args) -> {
+                    Object result;
+                    switch (method.getName()) {
+                        case "getColumnCount":
+                            result = labels.size();
+                            break;
+                        case "getColumnLabel":
+                            result = labels.get((Integer) args[0] - 1);
+                            break;
+                        default:
+                            throw new UnsupportedOperationException(
+                                    method.getName() + " is not supported by the stub");
+                    }
+                    return result;
+                });
+    }
+}
@@ -0,0 +1,144 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Stefan Huber
+ */
+class TableSnapshotTest {
+    private static final List<List<String>> QUERY_RESULT = List.of(
+            List.of("born", "name", "id", "count", "active", "val_1"),
+            List.of("2020-02-29", "a", "1", "10000000000", "1", "1.5"),
+            List.of("NULL", "b", "NULL", "-1", "0", "2"));
+    private static final List<ColumnPattern<?, TestEntry>> OPTIONAL_COLUMNS
+            = List.of(TestEntry.ACTIVE, TestEntry.COUNT, TestEntry.BORN, TestEntry.VALUES);
+
+    @TempDir
+    Path directory;
+
+    private static Table<List<TestEntry>, TestEntry> createTable(List<SimpleColumnPattern<?, TestEntry>> required,
+                                                                 List<ColumnPattern<?, TestEntry>> optional) {
+        return new Table<>("test", new LinkedHashSet<>(required), new LinkedHashSet<>(optional), TestEntry::new,
+                entries -> entries.collect(Collectors.toList()));
+    }
+
+    private static <T> List<T> reversed(List<T> list) {
+        return list.stream()
+                .sorted((first, second) -> Integer.compare(list.indexOf(second), list.indexOf(first)))
+                .collect(Collectors.toList());
+    }
+
+    private static void assertBatch(ColumnBatch batch) {
+        assertEquals(QUERY_RESULT.get(0), batch.getHeadings());
+        assertEquals(2, batch.getRowCount());
+        assertEquals(Set.of(TestEntry.ID, TestEntry.NAME, TestEntry.ACTIVE, TestEntry.COUNT, TestEntry.BORN),
+                batch.getColumns());
+        assertEquals(1, batch.getIntVector(TestEntry.ID).getInt(0));
+        assertTrue(batch.getIntVector(TestEntry.ID).isNull(1));
+        assertEquals("b", batch.getStringVector(TestEntry.NAME).getObject(1));
+        assertFalse(batch.getBooleanVector(TestEntry.ACTIVE).getBoolean(1));
+        assertEquals(10_000_000_000L, batch.getLongVector(TestEntry.COUNT).getLong(0));
+        assertEquals(LocalDate.of(2020, 2, 29), batch.getDateVector(TestEntry.BORN).getObject(0));
+        assertTrue(batch.getDateVector(TestEntry.BORN).isNull(1));
+    }
+
+    @Test
+    void snapshotsAreReadBack() throws IOException {
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable(OPTIONAL_COLUMNS);
+        Path snapshot = directory.resolve("test.snapshot");
+        table.writeSnapshot(table.parseColumnar(QUERY_RESULT), snapshot);
+
+        Optional<ColumnBatch> batch = table.readSnapshot(snapshot);
+        assertTrue(batch.isPresent());
+        assertBatch(batch.get());
+
+        List<TestEntry> entries = table.parseSnapshot(snapshot).orElseThrow();
+        assertEquals(2, entries.size());
+        assertEquals(1, entries.get(0).id);
+        assertEquals("a", entries.get(0).name);
+        assertEquals(10_000_000_000L, entries.get(0).count);
+        assertEquals(LocalDate.of(2020, 2, 29), entries.get(0).born);
+        // Only simple columns are stored
+        assertTrue(entries.get(0).values.isEmpty());
+
+        // Batches read from a snapshot can be written again
+        Path copy = directory.resolve("copy.snapshot");
+        table.writeSnapshot(batch.get(), copy);
+        assertArrayEquals(Files.readAllBytes(snapshot), Files.readAllBytes(copy));
+    }
+
+    @Test
+    void snapshotsDoNotDependOnTheOrderOfColumns() throws IOException {
+        List<SimpleColumnPattern<?, TestEntry>> required = List.of(TestEntry.ID, TestEntry.NAME);
+        Table<List<TestEntry>, TestEntry> table = createTable(required, OPTIONAL_COLUMNS);
+        Table<List<TestEntry>, TestEntry> reorderedTable = createTable(reversed(required), reversed(OPTIONAL_COLUMNS));
+
+        assertArrayEquals(TableSnapshot.fingerprint("test", required, OPTIONAL_COLUMNS),
+                TableSnapshot.fingerprint("test", reversed(required), reversed(OPTIONAL_COLUMNS)));
+        Path snapshot = directory.resolve("test.snapshot");
+        table.writeSnapshot(table.parseColumnar(QUERY_RESULT), snapshot);
+        Path reorderedSnapshot = directory.resolve("reordered.snapshot");
+        reorderedTable.writeSnapshot(reorderedTable.parseColumnar(QUERY_RESULT), reorderedSnapshot);
+
+        assertArrayEquals(Files.readAllBytes(snapshot), Files.readAllBytes(reorderedSnapshot));
+        assertBatch(reorderedTable.readSnapshot(snapshot).orElseThrow());
+    }
+
+    @Test
+    void snapshotsOfOtherTablesAreRejected() throws IOException {
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable(OPTIONAL_COLUMNS);
+        Path snapshot = directory.resolve("test.snapshot");
+        table.writeSnapshot(table.parseColumnar(QUERY_RESULT), snapshot);
+        SimpleColumnPattern<Double, TestEntry> countAsDouble = new SimpleColumnPattern<>(
+                "count", Set.of(), ColumnParser.DOUBLE_COLUMN_PARSER, (entry, value) -> entry);
+
+        assertTrue(new Table<>("other", List.of(TestEntry.ID, TestEntry.NAME), OPTIONAL_COLUMNS, TestEntry::new,
+                entries -> entries.collect(Collectors.toList()))
+                .readSnapshot(snapshot)
+                .isEmpty());
+        assertTrue(TestEntry.createTable(List.of(TestEntry.ACTIVE, TestEntry.COUNT, TestEntry.BORN))
+                .readSnapshot(snapshot)
+                .isEmpty());
+        assertTrue(TestEntry.createTable(List.of(TestEntry.ACTIVE, countAsDouble, TestEntry.BORN, TestEntry.VALUES))
+                .readSnapshot(snapshot)
+                .isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> table.writeSnapshot(TestEntry.createTable().parseColumnar(QUERY_RESULT), snapshot));
+    }
+
+    @Test
+    void corruptSnapshotsAreRejected() throws IOException {
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable(OPTIONAL_COLUMNS);
+        Path snapshot = directory.resolve("test.snapshot");
+        table.writeSnapshot(table.parseColumnar(QUERY_RESULT), snapshot);
+        byte[] content = Files.readAllBytes(snapshot);
+
+        for (int length : new int[]{0, 3, 40, content.length / 2, content.length - 1}) {
+            Path truncated = directory.resolve("truncated" + length + ".snapshot");
+            Files.write(truncated, Arrays.copyOf(content, length));
+            assertTrue(table.readSnapshot(truncated).isEmpty(), "length " + length);
+        }
+        Path noSnapshot = directory.resolve("test.csv");
+        Files.writeString(noSnapshot, "id,name\n1,a\n");
+        assertTrue(table.readSnapshot(noSnapshot).isEmpty());
+        assertThrows(IOException.class, () -> table.readSnapshot(directory.resolve("missing.snapshot")));
+    }
+}
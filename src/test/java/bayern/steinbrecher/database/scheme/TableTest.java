@@ -0,0 +1,105 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Stefan Huber
+ */
+class TableTest {
+    @Test
+    void parseFromSetsAllBoundValues() {
+        List<TestEntry> entries = TestEntry.createTable()
+                .parseFrom(List.of(
+                        List.of("id", "name", "val_1", "val_2", "unknown"),
+                        List.of("1", "first", "1.5", "2", "ignored"),
+                        List.of("2", "second", "0", "-3.25", "ignored")));
+
+        assertEquals(2, entries.size());
+        assertEquals(1, entries.get(0).id);
+        assertEquals("first", entries.get(0).name);
+        assertEquals(Map.of(1, 1.5, 2, 2.0), entries.get(0).values);
+        assertEquals(2, entries.get(1).id);
+        assertEquals("second", entries.get(1).name);
+        assertEquals(Map.of(1, 0.0, 2, -3.25), entries.get(1).values);
+    }
+
+    @Test
+    void bindingPlanIsReusedForEqualHeadings() {
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+        List<String> headings = List.of("id", "name");
+
+        ColumnBindingPlan<TestEntry> plan = table.getBindingPlan(headings);
+        assertSame(plan, table.getBindingPlan(new ArrayList<>(headings)));
+        assertSame(plan.getDiagnostics(), table.getBindingDiagnostics(headings));
+        assertNotSame(plan, table.getBindingPlan(List.of("name", "id")));
+    }
+
+    @Test
+    void cachedHeadingsAreNotAffectedByLaterModifications() {
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+        List<String> headings = new ArrayList<>(List.of("id", "name"));
+        ColumnBindingPlan<TestEntry> plan = table.getBindingPlan(headings);
+
+        headings.set(0, "val_1");
+        assertEquals(List.of("id", "name"), plan.getHeadings());
+        assertNotSame(plan, table.getBindingPlan(headings));
+    }
+
+    @Test
+    void differentColumnOrdersAreBoundSeparately() {
+        Table<List<TestEntry>, TestEntry> table = TestEntry.createTable();
+        TestEntry first = table.parseFrom(List.of(List.of("id", "name"), List.of("1", "a")))
+                .get(0);
+        TestEntry second = table.parseFrom(List.of(List.of("name", "id"), List.of("b", "2")))
+                .get(0);
+
+        assertEquals(1, first.id);
+        assertEquals("a", first.name);
+        assertEquals(2, second.id);
+        assertEquals("b", second.name);
+    }
+
+    @Test
+    void headingsAreMatchedCaseInsensitively() {
+        TestEntry entry = TestEntry.createTable()
+                .parseFrom(List.of(List.of("ID", "Name"), List.of("7", "x")))
+                .get(0);
+
+        assertEquals(7, entry.id);
+        assertEquals("x", entry.name);
+    }
+
+    @Test
+    void missingColumnsKeepTheirInitialValues() {
+        TestEntry entry = TestEntry.createTable()
+                .parseFrom(List.of(List.of("name"), List.of("x")))
+                .get(0);
+
+        assertNull(entry.id);
+        assertEquals("x", entry.name);
+    }
+
+    @Test
+    void intersectingPatternsAreRejected() {
+        RegexColumnPattern<String, TestEntry, String> startingWithI = new RegexColumnPattern<>(
+                "^i.*$", ColumnParser.STRING_COLUMN_PARSER, (entry, key, value) -> entry, heading -> heading);
+        Table<List<TestEntry>, TestEntry> table = new Table<>("test", List.of(TestEntry.ID), List.of(startingWithI),
+                TestEntry::new, entries -> entries.collect(Collectors.toList()));
+
+        assertThrows(IllegalStateException.class, () -> table.parseFrom(List.of(List.of("id"), List.of("1"))));
+        // Intersections only matter for headings matched by both patterns
+        assertEquals(1, table.parseFrom(List.of(List.of("name"), List.of("x")))
+                .size());
+    }
+}
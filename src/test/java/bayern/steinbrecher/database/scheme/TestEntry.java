@@ -0,0 +1,68 @@
+package bayern.steinbrecher.database.scheme;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a mutable entry along with the patterns and tables used by the tests of this package.
+ *
+ * @author Stefan Huber
+ */
+final class TestEntry {
+    static final SimpleColumnPattern<Integer, TestEntry> ID = new SimpleColumnPattern<>(
+            "id", Set.of(), ColumnParser.INTEGER_COLUMN_PARSER, (entry, value) -> {
+        entry.id = value;
+        return entry;
+    });
+    static final SimpleColumnPattern<String, TestEntry> NAME = new SimpleColumnPattern<>(
+            "name", Set.of(), ColumnParser.STRING_COLUMN_PARSER, (entry, value) -> {
+        entry.name = value;
+        return entry;
+    });
+    static final RegexColumnPattern<Double, TestEntry, Integer> VALUES = new RegexColumnPattern<>(
+            "^val_\\d+$", ColumnParser.DOUBLE_COLUMN_PARSER, (entry, key, value) -> {
+        entry.values.put(key, value);
+        return entry;
+    }, heading -> Integer.parseInt(heading.substring("val_".length())));
+    static final SimpleColumnPattern<Boolean, TestEntry> ACTIVE = new SimpleColumnPattern<>(
+            "active", Set.of(), ColumnParser.BOOLEAN_COLUMN_PARSER, (entry, value) -> {
+        entry.active = value;
+        return entry;
+    });
+    static final SimpleColumnPattern<Long, TestEntry> COUNT = new SimpleColumnPattern<>(
+            "count", Set.of(), ColumnParser.LONG_COLUMN_PARSER, (entry, value) -> {
+        entry.count = value;
+        return entry;
+    });
+    static final SimpleColumnPattern<LocalDate, TestEntry> BORN = new SimpleColumnPattern<>(
+            "born", Set.of(), ColumnParser.LOCALDATE_COLUMN_PARSER, (entry, value) -> {
+        entry.born = value;
+        return entry;
+    });
+
+    Integer id;
+    String name;
+    Boolean active;
+    Long count;
+    LocalDate born;
+    final Map<Integer, Double> values = new HashMap<>();
+
+    /**
+     * Creates a table requiring {@link #ID} and {@link #NAME} and optionally containing {@link #VALUES}.
+     */
+    static Table<List<TestEntry>, TestEntry> createTable() {
+        return createTable(List.of(VALUES));
+    }
+
+    /**
+     * Creates a table requiring {@link #ID} and {@link #NAME} and optionally containing the given columns.
+     */
+    static Table<List<TestEntry>, TestEntry> createTable(List<ColumnPattern<?, TestEntry>> optionalColumns) {
+        return new Table<>("test", List.of(ID, NAME), optionalColumns, TestEntry::new,
+                entries -> entries.collect(Collectors.toList()));
+    }
+}
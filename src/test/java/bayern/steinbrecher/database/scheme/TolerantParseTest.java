@@ -0,0 +1,85 @@
+package bayern.steinbrecher.database.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Stefan Huber
+ */
+class TolerantParseTest {
+    private static final List<List<String>> QUERY_RESULT = List.of(
+            List.of("id", "name", "val_1"),
+            List.of("1", "a", "0.5"),
+            List.of("x", "b", "1.5"),
+            List.of("3", "NULL", "y"),
+            List.of("4", "d", "2.5"));
+
+    private static List<Integer> rowIndices(ParseResult<?> result) {
+        return result.getErrors()
+                .stream()
+                .map(ParseError::getRowIndex)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void rowsWithoutErrorsAreParsedAsUsual() {
+        ParseResult<List<TestEntry>> result = TestEntry.createTable()
+                .parseTolerantly(QUERY_RESULT.subList(0, 2), ParseErrorPolicy.SKIP_ROW);
+
+        assertFalse(result.hasErrors());
+        assertEquals(1, result.getResult().size());
+        assertEquals(0.5, result.getResult().get(0).values.get(1));
+    }
+
+    @Test
+    void skippingRowsDropsEveryRowContainingAnError() {
+        ParseResult<List<TestEntry>> result = TestEntry.createTable()
+                .parseTolerantly(QUERY_RESULT, ParseErrorPolicy.SKIP_ROW);
+
+        assertEquals(List.of(1, 4), result.getResult()
+                .stream()
+                .map(entry -> entry.id)
+                .collect(Collectors.toList()));
+        // The remaining cells of a skipped row are not checked anymore
+        assertEquals(List.of(2, 3), rowIndices(result));
+    }
+
+    @Test
+    void skippingCellsKeepsTheOtherValuesOfTheRow() {
+        ParseResult<List<TestEntry>> result = TestEntry.createTable()
+                .parseTolerantly(QUERY_RESULT, ParseErrorPolicy.SKIP_CELL);
+
+        assertEquals(4, result.getResult().size());
+        TestEntry second = result.getResult().get(1);
+        assertNull(second.id);
+        assertEquals("b", second.name);
+        TestEntry third = result.getResult().get(2);
+        assertNull(third.name);
+        assertTrue(third.values.isEmpty());
+        assertEquals(List.of(2, 3, 3), rowIndices(result));
+    }
+
+    @Test
+    void errorsDescribeTheRejectedCells() {
+        List<ParseError> errors = TestEntry.createTable()
+                .parseTolerantly(QUERY_RESULT, ParseErrorPolicy.SKIP_CELL)
+                .getErrors();
+
+        ParseError invalidId = errors.get(0);
+        assertEquals("id", invalidId.getColumnName());
+        assertEquals("x", invalidId.getRawValue());
+        assertEquals("The value is no valid Integer", invalidId.getMessage());
+        assertEquals("Row 2, column id, value x: The value is no valid Integer", invalidId.toString());
+        ParseError nullName = errors.get(1);
+        assertEquals("name", nullName.getColumnName());
+        assertEquals("NULL", nullName.getRawValue());
+        assertEquals("val_1", errors.get(2).getColumnName());
+    }
+}